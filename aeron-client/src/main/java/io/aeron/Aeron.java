@@ -33,6 +33,9 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
@@ -326,6 +329,71 @@ public class Aeron implements AutoCloseable
         return conductor.addSubscription(channel, streamId, availableImageHandler, unavailableImageHandler);
     }
 
+    /**
+     * Add a {@link Publication} for publishing messages to subscribers without blocking the calling thread while
+     * the media driver responds. The publication is threadsafe.
+     * <p>
+     * The future is completed when the media driver responds, or exceptionally if the registration fails or the
+     * driver does not respond within the driver timeout. Completion is handed off to the
+     * {@link Aeron.Context#asyncRegistrationExecutor(Executor)} so dependent stages which are not async run there
+     * rather than on the client conductor thread and can make calls to the client.
+     * When using {@link Aeron.Context#useConductorAgentInvoker(boolean)} the future can only complete when the
+     * conductor is invoked.
+     *
+     * @param channel  for sending the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return future to be completed with the new {@link ConcurrentPublication}.
+     * @see Publication#offerBlocking(DirectBuffer, int, int, IdleStrategy, long)
+     */
+    public CompletableFuture<ConcurrentPublication> asyncAddPublication(final String channel, final int streamId)
+    {
+        return conductor.asyncAddPublication(channel, streamId);
+    }
+
+    /**
+     * Add a new {@link Subscription} for subscribing to messages from publishers without blocking the calling thread
+     * while the media driver responds.
+     * <p>
+     * The method will set up the {@link Subscription} to use the
+     * {@link Aeron.Context#availableImageHandler(AvailableImageHandler)} and
+     * {@link Aeron.Context#unavailableImageHandler(UnavailableImageHandler)} from the {@link Aeron.Context}.
+     * The future is completed in the same way as for {@link #asyncAddPublication(String, int)}.
+     *
+     * @param channel  for receiving the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return future to be completed with the {@link Subscription} for the channel and streamId pair.
+     * @see Subscription#pollBlocking(FragmentHandler, int, IdleStrategy, long)
+     */
+    public CompletableFuture<Subscription> asyncAddSubscription(final String channel, final int streamId)
+    {
+        return conductor.asyncAddSubscription(
+            channel, streamId, ctx.availableImageHandler(), ctx.unavailableImageHandler());
+    }
+
+    /**
+     * Add a new {@link Subscription} for subscribing to messages from publishers without blocking the calling thread
+     * while the media driver responds.
+     * <p>
+     * This method will override the default handlers from the {@link Aeron.Context}. The future is completed in
+     * the same way as for {@link #asyncAddPublication(String, int)}.
+     *
+     * @param channel                 for receiving the messages known to the media layer.
+     * @param streamId                within the channel scope.
+     * @param availableImageHandler   called when {@link Image}s become available for consumption. Null is valid if no
+     *                                action is to be taken.
+     * @param unavailableImageHandler called when {@link Image}s go unavailable for consumption. Null is valid if no
+     *                                action is to be taken.
+     * @return future to be completed with the {@link Subscription} for the channel and streamId pair.
+     */
+    public CompletableFuture<Subscription> asyncAddSubscription(
+        final String channel,
+        final int streamId,
+        final AvailableImageHandler availableImageHandler,
+        final UnavailableImageHandler unavailableImageHandler)
+    {
+        return conductor.asyncAddSubscription(channel, streamId, availableImageHandler, unavailableImageHandler);
+    }
+
     /**
      * Generate the next correlation id that is unique for the connected Media Driver.
      * <p>
@@ -686,6 +754,7 @@ public class Aeron implements AutoCloseable
         private long closeLingerDurationNs = Configuration.closeLingerDurationNs();
 
         private ThreadFactory threadFactory = Thread::new;
+        private Executor asyncRegistrationExecutor = ForkJoinPool.commonPool();
 
         /**
          * Perform a shallow copy of the object.
@@ -786,7 +855,7 @@ public class Aeron implements AutoCloseable
             if (null == driverProxy)
             {
                 clientId = toDriverBuffer.nextCorrelationId();
-                driverProxy = new DriverProxy(toDriverBuffer, clientId);
+                driverProxy = new DriverProxy(toDriverBuffer, toDriverCommandBuffer(clientId), clientId);
             }
 
             return this;
@@ -1398,6 +1467,31 @@ public class Aeron implements AutoCloseable
             return threadFactory;
         }
 
+        /**
+         * Specify the executor on which the futures returned from {@link Aeron#asyncAddPublication(String, int)}
+         * and {@link Aeron#asyncAddSubscription(String, int)} are completed, so that dependent stages do not run on
+         * the client conductor thread.
+         *
+         * @param executor on which registration futures are completed.
+         * @return this for a fluent API.
+         */
+        public Context asyncRegistrationExecutor(final Executor executor)
+        {
+            this.asyncRegistrationExecutor = executor;
+            return this;
+        }
+
+        /**
+         * The executor on which the futures returned from {@link Aeron#asyncAddPublication(String, int)} and
+         * {@link Aeron#asyncAddSubscription(String, int)} are completed.
+         *
+         * @return the specified executor or {@link ForkJoinPool#commonPool()} if none is provided.
+         */
+        public Executor asyncRegistrationExecutor()
+        {
+            return asyncRegistrationExecutor;
+        }
+
         /**
          * Clean up all resources that the client uses to communicate with the Media Driver.
          */
@@ -1408,6 +1502,22 @@ public class Aeron implements AutoCloseable
             super.close();
         }
 
+        private RingBuffer toDriverCommandBuffer(final long clientId)
+        {
+            if (null != cncByteBuffer && null != cncMetaDataBuffer)
+            {
+                final int stripeCount = CncFileDescriptor.toDriverStripeCount(cncMetaDataBuffer);
+                if (stripeCount > 0)
+                {
+                    final int stripeIndex = (int)(clientId % stripeCount);
+                    return new ManyToOneRingBuffer(
+                        CncFileDescriptor.createToDriverStripeBuffer(cncByteBuffer, cncMetaDataBuffer, stripeIndex));
+                }
+            }
+
+            return toDriverBuffer;
+        }
+
         private void connectToDriver()
         {
             final long deadlineMs = epochClock.time() + driverTimeoutMs();
@@ -121,6 +121,31 @@ public final class AeronCounters
      */
     public static final int DRIVER_LOCAL_SOCKET_ADDRESS_STATUS_TYPE_ID = 14;
 
+    /**
+     * Max time in nanoseconds a sender shard has taken to complete a duty cycle.
+     */
+    public static final int DRIVER_SENDER_MAX_CYCLE_TIME_TYPE_ID = 17;
+
+    /**
+     * Count of duty cycles of a sender shard which exceeded the configured threshold.
+     */
+    public static final int DRIVER_SENDER_CYCLE_TIME_THRESHOLD_EXCEEDED_TYPE_ID = 18;
+
+    /**
+     * Current ratio of duty cycles sending data to polls for control messages of a sender with an adaptive policy.
+     */
+    public static final int DRIVER_SENDER_DUTY_CYCLE_RATIO_TYPE_ID = 19;
+
+    /**
+     * Count of adjustments made to the duty cycle ratio of a sender with an adaptive policy.
+     */
+    public static final int DRIVER_SENDER_DUTY_CYCLE_ADJUSTMENTS_TYPE_ID = 20;
+
+    /**
+     * Time in nanoseconds a sender has spent with data to send on a stream while waiting for its send rate pacing.
+     */
+    public static final int DRIVER_SENDER_PACED_TIME_TYPE_ID = 21;
+
     // Archive counters
     /**
      * The position a recording has reached when being archived.
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+
+import static io.aeron.protocol.DataHeaderFlyweight.BATCH_FLAG;
+
+/**
+ * A {@link FragmentHandler} that sits in a chain-of-responsibility pattern that splits frames packed by
+ * {@link Publication#offer(MessageBatch)} back out into the messages so the next handler in the chain only sees
+ * individual messages.
+ * <p>
+ * The fragment assemblers already split batches so this is only required when polling without one. Messages are
+ * delegated without copy. Frames which are not a batch are delegated unchanged.
+ * <p>
+ * The {@link Header} passed to the delegate for each message in a batch will be that of the batch frame with the
+ * {@link io.aeron.protocol.DataHeaderFlyweight#BATCH_FLAG} masked so messages are not split again further down the
+ * chain. A batch with a sub-header length which overruns the frame results in an
+ * {@link io.aeron.exceptions.AeronException}.
+ *
+ * @see MessageBatch
+ * @see CommonContext#BATCH_PARAM_NAME
+ * @see Subscription#poll(FragmentHandler, int)
+ * @see Image#poll(FragmentHandler, int)
+ */
+public class BatchFragmentAssembler implements FragmentHandler
+{
+    private final FragmentHandler delegate;
+
+    /**
+     * Construct an adapter to split batches and delegate on individual messages.
+     *
+     * @param delegate onto which individual messages are forwarded.
+     */
+    public BatchFragmentAssembler(final FragmentHandler delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Get the delegate unto which individual messages are delegated.
+     *
+     * @return the delegate unto which individual messages are delegated.
+     */
+    public FragmentHandler delegate()
+    {
+        return delegate;
+    }
+
+    /**
+     * The implementation of {@link FragmentHandler} that splits batches and forwards individual messages.
+     *
+     * @param buffer containing the data.
+     * @param offset at which the data begins.
+     * @param length of the data in bytes.
+     * @param header representing the meta data for the data.
+     */
+    public void onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        if ((header.flags() & BATCH_FLAG) == BATCH_FLAG)
+        {
+            BatchSplitter.split(delegate, buffer, offset, length, header);
+        }
+        else
+        {
+            delegate.onFragment(buffer, offset, length, header);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.exceptions.AeronException;
+import io.aeron.logbuffer.ControlledFragmentHandler;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+
+import static io.aeron.MessageBatch.SUB_HEADER_LENGTH;
+import static io.aeron.logbuffer.ControlledFragmentHandler.Action.*;
+import static io.aeron.protocol.DataHeaderFlyweight.BATCH_FLAG;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Splits frames packed by {@link Publication#offer(MessageBatch)} back out into the messages for the fragment
+ * assemblers. The {@link Header} passed with each message is that of the batch frame with the
+ * {@link io.aeron.protocol.DataHeaderFlyweight#BATCH_FLAG} masked so a further assembler in the chain treats the
+ * message as unfragmented. A sub-header length which overruns the frame stops the split with an
+ * {@link AeronException}.
+ * <p>
+ * A batch is a single frame so it can only be consumed as a whole. When a {@link ControlledFragmentHandler} aborts,
+ * breaks, or commits part way through a batch then delivery stops at that message and the frame is left to be
+ * delivered again, at which point the messages already consumed are skipped.
+ */
+final class BatchSplitter
+{
+    private int resumeSessionId;
+    private long resumePosition = Aeron.NULL_VALUE;
+    private int resumeMessageIndex;
+
+    static void split(
+        final FragmentHandler delegate,
+        final DirectBuffer buffer,
+        final int offset,
+        final int length,
+        final Header header)
+    {
+        final byte flagsMask = header.flagsMask();
+        header.flagsMask((byte)(flagsMask & ~BATCH_FLAG));
+        try
+        {
+            final int limit = offset + length;
+            int messageOffset = offset;
+
+            while (messageOffset < limit)
+            {
+                final int messageLength = messageLength(buffer, messageOffset, limit);
+                messageOffset += SUB_HEADER_LENGTH;
+
+                delegate.onFragment(buffer, messageOffset, messageLength, header);
+                messageOffset += messageLength;
+            }
+        }
+        finally
+        {
+            header.flagsMask(flagsMask);
+        }
+    }
+
+    ControlledFragmentHandler.Action split(
+        final ControlledFragmentHandler delegate,
+        final DirectBuffer buffer,
+        final int offset,
+        final int length,
+        final Header header)
+    {
+        final int sessionId = header.sessionId();
+        final long position = header.position();
+        final int skipCount = position == resumePosition && sessionId == resumeSessionId ? resumeMessageIndex : 0;
+        resumePosition = Aeron.NULL_VALUE;
+
+        final byte flagsMask = header.flagsMask();
+        header.flagsMask((byte)(flagsMask & ~BATCH_FLAG));
+        try
+        {
+            final int limit = offset + length;
+            int messageOffset = offset;
+            int messageIndex = 0;
+
+            while (messageOffset < limit)
+            {
+                final int messageLength = messageLength(buffer, messageOffset, limit);
+                messageOffset += SUB_HEADER_LENGTH;
+
+                if (messageIndex >= skipCount)
+                {
+                    final ControlledFragmentHandler.Action action = delegate.onFragment(
+                        buffer, messageOffset, messageLength, header);
+
+                    if (CONTINUE != action)
+                    {
+                        final boolean isLastMessage = messageOffset + messageLength >= limit;
+                        if (ABORT == action || !isLastMessage)
+                        {
+                            resumeSessionId = sessionId;
+                            resumePosition = position;
+                            resumeMessageIndex = ABORT == action ? messageIndex : messageIndex + 1;
+
+                            return ABORT;
+                        }
+
+                        return action;
+                    }
+                }
+
+                messageOffset += messageLength;
+                messageIndex++;
+            }
+        }
+        finally
+        {
+            header.flagsMask(flagsMask);
+        }
+
+        return CONTINUE;
+    }
+
+    private static int messageLength(final DirectBuffer buffer, final int messageOffset, final int limit)
+    {
+        if (messageOffset + SUB_HEADER_LENGTH > limit)
+        {
+            throw new AeronException("batch sub-header overruns frame: offset=" + messageOffset + " limit=" + limit);
+        }
+
+        final int messageLength = buffer.getShort(messageOffset, LITTLE_ENDIAN) & 0xFFFF;
+        if (messageOffset + SUB_HEADER_LENGTH + messageLength > limit)
+        {
+            throw new AeronException(
+                "batch message overruns frame: offset=" + messageOffset + " length=" + messageLength +
+                " limit=" + limit);
+        }
+
+        return messageLength;
+    }
+}
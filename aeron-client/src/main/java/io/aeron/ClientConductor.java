@@ -29,6 +29,10 @@ import org.agrona.concurrent.status.CountersReader;
 import org.agrona.concurrent.status.UnsafeBufferPosition;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.Lock;
 
 import static io.aeron.Aeron.Configuration.IDLE_SLEEP_MS;
@@ -64,12 +68,14 @@ class ClientConductor implements Agent
     private final EpochClock epochClock;
     private final NanoClock nanoClock;
     private final IdleStrategy awaitingIdleStrategy;
+    private final Executor asyncRegistrationExecutor;
     private final DriverEventsAdapter driverEventsAdapter;
     private final LogBuffersFactory logBuffersFactory;
     private final Long2ObjectHashMap<LogBuffers> logBuffersByIdMap = new Long2ObjectHashMap<>();
     private final ArrayList<LogBuffers> lingeringLogBuffers = new ArrayList<>();
     private final Long2ObjectHashMap<Object> resourceByRegIdMap = new Long2ObjectHashMap<>();
     private final LongHashSet asyncCommandIdSet = new LongHashSet();
+    private final Long2ObjectHashMap<PendingRegistration> pendingRegistrationByIdMap = new Long2ObjectHashMap<>();
     private final AvailableImageHandler defaultAvailableImageHandler;
     private final UnavailableImageHandler defaultUnavailableImageHandler;
     private final Long2ObjectHashMap<AvailableCounterHandler> availableCounterHandlerById = new Long2ObjectHashMap<>();
@@ -91,6 +97,7 @@ class ClientConductor implements Agent
         epochClock = ctx.epochClock();
         nanoClock = ctx.nanoClock();
         awaitingIdleStrategy = ctx.awaitingIdleStrategy();
+        asyncRegistrationExecutor = ctx.asyncRegistrationExecutor();
         driverProxy = ctx.driverProxy();
         logBuffersFactory = ctx.logBuffersFactory();
         keepAliveIntervalNs = ctx.keepAliveIntervalNs();
@@ -232,7 +239,17 @@ class ClientConductor implements Agent
 
     void onAsyncError(final long correlationId, final int codeValue, final ErrorCode errorCode, final String message)
     {
-        handleError(new RegistrationException(correlationId, codeValue, errorCode, message));
+        final RegistrationException ex = new RegistrationException(correlationId, codeValue, errorCode, message);
+        final PendingRegistration pendingRegistration = pendingRegistrationByIdMap.remove(correlationId);
+
+        if (null != pendingRegistration)
+        {
+            failPendingRegistration(pendingRegistration, ex);
+        }
+        else
+        {
+            handleError(ex);
+        }
     }
 
     void onChannelEndpointError(final int statusIndicatorId, final String message)
@@ -283,6 +300,35 @@ class ClientConductor implements Agent
         resourceByRegIdMap.put(correlationId, publication);
     }
 
+    void onAsyncNewPublication(
+        final long correlationId,
+        final long registrationId,
+        final int streamId,
+        final int sessionId,
+        final int publicationLimitId,
+        final int statusIndicatorId,
+        final String logFileName)
+    {
+        final PendingRegistration pendingRegistration = pendingRegistrationByIdMap.remove(correlationId);
+        if (null != pendingRegistration)
+        {
+            final String channel = pendingRegistration.channel;
+            final ConcurrentPublication publication = new ConcurrentPublication(
+                this,
+                channel,
+                streamId,
+                sessionId,
+                new UnsafeBufferPosition(counterValuesBuffer, publicationLimitId),
+                statusIndicatorId,
+                logBuffers(registrationId, logFileName, channel),
+                registrationId,
+                correlationId);
+
+            resourceByRegIdMap.put(correlationId, publication);
+            completePendingRegistration(pendingRegistration, publication);
+        }
+    }
+
     void onNewExclusivePublication(
         final long correlationId,
         final long registrationId,
@@ -318,6 +364,18 @@ class ClientConductor implements Agent
         subscription.channelStatusId(statusIndicatorId);
     }
 
+    void onAsyncNewSubscription(final long correlationId, final int statusIndicatorId)
+    {
+        final PendingRegistration pendingRegistration = pendingRegistrationByIdMap.remove(correlationId);
+        final Object resource = resourceByRegIdMap.get(correlationId);
+        if (null != pendingRegistration && resource instanceof Subscription)
+        {
+            final Subscription subscription = (Subscription)resource;
+            subscription.channelStatusId(statusIndicatorId);
+            completePendingRegistration(pendingRegistration, subscription);
+        }
+    }
+
     void onAvailableImage(
         final long correlationId,
         final int sessionId,
@@ -439,6 +497,26 @@ class ClientConductor implements Agent
         }
     }
 
+    CompletableFuture<ConcurrentPublication> asyncAddPublication(final String channel, final int streamId)
+    {
+        clientLock.lock();
+        try
+        {
+            ensureActive();
+            ensureNotReentrant();
+
+            final CompletableFuture<ConcurrentPublication> future = new CompletableFuture<>();
+            final long registrationId = driverProxy.addPublication(channel, streamId);
+            addPendingRegistration(registrationId, channel, future);
+
+            return future;
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
     ExclusivePublication addExclusivePublication(final String channel, final int streamId)
     {
         clientLock.lock();
@@ -524,6 +602,39 @@ class ClientConductor implements Agent
         }
     }
 
+    CompletableFuture<Subscription> asyncAddSubscription(
+        final String channel,
+        final int streamId,
+        final AvailableImageHandler availableImageHandler,
+        final UnavailableImageHandler unavailableImageHandler)
+    {
+        clientLock.lock();
+        try
+        {
+            ensureActive();
+            ensureNotReentrant();
+
+            final CompletableFuture<Subscription> future = new CompletableFuture<>();
+            final long correlationId = driverProxy.addSubscription(channel, streamId);
+            final Subscription subscription = new Subscription(
+                this,
+                channel,
+                streamId,
+                correlationId,
+                availableImageHandler,
+                unavailableImageHandler);
+
+            resourceByRegIdMap.put(correlationId, subscription);
+            addPendingRegistration(correlationId, channel, future);
+
+            return future;
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
     void releaseSubscription(final Subscription subscription)
     {
         clientLock.lock();
@@ -1189,6 +1300,7 @@ class ClientConductor implements Agent
 
             workCount += checkLiveness(nowNs);
             workCount += checkLingeringResources(nowNs);
+            workCount += checkPendingRegistrations(nowNs);
         }
 
         return workCount;
@@ -1276,8 +1388,94 @@ class ClientConductor implements Agent
         return workCount;
     }
 
+    private int checkPendingRegistrations(final long nowNs)
+    {
+        int workCount = 0;
+
+        if (!pendingRegistrationByIdMap.isEmpty())
+        {
+            final Iterator<PendingRegistration> iterator = pendingRegistrationByIdMap.values().iterator();
+            while (iterator.hasNext())
+            {
+                final PendingRegistration pendingRegistration = iterator.next();
+                if (pendingRegistration.deadlineNs - nowNs < 0)
+                {
+                    iterator.remove();
+                    asyncCommandIdSet.remove(pendingRegistration.registrationId);
+                    failPendingRegistration(pendingRegistration, new DriverTimeoutException(
+                        "no response from MediaDriver within (ns): " + driverTimeoutNs));
+
+                    workCount += 1;
+                }
+            }
+        }
+
+        return workCount;
+    }
+
+    private void addPendingRegistration(
+        final long registrationId, final String channel, final CompletableFuture<?> future)
+    {
+        asyncCommandIdSet.add(registrationId);
+        pendingRegistrationByIdMap.put(
+            registrationId,
+            new PendingRegistration(registrationId, channel, nanoClock.nanoTime() + driverTimeoutNs, future));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void completePendingRegistration(final PendingRegistration pendingRegistration, final Object resource)
+    {
+        final CompletableFuture<Object> future = (CompletableFuture<Object>)pendingRegistration.future;
+        executeRegistrationCompletion(() -> future.complete(resource));
+    }
+
+    private void failPendingRegistration(final PendingRegistration pendingRegistration, final Throwable ex)
+    {
+        final Object resource = resourceByRegIdMap.get(pendingRegistration.registrationId);
+        if (resource instanceof Subscription)
+        {
+            ((Subscription)resource).internalClose();
+            resourceByRegIdMap.remove(pendingRegistration.registrationId);
+        }
+
+        final CompletableFuture<?> future = pendingRegistration.future;
+        executeRegistrationCompletion(() -> future.completeExceptionally(ex));
+    }
+
+    private void executeRegistrationCompletion(final Runnable completion)
+    {
+        try
+        {
+            asyncRegistrationExecutor.execute(completion);
+        }
+        catch (final RejectedExecutionException ex)
+        {
+            isInCallback = true;
+            try
+            {
+                completion.run();
+            }
+            finally
+            {
+                isInCallback = false;
+            }
+        }
+    }
+
     private void forceCloseResources()
     {
+        if (!pendingRegistrationByIdMap.isEmpty())
+        {
+            final ArrayList<PendingRegistration> pendingRegistrations =
+                new ArrayList<>(pendingRegistrationByIdMap.values());
+            pendingRegistrationByIdMap.clear();
+
+            for (final PendingRegistration pendingRegistration : pendingRegistrations)
+            {
+                failPendingRegistration(pendingRegistration, new AeronException("client is closing"));
+            }
+        }
+
         for (final Object resource : resourceByRegIdMap.values())
         {
             if (resource instanceof Subscription)
@@ -1396,4 +1594,21 @@ class ClientConductor implements Agent
             }
         }
     }
+
+    static final class PendingRegistration
+    {
+        final long registrationId;
+        final String channel;
+        final long deadlineNs;
+        final CompletableFuture<?> future;
+
+        PendingRegistration(
+            final long registrationId, final String channel, final long deadlineNs, final CompletableFuture<?> future)
+        {
+            this.registrationId = registrationId;
+            this.channel = channel;
+            this.deadlineNs = deadlineNs;
+            this.future = future;
+        }
+    }
 }
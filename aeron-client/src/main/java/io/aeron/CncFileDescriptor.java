@@ -42,8 +42,14 @@ import static org.agrona.BitUtil.*;
  *  +-----------------------------+
  *  |          Error Log          |
  *  +-----------------------------+
+ *  |  to-driver Stripe Buffers   |
+ *  +-----------------------------+
  * </pre>
  * <p>
+ * The to-driver stripe buffers are optional and are the same length as the to-driver buffer. When the driver has
+ * stripes then clients which are aware of them write commands to the stripe selected by their client id to reduce
+ * contention with other clients, and clients which are not aware of them continue to use the to-driver buffer.
+ * <p>
  * Meta Data Layout {@link #CNC_VERSION}
  * <pre>
  *   0                   1                   2                   3
@@ -70,6 +76,8 @@ import static org.agrona.BitUtil.*;
  *  |                         Driver PID                            |
  *  |                                                               |
  *  +---------------------------------------------------------------+
+ *  |                 to-driver stripe buffer count                 |
+ *  +---------------------------------------------------------------+
  * </pre>
  */
 public class CncFileDescriptor
@@ -129,6 +137,11 @@ public class CncFileDescriptor
      */
     public static final int PID_FIELD_OFFSET;
 
+    /**
+     * Offset at which the count of to-driver stripe buffers can be found, which is zero when there are none.
+     */
+    public static final int TO_DRIVER_STRIPE_COUNT_FIELD_OFFSET;
+
     static
     {
         CNC_VERSION_FIELD_OFFSET = 0;
@@ -140,12 +153,13 @@ public class CncFileDescriptor
         CLIENT_LIVENESS_TIMEOUT_FIELD_OFFSET = ERROR_LOG_BUFFER_LENGTH_FIELD_OFFSET + SIZE_OF_INT;
         START_TIMESTAMP_FIELD_OFFSET = CLIENT_LIVENESS_TIMEOUT_FIELD_OFFSET + SIZE_OF_LONG;
         PID_FIELD_OFFSET = START_TIMESTAMP_FIELD_OFFSET + SIZE_OF_LONG;
+        TO_DRIVER_STRIPE_COUNT_FIELD_OFFSET = PID_FIELD_OFFSET + SIZE_OF_LONG;
     }
 
     /**
      * Length of the metadata header for the CnC file.
      */
-    public static final int META_DATA_LENGTH = PID_FIELD_OFFSET + SIZE_OF_LONG;
+    public static final int META_DATA_LENGTH = TO_DRIVER_STRIPE_COUNT_FIELD_OFFSET + SIZE_OF_INT;
 
     /**
      * The offset of the first byte past the metadata header which is aligned on a cache-line boundary.
@@ -263,6 +277,17 @@ public class CncFileDescriptor
         return baseOffset + PID_FIELD_OFFSET;
     }
 
+    /**
+     * Offset in the buffer at which the to driver stripe count field exists.
+     *
+     * @param baseOffset for the start of the metadata.
+     * @return offset in the buffer at which the to driver stripe count field exists.
+     */
+    public static int toDriverStripeCountOffset(final int baseOffset)
+    {
+        return baseOffset + TO_DRIVER_STRIPE_COUNT_FIELD_OFFSET;
+    }
+
     /**
      * Fill the CnC file with metadata to define its sections.
      *
@@ -297,6 +322,46 @@ public class CncFileDescriptor
         cncMetaDataBuffer.putLong(PID_FIELD_OFFSET, pid);
     }
 
+    /**
+     * Fill the CnC file with metadata to define its sections including the to-driver stripe buffers.
+     *
+     * @param cncMetaDataBuffer           that wraps the metadata section of the CnC file.
+     * @param toDriverBufferLength        for sending commands to the driver.
+     * @param toClientsBufferLength       for broadcasting events to the clients.
+     * @param counterMetaDataBufferLength buffer length for counters metadata.
+     * @param counterValuesBufferLength   buffer length for counter values.
+     * @param clientLivenessTimeoutNs     timeout value in nanoseconds for client liveness and inter-service interval.
+     * @param errorLogBufferLength        for recording the distinct error log.
+     * @param startTimestampMs            epoch at which the driver started.
+     * @param pid                         for the process hosting the driver.
+     * @param toDriverStripeCount         of to-driver stripe buffers following the error log.
+     */
+    public static void fillMetaData(
+        final UnsafeBuffer cncMetaDataBuffer,
+        final int toDriverBufferLength,
+        final int toClientsBufferLength,
+        final int counterMetaDataBufferLength,
+        final int counterValuesBufferLength,
+        final long clientLivenessTimeoutNs,
+        final int errorLogBufferLength,
+        final long startTimestampMs,
+        final long pid,
+        final int toDriverStripeCount)
+    {
+        fillMetaData(
+            cncMetaDataBuffer,
+            toDriverBufferLength,
+            toClientsBufferLength,
+            counterMetaDataBufferLength,
+            counterValuesBufferLength,
+            clientLivenessTimeoutNs,
+            errorLogBufferLength,
+            startTimestampMs,
+            pid);
+
+        cncMetaDataBuffer.putInt(TO_DRIVER_STRIPE_COUNT_FIELD_OFFSET, toDriverStripeCount);
+    }
+
     /**
      * Signal the the CnC file is ready for use by client by writing the version into the CnC file.
      *
@@ -394,6 +459,41 @@ public class CncFileDescriptor
         return new UnsafeBuffer(buffer, offset, metaDataBuffer.getInt(errorLogBufferLengthOffset(0)));
     }
 
+    /**
+     * Create the buffer which wraps the section in the CnC file for a to-driver stripe buffer from clients to the
+     * driver.
+     *
+     * @param buffer         for the CnC file.
+     * @param metaDataBuffer within the CnC file.
+     * @param stripeIndex    of the stripe buffer which must be less than {@link #toDriverStripeCount(DirectBuffer)}.
+     * @return a buffer which wraps the section in the CnC file for the to-driver stripe buffer.
+     */
+    public static UnsafeBuffer createToDriverStripeBuffer(
+        final ByteBuffer buffer, final DirectBuffer metaDataBuffer, final int stripeIndex)
+    {
+        final int toDriverBufferLength = metaDataBuffer.getInt(toDriverBufferLengthOffset(0));
+        final int offset = END_OF_METADATA_OFFSET +
+            toDriverBufferLength +
+            metaDataBuffer.getInt(toClientsBufferLengthOffset(0)) +
+            metaDataBuffer.getInt(countersMetaDataBufferLengthOffset(0)) +
+            metaDataBuffer.getInt(countersValuesBufferLengthOffset(0)) +
+            metaDataBuffer.getInt(errorLogBufferLengthOffset(0)) +
+            (stripeIndex * toDriverBufferLength);
+
+        return new UnsafeBuffer(buffer, offset, toDriverBufferLength);
+    }
+
+    /**
+     * Get the count of to-driver stripe buffers which follow the error log.
+     *
+     * @param metaDataBuffer for the CnC file.
+     * @return the count of to-driver stripe buffers, or zero if clients should only use the to-driver buffer.
+     */
+    public static int toDriverStripeCount(final DirectBuffer metaDataBuffer)
+    {
+        return metaDataBuffer.getInt(toDriverStripeCountOffset(0));
+    }
+
     /**
      * Get the timeout in nanoseconds for tracking client liveness and inter-service timeout.
      *
@@ -458,7 +558,9 @@ public class CncFileDescriptor
             metaDataBuffer.getInt(TO_CLIENTS_BUFFER_LENGTH_FIELD_OFFSET) +
             metaDataBuffer.getInt(COUNTERS_METADATA_BUFFER_LENGTH_FIELD_OFFSET) +
             metaDataBuffer.getInt(COUNTERS_VALUES_BUFFER_LENGTH_FIELD_OFFSET) +
-            metaDataBuffer.getInt(ERROR_LOG_BUFFER_LENGTH_FIELD_OFFSET);
+            metaDataBuffer.getInt(ERROR_LOG_BUFFER_LENGTH_FIELD_OFFSET) +
+            (metaDataBuffer.getInt(TO_DRIVER_STRIPE_COUNT_FIELD_OFFSET) *
+            metaDataBuffer.getInt(TO_DRIVER_BUFFER_LENGTH_FIELD_OFFSET));
 
         return cncFileLength >= metadataRequiredLength;
     }
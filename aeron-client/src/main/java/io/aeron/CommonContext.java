@@ -265,6 +265,15 @@ public class CommonContext implements Cloneable
      */
     public static final String TETHER_PARAM_NAME = "tether";
 
+    /**
+     * Parameter name for spy subscription URI param to indicate the spy is detached from the publication so it never
+     * holds back the publication or the sender and can only read what remains in the term buffers. Value is boolean.
+     * If the spy falls too far behind the sender position then the image goes unavailable and then rejoins at the live
+     * sender position after the untethered resting timeout. Should the publication lap the spy before the driver
+     * notices then polls of the image return nothing until it goes unavailable.
+     */
+    public static final String DETACHED_PARAM_NAME = "detached";
+
     /**
      * Parameter name for channel URI param to indicate if a Subscription represents a group member or individual
      * from the perspective of message reception. This can inform loss handling and similar semantics.
@@ -304,6 +313,40 @@ public class CommonContext implements Cloneable
      */
     public static final String SPIES_SIMULATE_CONNECTION_PARAM_NAME = "ssc";
 
+    /**
+     * Parameter name for Subscription URI param to select the receiver shard which services the channel endpoint
+     * when the media driver runs with sharded receivers. The value is taken modulo the number of shards.
+     */
+    public static final String RECEIVER_SHARD_PARAM_NAME = "receiver-shard";
+
+    /**
+     * Parameter name for Publication URI param to select the sender shard which services the channel endpoint, and
+     * its publications, when the media driver runs with sharded senders. The value is taken modulo the number of
+     * shards.
+     */
+    public static final String SENDER_SHARD_PARAM_NAME = "sender-shard";
+
+    /**
+     * Parameter name for Publication URI param to pace the rate at which the sender sends data for the publication
+     * in bytes per second. Sizes can be suffixed with k, m, or g, e.g. {@code snd-rate=100m}. Unpaced if not set.
+     */
+    public static final String SEND_RATE_PARAM_NAME = "snd-rate";
+
+    /**
+     * Parameter name for Publication URI param to set the burst length in bytes the sender may send at once when
+     * paced by {@link #SEND_RATE_PARAM_NAME}. Defaults to the MTU length.
+     */
+    public static final String SEND_BURST_PARAM_NAME = "snd-burst";
+
+    /**
+     * Parameter name for Publication URI param to indicate the publication may offer a {@link MessageBatch} which
+     * packs many small messages into a single frame. The driver requires the value to match for all additions of a
+     * shared publication. The fragment assemblers split batches back out into the messages so subscribers to the
+     * stream must poll with one, or with a {@link BatchFragmentAssembler}. Value is true or false, the default is
+     * false.
+     */
+    public static final String BATCH_PARAM_NAME = "batch";
+
     /**
      * Using an integer because there is no support for boolean. 1 is concluded, 0 is not concluded.
      */
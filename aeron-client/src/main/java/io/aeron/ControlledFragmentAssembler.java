@@ -21,13 +21,16 @@ import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 
 import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.BATCH_FLAG;
 
 /**
  * A {@link ControlledFragmentHandler} that sits in a chain-of-responsibility pattern that reassembles fragmented
  * messages so that the next handler in the chain only sees whole messages.
  * <p>
  * Unfragmented messages are delegated without copy. Fragmented messages are copied to a temporary
- * buffer for reassembly before delegation.
+ * buffer for reassembly before delegation. Frames packed by {@link Publication#offer(MessageBatch)} are split and
+ * each message is delegated without copy. Should the delegate abort, break, or commit part way through a batch then
+ * delivery stops at that message and the messages already consumed are skipped when the batch is delivered again.
  * <p>
  * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
  * <p>
@@ -44,6 +47,7 @@ public class ControlledFragmentAssembler implements ControlledFragmentHandler
     private final boolean isDirectByteBuffer;
     private final int initialBufferLength;
     private final ControlledFragmentHandler delegate;
+    private final BatchSplitter batchSplitter = new BatchSplitter();
     private final Int2ObjectHashMap<BufferBuilder> builderBySessionIdMap = new Int2ObjectHashMap<>();
 
     /**
@@ -119,7 +123,9 @@ public class ControlledFragmentAssembler implements ControlledFragmentHandler
 
         if ((flags & UNFRAGMENTED) == UNFRAGMENTED)
         {
-            action = delegate.onFragment(buffer, offset, length, header);
+            action = (flags & BATCH_FLAG) == BATCH_FLAG ?
+                batchSplitter.split(delegate, buffer, offset, length, header) :
+                delegate.onFragment(buffer, offset, length, header);
         }
         else
         {
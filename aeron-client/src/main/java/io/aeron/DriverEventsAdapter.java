@@ -153,6 +153,17 @@ class DriverEventsAdapter implements MessageHandler
                         publicationReady.channelStatusCounterId(),
                         publicationReady.logFileName());
                 }
+                else if (asyncCommandIdSet.remove(correlationId))
+                {
+                    conductor.onAsyncNewPublication(
+                        correlationId,
+                        publicationReady.registrationId(),
+                        publicationReady.streamId(),
+                        publicationReady.sessionId(),
+                        publicationReady.publicationLimitCounterId(),
+                        publicationReady.channelStatusCounterId(),
+                        publicationReady.logFileName());
+                }
                 break;
             }
 
@@ -166,6 +177,10 @@ class DriverEventsAdapter implements MessageHandler
                     receivedCorrelationId = correlationId;
                     conductor.onNewSubscription(correlationId, subscriptionReady.channelStatusCounterId());
                 }
+                else if (asyncCommandIdSet.remove(correlationId))
+                {
+                    conductor.onAsyncNewSubscription(correlationId, subscriptionReady.channelStatusCounterId());
+                }
                 break;
             }
 
@@ -37,6 +37,7 @@ public final class DriverProxy
     private final RemoveMessageFlyweight removeMessage = new RemoveMessageFlyweight();
     private final DestinationMessageFlyweight destinationMessage = new DestinationMessageFlyweight();
     private final CounterMessageFlyweight counterMessage = new CounterMessageFlyweight();
+    private final RingBuffer sharedCommandBuffer;
     private final RingBuffer toDriverCommandBuffer;
 
     /**
@@ -47,6 +48,22 @@ public final class DriverProxy
      */
     public DriverProxy(final RingBuffer toDriverCommandBuffer, final long clientId)
     {
+        this(toDriverCommandBuffer, toDriverCommandBuffer, clientId);
+    }
+
+    /**
+     * Create a proxy to a media driver which sends commands via a stripe {@link RingBuffer} while taking correlation
+     * ids and the driver heartbeat from the shared to-driver {@link RingBuffer}.
+     *
+     * @param sharedCommandBuffer   shared by all clients for correlation ids and the driver heartbeat.
+     * @param toDriverCommandBuffer to send commands via which may be the same as the shared buffer.
+     * @param clientId              to represent the client.
+     * @see CncFileDescriptor#toDriverStripeCount(org.agrona.DirectBuffer)
+     */
+    public DriverProxy(
+        final RingBuffer sharedCommandBuffer, final RingBuffer toDriverCommandBuffer, final long clientId)
+    {
+        this.sharedCommandBuffer = sharedCommandBuffer;
         this.toDriverCommandBuffer = toDriverCommandBuffer;
         this.clientId = clientId;
     }
@@ -58,7 +75,7 @@ public final class DriverProxy
      */
     public long timeOfLastDriverKeepaliveMs()
     {
-        return toDriverCommandBuffer.consumerHeartbeatTime();
+        return sharedCommandBuffer.consumerHeartbeatTime();
     }
 
     /**
@@ -70,7 +87,7 @@ public final class DriverProxy
      */
     public long addPublication(final String channel, final int streamId)
     {
-        final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        final long correlationId = sharedCommandBuffer.nextCorrelationId();
         final int length = PublicationMessageFlyweight.computeLength(channel.length());
         final int index = toDriverCommandBuffer.tryClaim(ADD_PUBLICATION, length);
         if (index < 0)
@@ -99,7 +116,7 @@ public final class DriverProxy
      */
     public long addExclusivePublication(final String channel, final int streamId)
     {
-        final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        final long correlationId = sharedCommandBuffer.nextCorrelationId();
         final int length = PublicationMessageFlyweight.computeLength(channel.length());
         final int index = toDriverCommandBuffer.tryClaim(ADD_EXCLUSIVE_PUBLICATION, length);
         if (index < 0)
@@ -127,7 +144,7 @@ public final class DriverProxy
      */
     public long removePublication(final long registrationId)
     {
-        final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        final long correlationId = sharedCommandBuffer.nextCorrelationId();
         final int index = toDriverCommandBuffer.tryClaim(REMOVE_PUBLICATION, RemoveMessageFlyweight.length());
         if (index < 0)
         {
@@ -155,7 +172,7 @@ public final class DriverProxy
     public long addSubscription(final String channel, final int streamId)
     {
         final long registrationId = Aeron.NULL_VALUE;
-        final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        final long correlationId = sharedCommandBuffer.nextCorrelationId();
         final int length = SubscriptionMessageFlyweight.computeLength(channel.length());
         final int index = toDriverCommandBuffer.tryClaim(ADD_SUBSCRIPTION, length);
         if (index < 0)
@@ -184,7 +201,7 @@ public final class DriverProxy
      */
     public long removeSubscription(final long registrationId)
     {
-        final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        final long correlationId = sharedCommandBuffer.nextCorrelationId();
         final int index = toDriverCommandBuffer.tryClaim(REMOVE_SUBSCRIPTION, RemoveMessageFlyweight.length());
         if (index < 0)
         {
@@ -211,7 +228,7 @@ public final class DriverProxy
      */
     public long addDestination(final long registrationId, final String endpointChannel)
     {
-        final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        final long correlationId = sharedCommandBuffer.nextCorrelationId();
         final int length = DestinationMessageFlyweight.computeLength(endpointChannel.length());
         final int index = toDriverCommandBuffer.tryClaim(ADD_DESTINATION, length);
         if (index < 0)
@@ -240,7 +257,7 @@ public final class DriverProxy
      */
     public long removeDestination(final long registrationId, final String endpointChannel)
     {
-        final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        final long correlationId = sharedCommandBuffer.nextCorrelationId();
         final int length = DestinationMessageFlyweight.computeLength(endpointChannel.length());
         final int index = toDriverCommandBuffer.tryClaim(REMOVE_DESTINATION, length);
         if (index < 0)
@@ -269,7 +286,7 @@ public final class DriverProxy
      */
     public long addRcvDestination(final long registrationId, final String endpointChannel)
     {
-        final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        final long correlationId = sharedCommandBuffer.nextCorrelationId();
         final int length = DestinationMessageFlyweight.computeLength(endpointChannel.length());
         final int index = toDriverCommandBuffer.tryClaim(ADD_RCV_DESTINATION, length);
         if (index < 0)
@@ -298,7 +315,7 @@ public final class DriverProxy
      */
     public long removeRcvDestination(final long registrationId, final String endpointChannel)
     {
-        final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        final long correlationId = sharedCommandBuffer.nextCorrelationId();
         final int length = DestinationMessageFlyweight.computeLength(endpointChannel.length());
         final int index = toDriverCommandBuffer.tryClaim(REMOVE_RCV_DESTINATION, length);
         if (index < 0)
@@ -339,7 +356,7 @@ public final class DriverProxy
         final int labelOffset,
         final int labelLength)
     {
-        final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        final long correlationId = sharedCommandBuffer.nextCorrelationId();
         final int length = CounterMessageFlyweight.computeLength(keyLength, labelLength);
         final int index = toDriverCommandBuffer.tryClaim(ADD_COUNTER, length);
         if (index < 0)
@@ -369,7 +386,7 @@ public final class DriverProxy
      */
     public long addCounter(final int typeId, final String label)
     {
-        final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        final long correlationId = sharedCommandBuffer.nextCorrelationId();
         final int length = CounterMessageFlyweight.computeLength(0, label.length());
         final int index = toDriverCommandBuffer.tryClaim(ADD_COUNTER, length);
         if (index < 0)
@@ -398,7 +415,7 @@ public final class DriverProxy
      */
     public long removeCounter(final long registrationId)
     {
-        final long correlationId = toDriverCommandBuffer.nextCorrelationId();
+        final long correlationId = sharedCommandBuffer.nextCorrelationId();
         final int index = toDriverCommandBuffer.tryClaim(REMOVE_COUNTER, RemoveMessageFlyweight.length());
         if (index < 0)
         {
@@ -21,13 +21,15 @@ import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 
 import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.BATCH_FLAG;
 
 /**
  * A {@link FragmentHandler} that sits in a chain-of-responsibility pattern that reassembles fragmented messages
  * so that the next handler in the chain only sees whole messages.
  * <p>
  * Unfragmented messages are delegated without copy. Fragmented messages are copied to a temporary
- * buffer for reassembly before delegation.
+ * buffer for reassembly before delegation. Frames packed by {@link Publication#offer(MessageBatch)} are split and
+ * each message is delegated without copy.
  * <p>
  * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
  * <p>
@@ -115,7 +117,14 @@ public class FragmentAssembler implements FragmentHandler
 
         if ((flags & UNFRAGMENTED) == UNFRAGMENTED)
         {
-            delegate.onFragment(buffer, offset, length, header);
+            if ((flags & BATCH_FLAG) == BATCH_FLAG)
+            {
+                BatchSplitter.split(delegate, buffer, offset, length, header);
+            }
+            else
+            {
+                delegate.onFragment(buffer, offset, length, header);
+            }
         }
         else
         {
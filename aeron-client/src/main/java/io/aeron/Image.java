@@ -54,6 +54,9 @@ public final class Image
     private final int positionBitsToShift;
     private boolean isEos;
     private volatile boolean isClosed;
+    private final boolean isDetachedSpy;
+    private int pollWeight = 1;
+    int pollDeficit;
 
     private final Position subscriberPosition;
     private final UnsafeBuffer[] termBuffers;
@@ -99,6 +102,10 @@ public final class Image
         this.positionBitsToShift = LogBufferDescriptor.positionBitsToShift(termLength);
         this.initialTermId = LogBufferDescriptor.initialTermId(logBuffers.metaDataBuffer());
         header = new Header(initialTermId, positionBitsToShift, this);
+
+        final String channel = null != subscription ? subscription.channel() : null;
+        isDetachedSpy = null != channel && channel.startsWith(CommonContext.SPY_PREFIX) &&
+            "true".equals(ChannelUri.parse(channel).get(CommonContext.DETACHED_PARAM_NAME));
     }
 
     /**
@@ -182,6 +189,38 @@ public final class Image
         return subscription;
     }
 
+    /**
+     * Weight of this {@link Image} relative to the others under its {@link Subscription} which determines its share
+     * of the fragment limit in {@link Subscription#weightedPoll(FragmentHandler, int)}.
+     *
+     * @return weight of this {@link Image} relative to the others under its {@link Subscription}.
+     */
+    public int pollWeight()
+    {
+        return pollWeight;
+    }
+
+    /**
+     * Set the weight of this {@link Image} relative to the others under its {@link Subscription} which determines
+     * its share of the fragment limit in {@link Subscription#weightedPoll(FragmentHandler, int)}. The default is 1.
+     * <p>
+     * This is best set from the {@link AvailableImageHandler} so it takes effect before the {@link Image} is first
+     * polled, otherwise it should be set from the polling thread.
+     *
+     * @param pollWeight of this {@link Image} which must be at least 1.
+     * @return this for a fluent API.
+     */
+    public Image pollWeight(final int pollWeight)
+    {
+        if (pollWeight < 1)
+        {
+            throw new IllegalArgumentException("pollWeight must be at least 1: " + pollWeight);
+        }
+
+        this.pollWeight = pollWeight;
+        return this;
+    }
+
     /**
      * Has this object been closed and should no longer be used?
      *
@@ -304,6 +343,10 @@ public final class Image
         }
 
         final long position = subscriberPosition.get();
+        if (isLapped(position))
+        {
+            return 0;
+        }
 
         return TermReader.read(
             activeTermBuffer(position),
@@ -316,6 +359,28 @@ public final class Image
             subscriberPosition);
     }
 
+    /**
+     * Is a frame available to be read at the current position, which allows for an empty image to be skipped
+     * cheaply without setting up a poll.
+     *
+     * @return true if a frame is available to be read at the current position otherwise false.
+     */
+    boolean isFrameAvailable()
+    {
+        if (isClosed)
+        {
+            return false;
+        }
+
+        final long position = subscriberPosition.get();
+        if (isLapped(position))
+        {
+            return false;
+        }
+
+        return frameLengthVolatile(activeTermBuffer(position), (int)position & termLengthMask) > 0;
+    }
+
     /**
      * Poll for new messages in a stream. If new messages are found beyond the last consumed position then they
      * will be delivered to the {@link ControlledFragmentHandler} up to a limited number of fragments as specified.
@@ -335,8 +400,13 @@ public final class Image
             return 0;
         }
 
-        int fragmentsRead = 0;
         long initialPosition = subscriberPosition.get();
+        if (isLapped(initialPosition))
+        {
+            return 0;
+        }
+
+        int fragmentsRead = 0;
         int initialOffset = (int)initialPosition & termLengthMask;
         int offset = initialOffset;
         final UnsafeBuffer termBuffer = activeTermBuffer(initialPosition);
@@ -425,8 +495,13 @@ public final class Image
             return 0;
         }
 
-        int fragmentsRead = 0;
         final long initialPosition = subscriberPosition.get();
+        if (isLapped(initialPosition))
+        {
+            return 0;
+        }
+
+        int fragmentsRead = 0;
         final int initialOffset = (int)initialPosition & termLengthMask;
         int offset = initialOffset;
         final UnsafeBuffer termBuffer = activeTermBuffer(initialPosition);
@@ -496,8 +571,13 @@ public final class Image
             return 0;
         }
 
-        int fragmentsRead = 0;
         long initialPosition = subscriberPosition.get();
+        if (isLapped(initialPosition))
+        {
+            return 0;
+        }
+
+        int fragmentsRead = 0;
         int initialOffset = (int)initialPosition & termLengthMask;
         int offset = initialOffset;
         final UnsafeBuffer termBuffer = activeTermBuffer(initialPosition);
@@ -588,7 +668,7 @@ public final class Image
         }
 
         validatePosition(initialPosition);
-        if (initialPosition >= limitPosition)
+        if (initialPosition >= limitPosition || isLapped(initialPosition))
         {
             return initialPosition;
         }
@@ -679,6 +759,11 @@ public final class Image
         }
 
         final long position = subscriberPosition.get();
+        if (isLapped(position))
+        {
+            return 0;
+        }
+
         final int offset = (int)position & termLengthMask;
         final int limitOffset = Math.min(offset + blockLengthLimit, termLengthMask + 1);
         final UnsafeBuffer termBuffer = activeTermBuffer(position);
@@ -730,6 +815,11 @@ public final class Image
         }
 
         final long position = subscriberPosition.get();
+        if (isLapped(position))
+        {
+            return 0;
+        }
+
         final int offset = (int)position & termLengthMask;
         final int activeIndex = indexByPosition(position, positionBitsToShift);
         final UnsafeBuffer termBuffer = termBuffers[activeIndex];
@@ -765,6 +855,23 @@ public final class Image
         return termBuffers[indexByPosition(position, positionBitsToShift)];
     }
 
+    private boolean isLapped(final long position)
+    {
+        if (isDetachedSpy)
+        {
+            // A detached spy does not hold back the publication, so the publication may have moved into a later term
+            // in the same partition before the driver has noticed the spy has fallen behind.
+            final int termId = LogBufferDescriptor.computeTermIdFromPosition(
+                position, positionBitsToShift, initialTermId);
+            final long rawTail = LogBufferDescriptor.rawTailVolatile(
+                logBuffers.metaDataBuffer(), indexByPosition(position, positionBitsToShift));
+
+            return LogBufferDescriptor.termId(rawTail) - termId > 0;
+        }
+
+        return false;
+    }
+
     private void validatePosition(final long position)
     {
         final long currentPosition = subscriberPosition.get();
@@ -20,6 +20,7 @@ import io.aeron.logbuffer.Header;
 import org.agrona.DirectBuffer;
 
 import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.BATCH_FLAG;
 
 /**
  * A {@link ControlledFragmentHandler} that sits in a chain-of-responsibility pattern that reassembles fragmented
@@ -27,7 +28,9 @@ import static io.aeron.logbuffer.FrameDescriptor.*;
  * {@link Image} and not for multiple session {@link Image}s in a {@link Subscription}.
  * <p>
  * Unfragmented messages are delegated without copy. Fragmented messages are copied to a temporary
- * buffer for reassembly before delegation.
+ * buffer for reassembly before delegation. Frames packed by {@link Publication#offer(MessageBatch)} are split and
+ * each message is delegated without copy. Should the delegate abort, break, or commit part way through a batch then
+ * delivery stops at that message and the messages already consumed are skipped when the batch is delivered again.
  * <p>
  * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
  *
@@ -37,6 +40,7 @@ import static io.aeron.logbuffer.FrameDescriptor.*;
 public class ImageControlledFragmentAssembler implements ControlledFragmentHandler
 {
     private final ControlledFragmentHandler delegate;
+    private final BatchSplitter batchSplitter = new BatchSplitter();
     private final BufferBuilder builder;
 
     /**
@@ -110,7 +114,9 @@ public class ImageControlledFragmentAssembler implements ControlledFragmentHandl
 
         if ((flags & UNFRAGMENTED) == UNFRAGMENTED)
         {
-            action = delegate.onFragment(buffer, offset, length, header);
+            action = (flags & BATCH_FLAG) == BATCH_FLAG ?
+                batchSplitter.split(delegate, buffer, offset, length, header) :
+                delegate.onFragment(buffer, offset, length, header);
         }
         else
         {
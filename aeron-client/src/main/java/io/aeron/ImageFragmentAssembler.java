@@ -20,6 +20,7 @@ import io.aeron.logbuffer.Header;
 import org.agrona.DirectBuffer;
 
 import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.BATCH_FLAG;
 
 /**
  * A {@link FragmentHandler} that sits in a chain-of-responsibility pattern that reassembles fragmented messages
@@ -27,7 +28,8 @@ import static io.aeron.logbuffer.FrameDescriptor.*;
  * and not for multiple session {@link Image}s in a {@link Subscription}.
  * <p>
  * Unfragmented messages are delegated without copy. Fragmented messages are copied to a temporary
- * buffer for reassembly before delegation.
+ * buffer for reassembly before delegation. Frames packed by {@link Publication#offer(MessageBatch)} are split and
+ * each message is delegated without copy.
  * <p>
  * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
  */
@@ -106,7 +108,14 @@ public class ImageFragmentAssembler implements FragmentHandler
 
         if ((flags & UNFRAGMENTED) == UNFRAGMENTED)
         {
-            delegate.onFragment(buffer, offset, length, header);
+            if ((flags & BATCH_FLAG) == BATCH_FLAG)
+            {
+                BatchSplitter.split(delegate, buffer, offset, length, header);
+            }
+            else
+            {
+                delegate.onFragment(buffer, offset, length, header);
+            }
         }
         else
         {
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.BufferClaim;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.SIZE_OF_SHORT;
+
+/**
+ * Batch of small messages which are packed into a single frame by {@link Publication#offer(MessageBatch)} to save the
+ * cost of a full data header, plus alignment, for each message.
+ * <p>
+ * Each message is prefixed with a compact sub-header of its length as a 16-bit unsigned little-endian value and
+ * messages are not aligned within the batch. The frame is marked with the
+ * {@link io.aeron.protocol.DataHeaderFlyweight#BATCH_FLAG} so a {@link BatchFragmentAssembler} can split the batch
+ * back out into the messages on the receiving side.
+ * <p>
+ * <b>Note:</b> A batch is not threadsafe and should not be shared between threads, however it can be offered to a
+ * {@link ConcurrentPublication} from one thread while other threads offer their own batches.
+ *
+ * @see CommonContext#BATCH_PARAM_NAME
+ * @see BatchFragmentAssembler
+ */
+public final class MessageBatch
+{
+    /**
+     * Length of the sub-header which prefixes each message in a batch.
+     */
+    public static final int SUB_HEADER_LENGTH = SIZE_OF_SHORT;
+
+    /**
+     * Maximum length of a message which can be appended to a batch.
+     */
+    public static final int MAX_MESSAGE_LENGTH = 0xFFFF;
+
+    private int length;
+    private int messageCount;
+    private final UnsafeBuffer buffer;
+    final BufferClaim bufferClaim = new BufferClaim();
+
+    /**
+     * Construct a batch which can hold up to capacity bytes of messages and their sub-headers.
+     *
+     * @param capacity of the batch which should not be greater than {@link Publication#maxPayloadLength()} for the
+     *                 publication it will be offered to.
+     */
+    public MessageBatch(final int capacity)
+    {
+        if (capacity <= SUB_HEADER_LENGTH)
+        {
+            throw new IllegalArgumentException("capacity must be greater than " + SUB_HEADER_LENGTH + ": " + capacity);
+        }
+
+        buffer = new UnsafeBuffer(new byte[capacity]);
+    }
+
+    /**
+     * Append a message to the batch if there is space remaining.
+     *
+     * @param srcBuffer containing the message.
+     * @param offset    at which the message begins.
+     * @param length    of the message in bytes.
+     * @return true if the message was appended or false if the batch does not have the space remaining.
+     * @throws IllegalArgumentException if the length is greater than {@link #MAX_MESSAGE_LENGTH}.
+     */
+    public boolean append(final DirectBuffer srcBuffer, final int offset, final int length)
+    {
+        if (length > MAX_MESSAGE_LENGTH)
+        {
+            throw new IllegalArgumentException(
+                "message length " + length + " exceeds max batched message length " + MAX_MESSAGE_LENGTH);
+        }
+
+        final int newLength = this.length + SUB_HEADER_LENGTH + length;
+        if (newLength > buffer.capacity())
+        {
+            return false;
+        }
+
+        buffer.putShort(this.length, (short)length, LITTLE_ENDIAN);
+        buffer.putBytes(this.length + SUB_HEADER_LENGTH, srcBuffer, offset, length);
+        this.length = newLength;
+        messageCount++;
+
+        return true;
+    }
+
+    /**
+     * Reset the batch so it is empty and can be reused.
+     */
+    public void reset()
+    {
+        length = 0;
+        messageCount = 0;
+    }
+
+    /**
+     * Is the batch empty of messages?
+     *
+     * @return true if the batch is empty of messages.
+     */
+    public boolean isEmpty()
+    {
+        return 0 == messageCount;
+    }
+
+    /**
+     * Number of messages appended to the batch.
+     *
+     * @return number of messages appended to the batch.
+     */
+    public int messageCount()
+    {
+        return messageCount;
+    }
+
+    /**
+     * Length of the encoded batch in bytes including the sub-headers.
+     *
+     * @return length of the encoded batch in bytes including the sub-headers.
+     */
+    public int length()
+    {
+        return length;
+    }
+
+    /**
+     * Capacity of the batch in bytes including the sub-headers.
+     *
+     * @return capacity of the batch in bytes including the sub-headers.
+     */
+    public int capacity()
+    {
+        return buffer.capacity();
+    }
+
+    /**
+     * Buffer containing the encoded batch from index 0 up to {@link #length()}.
+     *
+     * @return buffer containing the encoded batch.
+     */
+    public DirectBuffer buffer()
+    {
+        return buffer;
+    }
+}
@@ -23,12 +23,15 @@ import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.status.LocalSocketAddressStatus;
 import io.aeron.status.ChannelEndpointStatus;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.IdleStrategy;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.ReadablePosition;
 
 import java.util.List;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.BATCH_FLAG;
+import static io.aeron.protocol.DataHeaderFlyweight.BEGIN_AND_END_FLAGS;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
 
 /**
@@ -89,6 +92,7 @@ public abstract class Publication implements AutoCloseable
     final int maxPayloadLength;
     final int positionBitsToShift;
     final int termBufferLength;
+    final boolean isBatching;
     volatile boolean isClosed = false;
 
     final ReadablePosition positionLimit;
@@ -127,6 +131,7 @@ public abstract class Publication implements AutoCloseable
         this.logBuffers = logBuffers;
         this.positionBitsToShift = LogBufferDescriptor.positionBitsToShift(termBufferLength);
         this.headerWriter = HeaderWriter.newInstance(defaultFrameHeader(logMetaDataBuffer));
+        this.isBatching = LogBufferDescriptor.isBatching(logMetaDataBuffer);
     }
 
     /**
@@ -542,6 +547,105 @@ public abstract class Publication implements AutoCloseable
      */
     public abstract long tryClaim(int length, BufferClaim bufferClaim);
 
+    /**
+     * Is the publication able to offer a {@link MessageBatch} as it was added with {@code batch=true}? This is
+     * validated by the driver which requires the setting to match for all additions of a shared publication.
+     *
+     * @return true if the publication is able to offer a {@link MessageBatch}.
+     * @see CommonContext#BATCH_PARAM_NAME
+     */
+    public boolean isBatching()
+    {
+        return isBatching;
+    }
+
+    /**
+     * Blocking publish of a partial buffer containing a message which retries while the publication is
+     * {@link #NOT_CONNECTED}, {@link #BACK_PRESSURED}, or has an {@link #ADMIN_ACTION} until the timeout expires.
+     * <p>
+     * The idle strategy is reset at the start and called between attempts. An idle strategy which parks, such as
+     * {@link org.agrona.concurrent.BackoffIdleStrategy}, yields the thread cooperatively which suits running many
+     * low rate publishers on virtual threads. The idle strategy should be reused across calls to avoid allocation.
+     *
+     * @param buffer       containing message.
+     * @param offset       offset in the buffer at which the encoded message begins.
+     * @param length       in bytes of the encoded message.
+     * @param idleStrategy to call between attempts.
+     * @param timeoutNs    to keep retrying for.
+     * @return The new stream position, otherwise the negative error value of the last attempt which will be
+     * {@link #CLOSED} or {@link #MAX_POSITION_EXCEEDED} immediately, or another value if the timeout expired.
+     * @throws AeronException if the thread is interrupted while waiting.
+     */
+    public final long offerBlocking(
+        final DirectBuffer buffer,
+        final int offset,
+        final int length,
+        final IdleStrategy idleStrategy,
+        final long timeoutNs)
+    {
+        final long deadlineNs = System.nanoTime() + timeoutNs;
+        idleStrategy.reset();
+
+        long result;
+        while ((result = offer(buffer, offset, length, null)) < 0)
+        {
+            if (CLOSED == result || MAX_POSITION_EXCEEDED == result || deadlineNs - System.nanoTime() <= 0)
+            {
+                break;
+            }
+
+            if (Thread.currentThread().isInterrupted())
+            {
+                throw new AeronException("unexpected interrupt");
+            }
+
+            idleStrategy.idle();
+        }
+
+        return result;
+    }
+
+    /**
+     * Offer a batch of small messages packed into a single unfragmented frame which is marked with the
+     * {@link io.aeron.protocol.DataHeaderFlyweight#BATCH_FLAG}. The batch is reset if the offer succeeds so it can be
+     * reused. Subscribers split the batch back out into the messages by polling with a {@link FragmentAssembler},
+     * {@link ControlledFragmentAssembler}, or the image equivalents, or with a {@link BatchFragmentAssembler}.
+     * <p>
+     * This method is threadsafe for a {@link ConcurrentPublication} when each thread offers its own batch.
+     *
+     * @param batch of messages to be offered.
+     * @return The new stream position, otherwise a negative error value of {@link #NOT_CONNECTED},
+     * {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, {@link #CLOSED}, or {@link #MAX_POSITION_EXCEEDED}.
+     * @throws AeronException if the publication was not added with {@code batch=true}.
+     * @throws IllegalArgumentException if the batch length is greater than {@link #maxPayloadLength()}.
+     * @see #isBatching()
+     */
+    public final long offer(final MessageBatch batch)
+    {
+        if (!isBatching)
+        {
+            throw new AeronException("publication must be added with batch=true to offer a MessageBatch: " + channel);
+        }
+
+        if (batch.isEmpty())
+        {
+            return position();
+        }
+
+        final BufferClaim bufferClaim = batch.bufferClaim;
+        final long result = tryClaim(batch.length(), bufferClaim);
+        if (result > 0)
+        {
+            bufferClaim
+                .flags((byte)(BEGIN_AND_END_FLAGS | BATCH_FLAG))
+                .putBytes(batch.buffer(), 0, batch.length())
+                .commit();
+            batch.reset();
+        }
+
+        return result;
+    }
+
     /**
      * Add a destination manually to a multi-destination-cast Publication.
      *
@@ -23,6 +23,7 @@ import io.aeron.logbuffer.RawBlockHandler;
 import io.aeron.status.ChannelEndpointStatus;
 import io.aeron.status.LocalSocketAddressStatus;
 import org.agrona.collections.ArrayUtil;
+import org.agrona.concurrent.IdleStrategy;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -201,6 +202,106 @@ public final class Subscription extends SubscriptionFields implements AutoClosea
         return fragmentsRead;
     }
 
+    /**
+     * Poll the {@link Image}s under the subscription for available message fragments with the fragment limit shared
+     * according to the {@link Image#pollWeight()} of each {@link Image} by deficit round-robin.
+     * <p>
+     * In each round an {@link Image} may read as many fragments as its weight plus any allowance it was unable to
+     * use in the previous poll because the fragment limit was reached. An {@link Image} which has no more fragments
+     * available loses its remaining allowance. Rounds continue until the fragment limit is reached or a round reads
+     * no fragments, so a high rate {@link Image} cannot take the whole fragment limit from lower rate {@link Image}s
+     * which have fragments available.
+     * <p>
+     * Each fragment read will be a whole message if it is under MTU length. If larger than MTU then it will come
+     * as a series of fragments ordered within a session.
+     * <p>
+     * To assemble messages that span multiple fragments then use {@link FragmentAssembler}.
+     *
+     * @param fragmentHandler callback for handling each message fragment as it is read.
+     * @param fragmentLimit   number of message fragments to limit when polling across multiple {@link Image}s.
+     * @return the number of fragments received
+     * @see Image#pollWeight(int)
+     */
+    public int weightedPoll(final FragmentHandler fragmentHandler, final int fragmentLimit)
+    {
+        final Image[] images = this.images;
+        final int length = images.length;
+        int fragmentsRead = 0;
+
+        int startingIndex = roundRobinIndex++;
+        if (startingIndex >= length)
+        {
+            roundRobinIndex = startingIndex = 0;
+        }
+
+        int roundFragmentsRead;
+        do
+        {
+            roundFragmentsRead = 0;
+            for (int i = startingIndex, n = 0; n < length && fragmentsRead < fragmentLimit; n++)
+            {
+                final Image image = images[i];
+                final int allowance = image.pollDeficit + image.pollWeight();
+                final int limit = Math.min(allowance, fragmentLimit - fragmentsRead);
+                final int imageFragmentsRead = image.poll(fragmentHandler, limit);
+
+                image.pollDeficit = imageFragmentsRead < limit ? 0 : allowance - imageFragmentsRead;
+                roundFragmentsRead += imageFragmentsRead;
+                fragmentsRead += imageFragmentsRead;
+
+                if (++i == length)
+                {
+                    i = 0;
+                }
+            }
+        }
+        while (roundFragmentsRead > 0 && fragmentsRead < fragmentLimit);
+
+        return fragmentsRead;
+    }
+
+    /**
+     * Poll the {@link Image}s under the subscription for available message fragments, waiting with the idle
+     * strategy between polls which read nothing, which avoids a hand written polling loop on a low rate subscription.
+     * <p>
+     * An idle strategy which parks, such as {@link org.agrona.concurrent.BackoffIdleStrategy}, yields the thread
+     * cooperatively which suits running many low rate subscribers on virtual threads.
+     *
+     * @param fragmentHandler callback for handling each message fragment as it is read.
+     * @param fragmentLimit   number of message fragments to limit when polling across multiple {@link Image}s.
+     * @param idleStrategy    to call between polls which read nothing.
+     * @param timeoutNs       to wait for fragments.
+     * @return the number of fragments received which will be 0 if the timeout expired or the subscription is closed.
+     * @throws AeronException if the thread is interrupted while waiting.
+     */
+    public int pollBlocking(
+        final FragmentHandler fragmentHandler,
+        final int fragmentLimit,
+        final IdleStrategy idleStrategy,
+        final long timeoutNs)
+    {
+        final long deadlineNs = System.nanoTime() + timeoutNs;
+        idleStrategy.reset();
+
+        int fragmentsRead;
+        while (0 == (fragmentsRead = poll(fragmentHandler, fragmentLimit)))
+        {
+            if (isClosed || deadlineNs - System.nanoTime() <= 0)
+            {
+                return 0;
+            }
+
+            if (Thread.currentThread().isInterrupted())
+            {
+                throw new AeronException("unexpected interrupt");
+            }
+
+            idleStrategy.idle();
+        }
+
+        return fragmentsRead;
+    }
+
     /**
      * Poll in a controlled manner the {@link Image}s under the subscription for available message fragments.
      * Control is applied to fragments in the stream. If more fragments can be read on another stream
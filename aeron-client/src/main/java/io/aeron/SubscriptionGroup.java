@@ -0,0 +1,192 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.collections.ArrayUtil;
+
+import java.util.Arrays;
+
+/**
+ * Group of {@link Subscription}s which are polled together with a single fragment limit shared across the
+ * {@link Image}s of all the {@link Subscription}s.
+ * <p>
+ * The {@link Image}s of the group are held in a flat array which is rebuilt when the {@link Image}s of any of
+ * the {@link Subscription}s change. Polling rotates the starting {@link Image} on each poll for fairness and skips
+ * {@link Image}s which have no frame available at their current position without setting up a poll of the term.
+ * <p>
+ * <b>Note:</b> A {@link SubscriptionGroup} is not threadsafe and should only be polled from the thread which
+ * polls its {@link Subscription}s. The group does not close its {@link Subscription}s.
+ *
+ * @see Subscription#poll(FragmentHandler, int)
+ */
+public final class SubscriptionGroup
+{
+    private static final FragmentHandler[] EMPTY_HANDLERS = new FragmentHandler[0];
+    private static final Image[][] EMPTY_IMAGE_ARRAYS = new Image[0][];
+
+    private int roundRobinIndex = 0;
+    private Subscription[] subscriptions = new Subscription[0];
+    private FragmentHandler[] subscriptionHandlers = EMPTY_HANDLERS;
+    private Image[][] knownImages = EMPTY_IMAGE_ARRAYS;
+    private Image[] images = Subscription.EMPTY_IMAGES;
+    private FragmentHandler[] imageHandlers = EMPTY_HANDLERS;
+
+    /**
+     * Add a {@link Subscription} to the group with the handler for the fragments read from its {@link Image}s.
+     *
+     * @param subscription    to be added to the group.
+     * @param fragmentHandler for the fragments read from the {@link Image}s of the subscription.
+     * @return this for a fluent API.
+     */
+    public SubscriptionGroup add(final Subscription subscription, final FragmentHandler fragmentHandler)
+    {
+        subscriptions = ArrayUtil.add(subscriptions, subscription);
+        subscriptionHandlers = ArrayUtil.add(subscriptionHandlers, fragmentHandler);
+        knownImages = ArrayUtil.add(knownImages, null);
+
+        return this;
+    }
+
+    /**
+     * Remove a {@link Subscription} from the group.
+     *
+     * @param subscription to be removed from the group.
+     * @return true if the subscription was in the group and has been removed otherwise false.
+     */
+    public boolean remove(final Subscription subscription)
+    {
+        for (int i = 0; i < subscriptions.length; i++)
+        {
+            if (subscription == subscriptions[i])
+            {
+                subscriptions = ArrayUtil.remove(subscriptions, i);
+                subscriptionHandlers = ArrayUtil.remove(subscriptionHandlers, i);
+                knownImages = ArrayUtil.remove(knownImages, i);
+                rebuildImages();
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Count of {@link Subscription}s in the group.
+     *
+     * @return count of {@link Subscription}s in the group.
+     */
+    public int subscriptionCount()
+    {
+        return subscriptions.length;
+    }
+
+    /**
+     * Count of {@link Image}s across the {@link Subscription}s of the group as of the last poll.
+     *
+     * @return count of {@link Image}s across the {@link Subscription}s of the group as of the last poll.
+     */
+    public int imageCount()
+    {
+        return images.length;
+    }
+
+    /**
+     * Poll the {@link Image}s of all the {@link Subscription}s in the group for available message fragments,
+     * delivering fragments to the handler the {@link Subscription} was added with.
+     * <p>
+     * Each fragment read will be a whole message if it is under MTU length. If larger than MTU then it will come
+     * as a series of fragments ordered within a session.
+     *
+     * @param fragmentLimit number of message fragments to limit when polling across all {@link Image}s.
+     * @return the number of fragments received.
+     */
+    public int poll(final int fragmentLimit)
+    {
+        checkForImageChanges();
+
+        final Image[] images = this.images;
+        final FragmentHandler[] handlers = this.imageHandlers;
+        final int length = images.length;
+        int fragmentsRead = 0;
+
+        int startingIndex = roundRobinIndex++;
+        if (startingIndex >= length)
+        {
+            roundRobinIndex = startingIndex = 0;
+        }
+
+        for (int i = startingIndex; i < length && fragmentsRead < fragmentLimit; i++)
+        {
+            final Image image = images[i];
+            if (image.isFrameAvailable())
+            {
+                fragmentsRead += image.poll(handlers[i], fragmentLimit - fragmentsRead);
+            }
+        }
+
+        for (int i = 0; i < startingIndex && fragmentsRead < fragmentLimit; i++)
+        {
+            final Image image = images[i];
+            if (image.isFrameAvailable())
+            {
+                fragmentsRead += image.poll(handlers[i], fragmentLimit - fragmentsRead);
+            }
+        }
+
+        return fragmentsRead;
+    }
+
+    private void checkForImageChanges()
+    {
+        final Subscription[] subscriptions = this.subscriptions;
+        final Image[][] knownImages = this.knownImages;
+
+        for (int i = 0, length = subscriptions.length; i < length; i++)
+        {
+            if (subscriptions[i].images != knownImages[i])
+            {
+                rebuildImages();
+                break;
+            }
+        }
+    }
+
+    private void rebuildImages()
+    {
+        int imageCount = 0;
+        for (int i = 0; i < subscriptions.length; i++)
+        {
+            knownImages[i] = subscriptions[i].images;
+            imageCount += knownImages[i].length;
+        }
+
+        final Image[] images = new Image[imageCount];
+        final FragmentHandler[] handlers = new FragmentHandler[imageCount];
+        int index = 0;
+        for (int i = 0; i < subscriptions.length; i++)
+        {
+            final Image[] subscriptionImages = knownImages[i];
+            System.arraycopy(subscriptionImages, 0, images, index, subscriptionImages.length);
+            Arrays.fill(handlers, index, index + subscriptionImages.length, subscriptionHandlers[i]);
+            index += subscriptionImages.length;
+        }
+
+        this.images = images;
+        this.imageHandlers = handlers;
+    }
+}
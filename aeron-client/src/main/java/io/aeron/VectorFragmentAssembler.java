@@ -0,0 +1,236 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import io.aeron.logbuffer.MessageVectorHandler;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+
+import java.util.Arrays;
+
+import static io.aeron.logbuffer.FrameDescriptor.*;
+
+/**
+ * A {@link FragmentHandler} that sits in a chain-of-responsibility pattern that reassembles fragmented messages
+ * so that the {@link MessageVectorHandler} delegate only sees whole messages, without copying the fragments when the
+ * message is contained within a single term.
+ * <p>
+ * The fragments of a message within a term remain in the term buffer until the subscriber moves at least a further
+ * term on, so the delegate is given a vector over the payload of each fragment in place, skipping the frame headers.
+ * Only when a message spans a term boundary are the fragments copied to a temporary buffer for reassembly, in which
+ * case the delegate is given a single vector over that buffer. Unfragmented messages are delegated as a single
+ * vector without copy.
+ * <p>
+ * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
+ * <p>
+ * Session based state will be allocated and grown as necessary based on the number of fragments in messages to be
+ * assembled. When sessions go inactive see {@link UnavailableImageHandler}, it is possible to free the state by
+ * calling {@link #freeSessionBuffer(int)}.
+ *
+ * @see Subscription#poll(FragmentHandler, int)
+ * @see Image#poll(FragmentHandler, int)
+ */
+public class VectorFragmentAssembler implements FragmentHandler
+{
+    private static final int INITIAL_VECTOR_COUNT = 16;
+
+    private final MessageVectorHandler delegate;
+    private final DirectBufferVector[] unfragmentedVectors = { new DirectBufferVector() };
+    private final Int2ObjectHashMap<SessionMessage> messageBySessionIdMap = new Int2ObjectHashMap<>();
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on whole messages.
+     *
+     * @param delegate onto which whole messages are forwarded.
+     */
+    public VectorFragmentAssembler(final MessageVectorHandler delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Get the delegate unto which assembled messages are delegated.
+     *
+     * @return the delegate unto which assembled messages are delegated.
+     */
+    public MessageVectorHandler delegate()
+    {
+        return delegate;
+    }
+
+    /**
+     * The implementation of {@link FragmentHandler} that reassembles and forwards whole messages.
+     *
+     * @param buffer containing the data.
+     * @param offset at which the data begins.
+     * @param length of the data in bytes.
+     * @param header representing the meta data for the data.
+     */
+    public void onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        final byte flags = header.flags();
+
+        if ((flags & UNFRAGMENTED) == UNFRAGMENTED)
+        {
+            unfragmentedVectors[0].reset(buffer, offset, length);
+            delegate.onMessage(unfragmentedVectors, 1, length, header);
+        }
+        else
+        {
+            handleFragment(buffer, offset, length, header, flags);
+        }
+    }
+
+    /**
+     * Free the existing session state to reduce memory pressure when an image goes inactive or no more
+     * large messages are expected.
+     *
+     * @param sessionId to have its state freed
+     * @return true if state has been freed otherwise false.
+     */
+    public boolean freeSessionBuffer(final int sessionId)
+    {
+        return null != messageBySessionIdMap.remove(sessionId);
+    }
+
+    /**
+     * Clear down the cache of state by session for reassembling messages.
+     */
+    public void clear()
+    {
+        messageBySessionIdMap.clear();
+    }
+
+    private void handleFragment(
+        final DirectBuffer buffer, final int offset, final int length, final Header header, final byte flags)
+    {
+        if ((flags & BEGIN_FRAG_FLAG) == BEGIN_FRAG_FLAG)
+        {
+            final SessionMessage message = sessionMessage(header.sessionId());
+            message.begin(header.termId());
+            message.append(buffer, offset, length);
+        }
+        else
+        {
+            final SessionMessage message = messageBySessionIdMap.get(header.sessionId());
+            if (null != message && message.isAssembling)
+            {
+                if (!message.isCopying && header.termId() != message.termId)
+                {
+                    message.copyVectors();
+                }
+
+                message.append(buffer, offset, length);
+
+                if ((flags & END_FRAG_FLAG) == END_FRAG_FLAG)
+                {
+                    message.isAssembling = false;
+                    if (message.isCopying)
+                    {
+                        final BufferBuilder builder = message.builder;
+                        message.vectors[0].reset(builder.buffer(), 0, builder.limit());
+                        delegate.onMessage(message.vectors, 1, builder.limit(), header);
+                    }
+                    else
+                    {
+                        delegate.onMessage(message.vectors, message.vectorCount, message.length, header);
+                    }
+                }
+            }
+        }
+    }
+
+    private SessionMessage sessionMessage(final int sessionId)
+    {
+        SessionMessage message = messageBySessionIdMap.get(sessionId);
+
+        if (null == message)
+        {
+            message = new SessionMessage();
+            messageBySessionIdMap.put(sessionId, message);
+        }
+
+        return message;
+    }
+
+    static final class SessionMessage
+    {
+        boolean isAssembling;
+        boolean isCopying;
+        int termId;
+        int vectorCount;
+        int length;
+        DirectBufferVector[] vectors = newVectors(new DirectBufferVector[0], INITIAL_VECTOR_COUNT);
+        BufferBuilder builder;
+
+        void begin(final int termId)
+        {
+            this.termId = termId;
+            isAssembling = true;
+            isCopying = false;
+            vectorCount = 0;
+            length = 0;
+        }
+
+        void append(final DirectBuffer buffer, final int offset, final int length)
+        {
+            if (isCopying)
+            {
+                builder.append(buffer, offset, length);
+            }
+            else
+            {
+                if (vectorCount == vectors.length)
+                {
+                    vectors = newVectors(vectors, vectors.length << 1);
+                }
+
+                vectors[vectorCount++].reset(buffer, offset, length);
+                this.length += length;
+            }
+        }
+
+        void copyVectors()
+        {
+            if (null == builder)
+            {
+                builder = new BufferBuilder();
+            }
+
+            builder.reset();
+            for (int i = 0; i < vectorCount; i++)
+            {
+                final DirectBufferVector vector = vectors[i];
+                builder.append(vector.buffer(), vector.offset(), vector.length());
+            }
+
+            isCopying = true;
+        }
+
+        private static DirectBufferVector[] newVectors(final DirectBufferVector[] vectors, final int newLength)
+        {
+            final DirectBufferVector[] newVectors = Arrays.copyOf(vectors, newLength);
+            for (int i = vectors.length; i < newLength; i++)
+            {
+                newVectors[i] = new DirectBufferVector();
+            }
+
+            return newVectors;
+        }
+    }
+}
@@ -34,6 +34,7 @@ public final class Header
     private final int positionBitsToShift;
     private final int initialTermId;
     private int offset = 0;
+    private byte flagsMask = (byte)0xFF;
     private DirectBuffer buffer;
     private final Object context;
 
@@ -203,11 +204,33 @@ public final class Header
      * and {@link DataHeaderFlyweight#END_FLAG}. A convenience flag {@link DataHeaderFlyweight#BEGIN_AND_END_FLAGS}
      * can be used for both flags.
      *
-     * @return the flags for this frame.
+     * @return the flags for this frame with the {@link #flagsMask()} applied.
      */
     public byte flags()
     {
-        return buffer.getByte(offset + FLAGS_FIELD_OFFSET);
+        return (byte)(buffer.getByte(offset + FLAGS_FIELD_OFFSET) & flagsMask);
+    }
+
+    /**
+     * Mask applied to the flags of the frame by {@link #flags()}, all flags are kept by default.
+     *
+     * @return the mask applied to the flags of the frame by {@link #flags()}.
+     */
+    public byte flagsMask()
+    {
+        return flagsMask;
+    }
+
+    /**
+     * Mask applied to the flags of the frame by {@link #flags()}. A handler which splits a frame into many messages,
+     * such as a {@link io.aeron.BatchFragmentAssembler}, clears the flags which only apply to the frame as a whole
+     * while it delegates the messages and restores the mask afterwards.
+     *
+     * @param flagsMask to be applied to the flags of the frame by {@link #flags()}.
+     */
+    public void flagsMask(final byte flagsMask)
+    {
+        this.flagsMask = flagsMask;
     }
 
     /**
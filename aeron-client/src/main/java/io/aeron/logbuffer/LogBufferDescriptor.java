@@ -129,6 +129,11 @@ public class LogBufferDescriptor
      */
     public static final int LOG_PAGE_SIZE_OFFSET;
 
+    /**
+     * Offset within the log metadata which whether the publication may offer batches is stored.
+     */
+    public static final int LOG_IS_BATCHING_OFFSET;
+
     /**
      * Offset at which the default frame headers begin.
      */
@@ -182,6 +187,8 @@ public class LogBufferDescriptor
      *  +---------------------------------------------------------------+
      *  |                          Page Size                            |
      *  +---------------------------------------------------------------+
+     *  |                         Is Batching                           |
+     *  +---------------------------------------------------------------+
      *  |                      Cache Line Padding                      ...
      * ...                                                              |
      *  +---------------------------------------------------------------+
@@ -212,6 +219,7 @@ public class LogBufferDescriptor
         LOG_MTU_LENGTH_OFFSET = LOG_DEFAULT_FRAME_HEADER_LENGTH_OFFSET + SIZE_OF_INT;
         LOG_TERM_LENGTH_OFFSET = LOG_MTU_LENGTH_OFFSET + SIZE_OF_INT;
         LOG_PAGE_SIZE_OFFSET = LOG_TERM_LENGTH_OFFSET + SIZE_OF_INT;
+        LOG_IS_BATCHING_OFFSET = LOG_PAGE_SIZE_OFFSET + SIZE_OF_INT;
 
         offset += CACHE_LINE_LENGTH;
         LOG_DEFAULT_FRAME_HEADER_OFFSET = offset;
@@ -382,6 +390,28 @@ public class LogBufferDescriptor
         metadataBuffer.putLong(LOG_CORRELATION_ID_OFFSET, id);
     }
 
+    /**
+     * Get whether the publication of the log may offer a {@link io.aeron.MessageBatch}, as validated by the driver.
+     *
+     * @param metadataBuffer containing the meta data.
+     * @return whether the publication of the log may offer a {@link io.aeron.MessageBatch}.
+     */
+    public static boolean isBatching(final UnsafeBuffer metadataBuffer)
+    {
+        return metadataBuffer.getInt(LOG_IS_BATCHING_OFFSET) == 1;
+    }
+
+    /**
+     * Set whether the publication of the log may offer a {@link io.aeron.MessageBatch}.
+     *
+     * @param metadataBuffer containing the meta data.
+     * @param isBatching     or not
+     */
+    public static void isBatching(final UnsafeBuffer metadataBuffer, final boolean isBatching)
+    {
+        metadataBuffer.putInt(LOG_IS_BATCHING_OFFSET, isBatching ? 1 : 0);
+    }
+
     /**
      * Get whether the log is considered connected or not by the driver.
      *
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.logbuffer;
+
+import io.aeron.DirectBufferVector;
+
+/**
+ * Handler for whole messages which are presented as a list of vectors over the fragments of the message so they
+ * can be read in place rather than copied into a contiguous buffer.
+ *
+ * @see io.aeron.VectorFragmentAssembler
+ */
+@FunctionalInterface
+public interface MessageVectorHandler
+{
+    /**
+     * Callback for handling a whole message as a list of vectors in order which together make up the message.
+     * <p>
+     * The vectors, and the buffers they refer to, are only valid for the duration of the callback and must not be
+     * retained.
+     * <p>
+     * Within this callback reentrant calls to the {@link io.aeron.Aeron} client are not permitted and
+     * will result in undefined behaviour.
+     *
+     * @param vectors     over the payload of the message in order.
+     * @param vectorCount number of vectors from the start of the array which make up the message.
+     * @param length      of the message in bytes which is the sum of the vector lengths.
+     * @param header      representing the meta data for the last fragment of the message.
+     */
+    void onMessage(DirectBufferVector[] vectors, int vectorCount, int length, Header header);
+}
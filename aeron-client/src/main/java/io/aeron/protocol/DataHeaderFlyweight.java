@@ -62,6 +62,12 @@ public class DataHeaderFlyweight extends HeaderFlyweight
      */
     public static final short BEGIN_END_AND_EOS_FLAGS = BEGIN_FLAG | END_FLAG | EOS_FLAG;
 
+    /**
+     * (T) - Batch Flag for an unfragmented frame which packs many small messages, each prefixed with a compact
+     * sub-header, see {@link io.aeron.MessageBatch}.
+     */
+    public static final short BATCH_FLAG = 0x10;
+
     /**
      * Default value to be placed in the reserved value field.
      */
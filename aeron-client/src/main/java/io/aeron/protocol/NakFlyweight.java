@@ -37,6 +37,22 @@ public class NakFlyweight extends HeaderFlyweight
      */
     public static final int HEADER_LENGTH = 28;
 
+    /**
+     * Length of each additional gap, of term-offset and length, which can follow the header when multiple gap NAKs
+     * have been negotiated with {@link SetupFlyweight#MULTI_GAP_NAK_FLAG}.
+     */
+    public static final int GAP_LENGTH = 8;
+
+    /**
+     * Maximum number of additional gaps which can follow the header.
+     */
+    public static final int MAX_ADDITIONAL_GAPS = 15;
+
+    /**
+     * Maximum length of the frame in bytes including additional gaps.
+     */
+    public static final int MAX_LENGTH = HEADER_LENGTH + (MAX_ADDITIONAL_GAPS * GAP_LENGTH);
+
     /**
      * Offset in the frame at which the session-id field begins.
      */
@@ -204,6 +220,57 @@ public class NakFlyweight extends HeaderFlyweight
         return this;
     }
 
+    /**
+     * Number of additional gaps, in the same term, which follow the header based on the frame length.
+     *
+     * @return number of additional gaps which follow the header.
+     */
+    public int additionalGapCount()
+    {
+        final int count = (frameLength() - HEADER_LENGTH) / GAP_LENGTH;
+
+        return Math.max(0, Math.min(count, MAX_ADDITIONAL_GAPS));
+    }
+
+    /**
+     * The term-offset of an additional gap.
+     *
+     * @param index of the additional gap.
+     * @return term-offset of the additional gap.
+     */
+    public int additionalGapTermOffset(final int index)
+    {
+        return getInt(HEADER_LENGTH + (index * GAP_LENGTH), LITTLE_ENDIAN);
+    }
+
+    /**
+     * The length of an additional gap.
+     *
+     * @param index of the additional gap.
+     * @return length of the additional gap.
+     */
+    public int additionalGapLength(final int index)
+    {
+        return getInt(HEADER_LENGTH + (index * GAP_LENGTH) + 4, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set an additional gap after the header. The frame length must be set to include it.
+     *
+     * @param index      of the additional gap.
+     * @param termOffset of the additional gap.
+     * @param length     of the additional gap.
+     * @return this for a fluent API.
+     */
+    public NakFlyweight additionalGap(final int index, final int termOffset, final int length)
+    {
+        final int offset = HEADER_LENGTH + (index * GAP_LENGTH);
+        putInt(offset, termOffset, LITTLE_ENDIAN);
+        putInt(offset + 4, length, LITTLE_ENDIAN);
+
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -219,6 +286,7 @@ public class NakFlyweight extends HeaderFlyweight
             " stream-id=" + streamId() +
             " term-id=" + termId() +
             " length=" + length() +
+            " additional-gaps=" + additionalGapCount() +
             "}";
     }
 }
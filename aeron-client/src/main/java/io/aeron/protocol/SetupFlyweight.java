@@ -34,6 +34,11 @@ public class SetupFlyweight extends HeaderFlyweight
      */
     public static final int HEADER_LENGTH = 40;
 
+    /**
+     * Publisher accepts NAK frames which carry additional gaps after the header.
+     */
+    public static final short MULTI_GAP_NAK_FLAG = 0x80;
+
     /**
      * Offset in the frame at which the term-offset field begins.
      */
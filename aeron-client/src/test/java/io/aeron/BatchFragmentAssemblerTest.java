@@ -0,0 +1,173 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.exceptions.AeronException;
+import io.aeron.logbuffer.ControlledFragmentHandler;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.FrameDescriptor;
+import io.aeron.logbuffer.Header;
+import io.aeron.logbuffer.LogBufferDescriptor;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class BatchFragmentAssemblerTest
+{
+    private static final int INITIAL_TERM_ID = 3;
+
+    private final FragmentHandler delegateFragmentHandler = mock(FragmentHandler.class);
+    private final Header header = spy(new Header(INITIAL_TERM_ID, LogBufferDescriptor.TERM_MIN_LENGTH));
+    private final BatchFragmentAssembler adapter = new BatchFragmentAssembler(delegateFragmentHandler);
+
+    @Test
+    public void shouldPassThroughMessageWhichIsNotBatch()
+    {
+        doReturn(FrameDescriptor.UNFRAGMENTED).when(header).flags();
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[128]);
+        final int offset = 8;
+        final int length = 32;
+
+        adapter.onFragment(srcBuffer, offset, length, header);
+
+        verify(delegateFragmentHandler, times(1)).onFragment(srcBuffer, offset, length, header);
+    }
+
+    @Test
+    public void shouldSplitBatchIntoMessages()
+    {
+        final byte flags = (byte)(DataHeaderFlyweight.BEGIN_AND_END_FLAGS | DataHeaderFlyweight.BATCH_FLAG);
+        doReturn(flags).when(header).flags();
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[64]);
+        srcBuffer.putLong(0, 7L);
+        srcBuffer.putInt(8, 11);
+
+        final MessageBatch batch = new MessageBatch(32);
+        assertTrue(batch.append(srcBuffer, 0, 8));
+        assertTrue(batch.append(srcBuffer, 8, 4));
+        assertTrue(batch.append(srcBuffer, 0, 0));
+        assertEquals(3, batch.messageCount());
+        assertEquals(12 + (3 * MessageBatch.SUB_HEADER_LENGTH), batch.length());
+
+        final UnsafeBuffer frameBuffer = new UnsafeBuffer(new byte[64]);
+        final int offset = 16;
+        frameBuffer.putBytes(offset, batch.buffer(), 0, batch.length());
+
+        adapter.onFragment(frameBuffer, offset, batch.length(), header);
+
+        final int firstOffset = offset + MessageBatch.SUB_HEADER_LENGTH;
+        final int secondOffset = firstOffset + 8 + MessageBatch.SUB_HEADER_LENGTH;
+        final int thirdOffset = secondOffset + 4 + MessageBatch.SUB_HEADER_LENGTH;
+
+        final InOrder inOrder = inOrder(delegateFragmentHandler);
+        inOrder.verify(delegateFragmentHandler).onFragment(frameBuffer, firstOffset, 8, header);
+        inOrder.verify(delegateFragmentHandler).onFragment(frameBuffer, secondOffset, 4, header);
+        inOrder.verify(delegateFragmentHandler).onFragment(frameBuffer, thirdOffset, 0, header);
+        verifyNoMoreInteractions(delegateFragmentHandler);
+
+        assertEquals(7L, frameBuffer.getLong(firstOffset));
+        assertEquals(11, frameBuffer.getInt(secondOffset));
+    }
+
+    @Test
+    public void shouldStopAtMessageAndSkipConsumedMessagesWhenBatchIsRedelivered()
+    {
+        final byte flags = (byte)(DataHeaderFlyweight.BEGIN_AND_END_FLAGS | DataHeaderFlyweight.BATCH_FLAG);
+        doReturn(flags).when(header).flags();
+        doReturn(1024L).when(header).position();
+        doReturn(5).when(header).sessionId();
+        final ControlledFragmentHandler controlledHandler = mock(ControlledFragmentHandler.class);
+        final ControlledFragmentAssembler assembler = new ControlledFragmentAssembler(controlledHandler);
+
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[64]);
+        final MessageBatch batch = new MessageBatch(32);
+        assertTrue(batch.append(srcBuffer, 0, 8));
+        assertTrue(batch.append(srcBuffer, 0, 4));
+        assertTrue(batch.append(srcBuffer, 0, 2));
+        final int offset = 16;
+        final UnsafeBuffer frameBuffer = new UnsafeBuffer(new byte[64]);
+        frameBuffer.putBytes(offset, batch.buffer(), 0, batch.length());
+
+        final int firstOffset = offset + MessageBatch.SUB_HEADER_LENGTH;
+        final int secondOffset = firstOffset + 8 + MessageBatch.SUB_HEADER_LENGTH;
+        final int thirdOffset = secondOffset + 4 + MessageBatch.SUB_HEADER_LENGTH;
+
+        when(controlledHandler.onFragment(any(DirectBuffer.class), anyInt(), anyInt(), any()))
+            .thenReturn(ControlledFragmentHandler.Action.CONTINUE)
+            .thenReturn(ControlledFragmentHandler.Action.BREAK)
+            .thenReturn(ControlledFragmentHandler.Action.ABORT)
+            .thenReturn(ControlledFragmentHandler.Action.COMMIT);
+
+        assertEquals(
+            ControlledFragmentHandler.Action.ABORT,
+            assembler.onFragment(frameBuffer, offset, batch.length(), header));
+        assertEquals(
+            ControlledFragmentHandler.Action.ABORT,
+            assembler.onFragment(frameBuffer, offset, batch.length(), header));
+        assertEquals(
+            ControlledFragmentHandler.Action.COMMIT,
+            assembler.onFragment(frameBuffer, offset, batch.length(), header));
+
+        final InOrder inOrder = inOrder(controlledHandler);
+        inOrder.verify(controlledHandler).onFragment(frameBuffer, firstOffset, 8, header);
+        inOrder.verify(controlledHandler).onFragment(frameBuffer, secondOffset, 4, header);
+        inOrder.verify(controlledHandler, times(2)).onFragment(frameBuffer, thirdOffset, 2, header);
+        verifyNoMoreInteractions(controlledHandler);
+    }
+
+    @Test
+    public void shouldThrowWhenBatchMessageOverrunsFrame()
+    {
+        final byte flags = (byte)(DataHeaderFlyweight.BEGIN_AND_END_FLAGS | DataHeaderFlyweight.BATCH_FLAG);
+        doReturn(flags).when(header).flags();
+        final UnsafeBuffer frameBuffer = new UnsafeBuffer(new byte[64]);
+        final int offset = 16;
+        frameBuffer.putShort(offset, (short)8, LITTLE_ENDIAN);
+        frameBuffer.putShort(offset + MessageBatch.SUB_HEADER_LENGTH + 8, (short)200, LITTLE_ENDIAN);
+        final int length = (2 * MessageBatch.SUB_HEADER_LENGTH) + 8 + 2;
+
+        assertThrows(AeronException.class, () -> adapter.onFragment(frameBuffer, offset, length, header));
+
+        verify(delegateFragmentHandler).onFragment(frameBuffer, offset + MessageBatch.SUB_HEADER_LENGTH, 8, header);
+        verifyNoMoreInteractions(delegateFragmentHandler);
+        assertEquals((byte)0xFF, header.flagsMask());
+    }
+
+    @Test
+    public void shouldNotAppendToBatchBeyondCapacity()
+    {
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[64]);
+        final MessageBatch batch = new MessageBatch(16);
+
+        assertTrue(batch.append(srcBuffer, 0, 10));
+        assertFalse(batch.append(srcBuffer, 0, 10));
+        assertTrue(batch.append(srcBuffer, 0, 2));
+        assertEquals(2, batch.messageCount());
+        assertEquals(16, batch.length());
+
+        batch.reset();
+        assertTrue(batch.isEmpty());
+        assertEquals(0, batch.length());
+        verify(delegateFragmentHandler, never()).onFragment(any(DirectBuffer.class), anyInt(), anyInt(), any());
+    }
+}
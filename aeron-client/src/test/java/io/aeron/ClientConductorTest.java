@@ -30,6 +30,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.function.ToIntFunction;
@@ -40,6 +43,7 @@ import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
 import static java.lang.Boolean.TRUE;
 import static java.nio.ByteBuffer.allocateDirect;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
@@ -104,6 +108,7 @@ public class ClientConductorTest
     private final LogBuffersFactory logBuffersFactory = mock(LogBuffersFactory.class);
     private final Lock mockClientLock = mock(Lock.class);
     private final Aeron mockAeron = mock(Aeron.class);
+    private final ArrayDeque<Runnable> registrationCompletions = new ArrayDeque<>();
     private boolean suppressPrintError = false;
 
     @BeforeEach
@@ -114,6 +119,7 @@ public class ClientConductorTest
             .epochClock(epochClock)
             .nanoClock(nanoClock)
             .awaitingIdleStrategy(new NoOpIdleStrategy())
+            .asyncRegistrationExecutor(registrationCompletions::add)
             .toClientBuffer(mockToClientReceiver)
             .driverProxy(driverProxy)
             .logBuffersFactory(logBuffersFactory)
@@ -348,6 +354,61 @@ public class ClientConductorTest
     // Subscription related interactions
     // ---------------------------------
 
+    @Test
+    public void asyncAddPublicationShouldCompleteFutureOnReadyMessage()
+    {
+        final CompletableFuture<ConcurrentPublication> future = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+        assertFalse(future.isDone());
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY,
+            publicationReadyBuffer,
+            (buffer) -> publicationReady.length());
+        conductor.doWork();
+        assertFalse(future.isDone());
+
+        runRegistrationCompletions();
+        final ConcurrentPublication publication = future.getNow(null);
+        assertNotNull(publication);
+        assertEquals(CORRELATION_ID, publication.registrationId());
+        assertEquals(CHANNEL, publication.channel());
+        verify(logBuffersFactory).map(SESSION_ID_1 + "-log");
+    }
+
+    @Test
+    public void asyncAddPublicationShouldAllowDependentStageToCallClient()
+    {
+        final CompletableFuture<ConcurrentPublication> future = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+        final CompletableFuture<ConcurrentPublication> dependent =
+            future.thenCompose((publication) -> conductor.asyncAddPublication(CHANNEL, STREAM_ID_2));
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY,
+            publicationReadyBuffer,
+            (buffer) -> publicationReady.length());
+        conductor.doWork();
+        runRegistrationCompletions();
+
+        verify(driverProxy).addPublication(CHANNEL, STREAM_ID_2);
+        assertFalse(dependent.isCompletedExceptionally());
+    }
+
+    @Test
+    public void asyncAddPublicationShouldCompleteFutureExceptionallyOnTimeout()
+    {
+        suppressPrintError = true;
+        final CompletableFuture<ConcurrentPublication> future = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+
+        while (!future.isDone())
+        {
+            conductor.doWork();
+            runRegistrationCompletions();
+        }
+
+        final ExecutionException ex = assertThrows(ExecutionException.class, future::get);
+        assertThat(ex.getCause(), instanceOf(DriverTimeoutException.class));
+    }
+
     @Test
     public void addSubscriptionShouldNotifyMediaDriver()
     {
@@ -417,6 +478,51 @@ public class ClientConductorTest
         assertThrows(RegistrationException.class, () -> conductor.addSubscription(CHANNEL, STREAM_ID_1));
     }
 
+    @Test
+    public void asyncAddSubscriptionShouldCompleteFutureOnReadyMessage()
+    {
+        subscriptionReady.correlationId(CORRELATION_ID);
+        final CompletableFuture<Subscription> future = conductor.asyncAddSubscription(
+            CHANNEL, STREAM_ID_1, mockAvailableImageHandler, mockUnavailableImageHandler);
+        assertFalse(future.isDone());
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_SUBSCRIPTION_READY,
+            subscriptionReadyBuffer,
+            (buffer) -> SubscriptionReadyFlyweight.LENGTH);
+        conductor.doWork();
+        runRegistrationCompletions();
+
+        final Subscription subscription = future.getNow(null);
+        assertNotNull(subscription);
+        assertEquals(CORRELATION_ID, subscription.registrationId());
+        assertFalse(subscription.isClosed());
+    }
+
+    @Test
+    public void asyncAddSubscriptionShouldCompleteFutureExceptionallyOnMediaDriverError()
+    {
+        final CompletableFuture<Subscription> future = conductor.asyncAddSubscription(
+            CHANNEL, STREAM_ID_1, mockAvailableImageHandler, mockUnavailableImageHandler);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_ERROR,
+            errorMessageBuffer,
+            (buffer) ->
+            {
+                errorResponse.errorCode(INVALID_CHANNEL);
+                errorResponse.errorMessage("invalid channel");
+                errorResponse.offendingCommandCorrelationId(CORRELATION_ID);
+                return errorResponse.length();
+            });
+        conductor.doWork();
+        runRegistrationCompletions();
+
+        final ExecutionException ex = assertThrows(ExecutionException.class, future::get);
+        assertThat(ex.getCause(), instanceOf(RegistrationException.class));
+        verify(mockClientErrorHandler, never()).onError(any());
+    }
+
     @Test
     public void clientNotifiedOfNewImageShouldMapLogFile()
     {
@@ -559,6 +665,15 @@ public class ClientConductorTest
         assertFalse(conductor.isClosed());
     }
 
+    private void runRegistrationCompletions()
+    {
+        Runnable completion;
+        while (null != (completion = registrationCompletions.poll()))
+        {
+            completion.run();
+        }
+    }
+
     private void whenReceiveBroadcastOnMessage(
         final int msgTypeId, final MutableDirectBuffer buffer, final ToIntFunction<MutableDirectBuffer> filler)
     {
@@ -46,6 +46,31 @@ public class DriverProxyTest
         threadSendsChannelMessage(() -> conductor.addPublication(CHANNEL, STREAM_ID), ADD_PUBLICATION);
     }
 
+    @Test
+    public void shouldSendCommandsViaStripeWithCorrelationIdFromSharedBuffer()
+    {
+        final RingBuffer stripeBuffer = new ManyToOneRingBuffer(
+            new UnsafeBuffer(ByteBuffer.allocateDirect(TRAILER_LENGTH + 1024)));
+        final DriverProxy stripeConductor = new DriverProxy(conductorBuffer, stripeBuffer, CLIENT_ID);
+
+        final long correlationId = stripeConductor.addPublication(CHANNEL, STREAM_ID);
+
+        assertEquals(correlationId + 1, conductorBuffer.nextCorrelationId());
+        assertEquals(0, conductorBuffer.read((msgTypeId, buffer, index, length) -> {}));
+
+        final int messagesRead = stripeBuffer.read(
+            (msgTypeId, buffer, index, length) ->
+            {
+                final PublicationMessageFlyweight publicationMessage = new PublicationMessageFlyweight();
+                publicationMessage.wrap(buffer, index);
+
+                assertEquals(ADD_PUBLICATION, msgTypeId);
+                assertEquals(correlationId, publicationMessage.correlationId());
+                assertEquals(CLIENT_ID, publicationMessage.clientId());
+            });
+        assertEquals(1, messagesRead);
+    }
+
     @Test
     public void threadSendsRemoveChannelMessage()
     {
@@ -18,13 +18,17 @@ package io.aeron;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import io.aeron.logbuffer.FragmentHandler;
 import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.logbuffer.Header;
 import io.aeron.logbuffer.LogBufferDescriptor;
+import io.aeron.protocol.DataHeaderFlyweight;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -59,6 +63,65 @@ public class FragmentAssemblerTest
         verify(delegateFragmentHandler, times(1)).onFragment(srcBuffer, offset, length, header);
     }
 
+    @Test
+    public void shouldSplitBatchIntoMessages()
+    {
+        when(header.flags()).thenReturn((byte)(FrameDescriptor.UNFRAGMENTED | DataHeaderFlyweight.BATCH_FLAG));
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[128]);
+        final MessageBatch batch = new MessageBatch(64);
+        assertTrue(batch.append(srcBuffer, 0, 8));
+        assertTrue(batch.append(srcBuffer, 0, 4));
+        final int offset = 8;
+        srcBuffer.putBytes(offset, batch.buffer(), 0, batch.length());
+
+        adapter.onFragment(srcBuffer, offset, batch.length(), header);
+
+        final int firstOffset = offset + MessageBatch.SUB_HEADER_LENGTH;
+        final int secondOffset = firstOffset + 8 + MessageBatch.SUB_HEADER_LENGTH;
+        final InOrder inOrder = inOrder(delegateFragmentHandler);
+        inOrder.verify(delegateFragmentHandler).onFragment(srcBuffer, firstOffset, 8, header);
+        inOrder.verify(delegateFragmentHandler).onFragment(srcBuffer, secondOffset, 4, header);
+        verifyNoMoreInteractions(delegateFragmentHandler);
+    }
+
+    @Test
+    public void shouldNotSplitBatchAgainWhenNestedWithBatchFragmentAssembler()
+    {
+        final UnsafeBuffer frameBuffer = new UnsafeBuffer(new byte[128]);
+        final byte flags = (byte)(FrameDescriptor.UNFRAGMENTED | DataHeaderFlyweight.BATCH_FLAG);
+        frameBuffer.putByte(DataHeaderFlyweight.FLAGS_FIELD_OFFSET, flags);
+        final Header frameHeader = new Header(INITIAL_TERM_ID, LogBufferDescriptor.TERM_MIN_LENGTH);
+        frameHeader.buffer(frameBuffer);
+        frameHeader.offset(0);
+
+        final MessageBatch batch = new MessageBatch(64);
+        assertTrue(batch.append(frameBuffer, 0, 8));
+        assertTrue(batch.append(frameBuffer, 0, 4));
+        final int offset = DataHeaderFlyweight.HEADER_LENGTH;
+        frameBuffer.putBytes(offset, batch.buffer(), 0, batch.length());
+
+        final ArrayList<Integer> lengths = new ArrayList<>();
+        final ArrayList<Byte> messageFlags = new ArrayList<>();
+        final FragmentHandler handler =
+            (buffer, messageOffset, length, header) ->
+            {
+                lengths.add(length);
+                messageFlags.add(header.flags());
+            };
+
+        new FragmentAssembler(new BatchFragmentAssembler(handler))
+            .onFragment(frameBuffer, offset, batch.length(), frameHeader);
+        new BatchFragmentAssembler(new FragmentAssembler(handler))
+            .onFragment(frameBuffer, offset, batch.length(), frameHeader);
+
+        assertEquals(Arrays.asList(8, 4, 8, 4), lengths);
+        for (final byte messageFlag : messageFlags)
+        {
+            assertEquals(FrameDescriptor.UNFRAGMENTED, messageFlag);
+        }
+        assertEquals(flags, frameHeader.flags());
+    }
+
     @Test
     public void shouldAssembleTwoPartMessage()
     {
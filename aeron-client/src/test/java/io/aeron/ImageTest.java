@@ -35,6 +35,7 @@ import static java.nio.ByteBuffer.allocateDirect;
 import static org.agrona.BitUtil.align;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
@@ -149,6 +150,22 @@ public class ImageTest
         inOrder.verify(position).setOrdered(initialPosition + ALIGNED_FRAME_LENGTH);
     }
 
+    @Test
+    public void shouldReportFrameAvailableOnlyWhenFrameAtPosition()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+
+        assertFalse(image.isFrameAvailable());
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        assertTrue(image.isFrameAvailable());
+
+        image.poll(mockFragmentHandler, Integer.MAX_VALUE);
+        assertFalse(image.isFrameAvailable());
+    }
+
     @Test
     public void shouldReportCorrectPositionOnReceptionWithNonZeroPositionInInitialTermId()
     {
@@ -609,6 +626,45 @@ public class ImageTest
         inOrder.verify(position).setOrdered(TERM_BUFFER_LENGTH);
     }
 
+    @Test
+    public void shouldNotPollDetachedSpyWhenPublicationHasLappedItBeforeDriverNotices()
+    {
+        when(subscription.channel()).thenReturn("aeron-spy:aeron:udp?endpoint=localhost:40123|detached=true");
+        final UnsafeBuffer logMetaDataBuffer = logBuffers.metaDataBuffer();
+        initialTermId(logMetaDataBuffer, INITIAL_TERM_ID);
+        initialiseTailWithTermId(logMetaDataBuffer, 0, INITIAL_TERM_ID);
+        final Image image = createImage();
+
+        insertDataFrame(INITIAL_TERM_ID, 0);
+        insertDataFrame(INITIAL_TERM_ID, ALIGNED_FRAME_LENGTH);
+
+        assertThat(image.poll(mockFragmentHandler, 1), is(1));
+        assertThat(image.position(), is((long)ALIGNED_FRAME_LENGTH));
+
+        initialiseTailWithTermId(logMetaDataBuffer, 0, INITIAL_TERM_ID + PARTITION_COUNT);
+
+        assertFalse(image.isFrameAvailable());
+        assertThat(image.poll(mockFragmentHandler, Integer.MAX_VALUE), is(0));
+        assertThat(image.controlledPoll(mockControlledFragmentHandler, Integer.MAX_VALUE), is(0));
+        assertThat(image.position(), is((long)ALIGNED_FRAME_LENGTH));
+        verify(mockFragmentHandler, times(1)).onFragment(
+            any(UnsafeBuffer.class), eq(HEADER_LENGTH), eq(DATA.length), any(Header.class));
+        verifyNoInteractions(mockControlledFragmentHandler);
+    }
+
+    @Test
+    public void shouldPollSpyWhichIsNotDetachedRegardlessOfTail()
+    {
+        when(subscription.channel()).thenReturn("aeron-spy:aeron:udp?endpoint=localhost:40123");
+        initialTermId(logBuffers.metaDataBuffer(), INITIAL_TERM_ID);
+        initialiseTailWithTermId(logBuffers.metaDataBuffer(), 0, INITIAL_TERM_ID + PARTITION_COUNT);
+        final Image image = createImage();
+
+        insertDataFrame(INITIAL_TERM_ID, 0);
+
+        assertThat(image.poll(mockFragmentHandler, Integer.MAX_VALUE), is(1));
+    }
+
     private Image createImage()
     {
         return new Image(subscription, SESSION_ID, position, logBuffers, errorHandler, SOURCE_IDENTITY, CORRELATION_ID);
@@ -16,14 +16,18 @@
 package io.aeron;
 
 import io.aeron.logbuffer.BufferClaim;
+import io.aeron.exceptions.AeronException;
 import io.aeron.logbuffer.FrameDescriptor;
+import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.status.ChannelEndpointStatus;
+import org.agrona.concurrent.IdleStrategy;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.ReadablePosition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static java.nio.ByteBuffer.allocateDirect;
@@ -151,4 +155,72 @@ public class PublicationTest
 
         verify(conductor).releasePublication(publication);
     }
+
+    @Test
+    public void shouldRetryBlockingOfferWhileBackPressured()
+    {
+        final IdleStrategy idleStrategy = mock(IdleStrategy.class);
+        isConnected(logMetaDataBuffer, true);
+        when(publicationLimit.getVolatile()).thenReturn(0L, 0L, 2L * SEND_BUFFER_CAPACITY);
+
+        final long position = publication.offerBlocking(
+            atomicSendBuffer, 0, 32, idleStrategy, TimeUnit.SECONDS.toNanos(10));
+
+        assertTrue(position > 0);
+        verify(idleStrategy).reset();
+        verify(idleStrategy, times(2)).idle();
+    }
+
+    @Test
+    public void shouldNotRetryBlockingOfferWhenClosed()
+    {
+        final IdleStrategy idleStrategy = mock(IdleStrategy.class);
+        publication.close();
+
+        assertEquals(
+            Publication.CLOSED,
+            publication.offerBlocking(atomicSendBuffer, 0, 32, idleStrategy, TimeUnit.SECONDS.toNanos(10)));
+        verify(idleStrategy, never()).idle();
+    }
+
+    @Test
+    public void shouldRejectBatchOfferWhenChannelIsNotBatching()
+    {
+        final MessageBatch batch = new MessageBatch(publication.maxPayloadLength());
+        batch.append(atomicSendBuffer, 0, 16);
+
+        assertFalse(publication.isBatching());
+        assertThrows(AeronException.class, () -> publication.offer(batch));
+    }
+
+    @Test
+    public void shouldOfferBatchAsSingleFlaggedFrame()
+    {
+        isBatching(logMetaDataBuffer, true);
+        final ConcurrentPublication batchingPublication = new ConcurrentPublication(
+            conductor,
+            CHANNEL + "|batch=true",
+            STREAM_ID_1,
+            SESSION_ID_1,
+            publicationLimit,
+            ChannelEndpointStatus.NO_ID_ALLOCATED,
+            logBuffers,
+            CORRELATION_ID,
+            CORRELATION_ID);
+
+        final MessageBatch batch = new MessageBatch(batchingPublication.maxPayloadLength());
+        assertTrue(batch.append(atomicSendBuffer, 0, 16));
+        assertTrue(batch.append(atomicSendBuffer, 16, 8));
+        final int batchLength = batch.length();
+
+        assertTrue(batchingPublication.isBatching());
+        assertTrue(batchingPublication.offer(batch) > 0);
+        assertTrue(batch.isEmpty());
+
+        final UnsafeBuffer termBuffer = termBuffers[PARTITION_INDEX];
+        assertEquals(DataHeaderFlyweight.HEADER_LENGTH + batchLength, FrameDescriptor.frameLength(termBuffer, 0));
+        assertEquals(
+            (byte)(DataHeaderFlyweight.BEGIN_AND_END_FLAGS | DataHeaderFlyweight.BATCH_FLAG),
+            FrameDescriptor.frameFlags(termBuffer, 0));
+    }
 }
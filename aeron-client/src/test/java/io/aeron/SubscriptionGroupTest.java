@@ -0,0 +1,107 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SubscriptionGroupTest
+{
+    private static final String CHANNEL = "aeron:udp?endpoint=localhost:40124";
+
+    private final ClientConductor conductor = mock(ClientConductor.class);
+    private final Subscription subscriptionOne = new Subscription(conductor, CHANNEL, 1001, 1, null, null);
+    private final Subscription subscriptionTwo = new Subscription(conductor, CHANNEL, 1002, 2, null, null);
+    private final FragmentHandler handlerOne = mock(FragmentHandler.class);
+    private final FragmentHandler handlerTwo = mock(FragmentHandler.class);
+    private final Image imageOne = mock(Image.class);
+    private final Image imageTwo = mock(Image.class);
+    private final Image imageThree = mock(Image.class);
+    private final SubscriptionGroup group = new SubscriptionGroup()
+        .add(subscriptionOne, handlerOne)
+        .add(subscriptionTwo, handlerTwo);
+
+    @Test
+    public void shouldPollImagesOfEachSubscriptionWithItsHandler()
+    {
+        subscriptionOne.addImage(imageOne);
+        subscriptionTwo.addImage(imageTwo);
+        when(imageOne.isFrameAvailable()).thenReturn(true);
+        when(imageTwo.isFrameAvailable()).thenReturn(true);
+        when(imageOne.poll(handlerOne, 10)).thenReturn(3);
+        when(imageTwo.poll(handlerTwo, 7)).thenReturn(2);
+
+        assertEquals(5, group.poll(10));
+        assertEquals(2, group.imageCount());
+    }
+
+    @Test
+    public void shouldSkipImagesWithNoFrameAvailable()
+    {
+        subscriptionOne.addImage(imageOne);
+        subscriptionTwo.addImage(imageTwo);
+        when(imageTwo.isFrameAvailable()).thenReturn(true);
+        when(imageTwo.poll(handlerTwo, 10)).thenReturn(1);
+
+        assertEquals(1, group.poll(10));
+        verify(imageOne, never()).poll(any(), anyInt());
+    }
+
+    @Test
+    public void shouldShareFragmentLimitAndRotateStartingImage()
+    {
+        subscriptionOne.addImage(imageOne);
+        subscriptionTwo.addImage(imageTwo);
+        when(imageOne.isFrameAvailable()).thenReturn(true);
+        when(imageTwo.isFrameAvailable()).thenReturn(true);
+        when(imageOne.poll(handlerOne, 4)).thenReturn(4);
+        when(imageTwo.poll(handlerTwo, 4)).thenReturn(4);
+
+        assertEquals(4, group.poll(4));
+        verify(imageOne).poll(handlerOne, 4);
+        verify(imageTwo, never()).poll(any(), anyInt());
+
+        assertEquals(4, group.poll(4));
+        verify(imageTwo).poll(handlerTwo, 4);
+        verify(imageOne, times(1)).poll(any(), anyInt());
+    }
+
+    @Test
+    public void shouldPickUpImageChangesAndRemovedSubscriptions()
+    {
+        subscriptionOne.addImage(imageOne);
+        group.poll(10);
+        assertEquals(1, group.imageCount());
+
+        subscriptionTwo.addImage(imageTwo);
+        subscriptionTwo.addImage(imageThree);
+        group.poll(10);
+        assertEquals(3, group.imageCount());
+
+        assertTrue(group.remove(subscriptionOne));
+        assertFalse(group.remove(subscriptionOne));
+        assertEquals(1, group.subscriptionCount());
+        assertEquals(2, group.imageCount());
+
+        when(imageThree.correlationId()).thenReturn(3L);
+        assertSame(imageThree, subscriptionTwo.removeImage(3L));
+        group.poll(10);
+        assertEquals(1, group.imageCount());
+    }
+}
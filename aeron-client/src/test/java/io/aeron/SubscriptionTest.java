@@ -20,6 +20,8 @@ import io.aeron.logbuffer.Header;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.status.LocalSocketAddressStatus;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.status.CountersManager;
@@ -29,6 +31,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
 
 import static io.aeron.status.ChannelEndpointStatus.*;
 import static java.nio.charset.StandardCharsets.US_ASCII;
@@ -159,6 +162,75 @@ public class SubscriptionTest
         assertEquals(2, subscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT));
     }
 
+    @Test
+    public void shouldShareFragmentLimitByWeightWhenPollingWeighted()
+    {
+        subscription.addImage(imageOneMock);
+        subscription.addImage(imageTwoMock);
+
+        when(imageOneMock.pollWeight()).thenReturn(1);
+        when(imageTwoMock.pollWeight()).thenReturn(3);
+        final int[] imageOneFragmentsRead = new int[1];
+        final int[] imageTwoFragmentsRead = new int[1];
+        when(imageOneMock.poll(any(FragmentHandler.class), anyInt())).then(
+            (invocation) ->
+            {
+                final int fragmentsRead = invocation.getArgument(1);
+                imageOneFragmentsRead[0] += fragmentsRead;
+                return fragmentsRead;
+            });
+        when(imageTwoMock.poll(any(FragmentHandler.class), anyInt())).then(
+            (invocation) ->
+            {
+                final int fragmentsRead = Math.min(invocation.getArgument(1), 10 - imageTwoFragmentsRead[0]);
+                imageTwoFragmentsRead[0] += fragmentsRead;
+                return fragmentsRead;
+            });
+
+        assertEquals(8, subscription.weightedPoll(fragmentHandler, 8));
+        assertEquals(2, imageOneFragmentsRead[0]);
+        assertEquals(6, imageTwoFragmentsRead[0]);
+
+        assertEquals(20, subscription.weightedPoll(fragmentHandler, 20));
+        assertEquals(18, imageOneFragmentsRead[0]);
+        assertEquals(10, imageTwoFragmentsRead[0]);
+    }
+
+    @Test
+    public void shouldStopWeightedPollWhenNoImageHasData()
+    {
+        subscription.addImage(imageOneMock);
+        subscription.addImage(imageTwoMock);
+
+        when(imageOneMock.pollWeight()).thenReturn(1);
+        when(imageTwoMock.pollWeight()).thenReturn(2);
+
+        assertEquals(0, subscription.weightedPoll(fragmentHandler, FRAGMENT_COUNT_LIMIT));
+        verify(imageOneMock).poll(fragmentHandler, 1);
+        verify(imageTwoMock).poll(fragmentHandler, 2);
+    }
+
+    @Test
+    public void shouldPollBlockingUntilFragmentsRead()
+    {
+        subscription.addImage(imageOneMock);
+        final IdleStrategy idleStrategy = mock(IdleStrategy.class);
+        when(imageOneMock.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT)).thenReturn(0, 1);
+
+        assertEquals(1, subscription.pollBlocking(
+            fragmentHandler, FRAGMENT_COUNT_LIMIT, idleStrategy, TimeUnit.SECONDS.toNanos(10)));
+        verify(idleStrategy).idle();
+    }
+
+    @Test
+    public void shouldTimeoutPollBlockingWhenNoFragments()
+    {
+        subscription.addImage(imageOneMock);
+
+        assertEquals(0, subscription.pollBlocking(
+            fragmentHandler, FRAGMENT_COUNT_LIMIT, new BackoffIdleStrategy(), TimeUnit.MILLISECONDS.toNanos(5)));
+    }
+
     @ValueSource(longs = { INITIALIZING, ERRORED, CLOSING })
     @ParameterizedTest
     void tryResolveChannelEndpointPortReturnsNullIfChannelStatusIsNotActive(final long channelStatus)
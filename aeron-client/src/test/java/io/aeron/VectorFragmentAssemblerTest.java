@@ -0,0 +1,173 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FrameDescriptor;
+import io.aeron.logbuffer.Header;
+import io.aeron.logbuffer.LogBufferDescriptor;
+import io.aeron.logbuffer.MessageVectorHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class VectorFragmentAssemblerTest
+{
+    private static final int SESSION_ID = 777;
+    private static final int INITIAL_TERM_ID = 3;
+
+    private final List<DirectBufferVector> capturedVectors = new ArrayList<>();
+    private final MessageVectorHandler delegate = spy(new CapturingHandler());
+    private final UnsafeBuffer termBuffer = mock(UnsafeBuffer.class);
+    private final Header header = spy(new Header(INITIAL_TERM_ID, LogBufferDescriptor.TERM_MIN_LENGTH));
+    private final VectorFragmentAssembler adapter = new VectorFragmentAssembler(delegate);
+
+    @BeforeEach
+    public void setUp()
+    {
+        header.buffer(termBuffer);
+        when(termBuffer.getInt(anyInt(), any(ByteOrder.class))).thenReturn(SESSION_ID);
+        doReturn(INITIAL_TERM_ID).when(header).termId();
+    }
+
+    @Test
+    public void shouldPassThroughUnfragmentedMessageAsSingleVector()
+    {
+        doReturn(FrameDescriptor.UNFRAGMENTED).when(header).flags();
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[128]);
+
+        adapter.onFragment(srcBuffer, 8, 32, header);
+
+        verify(delegate).onMessage(any(), eq(1), eq(32), eq(header));
+        assertVector(capturedVectors.get(0), srcBuffer, 8, 32);
+    }
+
+    @Test
+    public void shouldDelegateVectorsInPlaceForMessageWithinTerm()
+    {
+        doReturn(FrameDescriptor.BEGIN_FRAG_FLAG, (byte)0, (byte)0, FrameDescriptor.END_FRAG_FLAG)
+            .when(header).flags();
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[1024]);
+        final int frameLength = srcBuffer.capacity() / 4;
+        final int payloadLength = frameLength - 32;
+
+        for (int i = 0; i < 4; i++)
+        {
+            adapter.onFragment(srcBuffer, (i * frameLength) + 32, payloadLength, header);
+        }
+
+        verify(delegate).onMessage(any(), eq(4), eq(payloadLength * 4), eq(header));
+        for (int i = 0; i < 4; i++)
+        {
+            assertVector(capturedVectors.get(i), srcBuffer, (i * frameLength) + 32, payloadLength);
+        }
+    }
+
+    @Test
+    public void shouldCopyMessageWhichSpansTerms()
+    {
+        doReturn(FrameDescriptor.BEGIN_FRAG_FLAG, (byte)0, FrameDescriptor.END_FRAG_FLAG).when(header).flags();
+        doReturn(INITIAL_TERM_ID, INITIAL_TERM_ID + 1).when(header).termId();
+        final UnsafeBuffer firstTerm = new UnsafeBuffer(new byte[256]);
+        final UnsafeBuffer secondTerm = new UnsafeBuffer(new byte[256]);
+        firstTerm.setMemory(0, 256, (byte)'A');
+        secondTerm.setMemory(0, 128, (byte)'B');
+        secondTerm.setMemory(128, 128, (byte)'C');
+
+        adapter.onFragment(firstTerm, 0, 256, header);
+        adapter.onFragment(secondTerm, 0, 128, header);
+        adapter.onFragment(secondTerm, 128, 128, header);
+
+        verify(delegate).onMessage(any(), eq(1), eq(512), eq(header));
+        final DirectBufferVector vector = capturedVectors.get(0);
+        assertEquals(512, vector.length());
+        assertNotSame(firstTerm, vector.buffer());
+        assertNotSame(secondTerm, vector.buffer());
+        for (int i = 0; i < 512; i++)
+        {
+            final byte expected = i < 256 ? firstTerm.getByte(i) : secondTerm.getByte(i - 256);
+            assertEquals(expected, vector.buffer().getByte(vector.offset() + i), "same at i=" + i);
+        }
+    }
+
+    @Test
+    public void shouldGrowVectorsForMessageWithManyFragments()
+    {
+        final int fragmentCount = 40;
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[fragmentCount * 64]);
+
+        for (int i = 0; i < fragmentCount; i++)
+        {
+            final byte flags = 0 == i ? FrameDescriptor.BEGIN_FRAG_FLAG :
+                fragmentCount - 1 == i ? FrameDescriptor.END_FRAG_FLAG : 0;
+            doReturn(flags).when(header).flags();
+            adapter.onFragment(srcBuffer, i * 64, 64, header);
+        }
+
+        verify(delegate).onMessage(any(), eq(fragmentCount), eq(fragmentCount * 64), eq(header));
+        assertVector(capturedVectors.get(fragmentCount - 1), srcBuffer, (fragmentCount - 1) * 64, 64);
+    }
+
+    @Test
+    public void shouldDoNothingIfEndArrivesWithoutBegin()
+    {
+        doReturn(FrameDescriptor.END_FRAG_FLAG).when(header).flags();
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[1024]);
+
+        adapter.onFragment(srcBuffer, 0, 512, header);
+
+        verify(delegate, never()).onMessage(any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    public void shouldFreeSessionState()
+    {
+        doReturn(FrameDescriptor.BEGIN_FRAG_FLAG).when(header).flags();
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[1024]);
+
+        adapter.onFragment(srcBuffer, 0, 512, header);
+
+        assertTrue(adapter.freeSessionBuffer(SESSION_ID));
+        assertFalse(adapter.freeSessionBuffer(SESSION_ID));
+    }
+
+    private static void assertVector(
+        final DirectBufferVector vector, final UnsafeBuffer buffer, final int offset, final int length)
+    {
+        assertSame(buffer, vector.buffer());
+        assertEquals(offset, vector.offset());
+        assertEquals(length, vector.length());
+    }
+
+    class CapturingHandler implements MessageVectorHandler
+    {
+        public void onMessage(
+            final DirectBufferVector[] vectors, final int vectorCount, final int length, final Header header)
+        {
+            for (int i = 0; i < vectorCount; i++)
+            {
+                final DirectBufferVector vector = vectors[i];
+                capturedVectors.add(new DirectBufferVector(vector.buffer(), vector.offset(), vector.length()));
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.protocol;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NakFlyweightTest
+{
+    private final NakFlyweight nakHeader = new NakFlyweight(new UnsafeBuffer(ByteBuffer.allocate(1024)));
+
+    @Test
+    public void shouldHaveNoAdditionalGapsForHeaderLength()
+    {
+        nakHeader.frameLength(NakFlyweight.HEADER_LENGTH);
+
+        assertEquals(0, nakHeader.additionalGapCount());
+    }
+
+    @Test
+    public void shouldReadAdditionalGapsWritten()
+    {
+        nakHeader
+            .termOffset(64)
+            .length(32)
+            .additionalGap(0, 128, 96)
+            .additionalGap(1, 1024, 4096)
+            .frameLength(NakFlyweight.HEADER_LENGTH + (2 * NakFlyweight.GAP_LENGTH));
+
+        assertEquals(64, nakHeader.termOffset());
+        assertEquals(32, nakHeader.length());
+        assertEquals(2, nakHeader.additionalGapCount());
+        assertEquals(128, nakHeader.additionalGapTermOffset(0));
+        assertEquals(96, nakHeader.additionalGapLength(0));
+        assertEquals(1024, nakHeader.additionalGapTermOffset(1));
+        assertEquals(4096, nakHeader.additionalGapLength(1));
+    }
+
+    @Test
+    public void shouldLimitAdditionalGapsToMaximum()
+    {
+        nakHeader.frameLength(NakFlyweight.MAX_LENGTH + NakFlyweight.GAP_LENGTH);
+
+        assertEquals(NakFlyweight.MAX_ADDITIONAL_GAPS, nakHeader.additionalGapCount());
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.status.AtomicCounter;
+
+/**
+ * {@link SenderDutyCyclePolicy} which tunes the ratio of duty cycles sending data to polls of the control transports
+ * from what is observed.
+ * <p>
+ * The fraction of polls which receive control messages is sampled over a window of polls triggered by the ratio being
+ * reached. Polls made because nothing was sent, or on a stall or timeout, are not sampled so an idle sender does not
+ * drift the ratio towards its maximum and then throttle control processing when load resumes. When most polls find
+ * messages waiting, such as status messages arriving faster than they are read, the ratio is halved. When few polls
+ * find messages the ratio is increased by one so fewer polls are wasted. A publication becoming blocked on its sender
+ * limit needs a status message to progress so it causes an immediate poll and halves the ratio.
+ */
+public class AdaptiveSenderDutyCyclePolicy implements SenderDutyCyclePolicy
+{
+    /**
+     * Number of polls over which the fraction of productive polls is sampled before the ratio is adjusted.
+     */
+    public static final int POLL_WINDOW = 16;
+
+    private boolean isRatioPoll;
+    private int dutyCycleCounter;
+    private int dutyCycleRatio;
+    private int polls;
+    private int productivePolls;
+    private final int minRatio;
+    private final int maxRatio;
+    private final AtomicCounter ratioCounter;
+    private final AtomicCounter adjustmentsCounter;
+
+    /**
+     * Construct a policy which tunes the ratio between the given bounds.
+     *
+     * @param initialRatio       of duty cycles sending data to polls of the control transports.
+     * @param minRatio           the ratio can be tuned down to, which must be at least 1.
+     * @param maxRatio           the ratio can be tuned up to.
+     * @param ratioCounter       to publish the current ratio, may be null.
+     * @param adjustmentsCounter to count the adjustments made to the ratio, may be null.
+     */
+    public AdaptiveSenderDutyCyclePolicy(
+        final int initialRatio,
+        final int minRatio,
+        final int maxRatio,
+        final AtomicCounter ratioCounter,
+        final AtomicCounter adjustmentsCounter)
+    {
+        if (minRatio < 1 || maxRatio < minRatio)
+        {
+            throw new IllegalArgumentException("invalid ratio bounds: minRatio=" + minRatio + " maxRatio=" + maxRatio);
+        }
+
+        this.minRatio = minRatio;
+        this.maxRatio = maxRatio;
+        this.dutyCycleRatio = Math.min(Math.max(initialRatio, minRatio), maxRatio);
+        this.ratioCounter = ratioCounter;
+        this.adjustmentsCounter = adjustmentsCounter;
+
+        if (null != ratioCounter)
+        {
+            ratioCounter.setOrdered(dutyCycleRatio);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean shouldPollControl(final long nowNs, final int bytesSent, final int senderLimitStalls)
+    {
+        isRatioPoll = false;
+        if (senderLimitStalls > 0)
+        {
+            adjustRatio(dutyCycleRatio >> 1);
+            return true;
+        }
+
+        if (0 == bytesSent)
+        {
+            return true;
+        }
+
+        isRatioPoll = ++dutyCycleCounter >= dutyCycleRatio;
+
+        return isRatioPoll;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onControlPoll(final long nowNs, final int bytesReceived)
+    {
+        dutyCycleCounter = 0;
+        if (!isRatioPoll)
+        {
+            return;
+        }
+
+        isRatioPoll = false;
+        if (bytesReceived > 0)
+        {
+            productivePolls++;
+        }
+
+        if (++polls >= POLL_WINDOW)
+        {
+            if ((productivePolls << 1) >= polls)
+            {
+                adjustRatio(dutyCycleRatio >> 1);
+            }
+            else if ((productivePolls << 3) < polls)
+            {
+                adjustRatio(dutyCycleRatio + 1);
+            }
+
+            polls = 0;
+            productivePolls = 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close()
+    {
+        CloseHelper.closeAll(ratioCounter, adjustmentsCounter);
+    }
+
+    /**
+     * Current ratio of duty cycles sending data to polls of the control transports.
+     *
+     * @return current ratio of duty cycles sending data to polls of the control transports.
+     */
+    public int dutyCycleRatio()
+    {
+        return dutyCycleRatio;
+    }
+
+    private void adjustRatio(final int ratio)
+    {
+        final int newRatio = Math.min(Math.max(ratio, minRatio), maxRatio);
+        if (newRatio != dutyCycleRatio)
+        {
+            dutyCycleRatio = newRatio;
+
+            if (null != ratioCounter)
+            {
+                ratioCounter.setOrdered(newRatio);
+            }
+
+            if (null != adjustmentsCounter)
+            {
+                adjustmentsCounter.incrementOrdered();
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.AeronCounters;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+/**
+ * Supply {@link AdaptiveSenderDutyCyclePolicy}s which start from
+ * {@link MediaDriver.Context#sendToStatusMessagePollRatio()} and are bounded by 1 and
+ * {@link MediaDriver.Context#senderDutyCycleMaxRatio()}.
+ * <p>
+ * Each policy allocates counters for the current ratio and number of adjustments labelled with the sender shard.
+ */
+public class AdaptiveSenderDutyCyclePolicySupplier implements SenderDutyCyclePolicySupplier
+{
+    /**
+     * {@inheritDoc}
+     */
+    public SenderDutyCyclePolicy newInstance(final MediaDriver.Context context)
+    {
+        final CountersManager countersManager = context.countersManager();
+        final int shardIndex = context.senderShardIndex();
+
+        final AtomicCounter ratioCounter = countersManager.newCounter(
+            "Sender duty cycle ratio: shard=" + shardIndex, AeronCounters.DRIVER_SENDER_DUTY_CYCLE_RATIO_TYPE_ID);
+        final AtomicCounter adjustmentsCounter = countersManager.newCounter(
+            "Sender duty cycle ratio adjustments: shard=" + shardIndex,
+            AeronCounters.DRIVER_SENDER_DUTY_CYCLE_ADJUSTMENTS_TYPE_ID);
+
+        return new AdaptiveSenderDutyCyclePolicy(
+            context.sendToStatusMessagePollRatio(),
+            1,
+            context.senderDutyCycleMaxRatio(),
+            ratioCounter,
+            adjustmentsCounter);
+    }
+}
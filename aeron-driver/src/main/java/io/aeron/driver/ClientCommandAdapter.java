@@ -31,6 +31,9 @@ import static io.aeron.command.ControlProtocolEvents.*;
 
 /**
  * Receives commands from Aeron clients and dispatches them to the {@link DriverConductor} for processing.
+ * <p>
+ * Commands can be read from multiple {@link RingBuffer}s when clients are spread across stripes. Each is drained up to
+ * the command drain limit per duty cycle with the first to be read rotating so no ring is favoured under load.
  */
 final class ClientCommandAdapter implements MessageHandler
 {
@@ -42,7 +45,8 @@ final class ClientCommandAdapter implements MessageHandler
     private final CounterMessageFlyweight counterMsgFlyweight = new CounterMessageFlyweight();
     private final TerminateDriverFlyweight terminateDriverFlyweight = new TerminateDriverFlyweight();
     private final DriverConductor conductor;
-    private final RingBuffer toDriverCommands;
+    private final RingBuffer[] toDriverCommands;
+    private int nextRingIndex = 0;
     private final ClientProxy clientProxy;
     private final AtomicCounter errors;
     private final ErrorHandler errorHandler;
@@ -50,7 +54,7 @@ final class ClientCommandAdapter implements MessageHandler
     ClientCommandAdapter(
         final AtomicCounter errors,
         final ErrorHandler errorHandler,
-        final RingBuffer toDriverCommands,
+        final RingBuffer[] toDriverCommands,
         final ClientProxy clientProxy,
         final DriverConductor driverConductor)
     {
@@ -63,7 +67,28 @@ final class ClientCommandAdapter implements MessageHandler
 
     int receive()
     {
-        return toDriverCommands.read(this, Configuration.COMMAND_DRAIN_LIMIT);
+        final RingBuffer[] toDriverCommands = this.toDriverCommands;
+        final int ringCount = toDriverCommands.length;
+        if (1 == ringCount)
+        {
+            return toDriverCommands[0].read(this, Configuration.COMMAND_DRAIN_LIMIT);
+        }
+
+        int workCount = 0;
+        final int startIndex = nextRingIndex;
+        for (int i = startIndex; i < ringCount; i++)
+        {
+            workCount += toDriverCommands[i].read(this, Configuration.COMMAND_DRAIN_LIMIT);
+        }
+
+        for (int i = 0; i < startIndex; i++)
+        {
+            workCount += toDriverCommands[i].read(this, Configuration.COMMAND_DRAIN_LIMIT);
+        }
+
+        nextRingIndex = startIndex + 1 == ringCount ? 0 : startIndex + 1;
+
+        return workCount;
     }
 
     @SuppressWarnings("MethodLength")
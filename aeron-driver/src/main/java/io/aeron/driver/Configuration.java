@@ -26,9 +26,11 @@ import io.aeron.driver.media.SendChannelEndpoint;
 import io.aeron.logbuffer.BufferClaim;
 import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.NakFlyweight;
 import org.agrona.BitUtil;
 import org.agrona.LangUtil;
 import org.agrona.collections.ArrayUtil;
+import org.agrona.collections.IntArrayList;
 import org.agrona.concurrent.*;
 import org.agrona.concurrent.broadcast.BroadcastBufferDescriptor;
 import org.agrona.concurrent.ringbuffer.RingBufferDescriptor;
@@ -158,6 +160,18 @@ public class Configuration
      */
     public static final int CONDUCTOR_BUFFER_LENGTH_DEFAULT = (1024 * 1024) + RingBufferDescriptor.TRAILER_LENGTH;
 
+    /**
+     * Count of additional stripe buffers, each of the conductor buffer length, for control commands from the clients
+     * to the media driver conductor. Clients are spread across the stripes by client id to reduce contention when
+     * many clients issue commands at the same time. Clients which predate stripes use the conductor buffer.
+     */
+    public static final String CONDUCTOR_BUFFER_STRIPE_COUNT_PROP_NAME = "aeron.conductor.buffer.stripe.count";
+
+    /**
+     * Default count of stripe buffers for control commands which is none so all clients share the conductor buffer.
+     */
+    public static final int CONDUCTOR_BUFFER_STRIPE_COUNT_DEFAULT = 0;
+
     /**
      * Length (in bytes) of the broadcast buffers from the media driver to the clients.
      */
@@ -200,6 +214,12 @@ public class Configuration
      */
     public static final int LOSS_REPORT_BUFFER_LENGTH_DEFAULT = 1024 * 1024;
 
+    /**
+     * Property name for enabling the {@link io.aeron.driver.reports.LatencyReport} of histograms for the latency of
+     * events on the hot paths of the driver, which is mapped as a file in the Aeron directory.
+     */
+    public static final String LATENCY_REPORT_ENABLED_PROP_NAME = "aeron.latency.report.enabled";
+
     /**
      * Property name for length of the initial window which must be sufficient for Bandwidth Delay Product (BDP).
      */
@@ -239,6 +259,145 @@ public class Configuration
      */
     public static final int SEND_TO_STATUS_POLL_RATIO_DEFAULT = 6;
 
+    /**
+     * Property name for the maximum ratio of sending data to polling status messages which an adaptive
+     * {@link SenderDutyCyclePolicy} can tune up to.
+     */
+    public static final String SENDER_DUTY_CYCLE_MAX_RATIO_PROP_NAME = "aeron.sender.duty.cycle.max.ratio";
+
+    /**
+     * Default maximum ratio of sending data to polling status messages for an adaptive {@link SenderDutyCyclePolicy}.
+     */
+    public static final int SENDER_DUTY_CYCLE_MAX_RATIO_DEFAULT = 64;
+
+    /**
+     * Property name for the number of datagrams the {@link Sender} can gather in a duty cycle before flushing them
+     * to the network. A value of 1 disables batching and each datagram is written directly to its channel. Batching
+     * also requires a {@link UdpSendBatcherSupplier} with a multi-message send as the default supplies none.
+     */
+    public static final String SENDER_BATCH_SIZE_PROP_NAME = "aeron.sender.batch.size";
+
+    /**
+     * Default number of datagrams the {@link Sender} can gather before a flush, which disables batching.
+     */
+    public static final int SENDER_BATCH_SIZE_DEFAULT = 1;
+
+    /**
+     * Property name for the number of datagrams the {@link Receiver} will drain from a transport before dispatching
+     * them. A value of 1 disables batching and each datagram is dispatched as it is received.
+     */
+    public static final String RECEIVER_BATCH_SIZE_PROP_NAME = "aeron.receiver.batch.size";
+
+    /**
+     * Default number of datagrams the {@link Receiver} will drain from a transport before dispatching them.
+     */
+    public static final int RECEIVER_BATCH_SIZE_DEFAULT = 1;
+
+    /**
+     * Property name for the number of transports at or below which the transport pollers of the {@link Sender} and
+     * {@link Receiver} read each transport directly in round-robin order rather than using a
+     * {@link java.nio.channels.Selector} to find the ready transports.
+     */
+    public static final String TRANSPORT_POLLER_ITERATION_THRESHOLD_PROP_NAME =
+        "aeron.transport.poller.iteration.threshold";
+
+    /**
+     * Default number of transports at or below which transport pollers bypass the selector.
+     */
+    public static final int TRANSPORT_POLLER_ITERATION_THRESHOLD_DEFAULT = 5;
+
+    /**
+     * Property name for the number of {@link Receiver} agents, each on its own thread, when running with
+     * {@link ThreadingMode#SHARDED}.
+     */
+    public static final String RECEIVER_SHARD_COUNT_PROP_NAME = "aeron.receiver.shard.count";
+
+    /**
+     * Default number of {@link Receiver} agents when running with {@link ThreadingMode#SHARDED}.
+     */
+    public static final int RECEIVER_SHARD_COUNT_DEFAULT = 2;
+
+    /**
+     * Property name for the number of {@link Sender} agents, each on its own thread, when running with
+     * {@link ThreadingMode#SHARDED}.
+     */
+    public static final String SENDER_SHARD_COUNT_PROP_NAME = "aeron.sender.shard.count";
+
+    /**
+     * Default number of {@link Sender} agents when running with {@link ThreadingMode#SHARDED}.
+     */
+    public static final int SENDER_SHARD_COUNT_DEFAULT = 1;
+
+    /**
+     * Property name for the list of CPUs, e.g. "0,2,4-7", the {@link DriverConductor} thread is restricted to. This
+     * also applies to the shared thread when running with {@link ThreadingMode#SHARED}.
+     */
+    public static final String CONDUCTOR_CPU_AFFINITY_PROP_NAME = "aeron.conductor.cpu.affinity";
+
+    /**
+     * Property name for the list of CPUs, e.g. "0,2,4-7", the {@link Sender} threads are restricted to. This also
+     * applies to the shared network thread when running with {@link ThreadingMode#SHARED_NETWORK}. When running with
+     * {@link ThreadingMode#SHARDED} each shard is pinned to a single CPU from the list in turn.
+     */
+    public static final String SENDER_CPU_AFFINITY_PROP_NAME = "aeron.sender.cpu.affinity";
+
+    /**
+     * Property name for the list of CPUs, e.g. "0,2,4-7", the {@link Receiver} threads are restricted to. When running
+     * with {@link ThreadingMode#SHARDED} each shard is pinned to a single CPU from the list in turn.
+     */
+    public static final String RECEIVER_CPU_AFFINITY_PROP_NAME = "aeron.receiver.cpu.affinity";
+
+    /**
+     * Property name for the class used to apply CPU affinity to agent threads.
+     */
+    public static final String THREAD_AFFINITY_PROP_NAME = "aeron.driver.thread.affinity";
+
+    /**
+     * Property name for if the log buffers of network publications and publication images should be pre-touched by
+     * the {@link Sender} or {@link Receiver} shard which owns the stream, so on first touch the pages are placed on
+     * the NUMA node of that shard. The conductor creates the logs sparse and the owning shard touches every page,
+     * within {@link #PRE_TOUCH_PAGE_BUDGET_PROP_NAME} pages per duty cycle, before it activates the stream. As the
+     * logs are sparse they are neither taken from the log buffer pool nor pre-faulted. Logs which are asked to be
+     * sparse by the channel or subscription are not pre-touched.
+     */
+    public static final String PRE_TOUCH_LOG_BUFFERS_PROP_NAME = "aeron.pre.touch.log.buffers";
+
+    /**
+     * Property name for the maximum number of log buffer pages the {@link Sender} or {@link Receiver} will pre-touch in
+     * a duty cycle when {@link #PRE_TOUCH_LOG_BUFFERS_PROP_NAME} is set.
+     */
+    public static final String PRE_TOUCH_PAGE_BUDGET_PROP_NAME = "aeron.pre.touch.page.budget";
+
+    /**
+     * Default maximum number of log buffer pages to pre-touch in a duty cycle.
+     */
+    public static final int PRE_TOUCH_PAGE_BUDGET_DEFAULT = 64;
+
+    /**
+     * Property name for the directory, such as a hugetlbfs or tmpfs mount, in which log buffers are created. A
+     * directory named after the Aeron directory is created within it. Default is within the Aeron directory.
+     */
+    public static final String LOG_BUFFERS_DIR_PROP_NAME = "aeron.log.buffers.dir";
+
+    /**
+     * Property name for if every page of a new log buffer should be faulted in before the log buffer is made available
+     * to clients. Pages are faulted by writing to the mapping so this is required for hugetlbfs. Sparse log buffers
+     * are not pre-faulted.
+     */
+    public static final String PRE_FAULT_LOG_BUFFERS_PROP_NAME = "aeron.pre.fault.log.buffers";
+
+    /**
+     * Property name for the maximum number of pre-allocated log buffers kept in a pool for each term length so they can
+     * be handed to new publications and images. The pool is filled on start for the publication and IPC term lengths
+     * and is replenished in the background as log buffers are taken.
+     */
+    public static final String LOG_BUFFER_POOL_SIZE_PROP_NAME = "aeron.log.buffer.pool.size";
+
+    /**
+     * Default maximum number of free log buffers kept for each term length, 0 disables pooling.
+     */
+    public static final int LOG_BUFFER_POOL_SIZE_DEFAULT = 0;
+
     /**
      * Property name for SO_RCVBUF setting on UDP sockets which must be sufficient for Bandwidth Delay Product (BDP).
      */
@@ -493,6 +652,16 @@ public class Configuration
      */
     public static final String SEND_CHANNEL_ENDPOINT_SUPPLIER_PROP_NAME = "aeron.SendChannelEndpoint.supplier";
 
+    /**
+     * Property name for {@link UdpSendBatcherSupplier}.
+     */
+    public static final String UDP_SEND_BATCHER_SUPPLIER_PROP_NAME = "aeron.UdpSendBatcher.supplier";
+
+    /**
+     * Property name for {@link SenderDutyCyclePolicySupplier}.
+     */
+    public static final String SENDER_DUTY_CYCLE_POLICY_SUPPLIER_PROP_NAME = "aeron.SenderDutyCyclePolicy.supplier";
+
     /**
      * Property name for {@link ReceiveChannelEndpointSupplier}.
      */
@@ -638,6 +807,54 @@ public class Configuration
      */
     public static final int MAX_RETRANSMITS_DEFAULT = 16;
 
+    /**
+     * Property name for the number of bytes each network publication can retransmit per duty cycle of the
+     * {@link Sender}. Retransmits over the budget are deferred to a following duty cycle.
+     */
+    public static final String RETRANSMIT_BUDGET_PROP_NAME = "aeron.retransmit.budget";
+
+    /**
+     * Default number of bytes each network publication can retransmit per duty cycle, 0 for no limit.
+     */
+    public static final int RETRANSMIT_BUDGET_DEFAULT = 0;
+
+    /**
+     * Property name for if publication images should track received frame-aligned blocks in a bitmap so loss
+     * detection reads a bit per block rather than walking the frames in the term buffer. This costs one bit per 32
+     * bytes of log buffer for each image.
+     */
+    public static final String LOSS_DETECTION_BITMAP_PROP_NAME = "aeron.receiver.loss.detection.bitmap";
+
+    /**
+     * Property name for the maximum number of publication images which the conductor will set up in a duty cycle. When
+     * set, images requested by setup frames are staged and set up over following duty cycles so a storm of new
+     * sessions does not stall the conductor. 0 sets up each image as soon as it is requested.
+     */
+    public static final String IMAGE_SETUP_BUDGET_PROP_NAME = "aeron.image.setup.budget";
+
+    /**
+     * Default maximum number of publication images to set up in a duty cycle, 0 for no staging.
+     */
+    public static final int IMAGE_SETUP_BUDGET_DEFAULT = 0;
+
+    /**
+     * Property name for if the log buffers of publication images should be allocated on a dedicated thread so the
+     * conductor is not blocked creating and mapping files. Image setup is then staged while the log is allocated.
+     */
+    public static final String IMAGE_LOG_ASYNC_ALLOCATION_PROP_NAME = "aeron.image.log.async.allocation";
+
+    /**
+     * Property name for the maximum number of gaps a publication image can request in a single NAK when the source
+     * has advertised support for multiple gaps in its setup frame. Sources which do not advertise support are sent a
+     * NAK for a single gap.
+     */
+    public static final String NAK_MAX_GAPS_PROP_NAME = "aeron.nak.max.gaps";
+
+    /**
+     * Default maximum number of gaps in a NAK which is a single gap as per the original protocol.
+     */
+    public static final int NAK_MAX_GAPS_DEFAULT = 1;
+
     /**
      * Property name for the class used to validate if a driver should terminate based on token.
      */
@@ -716,6 +933,16 @@ public class Configuration
      */
     public static final long CONDUCTOR_CYCLE_THRESHOLD_DEFAULT_NS = TimeUnit.MILLISECONDS.toNanos(1000);
 
+    /**
+     * Property name for threshold value for the work cycle of a sender shard to track for being exceeded.
+     */
+    public static final String SENDER_CYCLE_THRESHOLD_PROP_NAME = "aeron.driver.sender.cycle.threshold";
+
+    /**
+     * Default threshold value for the work cycle of a sender shard to track for being exceeded.
+     */
+    public static final long SENDER_CYCLE_THRESHOLD_DEFAULT_NS = TimeUnit.MILLISECONDS.toNanos(1000);
+
     /**
      * Should the driver configuration be printed on start.
      *
@@ -850,6 +1077,17 @@ public class Configuration
         return getSizeAsInt(CONDUCTOR_BUFFER_LENGTH_PROP_NAME, CONDUCTOR_BUFFER_LENGTH_DEFAULT);
     }
 
+    /**
+     * Count of stripe buffers for control commands from the clients to the media driver conductor.
+     *
+     * @return count of stripe buffers for control commands from the clients to the media driver conductor.
+     * @see #CONDUCTOR_BUFFER_STRIPE_COUNT_PROP_NAME
+     */
+    public static int conductorBufferStripeCount()
+    {
+        return getInteger(CONDUCTOR_BUFFER_STRIPE_COUNT_PROP_NAME, CONDUCTOR_BUFFER_STRIPE_COUNT_DEFAULT);
+    }
+
     /**
      * Length (in bytes) of the broadcast buffers from the media driver to the clients.
      *
@@ -1262,6 +1500,219 @@ public class Configuration
         return getInteger(SEND_TO_STATUS_POLL_RATIO_PROP_NAME, SEND_TO_STATUS_POLL_RATIO_DEFAULT);
     }
 
+    /**
+     * Number of bytes each network publication can retransmit per duty cycle of the {@link Sender}.
+     *
+     * @return number of bytes each network publication can retransmit per duty cycle, 0 for no limit.
+     * @see #RETRANSMIT_BUDGET_PROP_NAME
+     */
+    public static int retransmitBudget()
+    {
+        return getSizeAsInt(RETRANSMIT_BUDGET_PROP_NAME, RETRANSMIT_BUDGET_DEFAULT);
+    }
+
+    /**
+     * Should publication images track received blocks in a bitmap for loss detection.
+     *
+     * @return true if publication images should track received blocks in a bitmap for loss detection.
+     * @see #LOSS_DETECTION_BITMAP_PROP_NAME
+     */
+    public static boolean lossDetectionBitmap()
+    {
+        return "true".equalsIgnoreCase(getProperty(LOSS_DETECTION_BITMAP_PROP_NAME, "false"));
+    }
+
+    /**
+     * Maximum number of publication images which the conductor will set up in a duty cycle.
+     *
+     * @return maximum number of publication images which the conductor will set up in a duty cycle.
+     * @see #IMAGE_SETUP_BUDGET_PROP_NAME
+     */
+    public static int imageSetupBudget()
+    {
+        return getInteger(IMAGE_SETUP_BUDGET_PROP_NAME, IMAGE_SETUP_BUDGET_DEFAULT);
+    }
+
+    /**
+     * Should the log buffers of publication images be allocated on a dedicated thread.
+     *
+     * @return true if the log buffers of publication images should be allocated on a dedicated thread.
+     * @see #IMAGE_LOG_ASYNC_ALLOCATION_PROP_NAME
+     */
+    public static boolean imageLogAsyncAllocation()
+    {
+        return "true".equalsIgnoreCase(getProperty(IMAGE_LOG_ASYNC_ALLOCATION_PROP_NAME, "false"));
+    }
+
+    /**
+     * Maximum number of gaps which can be requested in a single NAK.
+     *
+     * @return maximum number of gaps which can be requested in a single NAK.
+     * @see #NAK_MAX_GAPS_PROP_NAME
+     */
+    public static int nakMaxGaps()
+    {
+        return getInteger(NAK_MAX_GAPS_PROP_NAME, NAK_MAX_GAPS_DEFAULT);
+    }
+
+    /**
+     * Maximum ratio of sending data to polling status messages which an adaptive {@link SenderDutyCyclePolicy} can
+     * tune up to.
+     *
+     * @return maximum ratio of sending data to polling status messages for an adaptive policy.
+     * @see #SENDER_DUTY_CYCLE_MAX_RATIO_PROP_NAME
+     */
+    public static int senderDutyCycleMaxRatio()
+    {
+        return getInteger(SENDER_DUTY_CYCLE_MAX_RATIO_PROP_NAME, SENDER_DUTY_CYCLE_MAX_RATIO_DEFAULT);
+    }
+
+    /**
+     * Number of datagrams the {@link Sender} can gather in a duty cycle before flushing them to the network.
+     *
+     * @return number of datagrams the {@link Sender} can gather in a duty cycle before flushing them.
+     * @see #SENDER_BATCH_SIZE_PROP_NAME
+     */
+    public static int senderBatchSize()
+    {
+        return getInteger(SENDER_BATCH_SIZE_PROP_NAME, SENDER_BATCH_SIZE_DEFAULT);
+    }
+
+    /**
+     * Number of datagrams the {@link Receiver} will drain from a transport before dispatching them.
+     *
+     * @return number of datagrams the {@link Receiver} will drain from a transport before dispatching them.
+     * @see #RECEIVER_BATCH_SIZE_PROP_NAME
+     */
+    public static int receiverBatchSize()
+    {
+        return getInteger(RECEIVER_BATCH_SIZE_PROP_NAME, RECEIVER_BATCH_SIZE_DEFAULT);
+    }
+
+    /**
+     * Number of transports at or below which transport pollers read each transport directly rather than using a
+     * {@link java.nio.channels.Selector}.
+     *
+     * @return number of transports at or below which transport pollers bypass the selector.
+     * @see #TRANSPORT_POLLER_ITERATION_THRESHOLD_PROP_NAME
+     */
+    public static int transportPollerIterationThreshold()
+    {
+        return getInteger(
+            TRANSPORT_POLLER_ITERATION_THRESHOLD_PROP_NAME, TRANSPORT_POLLER_ITERATION_THRESHOLD_DEFAULT);
+    }
+
+    /**
+     * Directory in which log buffers are created.
+     *
+     * @return directory in which log buffers are created or null if within the Aeron directory.
+     * @see #LOG_BUFFERS_DIR_PROP_NAME
+     */
+    public static String logBuffersDirectoryName()
+    {
+        return getProperty(LOG_BUFFERS_DIR_PROP_NAME);
+    }
+
+    /**
+     * Should every page of a new log buffer be faulted in before the log buffer is made available to clients.
+     *
+     * @return true if every page of a new log buffer should be faulted in.
+     * @see #PRE_FAULT_LOG_BUFFERS_PROP_NAME
+     */
+    public static boolean preFaultLogBuffers()
+    {
+        return "true".equalsIgnoreCase(getProperty(PRE_FAULT_LOG_BUFFERS_PROP_NAME, "false"));
+    }
+
+    /**
+     * Maximum number of free log buffers kept in a pool for each term length.
+     *
+     * @return maximum number of free log buffers kept in a pool for each term length, 0 if pooling is disabled.
+     * @see #LOG_BUFFER_POOL_SIZE_PROP_NAME
+     */
+    public static int logBufferPoolSize()
+    {
+        return getInteger(LOG_BUFFER_POOL_SIZE_PROP_NAME, LOG_BUFFER_POOL_SIZE_DEFAULT);
+    }
+
+    /**
+     * List of CPUs the {@link DriverConductor} thread is restricted to.
+     *
+     * @return list of CPUs the {@link DriverConductor} thread is restricted to or null if not set.
+     * @see #CONDUCTOR_CPU_AFFINITY_PROP_NAME
+     */
+    public static int[] conductorCpuAffinity()
+    {
+        return parseCpuList(getProperty(CONDUCTOR_CPU_AFFINITY_PROP_NAME));
+    }
+
+    /**
+     * List of CPUs the {@link Sender} threads are restricted to.
+     *
+     * @return list of CPUs the {@link Sender} threads are restricted to or null if not set.
+     * @see #SENDER_CPU_AFFINITY_PROP_NAME
+     */
+    public static int[] senderCpuAffinity()
+    {
+        return parseCpuList(getProperty(SENDER_CPU_AFFINITY_PROP_NAME));
+    }
+
+    /**
+     * List of CPUs the {@link Receiver} threads are restricted to.
+     *
+     * @return list of CPUs the {@link Receiver} threads are restricted to or null if not set.
+     * @see #RECEIVER_CPU_AFFINITY_PROP_NAME
+     */
+    public static int[] receiverCpuAffinity()
+    {
+        return parseCpuList(getProperty(RECEIVER_CPU_AFFINITY_PROP_NAME));
+    }
+
+    /**
+     * Should the log buffers of network publications and publication images be pre-touched by the owning sender or
+     * receiver shard.
+     *
+     * @return true if the log buffers should be pre-touched by the owning sender or receiver shard.
+     * @see #PRE_TOUCH_LOG_BUFFERS_PROP_NAME
+     */
+    public static boolean preTouchLogBuffers()
+    {
+        return "true".equalsIgnoreCase(getProperty(PRE_TOUCH_LOG_BUFFERS_PROP_NAME, "false"));
+    }
+
+    /**
+     * Maximum number of log buffer pages the sender or receiver will pre-touch in a duty cycle.
+     *
+     * @return maximum number of log buffer pages the sender or receiver will pre-touch in a duty cycle.
+     * @see #PRE_TOUCH_PAGE_BUDGET_PROP_NAME
+     */
+    public static int preTouchPageBudget()
+    {
+        return getInteger(PRE_TOUCH_PAGE_BUDGET_PROP_NAME, PRE_TOUCH_PAGE_BUDGET_DEFAULT);
+    }
+
+    /**
+     * Number of {@link Receiver} agents when running with {@link ThreadingMode#SHARDED}.
+     *
+     * @return number of {@link Receiver} agents when running with {@link ThreadingMode#SHARDED}.
+     * @see #RECEIVER_SHARD_COUNT_PROP_NAME
+     */
+    public static int receiverShardCount()
+    {
+        return getInteger(RECEIVER_SHARD_COUNT_PROP_NAME, RECEIVER_SHARD_COUNT_DEFAULT);
+    }
+
+    /**
+     * Number of {@link Sender} agents when running with {@link ThreadingMode#SHARDED}.
+     *
+     * @return number of {@link Sender} agents when running with {@link ThreadingMode#SHARDED}.
+     * @see #SENDER_SHARD_COUNT_PROP_NAME
+     */
+    public static int senderShardCount()
+    {
+        return getInteger(SENDER_SHARD_COUNT_PROP_NAME, SENDER_SHARD_COUNT_DEFAULT);
+    }
+
     /**
      * Timeout between a counter being freed and being available to be reused.
      *
@@ -1367,6 +1818,17 @@ public class Configuration
         return getSizeAsInt(LOSS_REPORT_BUFFER_LENGTH_PROP_NAME, LOSS_REPORT_BUFFER_LENGTH_DEFAULT);
     }
 
+    /**
+     * Should the {@link io.aeron.driver.reports.LatencyReport} of latency histograms be maintained by the driver.
+     *
+     * @return true if the {@link io.aeron.driver.reports.LatencyReport} should be maintained by the driver.
+     * @see #LATENCY_REPORT_ENABLED_PROP_NAME
+     */
+    public static boolean latencyReportEnabled()
+    {
+        return "true".equalsIgnoreCase(getProperty(LATENCY_REPORT_ENABLED_PROP_NAME, "false"));
+    }
+
     /**
      * {@link ThreadingMode} to be used by the Aeron {@link MediaDriver}. This allow for CPU resource to be traded
      * against throughput and latency.
@@ -1395,6 +1857,16 @@ public class Configuration
         return getDurationInNanos(CONDUCTOR_CYCLE_THRESHOLD_PROP_NAME, CONDUCTOR_CYCLE_THRESHOLD_DEFAULT_NS);
     }
 
+    /**
+     * Get threshold value for the work cycle of a sender shard to track for being exceeded.
+     *
+     * @return threshold value in nanoseconds.
+     */
+    public static long senderCycleThresholdNs()
+    {
+        return getDurationInNanos(SENDER_CYCLE_THRESHOLD_PROP_NAME, SENDER_CYCLE_THRESHOLD_DEFAULT_NS);
+    }
+
     /**
      * Get the {@link IdleStrategy} that should be applied to {@link org.agrona.concurrent.Agent}s.
      *
@@ -1576,6 +2048,62 @@ public class Configuration
         return supplier;
     }
 
+    /**
+     * Get the supplier of {@link io.aeron.driver.media.UdpSendBatcher}s which gather datagrams sent by the
+     * {@link Sender} when {@link #senderBatchSize()} is greater than 1. The default supplies none so datagrams are
+     * written directly unless an implementation with a multi-message send is configured.
+     *
+     * @return the {@link UdpSendBatcherSupplier}.
+     */
+    public static UdpSendBatcherSupplier udpSendBatcherSupplier()
+    {
+        UdpSendBatcherSupplier supplier = null;
+        try
+        {
+            final String className = getProperty(UDP_SEND_BATCHER_SUPPLIER_PROP_NAME);
+            if (null == className)
+            {
+                return new DefaultUdpSendBatcherSupplier();
+            }
+
+            supplier = (UdpSendBatcherSupplier)Class.forName(className).getConstructor().newInstance();
+        }
+        catch (final Exception ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return supplier;
+    }
+
+    /**
+     * Get the supplier of {@link SenderDutyCyclePolicy}s which decide when the {@link Sender} polls for control
+     * messages.
+     *
+     * @return the {@link SenderDutyCyclePolicySupplier}.
+     * @see #SENDER_DUTY_CYCLE_POLICY_SUPPLIER_PROP_NAME
+     */
+    public static SenderDutyCyclePolicySupplier senderDutyCyclePolicySupplier()
+    {
+        SenderDutyCyclePolicySupplier supplier = null;
+        try
+        {
+            final String className = getProperty(SENDER_DUTY_CYCLE_POLICY_SUPPLIER_PROP_NAME);
+            if (null == className)
+            {
+                return new DefaultSenderDutyCyclePolicySupplier();
+            }
+
+            supplier = (SenderDutyCyclePolicySupplier)Class.forName(className).getConstructor().newInstance();
+        }
+        catch (final Exception ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return supplier;
+    }
+
     /**
      * Get the supplier of {@link ReceiveChannelEndpoint}s which can be used for
      * debugging, monitoring, or modifying the behaviour when receiving from the channel.
@@ -1760,6 +2288,76 @@ public class Configuration
         return validator;
     }
 
+    /**
+     * Get the {@link ThreadAffinity} implementation used to pin agent threads to CPUs.
+     *
+     * @return the {@link ThreadAffinity}
+     * @see #THREAD_AFFINITY_PROP_NAME
+     */
+    public static ThreadAffinity threadAffinity()
+    {
+        ThreadAffinity threadAffinity = null;
+        try
+        {
+            final String className = getProperty(THREAD_AFFINITY_PROP_NAME);
+            if (null == className)
+            {
+                return new TasksetThreadAffinity();
+            }
+
+            threadAffinity = (ThreadAffinity)Class.forName(className).getConstructor().newInstance();
+        }
+        catch (final Exception ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return threadAffinity;
+    }
+
+    /**
+     * Parse a list of CPUs in the format used by Linux, e.g. "0,2,4-7", into the individual CPU ids.
+     *
+     * @param cpuList to be parsed.
+     * @return the CPU ids in the list or null if the list is null or empty.
+     * @throws ConfigurationException if the list is not well formed.
+     */
+    public static int[] parseCpuList(final String cpuList)
+    {
+        if (null == cpuList || cpuList.trim().isEmpty())
+        {
+            return null;
+        }
+
+        final IntArrayList cpuIds = new IntArrayList();
+        try
+        {
+            for (final String entry : cpuList.split(","))
+            {
+                final String range = entry.trim();
+                final int dashIndex = range.indexOf('-');
+                final int from = Integer.parseInt(dashIndex < 0 ? range : range.substring(0, dashIndex).trim());
+                final int to = dashIndex < 0 ? from : Integer.parseInt(range.substring(dashIndex + 1).trim());
+
+                if (from < 0 || to < from)
+                {
+                    throw new ConfigurationException("invalid CPU range '" + range + "' in CPU list: " + cpuList);
+                }
+
+                for (int cpuId = from; cpuId <= to; cpuId++)
+                {
+                    cpuIds.addInt(cpuId);
+                }
+            }
+        }
+        catch (final NumberFormatException ex)
+        {
+            throw new ConfigurationException("invalid CPU list: " + cpuList);
+        }
+
+        return cpuIds.toIntArray();
+    }
+
     /**
      * Validate that the socket buffer lengths are sufficient for the media driver configuration.
      *
@@ -1819,6 +2417,74 @@ public class Configuration
         }
     }
 
+    /**
+     * Validate that the number of agent shards is valid.
+     *
+     * @param propertyName of the shard count being validated which is used in the exception message.
+     * @param shardCount   to be checked.
+     * @throws ConfigurationException if the shard count is less than 1.
+     */
+    public static void validateShardCount(final String propertyName, final int shardCount)
+    {
+        if (shardCount < 1)
+        {
+            throw new ConfigurationException(propertyName + " must be at least 1: " + shardCount);
+        }
+    }
+
+    /**
+     * Validate the count of conductor buffer stripes is not negative and that the stripes can be held in the CnC file.
+     *
+     * @param stripeCount           to be checked.
+     * @param conductorBufferLength of each stripe.
+     * @throws ConfigurationException if the count is not valid.
+     */
+    public static void validateConductorBufferStripeCount(final int stripeCount, final int conductorBufferLength)
+    {
+        if (stripeCount < 0)
+        {
+            throw new ConfigurationException(
+                CONDUCTOR_BUFFER_STRIPE_COUNT_PROP_NAME + " must not be negative: " + stripeCount);
+        }
+
+        if ((long)stripeCount * conductorBufferLength > (Integer.MAX_VALUE / 2))
+        {
+            throw new ConfigurationException(CONDUCTOR_BUFFER_STRIPE_COUNT_PROP_NAME + " of " + stripeCount +
+                " too large for conductorBufferLength=" + conductorBufferLength);
+        }
+    }
+
+    /**
+     * Validate the maximum number of gaps in a NAK is within what can be carried in a NAK frame.
+     *
+     * @param nakMaxGaps to be checked.
+     * @throws ConfigurationException if the number of gaps is not in range.
+     */
+    public static void validateNakMaxGaps(final int nakMaxGaps)
+    {
+        final int maxGaps = NakFlyweight.MAX_ADDITIONAL_GAPS + 1;
+        if (nakMaxGaps < 1 || nakMaxGaps > maxGaps)
+        {
+            throw new ConfigurationException(
+                NAK_MAX_GAPS_PROP_NAME + " must be in the range 1 to " + maxGaps + ": " + nakMaxGaps);
+        }
+    }
+
+    /**
+     * Validate the number of pages which can be pre-touched in a duty cycle is positive.
+     *
+     * @param preTouchPageBudget to be checked.
+     * @throws ConfigurationException if the budget is not positive.
+     */
+    public static void validatePreTouchPageBudget(final int preTouchPageBudget)
+    {
+        if (preTouchPageBudget < 1)
+        {
+            throw new ConfigurationException(
+                PRE_TOUCH_PAGE_BUDGET_PROP_NAME + " must be at least 1: " + preTouchPageBudget);
+        }
+    }
+
     /**
      * Validate that page size is valid and alignment is valid.
      *
@@ -381,7 +381,8 @@ public final class DataPacketDispatcher
                         msg.termOffset(),
                         msg.termLength(),
                         msg.mtuLength(),
-                        msg.ttl());
+                        msg.ttl(),
+                        isMultiGapNak(msg));
                 }
                 else if (null != sessionInterest.image)
                 {
@@ -402,7 +403,8 @@ public final class DataPacketDispatcher
                     msg.termOffset(),
                     msg.termLength(),
                     msg.mtuLength(),
-                    msg.ttl());
+                    msg.ttl(),
+                    isMultiGapNak(msg));
             }
             else
             {
@@ -486,7 +488,8 @@ public final class DataPacketDispatcher
         final int termOffset,
         final int termLength,
         final int mtuLength,
-        final int setupTtl)
+        final int setupTtl,
+        final boolean isMultiGapNak)
     {
         final InetSocketAddress controlAddress = channelEndpoint.isMulticast(transportIndex) ?
             channelEndpoint.udpChannel(transportIndex).remoteControl() : srcAddress;
@@ -507,6 +510,12 @@ public final class DataPacketDispatcher
             transportIndex,
             controlAddress,
             srcAddress,
-            channelEndpoint);
+            channelEndpoint,
+            isMultiGapNak);
+    }
+
+    private static boolean isMultiGapNak(final SetupFlyweight msg)
+    {
+        return (msg.flags() & SetupFlyweight.MULTI_GAP_NAK_FLAG) == SetupFlyweight.MULTI_GAP_NAK_FLAG;
     }
 }
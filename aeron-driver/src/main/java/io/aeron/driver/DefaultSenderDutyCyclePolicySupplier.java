@@ -0,0 +1,31 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+/**
+ * Supply the default implementation of the {@link SenderDutyCyclePolicy} which is a
+ * {@link FixedSenderDutyCyclePolicy} using {@link MediaDriver.Context#sendToStatusMessagePollRatio()}.
+ */
+public class DefaultSenderDutyCyclePolicySupplier implements SenderDutyCyclePolicySupplier
+{
+    /**
+     * {@inheritDoc}
+     */
+    public SenderDutyCyclePolicy newInstance(final MediaDriver.Context context)
+    {
+        return new FixedSenderDutyCyclePolicy(context.sendToStatusMessagePollRatio());
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.media.UdpSendBatcher;
+
+/**
+ * Default {@link UdpSendBatcherSupplier} which supplies no {@link UdpSendBatcher} so the {@link Sender} keeps writing
+ * each datagram directly to its channel.
+ * <p>
+ * The JDK does not expose a multi-message send, e.g. sendmmsg, so gathering datagrams would still cost a system call
+ * per datagram plus a copy, and would lose the immediate short send result the publication uses to retry. Batching
+ * requires a supplier of an implementation with a native multi-message send.
+ */
+public class DefaultUdpSendBatcherSupplier implements UdpSendBatcherSupplier
+{
+    /**
+     * {@inheritDoc}
+     */
+    public UdpSendBatcher newInstance(final MediaDriver.Context context)
+    {
+        return null;
+    }
+}
@@ -27,6 +27,8 @@ import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.ReceiveDestinationTransport;
 import io.aeron.driver.media.SendChannelEndpoint;
 import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.reports.LatencyHistogram;
+import io.aeron.driver.reports.LatencyHistogramDescriptor;
 import io.aeron.driver.status.*;
 import io.aeron.exceptions.ControlProtocolException;
 import io.aeron.logbuffer.LogBufferDescriptor;
@@ -44,11 +46,15 @@ import org.agrona.concurrent.status.UnsafeBufferPosition;
 
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 import static io.aeron.ChannelUri.SPY_QUALIFIER;
 import static io.aeron.CommonContext.IPC_MEDIA;
+import static io.aeron.CommonContext.RECEIVER_SHARD_PARAM_NAME;
+import static io.aeron.CommonContext.SENDER_SHARD_PARAM_NAME;
 import static io.aeron.CommonContext.InferableBoolean.FORCE_TRUE;
 import static io.aeron.CommonContext.InferableBoolean.INFER;
 import static io.aeron.ErrorCode.*;
@@ -68,17 +74,18 @@ public final class DriverConductor implements Agent
     private int nextSessionId = BitUtil.generateRandomisedId();
     private final long timerIntervalNs;
     private final long clientLivenessTimeoutNs;
-    private long timeOfLastToDriverPositionChangeNs;
-    private long lastConsumerCommandPosition;
+    private final long[] timeOfLastToDriverPositionChangeNs;
+    private final long[] lastConsumerCommandPositions;
     private long timerCheckDeadlineNs;
     private long clockUpdateDeadlineNs;
 
     private final Context ctx;
     private final LogFactory logFactory;
-    private final ReceiverProxy receiverProxy;
-    private final SenderProxy senderProxy;
+    private final Context[] receiverShards;
+    private final Context[] senderShards;
     private final ClientProxy clientProxy;
     private final RingBuffer toDriverCommands;
+    private final RingBuffer[] toDriverRings;
     private final ClientCommandAdapter clientCommandAdapter;
     private final ManyToOneConcurrentArrayQueue<Runnable> driverCmdQueue;
     private final Object2ObjectHashMap<String, SendChannelEndpoint> sendChannelEndpointByChannelMap =
@@ -98,12 +105,17 @@ public final class DriverConductor implements Agent
     private final CachedEpochClock cachedEpochClock;
     private final CachedNanoClock cachedNanoClock;
     private final CountersManager countersManager;
-    private final NetworkPublicationThreadLocals networkPublicationThreadLocals = new NetworkPublicationThreadLocals();
+    private final NetworkPublicationThreadLocals[] networkPublicationThreadLocals;
     private final MutableDirectBuffer tempBuffer;
     private final DataHeaderFlyweight defaultDataHeader = new DataHeaderFlyweight(createDefaultHeader(0, 0, 0));
     private final NameResolver nameResolver;
     private final DriverNameResolver driverNameResolver;
     private final AtomicCounter maxCycleTime;
+    private final LatencyHistogram cycleTimeHistogram;
+    private final AtomicCounter pendingImageSetupsCount;
+    private final int imageSetupBudget;
+    private final ImageLogAllocator imageLogAllocator;
+    private final ArrayDeque<PendingImageSetup> pendingImageSetups = new ArrayDeque<>();
     private final AtomicCounter cycleTimeThresholdExceededCount;
 
     DriverConductor(final Context ctx)
@@ -112,14 +124,20 @@ public final class DriverConductor implements Agent
         timerIntervalNs = ctx.timerIntervalNs();
         clientLivenessTimeoutNs = ctx.clientLivenessTimeoutNs();
         driverCmdQueue = ctx.driverCommandQueue();
-        receiverProxy = ctx.receiverProxy();
-        senderProxy = ctx.senderProxy();
+        receiverShards = null == ctx.receiverShards() ? new Context[]{ ctx } : ctx.receiverShards();
+        senderShards = null == ctx.senderShards() ? new Context[]{ ctx } : ctx.senderShards();
+        networkPublicationThreadLocals = new NetworkPublicationThreadLocals[senderShards.length];
+        for (int i = 0; i < networkPublicationThreadLocals.length; i++)
+        {
+            networkPublicationThreadLocals[i] = new NetworkPublicationThreadLocals();
+        }
         logFactory = ctx.logFactory();
         epochClock = ctx.epochClock();
         nanoClock = ctx.nanoClock();
         cachedEpochClock = ctx.cachedEpochClock();
         cachedNanoClock = ctx.cachedNanoClock();
         toDriverCommands = ctx.toDriverCommands();
+        toDriverRings = toDriverRings(toDriverCommands, ctx.toDriverStripes());
         clientProxy = ctx.clientProxy();
         tempBuffer = ctx.tempBuffer();
 
@@ -138,7 +156,7 @@ public final class DriverConductor implements Agent
         clientCommandAdapter = new ClientCommandAdapter(
             ctx.systemCounters().get(ERRORS),
             ctx.errorHandler(),
-            toDriverCommands,
+            toDriverRings,
             clientProxy,
             this);
 
@@ -146,8 +164,18 @@ public final class DriverConductor implements Agent
             .appendToLabel(": driverName=").appendToLabel(ctx.resolverName())
             .appendToLabel(" hostname=").appendToLabel(DriverNameResolver.getCanonicalName("<unresolved>"));
 
-        lastConsumerCommandPosition = toDriverCommands.consumerPosition();
+        timeOfLastToDriverPositionChangeNs = new long[toDriverRings.length];
+        lastConsumerCommandPositions = new long[toDriverRings.length];
+        for (int i = 0; i < toDriverRings.length; i++)
+        {
+            lastConsumerCommandPositions[i] = toDriverRings[i].consumerPosition();
+        }
         maxCycleTime = ctx.systemCounters().get(CONDUCTOR_MAX_CYCLE_TIME);
+        cycleTimeHistogram = ctx.latencyHistogram(LatencyHistogramDescriptor.CONDUCTOR_CYCLE_TIME);
+        pendingImageSetupsCount = ctx.systemCounters().get(PENDING_IMAGE_SETUPS);
+        imageSetupBudget = ctx.imageSetupBudget();
+        imageLogAllocator = ctx.imageLogAsyncAllocation() ?
+            new ImageLogAllocator(logFactory, Configuration.CMD_QUEUE_CAPACITY, ctx.errorHandler()) : null;
         cycleTimeThresholdExceededCount = ctx.systemCounters().get(CONDUCTOR_CYCLE_TIME_THRESHOLD_EXCEEDED);
     }
 
@@ -162,7 +190,7 @@ public final class DriverConductor implements Agent
         cachedEpochClock.update(epochClock.time());
         timerCheckDeadlineNs = nowNs + timerIntervalNs;
         clockUpdateDeadlineNs = nowNs + CLOCK_UPDATE_INTERNAL_NS;
-        timeOfLastToDriverPositionChangeNs = nowNs;
+        Arrays.fill(timeOfLastToDriverPositionChangeNs, nowNs);
     }
 
     /**
@@ -170,6 +198,7 @@ public final class DriverConductor implements Agent
      */
     public void onClose()
     {
+        CloseHelper.close(imageLogAllocator);
         CloseHelper.close(ctx.errorHandler(), driverNameResolver);
         publicationImages.forEach(PublicationImage::free);
         networkPublications.forEach(NetworkPublication::free);
@@ -198,6 +227,7 @@ public final class DriverConductor implements Agent
         workCount += processTimers(nowNs);
         workCount += clientCommandAdapter.receive();
         workCount += driverCmdQueue.drain(Runnable::run, Configuration.COMMAND_DRAIN_LIMIT);
+        workCount += processPendingImageSetups();
         workCount += trackStreamPositions(workCount, nowNs);
         workCount += nameResolver.doWork(cachedEpochClock.time());
 
@@ -215,103 +245,34 @@ public final class DriverConductor implements Agent
         final int transportIndex,
         final InetSocketAddress controlAddress,
         final InetSocketAddress sourceAddress,
-        final ReceiveChannelEndpoint channelEndpoint)
+        final ReceiveChannelEndpoint channelEndpoint,
+        final boolean isMultiGapNak)
     {
         Configuration.validateMtuLength(senderMtuLength);
         Configuration.validateInitialWindowLength(ctx.initialWindowLength(), senderMtuLength);
 
-        final long joinPosition = computePosition(
-            activeTermId, initialTermOffset, LogBufferDescriptor.positionBitsToShift(termBufferLength), initialTermId);
-
-        final ArrayList<SubscriberPosition> subscriberPositions = createSubscriberPositions(
-            sessionId, streamId, channelEndpoint, joinPosition);
+        final PendingImageSetup setup = new PendingImageSetup(
+            sessionId,
+            streamId,
+            initialTermId,
+            activeTermId,
+            initialTermOffset,
+            termBufferLength,
+            senderMtuLength,
+            transportIndex,
+            controlAddress,
+            sourceAddress,
+            channelEndpoint,
+            isMultiGapNak);
 
-        if (subscriberPositions.size() > 0)
+        if (null == imageLogAllocator && 0 == imageSetupBudget)
         {
-            final long registrationId = toDriverCommands.nextCorrelationId();
-            RawLog rawLog = null;
-            CongestionControl congestionControl = null;
-            UnsafeBufferPosition hwmPos = null;
-            UnsafeBufferPosition receiverPos = null;
-
-            try
-            {
-                rawLog = newPublicationImageLog(
-                    sessionId,
-                    streamId,
-                    initialTermId,
-                    termBufferLength,
-                    isOldestSubscriptionSparse(subscriberPositions),
-                    senderMtuLength,
-                    registrationId);
-
-                final UdpChannel udpChannel = channelEndpoint.udpChannel();
-                congestionControl = ctx.congestionControlSupplier().newInstance(
-                    registrationId,
-                    udpChannel,
-                    streamId,
-                    sessionId,
-                    termBufferLength,
-                    senderMtuLength,
-                    controlAddress,
-                    sourceAddress,
-                    ctx.receiverCachedNanoClock(),
-                    ctx,
-                    countersManager);
-
-                hwmPos = ReceiverHwm .allocate(
-                    tempBuffer, countersManager, registrationId, sessionId, streamId, udpChannel.originalUriString());
-                receiverPos = ReceiverPos.allocate(
-                    tempBuffer, countersManager, registrationId, sessionId, streamId, udpChannel.originalUriString());
-
-                final InferableBoolean groupSubscription = subscriberPositions.get(0).subscription().group();
-                final boolean treatAsMulticast = groupSubscription == INFER ?
-                    udpChannel.isMulticast() : groupSubscription == FORCE_TRUE;
-
-                final PublicationImage image = new PublicationImage(
-                    registrationId,
-                    ctx,
-                    channelEndpoint,
-                    transportIndex,
-                    controlAddress,
-                    sessionId,
-                    streamId,
-                    initialTermId,
-                    activeTermId,
-                    initialTermOffset,
-                    rawLog,
-                    treatAsMulticast ? ctx.multicastFeedbackDelayGenerator() : ctx.unicastFeedbackDelayGenerator(),
-                    subscriberPositions,
-                    hwmPos,
-                    receiverPos,
-                    sourceAddress,
-                    congestionControl);
-
-                publicationImages.add(image);
-                receiverProxy.newPublicationImage(channelEndpoint, image);
-
-                final String sourceIdentity = Configuration.sourceIdentity(sourceAddress);
-                for (int i = 0, size = subscriberPositions.size(); i < size; i++)
-                {
-                    final SubscriberPosition position = subscriberPositions.get(i);
-                    position.addLink(image);
-
-                    clientProxy.onAvailableImage(
-                        registrationId,
-                        streamId,
-                        sessionId,
-                        position.subscription().registrationId(),
-                        position.positionCounterId(),
-                        rawLog.fileName(),
-                        sourceIdentity);
-                }
-            }
-            catch (final Throwable ex)
-            {
-                subscriberPositions.forEach((subscriberPosition) -> subscriberPosition.position().close());
-                CloseHelper.quietCloseAll(rawLog, congestionControl, hwmPos, receiverPos);
-                throw ex;
-            }
+            setUpPublicationImage(setup);
+        }
+        else
+        {
+            pendingImageSetups.addLast(setup);
+            updatePendingImageSetupsCount();
         }
     }
 
@@ -331,7 +292,7 @@ public final class DriverConductor implements Agent
 
             if (!address.equals(newAddress))
             {
-                senderProxy.onResolutionChange(channelEndpoint, endpoint, newAddress);
+                senderProxy(channelEndpoint).onResolutionChange(channelEndpoint, endpoint, newAddress);
             }
         }
         catch (final UnknownHostException ex)
@@ -353,7 +314,7 @@ public final class DriverConductor implements Agent
 
             if (!address.equals(newAddress))
             {
-                receiverProxy.onResolutionChange(channelEndpoint, udpChannel, newAddress);
+                receiverProxy(channelEndpoint).onResolutionChange(channelEndpoint, udpChannel, newAddress);
             }
         }
         catch (final UnknownHostException ex)
@@ -445,6 +406,7 @@ public final class DriverConductor implements Agent
         {
             confirmMatch(channelUri, params, publication.rawLog(), publication.sessionId());
             validateSpiesSimulateConnection(params, publication.spiesSimulateConnection());
+            validateSendRate(channelUri, params, publication.sendRate());
         }
 
         publicationLinks.add(new PublicationLink(correlationId, getOrAddClient(clientId), publication));
@@ -497,9 +459,10 @@ public final class DriverConductor implements Agent
 
     void cleanupPublication(final NetworkPublication publication)
     {
+        final SendChannelEndpoint channelEndpoint = publication.channelEndpoint();
+        final SenderProxy senderProxy = senderProxy(channelEndpoint);
         senderProxy.removeNetworkPublication(publication);
 
-        final SendChannelEndpoint channelEndpoint = publication.channelEndpoint();
         if (channelEndpoint.shouldBeClosed())
         {
             senderProxy.closeSendChannelEndpoint(channelEndpoint);
@@ -521,14 +484,14 @@ public final class DriverConductor implements Agent
             {
                 if (0 == channelEndpoint.decRefToStreamAndSession(subscription.streamId(), subscription.sessionId()))
                 {
-                    receiverProxy.removeSubscription(channelEndpoint, subscription.streamId());
+                    receiverProxy(channelEndpoint).removeSubscription(channelEndpoint, subscription.streamId());
                 }
             }
             else
             {
                 if (0 == channelEndpoint.decRefToStream(subscription.streamId()))
                 {
-                    receiverProxy.removeSubscription(channelEndpoint, subscription.streamId());
+                    receiverProxy(channelEndpoint).removeSubscription(channelEndpoint, subscription.streamId());
                 }
             }
 
@@ -536,7 +499,7 @@ public final class DriverConductor implements Agent
             {
                 channelEndpoint.closeIndicators();
                 receiveChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
-                receiverProxy.closeReceiveChannelEndpoint(channelEndpoint);
+                receiverProxy(channelEndpoint).closeReceiveChannelEndpoint(channelEndpoint);
             }
         }
     }
@@ -558,7 +521,8 @@ public final class DriverConductor implements Agent
 
         if (rejoin)
         {
-            receiverProxy.removeCoolDown(image.channelEndpoint(), image.sessionId(), image.streamId());
+            final ReceiveChannelEndpoint channelEndpoint = image.channelEndpoint();
+            receiverProxy(channelEndpoint).removeCoolDown(channelEndpoint, image.sessionId(), image.streamId());
         }
     }
 
@@ -697,7 +661,7 @@ public final class DriverConductor implements Agent
 
         final ChannelUri channelUri = ChannelUri.parse(destinationChannel);
         final InetSocketAddress dstAddress = UdpChannel.destinationAddress(channelUri, nameResolver);
-        senderProxy.addDestination(sendChannelEndpoint, channelUri, dstAddress);
+        senderProxy(sendChannelEndpoint).addDestination(sendChannelEndpoint, channelUri, dstAddress);
         clientProxy.operationSucceeded(correlationId);
     }
 
@@ -725,7 +689,7 @@ public final class DriverConductor implements Agent
 
         final ChannelUri channelUri = ChannelUri.parse(destinationChannel);
         final InetSocketAddress dstAddress = UdpChannel.destinationAddress(channelUri, nameResolver);
-        senderProxy.removeDestination(sendChannelEndpoint, channelUri, dstAddress);
+        senderProxy(sendChannelEndpoint).removeDestination(sendChannelEndpoint, channelUri, dstAddress);
         clientProxy.operationSucceeded(correlationId);
     }
 
@@ -743,14 +707,14 @@ public final class DriverConductor implements Agent
         {
             if (1 == channelEndpoint.incRefToStreamAndSession(streamId, params.sessionId))
             {
-                receiverProxy.addSubscription(channelEndpoint, streamId, params.sessionId);
+                receiverProxy(channelEndpoint).addSubscription(channelEndpoint, streamId, params.sessionId);
             }
         }
         else
         {
             if (1 == channelEndpoint.incRefToStream(streamId))
             {
-                receiverProxy.addSubscription(channelEndpoint, streamId);
+                receiverProxy(channelEndpoint).addSubscription(channelEndpoint, streamId);
             }
         }
 
@@ -855,7 +819,7 @@ public final class DriverConductor implements Agent
             {
                 if (0 == channelEndpoint.decRefToStreamAndSession(subscription.streamId(), subscription.sessionId()))
                 {
-                    receiverProxy.removeSubscription(
+                    receiverProxy(channelEndpoint).removeSubscription(
                         channelEndpoint, subscription.streamId(), subscription.sessionId());
                 }
             }
@@ -863,13 +827,13 @@ public final class DriverConductor implements Agent
             {
                 if (0 == channelEndpoint.decRefToStream(subscription.streamId()))
                 {
-                    receiverProxy.removeSubscription(channelEndpoint, subscription.streamId());
+                    receiverProxy(channelEndpoint).removeSubscription(channelEndpoint, subscription.streamId());
                 }
             }
 
             if (channelEndpoint.shouldBeClosed())
             {
-                receiverProxy.closeReceiveChannelEndpoint(channelEndpoint);
+                receiverProxy(channelEndpoint).closeReceiveChannelEndpoint(channelEndpoint);
                 channelEndpoint.closeIndicators();
                 receiveChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
             }
@@ -975,9 +939,9 @@ public final class DriverConductor implements Agent
             tempBuffer, countersManager, registrationId, receiveChannelEndpoint.statusIndicatorCounter().id());
 
         final ReceiveDestinationTransport transport = new ReceiveDestinationTransport(
-            udpChannel, ctx, localSocketAddressIndicator);
+            udpChannel, receiverShard(receiveChannelEndpoint), localSocketAddressIndicator);
 
-        receiverProxy.addDestination(receiveChannelEndpoint, transport);
+        receiverProxy(receiveChannelEndpoint).addDestination(receiveChannelEndpoint, transport);
         clientProxy.operationSucceeded(correlationId);
     }
 
@@ -1001,7 +965,7 @@ public final class DriverConductor implements Agent
         }
 
         receiveChannelEndpoint.validateAllowsDestinationControl();
-        receiverProxy.removeDestination(
+        receiverProxy(receiveChannelEndpoint).removeDestination(
             receiveChannelEndpoint, UdpChannel.parse(destinationChannel, nameResolver, true));
         clientProxy.operationSucceeded(correlationId);
     }
@@ -1028,26 +992,268 @@ public final class DriverConductor implements Agent
         checkManagedResources(counterLinks, nowNs, nowMs);
     }
 
-    private void checkForBlockedToDriverCommands(final long nowNs)
+    private int processPendingImageSetups()
     {
-        final long consumerPosition = toDriverCommands.consumerPosition();
+        int workCount = 0;
 
-        if (consumerPosition == lastConsumerCommandPosition)
+        if (null != imageLogAllocator)
         {
-            if (toDriverCommands.producerPosition() > consumerPosition &&
-                ((timeOfLastToDriverPositionChangeNs + clientLivenessTimeoutNs) - nowNs < 0))
+            PendingImageSetup setup;
+            while (null != (setup = imageLogAllocator.poll()))
             {
-                if (toDriverCommands.unblock())
+                workCount++;
+                completePublicationImage(setup);
+            }
+        }
+
+        final int budget = imageSetupBudget > 0 ? imageSetupBudget : Integer.MAX_VALUE;
+        PendingImageSetup setup;
+        while (workCount < budget && null != (setup = pendingImageSetups.peekFirst()))
+        {
+            if (null == imageLogAllocator)
+            {
+                pendingImageSetups.pollFirst();
+                setUpPublicationImage(setup);
+            }
+            else if (!prepareImageLogAllocation(setup))
+            {
+                pendingImageSetups.pollFirst();
+            }
+            else if (imageLogAllocator.offer(setup))
+            {
+                pendingImageSetups.pollFirst();
+            }
+            else
+            {
+                break;
+            }
+
+            workCount++;
+        }
+
+        if (workCount > 0)
+        {
+            updatePendingImageSetupsCount();
+        }
+
+        return workCount;
+    }
+
+    private void updatePendingImageSetupsCount()
+    {
+        final int inFlightCount = null != imageLogAllocator ? imageLogAllocator.inFlightCount() : 0;
+        pendingImageSetupsCount.setOrdered(pendingImageSetups.size() + inFlightCount);
+    }
+
+    private boolean prepareImageLogAllocation(final PendingImageSetup setup)
+    {
+        SubscriptionLink oldestSubscription = null;
+        for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
+        {
+            final SubscriptionLink subscription = subscriptionLinks.get(i);
+            if (subscription.matches(setup.channelEndpoint, setup.streamId, setup.sessionId) &&
+                (null == oldestSubscription || subscription.registrationId() < oldestSubscription.registrationId()))
+            {
+                oldestSubscription = subscription;
+            }
+        }
+
+        if (null == oldestSubscription)
+        {
+            return false;
+        }
+
+        if (Aeron.NULL_VALUE == setup.registrationId)
+        {
+            setup.registrationId = toDriverCommands.nextCorrelationId();
+        }
+        setImageLogOptions(setup, oldestSubscription.isSparse());
+
+        return true;
+    }
+
+    private void setUpPublicationImage(final PendingImageSetup setup)
+    {
+        final ArrayList<SubscriberPosition> subscriberPositions = createSubscriberPositions(setup);
+
+        if (subscriberPositions.size() > 0)
+        {
+            setup.registrationId = toDriverCommands.nextCorrelationId();
+            setImageLogOptions(setup, isOldestSubscriptionSparse(subscriberPositions));
+            newPublicationImage(setup, subscriberPositions);
+        }
+    }
+
+    private void setImageLogOptions(final PendingImageSetup setup, final boolean isSparse)
+    {
+        setup.preTouchLog = !isSparse && ctx.preTouchLogBuffers();
+        setup.useSparseFile = isSparse || setup.preTouchLog;
+    }
+
+    private void completePublicationImage(final PendingImageSetup setup)
+    {
+        if (null != setup.error)
+        {
+            CloseHelper.quietClose(setup.rawLog);
+            LangUtil.rethrowUnchecked(setup.error);
+        }
+
+        final ArrayList<SubscriberPosition> subscriberPositions = createSubscriberPositions(setup);
+
+        if (subscriberPositions.size() > 0)
+        {
+            newPublicationImage(setup, subscriberPositions);
+        }
+        else
+        {
+            CloseHelper.quietClose(setup.rawLog);
+        }
+    }
+
+    private ArrayList<SubscriberPosition> createSubscriberPositions(final PendingImageSetup setup)
+    {
+        final long joinPosition = computePosition(
+            setup.activeTermId,
+            setup.initialTermOffset,
+            LogBufferDescriptor.positionBitsToShift(setup.termBufferLength),
+            setup.initialTermId);
+
+        return createSubscriberPositions(setup.sessionId, setup.streamId, setup.channelEndpoint, joinPosition);
+    }
+
+    private void newPublicationImage(
+        final PendingImageSetup setup, final ArrayList<SubscriberPosition> subscriberPositions)
+    {
+        final long registrationId = setup.registrationId;
+        final int sessionId = setup.sessionId;
+        final int streamId = setup.streamId;
+        final ReceiveChannelEndpoint channelEndpoint = setup.channelEndpoint;
+        final Context receiverShard = receiverShard(channelEndpoint);
+        RawLog rawLog = setup.rawLog;
+        CongestionControl congestionControl = null;
+        UnsafeBufferPosition hwmPos = null;
+        UnsafeBufferPosition receiverPos = null;
+
+        try
+        {
+            if (null == rawLog)
+            {
+                rawLog = logFactory.newImage(registrationId, setup.termBufferLength, setup.useSparseFile);
+            }
+
+            initPublicationImageLog(
+                rawLog, sessionId, streamId, setup.initialTermId, setup.termBufferLength, setup.senderMtuLength,
+                registrationId);
+
+            final UdpChannel udpChannel = channelEndpoint.udpChannel();
+            congestionControl = ctx.congestionControlSupplier().newInstance(
+                registrationId,
+                udpChannel,
+                streamId,
+                sessionId,
+                setup.termBufferLength,
+                setup.senderMtuLength,
+                setup.controlAddress,
+                setup.sourceAddress,
+                receiverShard.receiverCachedNanoClock(),
+                receiverShard,
+                countersManager);
+
+            hwmPos = ReceiverHwm.allocate(
+                tempBuffer, countersManager, registrationId, sessionId, streamId, udpChannel.originalUriString());
+            receiverPos = ReceiverPos.allocate(
+                tempBuffer, countersManager, registrationId, sessionId, streamId, udpChannel.originalUriString());
+
+            final InferableBoolean groupSubscription = subscriberPositions.get(0).subscription().group();
+            final boolean treatAsMulticast = groupSubscription == INFER ?
+                udpChannel.isMulticast() : groupSubscription == FORCE_TRUE;
+
+            final PublicationImage image = new PublicationImage(
+                registrationId,
+                receiverShard,
+                channelEndpoint,
+                setup.transportIndex,
+                setup.controlAddress,
+                sessionId,
+                streamId,
+                setup.initialTermId,
+                setup.activeTermId,
+                setup.initialTermOffset,
+                rawLog,
+                treatAsMulticast ? ctx.multicastFeedbackDelayGenerator() : ctx.unicastFeedbackDelayGenerator(),
+                subscriberPositions,
+                hwmPos,
+                receiverPos,
+                setup.sourceAddress,
+                congestionControl,
+                setup.isMultiGapNak,
+                setup.preTouchLog);
+
+            publicationImages.add(image);
+            receiverShard.receiverProxy().newPublicationImage(channelEndpoint, image);
+
+            final String sourceIdentity = Configuration.sourceIdentity(setup.sourceAddress);
+            for (int i = 0, size = subscriberPositions.size(); i < size; i++)
+            {
+                final SubscriberPosition position = subscriberPositions.get(i);
+                position.addLink(image);
+
+                clientProxy.onAvailableImage(
+                    registrationId,
+                    streamId,
+                    sessionId,
+                    position.subscription().registrationId(),
+                    position.positionCounterId(),
+                    rawLog.fileName(),
+                    sourceIdentity);
+            }
+        }
+        catch (final Throwable ex)
+        {
+            subscriberPositions.forEach((subscriberPosition) -> subscriberPosition.position().close());
+            CloseHelper.quietCloseAll(rawLog, congestionControl, hwmPos, receiverPos);
+            throw ex;
+        }
+    }
+
+    private void checkForBlockedToDriverCommands(final long nowNs)
+    {
+        for (int i = 0; i < toDriverRings.length; i++)
+        {
+            final RingBuffer ringBuffer = toDriverRings[i];
+            final long consumerPosition = ringBuffer.consumerPosition();
+
+            if (consumerPosition == lastConsumerCommandPositions[i])
+            {
+                if (ringBuffer.producerPosition() > consumerPosition &&
+                    ((timeOfLastToDriverPositionChangeNs[i] + clientLivenessTimeoutNs) - nowNs < 0))
                 {
-                    ctx.systemCounters().get(UNBLOCKED_COMMANDS).incrementOrdered();
+                    if (ringBuffer.unblock())
+                    {
+                        ctx.systemCounters().get(UNBLOCKED_COMMANDS).incrementOrdered();
+                    }
                 }
             }
+            else
+            {
+                timeOfLastToDriverPositionChangeNs[i] = nowNs;
+                lastConsumerCommandPositions[i] = consumerPosition;
+            }
         }
-        else
+    }
+
+    private static RingBuffer[] toDriverRings(final RingBuffer toDriverCommands, final RingBuffer[] toDriverStripes)
+    {
+        if (null == toDriverStripes || 0 == toDriverStripes.length)
         {
-            timeOfLastToDriverPositionChangeNs = nowNs;
-            lastConsumerCommandPosition = consumerPosition;
+            return new RingBuffer[]{ toDriverCommands };
         }
+
+        final RingBuffer[] rings = new RingBuffer[toDriverStripes.length + 1];
+        rings[0] = toDriverCommands;
+        System.arraycopy(toDriverStripes, 0, rings, 1, toDriverStripes.length);
+
+        return rings;
     }
 
     private ArrayList<SubscriberPosition> createSubscriberPositions(
@@ -1124,6 +1330,7 @@ public final class DriverConductor implements Agent
         UnsafeBufferPosition senderPos = null;
         UnsafeBufferPosition senderLmt = null;
         AtomicCounter senderBpe = null;
+        SendPacer sendPacer = null;
         try
         {
             publisherPos = PublisherPos.allocate(
@@ -1149,15 +1356,30 @@ public final class DriverConductor implements Agent
                 senderLmt.setOrdered(position);
             }
 
+            final Context senderShard = senderShards[channelEndpoint.senderShardIndex()];
+            if (params.sendRate > 0)
+            {
+                sendPacer = new SendPacer(
+                    params.sendRate,
+                    params.sendBurstLength,
+                    SenderPacedTime.allocate(tempBuffer, countersManager, registrationId, sessionId, streamId, channel),
+                    senderShard.senderCachedNanoClock().nanoTime());
+            }
+
             final RetransmitHandler retransmitHandler = new RetransmitHandler(
-                ctx.senderCachedNanoClock(),
+                senderShard.senderCachedNanoClock(),
                 ctx.systemCounters().get(INVALID_PACKETS),
                 ctx.retransmitUnicastDelayGenerator(),
-                ctx.retransmitUnicastLingerGenerator());
+                ctx.retransmitUnicastLingerGenerator(),
+                ctx.retransmitBudget(),
+                ctx.systemCounters().get(RETRANSMITS_COALESCED),
+                ctx.systemCounters().get(RETRANSMITS_DEFERRED),
+                ctx.systemCounters().get(RETRANSMITS_DROPPED),
+                ctx.latencyHistogram(LatencyHistogramDescriptor.NAK_TO_RETRANSMIT));
 
             final NetworkPublication publication = new NetworkPublication(
                 registrationId,
-                ctx,
+                senderShard,
                 params,
                 channelEndpoint,
                 rawLog,
@@ -1167,17 +1389,18 @@ public final class DriverConductor implements Agent
                 senderPos,
                 senderLmt,
                 senderBpe,
+                sendPacer,
                 sessionId,
                 streamId,
                 initialTermId,
                 flowControl,
                 retransmitHandler,
-                networkPublicationThreadLocals,
+                networkPublicationThreadLocals[channelEndpoint.senderShardIndex()],
                 isExclusive);
 
             channelEndpoint.incRef();
             networkPublications.add(publication);
-            senderProxy.newNetworkPublication(publication);
+            senderShard.senderProxy().newNetworkPublication(publication);
             linkSpies(subscriptionLinks, publication);
             activeSessionSet.add(new SessionKey(sessionId, streamId, canonicalForm));
 
@@ -1185,7 +1408,7 @@ public final class DriverConductor implements Agent
         }
         catch (final Throwable ex)
         {
-            CloseHelper.quietCloseAll(rawLog, publisherPos, publisherLmt, senderPos, senderLmt, senderBpe);
+            CloseHelper.quietCloseAll(rawLog, publisherPos, publisherLmt, senderPos, senderLmt, senderBpe, sendPacer);
             throw ex;
         }
     }
@@ -1197,7 +1420,8 @@ public final class DriverConductor implements Agent
         final long registrationId,
         final PublicationParams params)
     {
-        final RawLog rawLog = logFactory.newPublication(registrationId, params.termLength, params.isSparse);
+        final boolean isSparse = params.isSparse || ctx.preTouchLogBuffers();
+        final RawLog rawLog = logFactory.newPublication(registrationId, params.termLength, isSparse);
         initPublicationMetadata(sessionId, streamId, initialTermId, registrationId, params, rawLog);
 
         return rawLog;
@@ -1233,6 +1457,7 @@ public final class DriverConductor implements Agent
         mtuLength(logMetaData, params.mtuLength);
         termLength(logMetaData, rawLog.termLength());
         pageSize(logMetaData, ctx.filePageSize());
+        isBatching(logMetaData, params.isBatching);
         correlationId(logMetaData, registrationId);
         endOfStreamPosition(logMetaData, Long.MAX_VALUE);
 
@@ -1269,16 +1494,15 @@ public final class DriverConductor implements Agent
         }
     }
 
-    private RawLog newPublicationImageLog(
+    private void initPublicationImageLog(
+        final RawLog rawLog,
         final int sessionId,
         final int streamId,
         final int initialTermId,
         final int termBufferLength,
-        final boolean isSparse,
         final int senderMtuLength,
         final long correlationId)
     {
-        final RawLog rawLog = logFactory.newImage(correlationId, termBufferLength, isSparse);
         final UnsafeBuffer logMetaData = rawLog.metaData();
 
         defaultDataHeader.sessionId(sessionId).streamId(streamId).termId(initialTermId);
@@ -1290,8 +1514,6 @@ public final class DriverConductor implements Agent
         pageSize(logMetaData, ctx.filePageSize());
         correlationId(logMetaData, correlationId);
         endOfStreamPosition(logMetaData, Long.MAX_VALUE);
-
-        return rawLog;
     }
 
     private SendChannelEndpoint getOrCreateSendChannelEndpoint(final UdpChannel udpChannel, final long registrationId)
@@ -1303,17 +1525,21 @@ public final class DriverConductor implements Agent
             AtomicCounter localSocketAddressIndicator = null;
             try
             {
+                final int shardIndex = shardIndex(udpChannel, SENDER_SHARD_PARAM_NAME, senderShards.length);
+                final Context senderShard = senderShards[shardIndex];
                 statusIndicator = SendChannelStatus.allocate(
                     tempBuffer, countersManager, registrationId, udpChannel.originalUriString());
 
-                channelEndpoint = ctx.sendChannelEndpointSupplier().newInstance(udpChannel, statusIndicator, ctx);
+                channelEndpoint = ctx.sendChannelEndpointSupplier().newInstance(
+                    udpChannel, statusIndicator, senderShard);
+                channelEndpoint.senderShardIndex(shardIndex);
 
                 localSocketAddressIndicator = SendLocalSocketAddress.allocate(
                     tempBuffer, countersManager, registrationId, channelEndpoint.statusIndicatorCounterId());
 
                 channelEndpoint.localSocketAddressIndicator(localSocketAddressIndicator);
                 sendChannelEndpointByChannelMap.put(udpChannel.canonicalForm(), channelEndpoint);
-                senderProxy.registerSendChannelEndpoint(channelEndpoint);
+                senderShard.senderProxy().registerSendChannelEndpoint(channelEndpoint);
             }
             catch (final Exception ex)
             {
@@ -1485,12 +1711,15 @@ public final class DriverConductor implements Agent
             try
             {
                 final String channel = udpChannel.originalUriString();
+                final int shardIndex = shardIndex(udpChannel, RECEIVER_SHARD_PARAM_NAME, receiverShards.length);
+                final Context receiverShard = receiverShards[shardIndex];
                 channelStatus = ReceiveChannelStatus.allocate(tempBuffer, countersManager, registrationId, channel);
 
                 final DataPacketDispatcher dispatcher = new DataPacketDispatcher(
-                    ctx.driverConductorProxy(), receiverProxy.receiver());
+                    ctx.driverConductorProxy(), receiverShard.receiverProxy().receiver());
                 channelEndpoint = ctx.receiveChannelEndpointSupplier().newInstance(
-                    udpChannel, dispatcher, channelStatus, ctx);
+                    udpChannel, dispatcher, channelStatus, receiverShard);
+                channelEndpoint.receiverShardIndex(shardIndex);
 
                 if (!udpChannel.isManualControlMode())
                 {
@@ -1501,7 +1730,7 @@ public final class DriverConductor implements Agent
                 }
 
                 receiveChannelEndpointByChannelMap.put(udpChannel.canonicalForm(), channelEndpoint);
-                receiverProxy.registerReceiveChannelEndpoint(channelEndpoint);
+                receiverShard.receiverProxy().registerReceiveChannelEndpoint(channelEndpoint);
             }
             catch (final Exception ex)
             {
@@ -1513,6 +1742,52 @@ public final class DriverConductor implements Agent
         return channelEndpoint;
     }
 
+    private static int shardIndex(final UdpChannel udpChannel, final String paramName, final int shardCount)
+    {
+        if (1 == shardCount)
+        {
+            return 0;
+        }
+
+        final String shardValue = udpChannel.channelUri().get(paramName);
+        if (null == shardValue)
+        {
+            return (udpChannel.canonicalForm().hashCode() & Integer.MAX_VALUE) % shardCount;
+        }
+
+        final int shard;
+        try
+        {
+            shard = Integer.parseInt(shardValue);
+        }
+        catch (final NumberFormatException ex)
+        {
+            throw new InvalidChannelException(paramName + " must be a number: " + udpChannel.originalUriString());
+        }
+
+        if (shard < 0)
+        {
+            throw new InvalidChannelException(paramName + " must not be negative: " + udpChannel.originalUriString());
+        }
+
+        return shard % shardCount;
+    }
+
+    private Context receiverShard(final ReceiveChannelEndpoint channelEndpoint)
+    {
+        return receiverShards[channelEndpoint.receiverShardIndex()];
+    }
+
+    private ReceiverProxy receiverProxy(final ReceiveChannelEndpoint channelEndpoint)
+    {
+        return receiverShards[channelEndpoint.receiverShardIndex()].receiverProxy();
+    }
+
+    private SenderProxy senderProxy(final SendChannelEndpoint channelEndpoint)
+    {
+        return senderShards[channelEndpoint.senderShardIndex()].senderProxy();
+    }
+
     private ReceiveChannelEndpoint findExistingReceiveChannelEndpoint(final UdpChannel udpChannel)
     {
         if (udpChannel.hasTag())
@@ -1787,6 +2062,10 @@ public final class DriverConductor implements Agent
 
         cachedNanoClock.update(nowNs);
         maxCycleTime.proposeMaxOrdered(cycleTimeNs);
+        if (null != cycleTimeHistogram)
+        {
+            cycleTimeHistogram.record(cycleTimeNs);
+        }
 
         if (clockUpdateDeadlineNs - nowNs < 0)
         {
@@ -134,7 +134,8 @@ public final class DriverConductorProxy
         final int transportIndex,
         final InetSocketAddress controlAddress,
         final InetSocketAddress srcAddress,
-        final ReceiveChannelEndpoint channelEndpoint)
+        final ReceiveChannelEndpoint channelEndpoint,
+        final boolean isMultiGapNak)
     {
         if (notConcurrent())
         {
@@ -149,7 +150,8 @@ public final class DriverConductorProxy
                 transportIndex,
                 controlAddress,
                 srcAddress,
-                channelEndpoint);
+                channelEndpoint,
+                isMultiGapNak);
         }
         else
         {
@@ -164,7 +166,8 @@ public final class DriverConductorProxy
                 transportIndex,
                 controlAddress,
                 srcAddress,
-                channelEndpoint));
+                channelEndpoint,
+                isMultiGapNak));
         }
     }
 
@@ -17,21 +17,32 @@ package io.aeron.driver;
 
 import io.aeron.protocol.ResolutionEntryFlyweight;
 import org.agrona.collections.ArrayListUtil;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.status.AtomicCounter;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 
+/**
+ * Cache of resolved names which is indexed by a hash of name and type for lookup, and has entries linked into the
+ * slots of a timing wheel by deadline so timeouts only need to visit the slots which have passed since the last check.
+ */
 class DriverNameResolverCache implements AutoCloseable
 {
-    private static final int INVALID_INDEX = -1;
+    private static final int TICK_SHIFT = 4;
+    private static final int WHEEL_SLOTS = 1024;
+    private static final int WHEEL_MASK = WHEEL_SLOTS - 1;
 
     private final ArrayList<CacheEntry> entries = new ArrayList<>();
+    private final Int2ObjectHashMap<CacheEntry> entryByHashMap = new Int2ObjectHashMap<>();
+    private final CacheEntry[] timerWheel = new CacheEntry[WHEEL_SLOTS];
     private final long timeoutMs;
+    private long currentTick;
 
-    DriverNameResolverCache(final long timeoutMs)
+    DriverNameResolverCache(final long timeoutMs, final long nowMs)
     {
         this.timeoutMs = timeoutMs;
+        this.currentTick = nowMs >> TICK_SHIFT;
     }
 
     public void close()
@@ -40,9 +51,19 @@ class DriverNameResolverCache implements AutoCloseable
 
     CacheEntry lookup(final String name, final byte type)
     {
-        final int index = findEntryIndexByNameAndType(name, type);
+        CacheEntry entry = entryByHashMap.get(hash(name, type));
+
+        while (null != entry)
+        {
+            if (type == entry.type && entry.name.length == name.length() && byteSubsetEquals(entry.name, name))
+            {
+                break;
+            }
 
-        return INVALID_INDEX == index ? null : entries.get(index);
+            entry = entry.nextWithSameHash;
+        }
+
+        return entry;
     }
 
     void addOrUpdateEntry(
@@ -54,11 +75,11 @@ class DriverNameResolverCache implements AutoCloseable
         final int port,
         final AtomicCounter cacheEntriesCounter)
     {
-        final int existingEntryIndex = findEntryIndexByNameAndType(name, nameLength, type);
+        final int hash = hash(name, nameLength, type);
         final int addressLength = ResolutionEntryFlyweight.addressLength(type);
-        final CacheEntry entry;
+        CacheEntry entry = findEntry(hash, name, nameLength, type);
 
-        if (INVALID_INDEX == existingEntryIndex)
+        if (null == entry)
         {
             entry = new CacheEntry(
                 Arrays.copyOf(name, nameLength),
@@ -67,12 +88,17 @@ class DriverNameResolverCache implements AutoCloseable
                 nowMs + timeoutMs,
                 Arrays.copyOf(address, addressLength),
                 port);
+
+            entry.hash = hash;
+            entry.index = entries.size();
+            entry.nextWithSameHash = entryByHashMap.put(hash, entry);
             entries.add(entry);
             cacheEntriesCounter.setOrdered(entries.size());
         }
         else
         {
-            entry = entries.get(existingEntryIndex);
+            unlinkFromWheel(entry);
+
             entry.timeOfLastActivityMs = nowMs;
             entry.deadlineMs = nowMs + timeoutMs;
 
@@ -82,25 +108,39 @@ class DriverNameResolverCache implements AutoCloseable
                 entry.port = port;
             }
         }
+
+        linkIntoWheel(entry);
     }
 
     int timeoutOldEntries(final long nowMs, final AtomicCounter cacheEntriesCounter)
     {
         int workCount = 0;
 
-        final ArrayList<CacheEntry> listOfEntries = this.entries;
-        for (int lastIndex = listOfEntries.size() - 1, i = lastIndex; i >= 0; i--)
+        final long nowTick = nowMs >> TICK_SHIFT;
+        final long lastTick = Math.min(nowTick, currentTick + WHEEL_MASK);
+        for (long tick = currentTick; tick <= lastTick; tick++)
         {
-            final CacheEntry entry = listOfEntries.get(i);
-
-            if (nowMs > entry.deadlineMs)
+            CacheEntry entry = timerWheel[(int)tick & WHEEL_MASK];
+            while (null != entry)
             {
-                ArrayListUtil.fastUnorderedRemove(listOfEntries, i, lastIndex--);
-                cacheEntriesCounter.setOrdered(listOfEntries.size());
-                workCount++;
+                final CacheEntry next = entry.nextInSlot;
+                if (nowMs > entry.deadlineMs)
+                {
+                    removeEntry(entry);
+                    workCount++;
+                }
+
+                entry = next;
             }
         }
 
+        currentTick = Math.max(currentTick, nowTick);
+
+        if (workCount > 0)
+        {
+            cacheEntriesCounter.setOrdered(entries.size());
+        }
+
         return workCount;
     }
 
@@ -173,44 +213,144 @@ class DriverNameResolverCache implements AutoCloseable
         return true;
     }
 
-    private int findEntryIndexByNameAndType(final byte[] name, final int nameLength, final byte type)
+    private CacheEntry findEntry(final int hash, final byte[] name, final int nameLength, final byte type)
     {
-        for (int i = 0; i < entries.size(); i++)
-        {
-            final CacheEntry entry = entries.get(i);
+        CacheEntry entry = entryByHashMap.get(hash);
 
-            if (type == entry.type && byteSubsetEquals(entry.name, name, nameLength))
+        while (null != entry)
+        {
+            if (type == entry.type && entry.name.length == nameLength && byteSubsetEquals(entry.name, name, nameLength))
             {
-                return i;
+                break;
             }
+
+            entry = entry.nextWithSameHash;
         }
 
-        return INVALID_INDEX;
+        return entry;
     }
 
-    private int findEntryIndexByNameAndType(final String name, final byte type)
+    private void removeEntry(final CacheEntry entry)
     {
-        for (int i = 0; i < entries.size(); i++)
+        unlinkFromWheel(entry);
+        removeFromHashChain(entry);
+
+        final ArrayList<CacheEntry> listOfEntries = this.entries;
+        final int lastIndex = listOfEntries.size() - 1;
+        final int index = entry.index;
+        ArrayListUtil.fastUnorderedRemove(listOfEntries, index, lastIndex);
+        if (index < lastIndex)
         {
-            final CacheEntry entry = entries.get(i);
+            listOfEntries.get(index).index = index;
+        }
+    }
 
-            if (type == entry.type && byteSubsetEquals(entry.name, name))
+    private void linkIntoWheel(final CacheEntry entry)
+    {
+        final long tick = Math.max(entry.deadlineMs >> TICK_SHIFT, currentTick);
+        final int slot = (int)tick & WHEEL_MASK;
+        final CacheEntry head = timerWheel[slot];
+
+        entry.slot = slot;
+        entry.prevInSlot = null;
+        entry.nextInSlot = head;
+        if (null != head)
+        {
+            head.prevInSlot = entry;
+        }
+        timerWheel[slot] = entry;
+    }
+
+    private void unlinkFromWheel(final CacheEntry entry)
+    {
+        final CacheEntry prev = entry.prevInSlot;
+        final CacheEntry next = entry.nextInSlot;
+
+        if (null == prev)
+        {
+            timerWheel[entry.slot] = next;
+        }
+        else
+        {
+            prev.nextInSlot = next;
+        }
+
+        if (null != next)
+        {
+            next.prevInSlot = prev;
+        }
+
+        entry.prevInSlot = null;
+        entry.nextInSlot = null;
+    }
+
+    private void removeFromHashChain(final CacheEntry entry)
+    {
+        CacheEntry head = entryByHashMap.get(entry.hash);
+
+        if (head == entry)
+        {
+            if (null == entry.nextWithSameHash)
+            {
+                entryByHashMap.remove(entry.hash);
+            }
+            else
             {
-                return i;
+                entryByHashMap.put(entry.hash, entry.nextWithSameHash);
             }
         }
+        else
+        {
+            while (null != head && head.nextWithSameHash != entry)
+            {
+                head = head.nextWithSameHash;
+            }
+
+            if (null != head)
+            {
+                head.nextWithSameHash = entry.nextWithSameHash;
+            }
+        }
+
+        entry.nextWithSameHash = null;
+    }
+
+    private static int hash(final byte[] name, final int nameLength, final byte type)
+    {
+        int hash = type;
+        for (int i = 0; i < nameLength; i++)
+        {
+            hash = 31 * hash + name[i];
+        }
+
+        return hash;
+    }
+
+    private static int hash(final String name, final byte type)
+    {
+        int hash = type;
+        for (int i = 0, length = name.length(); i < length; i++)
+        {
+            hash = 31 * hash + (byte)name.charAt(i);
+        }
 
-        return INVALID_INDEX;
+        return hash;
     }
 
     static class CacheEntry
     {
         long deadlineMs;
         long timeOfLastActivityMs;
+        int index;
+        int slot;
+        int hash;
         int port;
         byte type;
         byte[] name;
         byte[] address;
+        CacheEntry nextWithSameHash;
+        CacheEntry prevInSlot;
+        CacheEntry nextInSlot;
 
         CacheEntry(
             final byte[] name,
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+/**
+ * {@link SenderDutyCyclePolicy} which polls the control transports when no data was sent or after a fixed number of
+ * duty cycles which sent data.
+ *
+ * @see Configuration#SEND_TO_STATUS_POLL_RATIO_PROP_NAME
+ */
+public class FixedSenderDutyCyclePolicy implements SenderDutyCyclePolicy
+{
+    private int dutyCycleCounter;
+    private final int dutyCycleRatio;
+
+    /**
+     * Construct a policy with a fixed ratio of duty cycles sending data to polls of the control transports.
+     *
+     * @param dutyCycleRatio of duty cycles sending data to polls of the control transports.
+     */
+    public FixedSenderDutyCyclePolicy(final int dutyCycleRatio)
+    {
+        this.dutyCycleRatio = dutyCycleRatio;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean shouldPollControl(final long nowNs, final int bytesSent, final int senderLimitStalls)
+    {
+        return 0 == bytesSent || ++dutyCycleCounter >= dutyCycleRatio;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onControlPoll(final long nowNs, final int bytesReceived)
+    {
+        dutyCycleCounter = 0;
+    }
+
+    /**
+     * Ratio of duty cycles sending data to polls of the control transports.
+     *
+     * @return ratio of duty cycles sending data to polls of the control transports.
+     */
+    public int dutyCycleRatio()
+    {
+        return dutyCycleRatio;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.buffer.LogFactory;
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.AgentRunner;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+import org.agrona.concurrent.SleepingMillisIdleStrategy;
+
+/**
+ * Allocates the log buffers for {@link PendingImageSetup}s on a dedicated thread so the {@link DriverConductor} is not
+ * blocked while files are created and mapped. Setups are offered by the conductor and returned to it by polling once
+ * their log, or the error in allocating it, has been set.
+ * <p>
+ * The {@link LogFactory} must be safe to use from both the conductor and the allocating thread.
+ */
+final class ImageLogAllocator implements AutoCloseable
+{
+    private int inFlightCount;
+    private final int capacity;
+    private final OneToOneConcurrentArrayQueue<PendingImageSetup> requests;
+    private final OneToOneConcurrentArrayQueue<PendingImageSetup> responses;
+    private final AgentRunner allocatorRunner;
+
+    ImageLogAllocator(final LogFactory logFactory, final int capacity, final ErrorHandler errorHandler)
+    {
+        this.capacity = capacity;
+        requests = new OneToOneConcurrentArrayQueue<>(capacity);
+        responses = new OneToOneConcurrentArrayQueue<>(capacity);
+        allocatorRunner = new AgentRunner(
+            new SleepingMillisIdleStrategy(1), errorHandler, null, new Allocator(logFactory, requests, responses));
+        AgentRunner.startOnThread(allocatorRunner);
+    }
+
+    /**
+     * Offer a setup for its log to be allocated.
+     *
+     * @param setup for which the log should be allocated.
+     * @return true if accepted or false if the maximum number of allocations are in flight.
+     */
+    boolean offer(final PendingImageSetup setup)
+    {
+        if (inFlightCount < capacity && requests.offer(setup))
+        {
+            inFlightCount++;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Poll for a setup which has had its log allocated or failed to allocate.
+     *
+     * @return setup which has had its log allocated or failed to allocate, or null if none are complete.
+     */
+    PendingImageSetup poll()
+    {
+        final PendingImageSetup setup = responses.poll();
+        if (null != setup)
+        {
+            inFlightCount--;
+        }
+
+        return setup;
+    }
+
+    /**
+     * Count of setups which have been offered but not yet polled.
+     *
+     * @return count of setups which have been offered but not yet polled.
+     */
+    int inFlightCount()
+    {
+        return inFlightCount;
+    }
+
+    public void close()
+    {
+        CloseHelper.close(allocatorRunner);
+
+        PendingImageSetup setup;
+        while (null != (setup = responses.poll()))
+        {
+            CloseHelper.quietClose(setup.rawLog);
+        }
+        inFlightCount = 0;
+    }
+
+    static final class Allocator implements Agent
+    {
+        private PendingImageSetup pendingSetup;
+        private final LogFactory logFactory;
+        private final OneToOneConcurrentArrayQueue<PendingImageSetup> requests;
+        private final OneToOneConcurrentArrayQueue<PendingImageSetup> responses;
+
+        Allocator(
+            final LogFactory logFactory,
+            final OneToOneConcurrentArrayQueue<PendingImageSetup> requests,
+            final OneToOneConcurrentArrayQueue<PendingImageSetup> responses)
+        {
+            this.logFactory = logFactory;
+            this.requests = requests;
+            this.responses = responses;
+        }
+
+        public int doWork()
+        {
+            if (null == pendingSetup)
+            {
+                pendingSetup = requests.poll();
+                if (null == pendingSetup)
+                {
+                    return 0;
+                }
+
+                try
+                {
+                    pendingSetup.rawLog = logFactory.newImage(
+                        pendingSetup.registrationId, pendingSetup.termBufferLength, pendingSetup.useSparseFile);
+                }
+                catch (final Throwable ex)
+                {
+                    pendingSetup.error = ex;
+                }
+            }
+
+            if (responses.offer(pendingSetup))
+            {
+                pendingSetup = null;
+                return 1;
+            }
+
+            return 0;
+        }
+
+        public void onClose()
+        {
+            if (null != pendingSetup)
+            {
+                CloseHelper.quietClose(pendingSetup.rawLog);
+                pendingSetup = null;
+            }
+        }
+
+        public String roleName()
+        {
+            return "image-log-allocator";
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.buffer.RawLog;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Touches the pages of the term buffers of a log from the calling thread a bounded number of pages at a time, so the
+ * page faults, and the NUMA node placement that comes with them, can be spread over the duty cycles of the
+ * {@link Sender} or {@link Receiver} which owns the stream.
+ *
+ * @see RawLog#preTouch(int)
+ */
+final class LogPreToucher
+{
+    private final int pageSize;
+    private UnsafeBuffer[] termBuffers;
+    private int termLength;
+    private int partitionIndex;
+    private int termOffset;
+
+    LogPreToucher(final int pageSize)
+    {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Wrap a log so its pages are touched from the start by following calls to {@link #touch(int)}.
+     *
+     * @param rawLog to be touched.
+     */
+    void wrap(final RawLog rawLog)
+    {
+        termBuffers = rawLog.termBuffers();
+        termLength = rawLog.termLength();
+        partitionIndex = 0;
+        termOffset = 0;
+    }
+
+    /**
+     * Touch up to a limited number of the remaining pages of the wrapped log.
+     *
+     * @param pageLimit maximum number of pages to touch.
+     * @return the number of pages touched.
+     */
+    int touch(final int pageLimit)
+    {
+        int pagesTouched = 0;
+        while (pagesTouched < pageLimit && partitionIndex < termBuffers.length)
+        {
+            termBuffers[partitionIndex].compareAndSetLong(termOffset, 0L, 0L);
+            pagesTouched++;
+
+            termOffset += pageSize;
+            if (termOffset >= termLength)
+            {
+                termOffset = 0;
+                partitionIndex++;
+            }
+        }
+
+        return pagesTouched;
+    }
+
+    /**
+     * Have all the pages of the wrapped log been touched?
+     *
+     * @return true if all the pages of the wrapped log have been touched.
+     */
+    boolean isComplete()
+    {
+        return partitionIndex >= termBuffers.length;
+    }
+}
@@ -19,12 +19,18 @@ import io.aeron.Aeron;
 import io.aeron.logbuffer.TermGapScanner;
 import org.agrona.concurrent.UnsafeBuffer;
 
-import static io.aeron.logbuffer.TermGapScanner.scanForGap;
+import static io.aeron.logbuffer.LogBufferDescriptor.indexByTermCount;
 
 /**
  * Detecting and handling of gaps in a message stream.
  * <p>
  * Each detector only notifies a single run of a gap in a message stream.
+ * <p>
+ * When given a {@link ReceivedBlockBitmap} the gaps are found from the bitmap of received blocks rather than by
+ * walking the frames of the term buffer.
+ * <p>
+ * When more than one gap can be reported then further gaps in the same term are collected after the first and
+ * reported together via {@link LossHandler#onGapsDetected(int, int, int[], int[])} when the timer for the first expires.
  */
 public class LossDetector implements TermGapScanner.GapHandler
 {
@@ -40,6 +46,12 @@ public class LossDetector implements TermGapScanner.GapHandler
 
     private final FeedbackDelayGenerator delayGenerator;
     private final LossHandler lossHandler;
+    private final ReceivedBlockBitmap receivedBlocks;
+    private final int maxGaps;
+    private int additionalGapCount;
+    private final int[] gapTermOffsets;
+    private final int[] gapLengths;
+    private final TermGapScanner.GapHandler additionalGapHandler = this::onAdditionalGap;
 
     /**
      * Create a loss detector for a channel.
@@ -48,9 +60,45 @@ public class LossDetector implements TermGapScanner.GapHandler
      * @param lossHandler    to call when signalling a gap
      */
     public LossDetector(final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler)
+    {
+        this(delayGenerator, lossHandler, null);
+    }
+
+    /**
+     * Create a loss detector for a channel which finds gaps from a bitmap of received blocks.
+     *
+     * @param delayGenerator to use for delay determination
+     * @param lossHandler    to call when signalling a gap
+     * @param receivedBlocks of the term buffers to be scanned or null to scan the term buffers.
+     */
+    public LossDetector(
+        final FeedbackDelayGenerator delayGenerator,
+        final LossHandler lossHandler,
+        final ReceivedBlockBitmap receivedBlocks)
+    {
+        this(delayGenerator, lossHandler, receivedBlocks, 1);
+    }
+
+    /**
+     * Create a loss detector for a channel which can report multiple gaps in a term together.
+     *
+     * @param delayGenerator to use for delay determination
+     * @param lossHandler    to call when signalling a gap
+     * @param receivedBlocks of the term buffers to be scanned or null to scan the term buffers.
+     * @param maxGaps        which can be reported together, 1 to report a single gap at a time.
+     */
+    public LossDetector(
+        final FeedbackDelayGenerator delayGenerator,
+        final LossHandler lossHandler,
+        final ReceivedBlockBitmap receivedBlocks,
+        final int maxGaps)
     {
         this.delayGenerator = delayGenerator;
         this.lossHandler = lossHandler;
+        this.receivedBlocks = receivedBlocks;
+        this.maxGaps = Math.max(1, maxGaps);
+        this.gapTermOffsets = new int[this.maxGaps];
+        this.gapLengths = new int[this.maxGaps];
     }
 
     /**
@@ -78,6 +126,7 @@ public class LossDetector implements TermGapScanner.GapHandler
     {
         boolean lossFound = false;
         int rebuildOffset = (int)rebuildPosition & termLengthMask;
+        additionalGapCount = 0;
 
         if (rebuildPosition < hwmPosition)
         {
@@ -88,9 +137,24 @@ public class LossDetector implements TermGapScanner.GapHandler
             final int hwmTermOffset = (int)hwmPosition & termLengthMask;
             final int limitOffset = rebuildTermCount == hwmTermCount ? hwmTermOffset : termLengthMask + 1;
 
-            rebuildOffset = scanForGap(termBuffer, rebuildTermId, rebuildOffset, limitOffset, this);
+            final int partitionIndex = indexByTermCount(rebuildTermCount);
+
+            rebuildOffset = scanForGap(termBuffer, partitionIndex, rebuildTermId, rebuildOffset, limitOffset, this);
             if (rebuildOffset < limitOffset)
             {
+                int offset = scannedTermOffset + scannedLength;
+                while (additionalGapCount < maxGaps - 1 && offset < limitOffset)
+                {
+                    final int gapCount = additionalGapCount;
+                    scanForGap(termBuffer, partitionIndex, rebuildTermId, offset, limitOffset, additionalGapHandler);
+                    if (gapCount == additionalGapCount)
+                    {
+                        break;
+                    }
+
+                    offset = gapTermOffsets[additionalGapCount] + gapLengths[additionalGapCount];
+                }
+
                 if (scannedTermOffset != activeTermOffset || scannedTermId != activeTermId)
                 {
                     activateGap(nowNs);
@@ -148,6 +212,29 @@ public class LossDetector implements TermGapScanner.GapHandler
         return (int)(scanOutcome >>> 32);
     }
 
+    private int scanForGap(
+        final UnsafeBuffer termBuffer,
+        final int partitionIndex,
+        final int termId,
+        final int termOffset,
+        final int limitOffset,
+        final TermGapScanner.GapHandler handler)
+    {
+        if (null == receivedBlocks)
+        {
+            return TermGapScanner.scanForGap(termBuffer, termId, termOffset, limitOffset, handler);
+        }
+
+        return receivedBlocks.scanForGap(partitionIndex, termId, termOffset, limitOffset, handler);
+    }
+
+    private void onAdditionalGap(final int termId, final int offset, final int length)
+    {
+        final int index = ++additionalGapCount;
+        gapTermOffsets[index] = offset;
+        gapLengths[index] = length;
+    }
+
     private void activateGap(final long nowNs)
     {
         activeTermId = scannedTermId;
@@ -168,7 +255,17 @@ public class LossDetector implements TermGapScanner.GapHandler
     {
         if (deadlineNs - nowNs <= 0)
         {
-            lossHandler.onGapDetected(activeTermId, activeTermOffset, activeLength);
+            if (additionalGapCount > 0)
+            {
+                gapTermOffsets[0] = scannedTermOffset;
+                gapLengths[0] = scannedLength;
+                lossHandler.onGapsDetected(activeTermId, additionalGapCount + 1, gapTermOffsets, gapLengths);
+            }
+            else
+            {
+                lossHandler.onGapDetected(activeTermId, activeTermOffset, activeLength);
+            }
+
             deadlineNs = nowNs + delayGenerator.generateDelay();
         }
     }
@@ -29,4 +29,18 @@ public interface LossHandler
      * @param length     of the gap
      */
     void onGapDetected(int termId, int termOffset, int length);
+
+    /**
+     * Called when multiple gaps in the same term of the message stream have been detected in a single scan. The
+     * default is to handle the first gap with {@link #onGapDetected(int, int, int)}.
+     *
+     * @param termId      for the gaps
+     * @param gapCount    number of gaps
+     * @param termOffsets for the beginning of each gap
+     * @param lengths     of each gap
+     */
+    default void onGapsDetected(final int termId, final int gapCount, final int[] termOffsets, final int[] lengths)
+    {
+        onGapDetected(termId, termOffsets[0], lengths[0]);
+    }
 }
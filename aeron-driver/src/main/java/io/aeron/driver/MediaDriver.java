@@ -15,12 +15,18 @@
  */
 package io.aeron.driver;
 
+import io.aeron.AeronCounters;
 import io.aeron.CncFileDescriptor;
 import io.aeron.CommonContext;
 import io.aeron.driver.buffer.FileStoreLogFactory;
 import io.aeron.driver.buffer.LogFactory;
+import io.aeron.driver.buffer.PooledLogFactory;
+import io.aeron.driver.buffer.SynchronizedLogFactory;
 import io.aeron.driver.exceptions.ActiveDriverException;
 import io.aeron.driver.media.*;
+import io.aeron.driver.reports.LatencyHistogram;
+import io.aeron.driver.reports.LatencyHistogramDescriptor;
+import io.aeron.driver.reports.LatencyReport;
 import io.aeron.driver.reports.LossReport;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.exceptions.ConcurrentConcludeException;
@@ -36,6 +42,7 @@ import org.agrona.concurrent.ringbuffer.RingBuffer;
 import org.agrona.concurrent.status.*;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.PrintStream;
 import java.nio.ByteOrder;
@@ -49,6 +56,7 @@ import java.util.function.Consumer;
 
 import static io.aeron.CncFileDescriptor.*;
 import static io.aeron.driver.Configuration.*;
+import static io.aeron.driver.reports.LatencyReportUtil.mapLatencyReport;
 import static io.aeron.driver.reports.LossReportUtil.mapLossReport;
 import static io.aeron.driver.status.SystemCounterDescriptor.CONTROLLABLE_IDLE_STRATEGY;
 import static io.aeron.driver.status.SystemCounterDescriptor.*;
@@ -78,6 +86,8 @@ public final class MediaDriver implements AutoCloseable
     private final AgentRunner conductorRunner;
     private final AgentRunner receiverRunner;
     private final AgentRunner senderRunner;
+    private final AgentRunner[] receiverShardRunners;
+    private final AgentRunner[] senderShardRunners;
     private final AgentInvoker sharedInvoker;
     private final Context ctx;
 
@@ -119,16 +129,20 @@ public final class MediaDriver implements AutoCloseable
             ctx.conclude();
             this.ctx = ctx;
 
-            final DriverConductor conductor = new DriverConductor(ctx);
             final Receiver receiver = new Receiver(ctx);
-            final Sender sender = new Sender(ctx);
-
             ctx.receiverProxy().receiver(receiver);
-            ctx.senderProxy().sender(sender);
+            final Receiver[] receivers = newReceiverShards(ctx, receiver);
+
+            final Sender[] senders = newSenderShards(ctx);
+            final Sender sender = senders[0];
+
+            final DriverConductor conductor = new DriverConductor(ctx);
             ctx.driverConductorProxy().driverConductor(conductor);
 
             final AtomicCounter errorCounter = ctx.systemCounters().get(ERRORS);
             final ErrorHandler errorHandler = ctx.errorHandler();
+            receiverShardRunners = new AgentRunner[receivers.length - 1];
+            senderShardRunners = new AgentRunner[senders.length - 1];
 
             switch (ctx.threadingMode())
             {
@@ -169,6 +183,31 @@ public final class MediaDriver implements AutoCloseable
                     sharedInvoker = null;
                     break;
 
+                case SHARDED:
+                    final IdleStrategy[] receiverIdleStrategies = ctx.receiverIdleStrategies();
+                    for (int i = 1; i < receivers.length; i++)
+                    {
+                        receiverShardRunners[i - 1] = new AgentRunner(
+                            receiverIdleStrategies[i], errorHandler, errorCounter, receivers[i]);
+                    }
+
+                    final IdleStrategy[] senderIdleStrategies = ctx.senderIdleStrategies();
+                    for (int i = 1; i < senders.length; i++)
+                    {
+                        senderShardRunners[i - 1] = new AgentRunner(
+                            senderIdleStrategies[i], errorHandler, errorCounter, senders[i]);
+                    }
+
+                    senderRunner = new AgentRunner(senderIdleStrategies[0], errorHandler, errorCounter, sender);
+                    receiverRunner = new AgentRunner(
+                        receiverIdleStrategies[0], errorHandler, errorCounter, receivers[0]);
+                    conductorRunner = new AgentRunner(
+                        ctx.conductorIdleStrategy(), errorHandler, errorCounter, conductor);
+                    sharedNetworkRunner = null;
+                    sharedRunner = null;
+                    sharedInvoker = null;
+                    break;
+
                 default:
                 case DEDICATED:
                     senderRunner = new AgentRunner(ctx.senderIdleStrategy(), errorHandler, errorCounter, sender);
@@ -256,29 +295,56 @@ public final class MediaDriver implements AutoCloseable
             }
         }
 
+        final int[] conductorCpus = ctx.conductorCpuAffinity();
+        final int[] senderCpus = ctx.senderCpuAffinity();
+        final int[] receiverCpus = ctx.receiverCpuAffinity();
+        final int senderCount = mediaDriver.senderShardRunners.length + 1;
+        final int receiverCount = mediaDriver.receiverShardRunners.length + 1;
+
         if (null != mediaDriver.conductorRunner)
         {
-            AgentRunner.startOnThread(mediaDriver.conductorRunner, ctx.conductorThreadFactory());
+            final ThreadFactory threadFactory = pinnedThreadFactory(ctx, ctx.conductorThreadFactory(), conductorCpus);
+            AgentRunner.startOnThread(mediaDriver.conductorRunner, threadFactory);
         }
 
         if (null != mediaDriver.senderRunner)
         {
-            AgentRunner.startOnThread(mediaDriver.senderRunner, ctx.senderThreadFactory());
+            final int[] cpus = shardCpus(senderCpus, 0, senderCount);
+            final ThreadFactory threadFactory = pinnedThreadFactory(ctx, ctx.senderThreadFactory(), cpus);
+            AgentRunner.startOnThread(mediaDriver.senderRunner, threadFactory);
+        }
+
+        for (int i = 1; i < senderCount; i++)
+        {
+            final int[] cpus = shardCpus(senderCpus, i, senderCount);
+            final ThreadFactory threadFactory = pinnedThreadFactory(ctx, ctx.senderThreadFactory(), cpus);
+            AgentRunner.startOnThread(mediaDriver.senderShardRunners[i - 1], threadFactory);
         }
 
         if (null != mediaDriver.receiverRunner)
         {
-            AgentRunner.startOnThread(mediaDriver.receiverRunner, ctx.receiverThreadFactory());
+            final int[] cpus = shardCpus(receiverCpus, 0, receiverCount);
+            final ThreadFactory threadFactory = pinnedThreadFactory(ctx, ctx.receiverThreadFactory(), cpus);
+            AgentRunner.startOnThread(mediaDriver.receiverRunner, threadFactory);
+        }
+
+        for (int i = 1; i < receiverCount; i++)
+        {
+            final int[] cpus = shardCpus(receiverCpus, i, receiverCount);
+            final ThreadFactory threadFactory = pinnedThreadFactory(ctx, ctx.receiverThreadFactory(), cpus);
+            AgentRunner.startOnThread(mediaDriver.receiverShardRunners[i - 1], threadFactory);
         }
 
         if (null != mediaDriver.sharedNetworkRunner)
         {
-            AgentRunner.startOnThread(mediaDriver.sharedNetworkRunner, ctx.sharedNetworkThreadFactory());
+            final ThreadFactory threadFactory = pinnedThreadFactory(ctx, ctx.sharedNetworkThreadFactory(), senderCpus);
+            AgentRunner.startOnThread(mediaDriver.sharedNetworkRunner, threadFactory);
         }
 
         if (null != mediaDriver.sharedRunner)
         {
-            AgentRunner.startOnThread(mediaDriver.sharedRunner, ctx.sharedThreadFactory());
+            final ThreadFactory threadFactory = pinnedThreadFactory(ctx, ctx.sharedThreadFactory(), conductorCpus);
+            AgentRunner.startOnThread(mediaDriver.sharedRunner, threadFactory);
         }
 
         if (null != mediaDriver.sharedInvoker)
@@ -319,6 +385,8 @@ public final class MediaDriver implements AutoCloseable
             HighResolutionTimer.disable();
         }
 
+        CloseHelper.closeAll(receiverShardRunners);
+        CloseHelper.closeAll(senderShardRunners);
         CloseHelper.closeAll(
             sharedRunner, sharedNetworkRunner, receiverRunner, senderRunner, conductorRunner, sharedInvoker);
     }
@@ -334,6 +402,130 @@ public final class MediaDriver implements AutoCloseable
         return ctx.aeronDirectoryName();
     }
 
+    private static Receiver[] newReceiverShards(final Context ctx, final Receiver receiver)
+    {
+        final int shardCount = ThreadingMode.SHARDED == ctx.threadingMode() ? ctx.receiverShardCount() : 1;
+        final Receiver[] receivers = new Receiver[shardCount];
+        final Context[] receiverShards = new Context[shardCount];
+
+        receivers[0] = receiver;
+        receiverShards[0] = ctx;
+
+        for (int i = 1; i < shardCount; i++)
+        {
+            final OneToOneConcurrentArrayQueue<Runnable> commandQueue =
+                new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY);
+
+            final ReceiverProxy receiverProxy = new ReceiverProxy(
+                ctx.threadingMode(), commandQueue, ctx.systemCounters().get(RECEIVER_PROXY_FAILS));
+            final Context shardCtx = ctx.clone()
+                .receiverShardIndex(i)
+                .receiverCommandQueue(commandQueue)
+                .receiverProxy(receiverProxy)
+                .dataTransportPoller(ctx.newDataTransportPoller())
+                .receiverCachedNanoClock(new CachedNanoClock())
+                .receiveChannelEndpointThreadLocals(new ReceiveChannelEndpointThreadLocals());
+
+            receivers[i] = new Receiver(shardCtx);
+            receiverProxy.receiver(receivers[i]);
+            receiverShards[i] = shardCtx;
+        }
+
+        ctx.receiverShards(receiverShards);
+
+        return receivers;
+    }
+
+    private static Sender[] newSenderShards(final Context ctx)
+    {
+        final boolean isSharded = ThreadingMode.SHARDED == ctx.threadingMode();
+        final int shardCount = isSharded ? ctx.senderShardCount() : 1;
+        final Sender[] senders = new Sender[shardCount];
+        final Context[] senderShards = new Context[shardCount];
+        final CountersManager countersManager = ctx.countersManager();
+
+        for (int i = 0; i < shardCount; i++)
+        {
+            final Context shardCtx;
+            if (0 == i)
+            {
+                shardCtx = ctx;
+            }
+            else
+            {
+                final OneToOneConcurrentArrayQueue<Runnable> commandQueue =
+                    new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY);
+
+                final SenderProxy senderProxy = new SenderProxy(
+                    ctx.threadingMode(), commandQueue, ctx.systemCounters().get(SENDER_PROXY_FAILS));
+                shardCtx = ctx.clone()
+                    .senderShardIndex(i)
+                    .senderCommandQueue(commandQueue)
+                    .senderProxy(senderProxy)
+                    .controlTransportPoller(
+                        new ControlTransportPoller(ctx.errorHandler(), ctx.transportPollerIterationThreshold()))
+                    .senderCachedNanoClock(new CachedNanoClock());
+            }
+
+            if (isSharded)
+            {
+                final AtomicCounter maxCycleTime = countersManager.newCounter(
+                    "Sender max cycle time doing its work (ns): shard=" + i,
+                    AeronCounters.DRIVER_SENDER_MAX_CYCLE_TIME_TYPE_ID);
+                final AtomicCounter cycleTimeThresholdExceeded = countersManager.newCounter(
+                    "Sender work cycle exceeded threshold count: shard=" + i,
+                    AeronCounters.DRIVER_SENDER_CYCLE_TIME_THRESHOLD_EXCEEDED_TYPE_ID);
+
+                shardCtx.senderMaxCycleTime(maxCycleTime).senderCycleTimeThresholdExceeded(cycleTimeThresholdExceeded);
+            }
+
+            senders[i] = new Sender(shardCtx);
+            shardCtx.senderProxy().sender(senders[i]);
+            senderShards[i] = shardCtx;
+        }
+
+        ctx.senderShards(senderShards);
+
+        return senders;
+    }
+
+    private static int[] shardCpus(final int[] cpuIds, final int shardIndex, final int shardCount)
+    {
+        if (null == cpuIds || 1 == shardCount)
+        {
+            return cpuIds;
+        }
+
+        return new int[]{ cpuIds[shardIndex % cpuIds.length] };
+    }
+
+    private static ThreadFactory pinnedThreadFactory(
+        final Context ctx, final ThreadFactory threadFactory, final int[] cpuIds)
+    {
+        if (null == cpuIds || 0 == cpuIds.length)
+        {
+            return threadFactory;
+        }
+
+        final ThreadAffinity threadAffinity = ctx.threadAffinity();
+        final ErrorHandler errorHandler = ctx.errorHandler();
+
+        return (runnable) -> threadFactory.newThread(
+            () ->
+            {
+                try
+                {
+                    threadAffinity.pinCurrentThread(cpuIds);
+                }
+                catch (final Exception ex)
+                {
+                    errorHandler.onError(ex);
+                }
+
+                runnable.run();
+            });
+    }
+
     private static void ensureDirectoryIsRecreated(final Context ctx)
     {
         if (ctx.aeronDirectory().isDirectory())
@@ -413,6 +605,8 @@ public final class MediaDriver implements AutoCloseable
         private boolean dirDeleteOnStart = Configuration.dirDeleteOnStart();
         private boolean dirDeleteOnShutdown = Configuration.dirDeleteOnShutdown();
         private boolean termBufferSparseFile = Configuration.termBufferSparseFile();
+        private boolean preTouchLogBuffers = Configuration.preTouchLogBuffers();
+        private boolean preFaultLogBuffers = Configuration.preFaultLogBuffers();
         private boolean performStorageChecks = Configuration.performStorageChecks();
         private boolean spiesSimulateConnection = Configuration.spiesSimulateConnection();
         private boolean reliableStream = Configuration.reliableStream();
@@ -437,8 +631,10 @@ public final class MediaDriver implements AutoCloseable
         private long flowControlReceiverTimeoutNs = Configuration.flowControlReceiverTimeoutNs();
         private long reResolutionCheckIntervalNs = Configuration.reResolutionCheckIntervalNs();
         private long conductorCycleThresholdNs = Configuration.conductorCycleThresholdNs();
+        private long senderCycleThresholdNs = Configuration.senderCycleThresholdNs();
 
         private int conductorBufferLength = Configuration.conductorBufferLength();
+        private int conductorBufferStripeCount = Configuration.conductorBufferStripeCount();
         private int toClientsBufferLength = Configuration.toClientsBufferLength();
         private int counterValuesBufferLength = Configuration.counterValuesBufferLength();
         private int errorBufferLength = Configuration.errorBufferLength();
@@ -454,10 +650,27 @@ public final class MediaDriver implements AutoCloseable
         private int mtuLength = Configuration.mtuLength();
         private int ipcMtuLength = Configuration.ipcMtuLength();
         private int filePageSize = Configuration.filePageSize();
+        private int preTouchPageBudget = Configuration.preTouchPageBudget();
         private int publicationReservedSessionIdLow = Configuration.publicationReservedSessionIdLow();
         private int publicationReservedSessionIdHigh = Configuration.publicationReservedSessionIdHigh();
         private int lossReportBufferLength = Configuration.lossReportBufferLength();
+        private boolean latencyReportEnabled = Configuration.latencyReportEnabled();
         private int sendToStatusMessagePollRatio = Configuration.sendToStatusMessagePollRatio();
+        private int retransmitBudget = Configuration.retransmitBudget();
+        private boolean lossDetectionBitmap = Configuration.lossDetectionBitmap();
+        private int nakMaxGaps = Configuration.nakMaxGaps();
+        private int imageSetupBudget = Configuration.imageSetupBudget();
+        private boolean imageLogAsyncAllocation = Configuration.imageLogAsyncAllocation();
+        private int senderDutyCycleMaxRatio = Configuration.senderDutyCycleMaxRatio();
+        private int senderBatchSize = Configuration.senderBatchSize();
+        private int receiverBatchSize = Configuration.receiverBatchSize();
+        private int transportPollerIterationThreshold = Configuration.transportPollerIterationThreshold();
+        private int receiverShardCount = Configuration.receiverShardCount();
+        private int senderShardCount = Configuration.senderShardCount();
+        private int logBufferPoolSize = Configuration.logBufferPoolSize();
+        private int[] conductorCpuAffinity = Configuration.conductorCpuAffinity();
+        private int[] senderCpuAffinity = Configuration.senderCpuAffinity();
+        private int[] receiverCpuAffinity = Configuration.receiverCpuAffinity();
 
         private Long receiverGroupTag = Configuration.groupTag();
         private long flowControlGroupTag = Configuration.flowControlGroupTag();
@@ -482,9 +695,13 @@ public final class MediaDriver implements AutoCloseable
         private IdleStrategy conductorIdleStrategy;
         private IdleStrategy senderIdleStrategy;
         private IdleStrategy receiverIdleStrategy;
+        private IdleStrategy[] receiverIdleStrategies;
+        private IdleStrategy[] senderIdleStrategies;
         private IdleStrategy sharedNetworkIdleStrategy;
         private IdleStrategy sharedIdleStrategy;
         private SendChannelEndpointSupplier sendChannelEndpointSupplier;
+        private UdpSendBatcherSupplier udpSendBatcherSupplier;
+        private SenderDutyCyclePolicySupplier senderDutyCyclePolicySupplier;
         private ReceiveChannelEndpointSupplier receiveChannelEndpointSupplier;
         private ReceiveChannelEndpointThreadLocals receiveChannelEndpointThreadLocals;
         private MutableDirectBuffer tempBuffer;
@@ -496,7 +713,9 @@ public final class MediaDriver implements AutoCloseable
         private FeedbackDelayGenerator multicastFeedbackDelayGenerator;
         private FeedbackDelayGenerator retransmitUnicastDelayGenerator;
         private FeedbackDelayGenerator retransmitUnicastLingerGenerator;
+        private String logBuffersDirectoryName = Configuration.logBuffersDirectoryName();
         private TerminationValidator terminationValidator;
+        private ThreadAffinity threadAffinity;
         private Runnable terminationHook;
         private NameResolver nameResolver;
 
@@ -506,6 +725,7 @@ public final class MediaDriver implements AutoCloseable
         private CountersManager countersManager;
         private SystemCounters systemCounters;
         private LossReport lossReport;
+        private LatencyReport latencyReport;
 
         private LogFactory logFactory;
         private DataTransportPoller dataTransportPoller;
@@ -514,12 +734,20 @@ public final class MediaDriver implements AutoCloseable
         private OneToOneConcurrentArrayQueue<Runnable> receiverCommandQueue;
         private OneToOneConcurrentArrayQueue<Runnable> senderCommandQueue;
         private ReceiverProxy receiverProxy;
+        private Context[] receiverShards;
+        private int receiverShardIndex;
+        private Context[] senderShards;
+        private int senderShardIndex;
+        private AtomicCounter senderMaxCycleTime;
+        private AtomicCounter senderCycleTimeThresholdExceeded;
         private SenderProxy senderProxy;
         private DriverConductorProxy driverConductorProxy;
         private ClientProxy clientProxy;
         private RingBuffer toDriverCommands;
+        private RingBuffer[] toDriverStripes;
 
         private MappedByteBuffer lossReportBuffer;
+        private MappedByteBuffer latencyReportBuffer;
         private MappedByteBuffer cncByteBuffer;
         private UnsafeBuffer cncMetaDataBuffer;
 
@@ -556,6 +784,9 @@ public final class MediaDriver implements AutoCloseable
                 IoUtil.unmap(lossReportBuffer);
                 this.lossReportBuffer = null;
 
+                IoUtil.unmap(latencyReportBuffer);
+                this.latencyReportBuffer = null;
+
                 IoUtil.unmap(cncByteBuffer);
                 this.cncByteBuffer = null;
 
@@ -583,6 +814,11 @@ public final class MediaDriver implements AutoCloseable
                 validateMtuLength(ipcMtuLength);
                 validatePageSize(filePageSize);
                 validateSessionIdRange(publicationReservedSessionIdLow, publicationReservedSessionIdHigh);
+                validateShardCount(RECEIVER_SHARD_COUNT_PROP_NAME, receiverShardCount);
+                validateShardCount(SENDER_SHARD_COUNT_PROP_NAME, senderShardCount);
+                validateNakMaxGaps(nakMaxGaps);
+                validatePreTouchPageBudget(preTouchPageBudget);
+                validateConductorBufferStripeCount(conductorBufferStripeCount, conductorBufferLength);
 
                 LogBufferDescriptor.checkTermLength(publicationTermBufferLength);
                 LogBufferDescriptor.checkTermLength(ipcTermBufferLength);
@@ -597,7 +833,8 @@ public final class MediaDriver implements AutoCloseable
                         toClientsBufferLength +
                         Configuration.countersMetadataBufferLength(counterValuesBufferLength) +
                         counterValuesBufferLength +
-                        errorBufferLength,
+                        errorBufferLength +
+                        (conductorBufferStripeCount * conductorBufferLength),
                         filePageSize));
 
                 cncMetaDataBuffer = CncFileDescriptor.createMetaDataBuffer(cncByteBuffer);
@@ -610,7 +847,8 @@ public final class MediaDriver implements AutoCloseable
                     clientLivenessTimeoutNs,
                     errorBufferLength,
                     epochClock.time(),
-                    SystemUtil.getPid());
+                    SystemUtil.getPid(),
+                    conductorBufferStripeCount);
 
                 concludeCounters();
                 concludeDependantProperties();
@@ -642,6 +880,11 @@ public final class MediaDriver implements AutoCloseable
             if (null != aeronDirectory())
             {
                 super.deleteAeronDirectory();
+
+                if (null != logBuffersDirectoryName)
+                {
+                    IoUtil.delete(logBuffersDirectory(), false);
+                }
             }
         }
 
@@ -825,6 +1068,139 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Should the log buffers of network publications and publication images be pre-touched by the owning sender
+         * or receiver shard.
+         *
+         * @return true if the log buffers should be pre-touched by the owning sender or receiver shard.
+         * @see Configuration#PRE_TOUCH_LOG_BUFFERS_PROP_NAME
+         */
+        public boolean preTouchLogBuffers()
+        {
+            return preTouchLogBuffers;
+        }
+
+        /**
+         * Should the log buffers of network publications and publication images be pre-touched by the owning sender
+         * or receiver shard. The logs are created sparse and the shard faults in every page, spread over its duty
+         * cycles by {@link #preTouchPageBudget(int)}, before it activates the stream so the pages are placed on the
+         * NUMA node of that shard. Logs which are asked to be sparse are not pre-touched.
+         *
+         * @param preTouchLogBuffers true if the log buffers should be pre-touched by the owning shard.
+         * @return this for a fluent API.
+         * @see Configuration#PRE_TOUCH_LOG_BUFFERS_PROP_NAME
+         */
+        public Context preTouchLogBuffers(final boolean preTouchLogBuffers)
+        {
+            this.preTouchLogBuffers = preTouchLogBuffers;
+            return this;
+        }
+
+        /**
+         * Maximum number of log buffer pages the sender or receiver will pre-touch in a duty cycle.
+         *
+         * @return maximum number of log buffer pages the sender or receiver will pre-touch in a duty cycle.
+         * @see Configuration#PRE_TOUCH_PAGE_BUDGET_PROP_NAME
+         */
+        public int preTouchPageBudget()
+        {
+            return preTouchPageBudget;
+        }
+
+        /**
+         * Maximum number of log buffer pages the sender or receiver will pre-touch in a duty cycle. A smaller budget
+         * bounds the time a duty cycle spends faulting pages at the cost of a stream taking longer to be activated.
+         *
+         * @param preTouchPageBudget maximum number of log buffer pages to pre-touch in a duty cycle.
+         * @return this for a fluent API.
+         * @see Configuration#PRE_TOUCH_PAGE_BUDGET_PROP_NAME
+         */
+        public Context preTouchPageBudget(final int preTouchPageBudget)
+        {
+            this.preTouchPageBudget = preTouchPageBudget;
+            return this;
+        }
+
+        /**
+         * Should every page of a new log buffer be faulted in before the log buffer is made available to clients.
+         *
+         * @return true if every page of a new log buffer should be faulted in.
+         * @see Configuration#PRE_FAULT_LOG_BUFFERS_PROP_NAME
+         */
+        public boolean preFaultLogBuffers()
+        {
+            return preFaultLogBuffers;
+        }
+
+        /**
+         * Should every page of a new log buffer be faulted in before the log buffer is made available to clients. The
+         * time taken is accumulated in the
+         * {@link io.aeron.driver.status.SystemCounterDescriptor#LOG_BUFFER_PRE_FAULT_TIME} counter. Sparse log buffers
+         * are not pre-faulted.
+         *
+         * @param preFaultLogBuffers true if every page of a new log buffer should be faulted in.
+         * @return this for a fluent API.
+         * @see Configuration#PRE_FAULT_LOG_BUFFERS_PROP_NAME
+         */
+        public Context preFaultLogBuffers(final boolean preFaultLogBuffers)
+        {
+            this.preFaultLogBuffers = preFaultLogBuffers;
+            return this;
+        }
+
+        /**
+         * Get the directory, such as a hugetlbfs or tmpfs mount, in which log buffers are created.
+         *
+         * @return the directory in which log buffers are created or null if within the Aeron directory.
+         * @see Configuration#LOG_BUFFERS_DIR_PROP_NAME
+         */
+        public String logBuffersDirectoryName()
+        {
+            return logBuffersDirectoryName;
+        }
+
+        /**
+         * Set the directory, such as a hugetlbfs or tmpfs mount, in which log buffers are created. A directory named
+         * after the Aeron directory is created within it and deleted along with the Aeron directory. When using
+         * hugetlbfs the {@link #filePageSize(int)} should be the huge page size and {@link #preFaultLogBuffers(boolean)}
+         * set as pages cannot be allocated by writing to the file.
+         *
+         * @param dirName in which log buffers are created or null if within the Aeron directory.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFERS_DIR_PROP_NAME
+         */
+        public Context logBuffersDirectoryName(final String dirName)
+        {
+            this.logBuffersDirectoryName = dirName;
+            return this;
+        }
+
+        /**
+         * Get the maximum number of free log buffers kept in a pool for each term length.
+         *
+         * @return maximum number of free log buffers kept in a pool for each term length, 0 if pooling is disabled.
+         * @see Configuration#LOG_BUFFER_POOL_SIZE_PROP_NAME
+         */
+        public int logBufferPoolSize()
+        {
+            return logBufferPoolSize;
+        }
+
+        /**
+         * Set the maximum number of free log buffers kept in a pool for each term length. Pooled log buffers are
+         * handed to new publications and images, avoiding the creation and mapping of a file, and are replaced in the
+         * background. Released log buffers are deleted rather than recycled as clients may still have them mapped.
+         *
+         * @param poolSize maximum number of free log buffers kept for each term length, 0 to disable pooling.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFER_POOL_SIZE_PROP_NAME
+         */
+        public Context logBufferPoolSize(final int poolSize)
+        {
+            this.logBufferPoolSize = poolSize;
+            return this;
+        }
+
         /**
          * Length of the {@link RingBuffer} for sending commands to the driver conductor from clients.
          *
@@ -849,6 +1225,33 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Count of stripe {@link RingBuffer}s, each of {@link #conductorBufferLength()}, for sending commands to the
+         * driver conductor from clients.
+         *
+         * @return count of stripe {@link RingBuffer}s for sending commands to the driver conductor from clients.
+         * @see Configuration#CONDUCTOR_BUFFER_STRIPE_COUNT_PROP_NAME
+         */
+        public int conductorBufferStripeCount()
+        {
+            return conductorBufferStripeCount;
+        }
+
+        /**
+         * Count of stripe {@link RingBuffer}s, each of {@link #conductorBufferLength()}, for sending commands to the
+         * driver conductor from clients. Clients are spread across the stripes by client id which reduces contention
+         * on the ring buffer tail when many clients issue commands at the same time.
+         *
+         * @param stripeCount of {@link RingBuffer}s for sending commands to the driver conductor, 0 for none.
+         * @return this for a fluent API.
+         * @see Configuration#CONDUCTOR_BUFFER_STRIPE_COUNT_PROP_NAME
+         */
+        public Context conductorBufferStripeCount(final int stripeCount)
+        {
+            conductorBufferStripeCount = stripeCount;
+            return this;
+        }
+
         /**
          * Length of the {@link BroadcastTransmitter} buffer for sending events to the clients.
          *
@@ -993,6 +1396,30 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Should the latency report of histograms for events on the hot paths of the driver be maintained.
+         *
+         * @return true if the latency report should be maintained.
+         * @see Configuration#LATENCY_REPORT_ENABLED_PROP_NAME
+         */
+        public boolean latencyReportEnabled()
+        {
+            return latencyReportEnabled;
+        }
+
+        /**
+         * Should the latency report of histograms for events on the hot paths of the driver be maintained.
+         *
+         * @param latencyReportEnabled true if the latency report should be maintained.
+         * @return this for a fluent API.
+         * @see Configuration#LATENCY_REPORT_ENABLED_PROP_NAME
+         */
+        public Context latencyReportEnabled(final boolean latencyReportEnabled)
+        {
+            this.latencyReportEnabled = latencyReportEnabled;
+            return this;
+        }
+
         /**
          * Page size for alignment of all files.
          *
@@ -2253,6 +2680,59 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Supplier of the {@link UdpSendBatcher} used by the {@link Sender} to gather datagrams when
+         * {@link #senderBatchSize()} is greater than 1.
+         *
+         * @return the supplier of the {@link UdpSendBatcher} used by the {@link Sender}.
+         * @see Configuration#UDP_SEND_BATCHER_SUPPLIER_PROP_NAME
+         */
+        public UdpSendBatcherSupplier udpSendBatcherSupplier()
+        {
+            return udpSendBatcherSupplier;
+        }
+
+        /**
+         * Supplier of the {@link UdpSendBatcher} used by the {@link Sender} to gather datagrams when
+         * {@link #senderBatchSize()} is greater than 1. The supplier may return null to keep the direct write of each
+         * datagram, which the {@link DefaultUdpSendBatcherSupplier} does as the JDK has no multi-message send.
+         *
+         * @param supplier of the {@link UdpSendBatcher} used by the {@link Sender}.
+         * @return this for a fluent API.
+         * @see Configuration#UDP_SEND_BATCHER_SUPPLIER_PROP_NAME
+         */
+        public Context udpSendBatcherSupplier(final UdpSendBatcherSupplier supplier)
+        {
+            udpSendBatcherSupplier = supplier;
+            return this;
+        }
+
+        /**
+         * Supplier of the {@link SenderDutyCyclePolicy} which decides when the {@link Sender} polls for control
+         * messages.
+         *
+         * @return the supplier of the {@link SenderDutyCyclePolicy} used by the {@link Sender}.
+         * @see Configuration#SENDER_DUTY_CYCLE_POLICY_SUPPLIER_PROP_NAME
+         */
+        public SenderDutyCyclePolicySupplier senderDutyCyclePolicySupplier()
+        {
+            return senderDutyCyclePolicySupplier;
+        }
+
+        /**
+         * Supplier of the {@link SenderDutyCyclePolicy} which decides when the {@link Sender} polls for control
+         * messages. Each sender shard is given its own instance.
+         *
+         * @param supplier of the {@link SenderDutyCyclePolicy} used by the {@link Sender}.
+         * @return this for a fluent API.
+         * @see Configuration#SENDER_DUTY_CYCLE_POLICY_SUPPLIER_PROP_NAME
+         */
+        public Context senderDutyCyclePolicySupplier(final SenderDutyCyclePolicySupplier supplier)
+        {
+            senderDutyCyclePolicySupplier = supplier;
+            return this;
+        }
+
         /**
          * Supplier of dynamically created {@link ReceiveChannelEndpoint} subclasses for specialising interactions
          * with the receive side of a network channel.
@@ -2594,6 +3074,40 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * {@link LatencyReport} of histograms for events on the hot paths of the driver.
+         *
+         * @return {@link LatencyReport} of histograms or null if not enabled.
+         * @see #latencyReportEnabled()
+         */
+        LatencyReport latencyReport()
+        {
+            return latencyReport;
+        }
+
+        /**
+         * {@link LatencyReport} of histograms for events on the hot paths of the driver.
+         *
+         * @param latencyReport of histograms for events on the hot paths of the driver.
+         * @return this for a fluent API.
+         */
+        Context latencyReport(final LatencyReport latencyReport)
+        {
+            this.latencyReport = latencyReport;
+            return this;
+        }
+
+        /**
+         * {@link LatencyHistogram} in the {@link LatencyReport} for recording the latency of an event.
+         *
+         * @param descriptor of the histogram.
+         * @return {@link LatencyHistogram} for the descriptor or null if the latency report is not enabled.
+         */
+        LatencyHistogram latencyHistogram(final LatencyHistogramDescriptor descriptor)
+        {
+            return null != latencyReport ? latencyReport.histogram(descriptor) : null;
+        }
+
         /**
          * Low end of the publication reserved session id range which will not be automatically assigned.
          *
@@ -2771,70 +3285,447 @@ public final class MediaDriver implements AutoCloseable
         }
 
         /**
-         * Set the {@link TerminationValidator} to be used to validate termination requests.
+         * Get the list of CPUs the {@link DriverConductor} thread is restricted to.
          *
-         * @param validator to validate termination requests.
-         * @return this for a fluent API.
+         * @return list of CPUs the {@link DriverConductor} thread is restricted to or null if not restricted.
+         * @see Configuration#CONDUCTOR_CPU_AFFINITY_PROP_NAME
          */
-        public Context terminationValidator(final TerminationValidator validator)
+        public int[] conductorCpuAffinity()
         {
-            this.terminationValidator = validator;
-            return this;
+            return conductorCpuAffinity;
         }
 
         /**
-         * Get the {@link TerminationValidator} to be used to validate termination requests.
+         * Set the list of CPUs the {@link DriverConductor} thread is restricted to.
          *
-         * @return {@link TerminationValidator} to validate termination requests.
+         * @param cpuIds the {@link DriverConductor} thread is restricted to or null if not restricted.
+         * @return this for a fluent API.
+         * @see Configuration#CONDUCTOR_CPU_AFFINITY_PROP_NAME
          */
-        public TerminationValidator terminationValidator()
+        public Context conductorCpuAffinity(final int[] cpuIds)
         {
-            return terminationValidator;
+            this.conductorCpuAffinity = cpuIds;
+            return this;
         }
 
         /**
-         * Get the ratio for sending data to polling status messages in the Sender.
+         * Get the list of CPUs the {@link Sender} threads are restricted to.
          *
-         * @return ratio for sending data to polling status messages in the Sender.
+         * @return list of CPUs the {@link Sender} threads are restricted to or null if not restricted.
+         * @see Configuration#SENDER_CPU_AFFINITY_PROP_NAME
          */
-        public int sendToStatusMessagePollRatio()
+        public int[] senderCpuAffinity()
         {
-            return sendToStatusMessagePollRatio;
+            return senderCpuAffinity;
         }
 
         /**
-         * Set the ratio for sending data to polling status messages in the Sender.
+         * Set the list of CPUs the {@link Sender} threads are restricted to.
          *
-         * @param ratio to use.
-         * @return this for fluent API.
+         * @param cpuIds the {@link Sender} threads are restricted to or null if not restricted.
+         * @return this for a fluent API.
+         * @see Configuration#SENDER_CPU_AFFINITY_PROP_NAME
          */
-        public Context sendToStatusMessagePollRatio(final int ratio)
+        public Context senderCpuAffinity(final int[] cpuIds)
         {
-            this.sendToStatusMessagePollRatio = ratio;
+            this.senderCpuAffinity = cpuIds;
             return this;
         }
 
         /**
-         * Get the group tag (gtag) to be sent in Status Messages from the Receiver.
+         * Get the list of CPUs the {@link Receiver} threads are restricted to.
          *
-         * @return group tag value or null if not set.
-         * @see Configuration#RECEIVER_GROUP_TAG_PROP_NAME
+         * @return list of CPUs the {@link Receiver} threads are restricted to or null if not restricted.
+         * @see Configuration#RECEIVER_CPU_AFFINITY_PROP_NAME
          */
-        public Long receiverGroupTag()
+        public int[] receiverCpuAffinity()
         {
-            return receiverGroupTag;
+            return receiverCpuAffinity;
         }
 
         /**
-         * Set the group tag (gtag) to be sent in Status Messages from the Receiver.
+         * Set the list of CPUs the {@link Receiver} threads are restricted to.
          *
-         * @param groupTag value to sent in Status Messages from the receiver or null if not set.
-         * @return this for fluent API.
-         * @see Configuration#RECEIVER_GROUP_TAG_PROP_NAME
+         * @param cpuIds the {@link Receiver} threads are restricted to or null if not restricted.
+         * @return this for a fluent API.
+         * @see Configuration#RECEIVER_CPU_AFFINITY_PROP_NAME
          */
-        public Context receiverGroupTag(final Long groupTag)
+        public Context receiverCpuAffinity(final int[] cpuIds)
         {
-            this.receiverGroupTag = groupTag;
+            this.receiverCpuAffinity = cpuIds;
+            return this;
+        }
+
+        /**
+         * Get the {@link ThreadAffinity} used to pin agent threads to their configured CPUs.
+         *
+         * @return the {@link ThreadAffinity} used to pin agent threads to their configured CPUs.
+         * @see Configuration#THREAD_AFFINITY_PROP_NAME
+         */
+        public ThreadAffinity threadAffinity()
+        {
+            return threadAffinity;
+        }
+
+        /**
+         * Set the {@link ThreadAffinity} used to pin agent threads to their configured CPUs.
+         *
+         * @param threadAffinity used to pin agent threads to their configured CPUs.
+         * @return this for a fluent API.
+         * @see Configuration#THREAD_AFFINITY_PROP_NAME
+         */
+        public Context threadAffinity(final ThreadAffinity threadAffinity)
+        {
+            this.threadAffinity = threadAffinity;
+            return this;
+        }
+
+        /**
+         * Set the {@link TerminationValidator} to be used to validate termination requests.
+         *
+         * @param validator to validate termination requests.
+         * @return this for a fluent API.
+         */
+        public Context terminationValidator(final TerminationValidator validator)
+        {
+            this.terminationValidator = validator;
+            return this;
+        }
+
+        /**
+         * Get the {@link TerminationValidator} to be used to validate termination requests.
+         *
+         * @return {@link TerminationValidator} to validate termination requests.
+         */
+        public TerminationValidator terminationValidator()
+        {
+            return terminationValidator;
+        }
+
+        /**
+         * Get the ratio for sending data to polling status messages in the Sender.
+         *
+         * @return ratio for sending data to polling status messages in the Sender.
+         */
+        public int sendToStatusMessagePollRatio()
+        {
+            return sendToStatusMessagePollRatio;
+        }
+
+        /**
+         * Set the ratio for sending data to polling status messages in the Sender.
+         *
+         * @param ratio to use.
+         * @return this for fluent API.
+         */
+        public Context sendToStatusMessagePollRatio(final int ratio)
+        {
+            this.sendToStatusMessagePollRatio = ratio;
+            return this;
+        }
+
+        /**
+         * Get the number of bytes each network publication can retransmit per duty cycle of the {@link Sender}.
+         *
+         * @return number of bytes each network publication can retransmit per duty cycle, 0 for no limit.
+         * @see Configuration#RETRANSMIT_BUDGET_PROP_NAME
+         */
+        public int retransmitBudget()
+        {
+            return retransmitBudget;
+        }
+
+        /**
+         * Set the number of bytes each network publication can retransmit per duty cycle of the {@link Sender}.
+         * Retransmits over the budget are deferred to a following duty cycle so new data is not starved.
+         *
+         * @param retransmitBudget in bytes per duty cycle, 0 for no limit.
+         * @return this for fluent API.
+         * @see Configuration#RETRANSMIT_BUDGET_PROP_NAME
+         */
+        public Context retransmitBudget(final int retransmitBudget)
+        {
+            this.retransmitBudget = retransmitBudget;
+            return this;
+        }
+
+        /**
+         * Should publication images track received blocks in a bitmap for loss detection.
+         *
+         * @return true if publication images should track received blocks in a bitmap for loss detection.
+         * @see Configuration#LOSS_DETECTION_BITMAP_PROP_NAME
+         */
+        public boolean lossDetectionBitmap()
+        {
+            return lossDetectionBitmap;
+        }
+
+        /**
+         * Should publication images track received blocks in a bitmap for loss detection. Scanning for a gap then
+         * costs a read per 64 blocks rather than a read per frame, which helps with large receiver windows.
+         *
+         * @param lossDetectionBitmap true if publication images should track received blocks in a bitmap.
+         * @return this for fluent API.
+         * @see Configuration#LOSS_DETECTION_BITMAP_PROP_NAME
+         */
+        public Context lossDetectionBitmap(final boolean lossDetectionBitmap)
+        {
+            this.lossDetectionBitmap = lossDetectionBitmap;
+            return this;
+        }
+
+        /**
+         * Maximum number of gaps which a publication image can request in a single NAK.
+         *
+         * @return maximum number of gaps which a publication image can request in a single NAK.
+         * @see Configuration#NAK_MAX_GAPS_PROP_NAME
+         */
+        public int nakMaxGaps()
+        {
+            return nakMaxGaps;
+        }
+
+        /**
+         * Maximum number of gaps which a publication image can request in a single NAK. This only applies to sources
+         * which advertise support for multiple gaps in their setup frame, other sources are sent a NAK per gap.
+         *
+         * @param nakMaxGaps maximum number of gaps which a publication image can request in a single NAK.
+         * @return this for fluent API.
+         * @see Configuration#NAK_MAX_GAPS_PROP_NAME
+         */
+        public Context nakMaxGaps(final int nakMaxGaps)
+        {
+            this.nakMaxGaps = nakMaxGaps;
+            return this;
+        }
+
+        /**
+         * Maximum number of publication images which the conductor will set up in a duty cycle.
+         *
+         * @return maximum number of publication images which the conductor will set up in a duty cycle.
+         * @see Configuration#IMAGE_SETUP_BUDGET_PROP_NAME
+         */
+        public int imageSetupBudget()
+        {
+            return imageSetupBudget;
+        }
+
+        /**
+         * Maximum number of publication images which the conductor will set up in a duty cycle. Images beyond the
+         * budget are staged until a following duty cycle so many new sessions do not stall the conductor.
+         *
+         * @param imageSetupBudget maximum number of publication images to set up in a duty cycle, 0 for no staging.
+         * @return this for fluent API.
+         * @see Configuration#IMAGE_SETUP_BUDGET_PROP_NAME
+         */
+        public Context imageSetupBudget(final int imageSetupBudget)
+        {
+            this.imageSetupBudget = imageSetupBudget;
+            return this;
+        }
+
+        /**
+         * Should the log buffers of publication images be allocated on a dedicated thread.
+         *
+         * @return true if the log buffers of publication images should be allocated on a dedicated thread.
+         * @see Configuration#IMAGE_LOG_ASYNC_ALLOCATION_PROP_NAME
+         */
+        public boolean imageLogAsyncAllocation()
+        {
+            return imageLogAsyncAllocation;
+        }
+
+        /**
+         * Should the log buffers of publication images be allocated on a dedicated thread. The {@link LogFactory} is
+         * then synchronized so it can be shared by the conductor and the allocating thread.
+         *
+         * @param imageLogAsyncAllocation true if image log buffers should be allocated on a dedicated thread.
+         * @return this for fluent API.
+         * @see Configuration#IMAGE_LOG_ASYNC_ALLOCATION_PROP_NAME
+         */
+        public Context imageLogAsyncAllocation(final boolean imageLogAsyncAllocation)
+        {
+            this.imageLogAsyncAllocation = imageLogAsyncAllocation;
+            return this;
+        }
+
+        /**
+         * Get the maximum ratio for sending data to polling status messages which an adaptive
+         * {@link SenderDutyCyclePolicy} can tune up to.
+         *
+         * @return maximum ratio for sending data to polling status messages for an adaptive policy.
+         * @see Configuration#SENDER_DUTY_CYCLE_MAX_RATIO_PROP_NAME
+         */
+        public int senderDutyCycleMaxRatio()
+        {
+            return senderDutyCycleMaxRatio;
+        }
+
+        /**
+         * Set the maximum ratio for sending data to polling status messages which an adaptive
+         * {@link SenderDutyCyclePolicy} can tune up to.
+         *
+         * @param ratio maximum for an adaptive policy.
+         * @return this for fluent API.
+         * @see Configuration#SENDER_DUTY_CYCLE_MAX_RATIO_PROP_NAME
+         */
+        public Context senderDutyCycleMaxRatio(final int ratio)
+        {
+            this.senderDutyCycleMaxRatio = ratio;
+            return this;
+        }
+
+        /**
+         * Get the number of datagrams the Sender can gather in a duty cycle before flushing them to the network.
+         *
+         * @return number of datagrams the Sender can gather in a duty cycle before flushing them to the network.
+         * @see Configuration#SENDER_BATCH_SIZE_PROP_NAME
+         */
+        public int senderBatchSize()
+        {
+            return senderBatchSize;
+        }
+
+        /**
+         * Set the number of datagrams the Sender can gather in a duty cycle before flushing them to the network.
+         * A value of 1 disables batching so each datagram is written directly to its channel.
+         *
+         * @param batchSize number of datagrams to gather before a flush.
+         * @return this for fluent API.
+         * @see Configuration#SENDER_BATCH_SIZE_PROP_NAME
+         */
+        public Context senderBatchSize(final int batchSize)
+        {
+            this.senderBatchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Get the number of datagrams the Receiver will drain from a transport before dispatching them.
+         *
+         * @return number of datagrams the Receiver will drain from a transport before dispatching them.
+         * @see Configuration#RECEIVER_BATCH_SIZE_PROP_NAME
+         */
+        public int receiverBatchSize()
+        {
+            return receiverBatchSize;
+        }
+
+        /**
+         * Set the number of datagrams the Receiver will drain from a transport before dispatching them.
+         * A value of 1 disables batching so each datagram is dispatched as it is received.
+         *
+         * @param batchSize number of datagrams to drain from a transport before dispatching them.
+         * @return this for fluent API.
+         * @see Configuration#RECEIVER_BATCH_SIZE_PROP_NAME
+         */
+        public Context receiverBatchSize(final int batchSize)
+        {
+            this.receiverBatchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Get the number of transports at or below which the transport pollers read each transport directly in
+         * round-robin order rather than using a {@link java.nio.channels.Selector}.
+         *
+         * @return number of transports at or below which the transport pollers bypass the selector.
+         * @see Configuration#TRANSPORT_POLLER_ITERATION_THRESHOLD_PROP_NAME
+         */
+        public int transportPollerIterationThreshold()
+        {
+            return transportPollerIterationThreshold;
+        }
+
+        /**
+         * Set the number of transports at or below which the transport pollers read each transport directly in
+         * round-robin order rather than using a {@link java.nio.channels.Selector}.
+         *
+         * @param threshold number of transports at or below which the transport pollers bypass the selector.
+         * @return this for fluent API.
+         * @see Configuration#TRANSPORT_POLLER_ITERATION_THRESHOLD_PROP_NAME
+         */
+        public Context transportPollerIterationThreshold(final int threshold)
+        {
+            this.transportPollerIterationThreshold = threshold;
+            return this;
+        }
+
+        /**
+         * Get the number of {@link Receiver} agents, each on its own thread, when running with
+         * {@link ThreadingMode#SHARDED}.
+         *
+         * @return number of {@link Receiver} agents when running with {@link ThreadingMode#SHARDED}.
+         * @see Configuration#RECEIVER_SHARD_COUNT_PROP_NAME
+         */
+        public int receiverShardCount()
+        {
+            return receiverShardCount;
+        }
+
+        /**
+         * Set the number of {@link Receiver} agents, each on its own thread, when running with
+         * {@link ThreadingMode#SHARDED}. Receive channel endpoints are spread across the shards by the
+         * {@link CommonContext#RECEIVER_SHARD_PARAM_NAME} channel param or by hash of the endpoint.
+         *
+         * @param shardCount number of {@link Receiver} agents when running with {@link ThreadingMode#SHARDED}.
+         * @return this for fluent API.
+         * @see Configuration#RECEIVER_SHARD_COUNT_PROP_NAME
+         */
+        public Context receiverShardCount(final int shardCount)
+        {
+            this.receiverShardCount = shardCount;
+            return this;
+        }
+
+        /**
+         * Get the number of {@link Sender} agents, each on its own thread, when running with
+         * {@link ThreadingMode#SHARDED}.
+         *
+         * @return number of {@link Sender} agents when running with {@link ThreadingMode#SHARDED}.
+         * @see Configuration#SENDER_SHARD_COUNT_PROP_NAME
+         */
+        public int senderShardCount()
+        {
+            return senderShardCount;
+        }
+
+        /**
+         * Set the number of {@link Sender} agents, each on its own thread, when running with
+         * {@link ThreadingMode#SHARDED}. Send channel endpoints, and their publications, are spread across the shards
+         * by the {@link CommonContext#SENDER_SHARD_PARAM_NAME} channel param or by hash of the endpoint.
+         *
+         * @param shardCount number of {@link Sender} agents when running with {@link ThreadingMode#SHARDED}.
+         * @return this for fluent API.
+         * @see Configuration#SENDER_SHARD_COUNT_PROP_NAME
+         */
+        public Context senderShardCount(final int shardCount)
+        {
+            this.senderShardCount = shardCount;
+            return this;
+        }
+
+        /**
+         * Get the group tag (gtag) to be sent in Status Messages from the Receiver.
+         *
+         * @return group tag value or null if not set.
+         * @see Configuration#RECEIVER_GROUP_TAG_PROP_NAME
+         */
+        public Long receiverGroupTag()
+        {
+            return receiverGroupTag;
+        }
+
+        /**
+         * Set the group tag (gtag) to be sent in Status Messages from the Receiver.
+         *
+         * @param groupTag value to sent in Status Messages from the receiver or null if not set.
+         * @return this for fluent API.
+         * @see Configuration#RECEIVER_GROUP_TAG_PROP_NAME
+         */
+        public Context receiverGroupTag(final Long groupTag)
+        {
+            this.receiverGroupTag = groupTag;
             return this;
         }
 
@@ -3050,6 +3941,32 @@ public final class MediaDriver implements AutoCloseable
             return conductorCycleThresholdNs;
         }
 
+        /**
+         * Set a threshold for the work cycle time of a sender shard which when exceeded will increment the cycle time
+         * threshold exceeded counter of the shard. Only tracked when running with {@link ThreadingMode#SHARDED}.
+         *
+         * @param thresholdNs value in nanoseconds
+         * @return this for fluent API.
+         * @see Configuration#SENDER_CYCLE_THRESHOLD_PROP_NAME
+         * @see Configuration#SENDER_CYCLE_THRESHOLD_DEFAULT_NS
+         */
+        public Context senderCycleThresholdNs(final long thresholdNs)
+        {
+            this.senderCycleThresholdNs = thresholdNs;
+            return this;
+        }
+
+        /**
+         * Threshold for the work cycle time of a sender shard which when exceeded will increment the cycle time
+         * threshold exceeded counter of the shard.
+         *
+         * @return threshold to track for the work cycle time of a sender shard.
+         */
+        public long senderCycleThresholdNs()
+        {
+            return senderCycleThresholdNs;
+        }
+
         OneToOneConcurrentArrayQueue<Runnable> receiverCommandQueue()
         {
             return receiverCommandQueue;
@@ -3105,6 +4022,17 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        RingBuffer[] toDriverStripes()
+        {
+            return toDriverStripes;
+        }
+
+        Context toDriverStripes(final RingBuffer[] toDriverStripes)
+        {
+            this.toDriverStripes = toDriverStripes;
+            return this;
+        }
+
         LogFactory logFactory()
         {
             return logFactory;
@@ -3149,6 +4077,92 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        Context[] receiverShards()
+        {
+            return receiverShards;
+        }
+
+        Context receiverShards(final Context[] receiverShards)
+        {
+            this.receiverShards = receiverShards;
+            return this;
+        }
+
+        int receiverShardIndex()
+        {
+            return receiverShardIndex;
+        }
+
+        Context receiverShardIndex(final int shardIndex)
+        {
+            this.receiverShardIndex = shardIndex;
+            return this;
+        }
+
+        Context[] senderShards()
+        {
+            return senderShards;
+        }
+
+        Context senderShards(final Context[] senderShards)
+        {
+            this.senderShards = senderShards;
+            return this;
+        }
+
+        int senderShardIndex()
+        {
+            return senderShardIndex;
+        }
+
+        Context senderShardIndex(final int shardIndex)
+        {
+            this.senderShardIndex = shardIndex;
+            return this;
+        }
+
+        AtomicCounter senderMaxCycleTime()
+        {
+            return senderMaxCycleTime;
+        }
+
+        Context senderMaxCycleTime(final AtomicCounter counter)
+        {
+            this.senderMaxCycleTime = counter;
+            return this;
+        }
+
+        AtomicCounter senderCycleTimeThresholdExceeded()
+        {
+            return senderCycleTimeThresholdExceeded;
+        }
+
+        Context senderCycleTimeThresholdExceeded(final AtomicCounter counter)
+        {
+            this.senderCycleTimeThresholdExceeded = counter;
+            return this;
+        }
+
+        IdleStrategy[] senderIdleStrategies()
+        {
+            return senderIdleStrategies;
+        }
+
+        IdleStrategy[] receiverIdleStrategies()
+        {
+            return receiverIdleStrategies;
+        }
+
+        DataTransportPoller newDataTransportPoller()
+        {
+            return new DataTransportPoller(
+                errorHandler,
+                transportPollerIterationThreshold,
+                receiverBatchSize,
+                systemCounters.get(RECEIVER_BATCH_POLLS),
+                systemCounters.get(RECEIVER_BATCH_DATAGRAMS));
+        }
+
         SenderProxy senderProxy()
         {
             return senderProxy;
@@ -3229,14 +4243,14 @@ public final class MediaDriver implements AutoCloseable
                 receiveChannelEndpointSupplier = Configuration.receiveChannelEndpointSupplier();
             }
 
-            if (null == dataTransportPoller)
+            if (null == udpSendBatcherSupplier)
             {
-                dataTransportPoller = new DataTransportPoller(errorHandler);
+                udpSendBatcherSupplier = Configuration.udpSendBatcherSupplier();
             }
 
-            if (null == controlTransportPoller)
+            if (null == senderDutyCyclePolicySupplier)
             {
-                controlTransportPoller = new ControlTransportPoller(errorHandler);
+                senderDutyCyclePolicySupplier = Configuration.senderDutyCyclePolicySupplier();
             }
 
             if (null == applicationSpecificFeedback)
@@ -3316,6 +4330,11 @@ public final class MediaDriver implements AutoCloseable
                 terminationValidator = Configuration.terminationValidator();
             }
 
+            if (null == threadAffinity)
+            {
+                threadAffinity = Configuration.threadAffinity();
+            }
+
             if (null == nameResolver)
             {
                 nameResolver = DefaultNameResolver.INSTANCE;
@@ -3328,6 +4347,12 @@ public final class MediaDriver implements AutoCloseable
                 createToClientsBuffer(cncByteBuffer, cncMetaDataBuffer)));
 
             toDriverCommands = new ManyToOneRingBuffer(createToDriverBuffer(cncByteBuffer, cncMetaDataBuffer));
+            toDriverStripes = new RingBuffer[conductorBufferStripeCount];
+            for (int i = 0; i < conductorBufferStripeCount; i++)
+            {
+                toDriverStripes[i] = new ManyToOneRingBuffer(
+                    createToDriverStripeBuffer(cncByteBuffer, cncMetaDataBuffer, i));
+            }
 
             if (null == errorLog)
             {
@@ -3347,10 +4372,48 @@ public final class MediaDriver implements AutoCloseable
             driverConductorProxy = new DriverConductorProxy(
                 threadingMode, driverCommandQueue, systemCounters.get(CONDUCTOR_PROXY_FAILS));
 
+            if (null == dataTransportPoller)
+            {
+                dataTransportPoller = newDataTransportPoller();
+            }
+
+            if (null == controlTransportPoller)
+            {
+                controlTransportPoller = new ControlTransportPoller(errorHandler, transportPollerIterationThreshold);
+            }
+
             if (null == logFactory)
             {
-                logFactory = new FileStoreLogFactory(
-                    aeronDirectoryName(), filePageSize, performStorageChecks, lowStorageWarningThreshold, errorHandler);
+                final FileStoreLogFactory fileStoreLogFactory = new FileStoreLogFactory(
+                    aeronDirectoryName(),
+                    logBuffersDirectory().getAbsolutePath(),
+                    filePageSize,
+                    performStorageChecks,
+                    lowStorageWarningThreshold,
+                    preFaultLogBuffers,
+                    nanoClock,
+                    systemCounters.get(LOG_BUFFER_PRE_FAULT_TIME),
+                    errorHandler);
+
+                if (logBufferPoolSize > 0)
+                {
+                    logFactory = new PooledLogFactory(
+                        fileStoreLogFactory,
+                        logBufferPoolSize,
+                        new int[]{ publicationTermBufferLength, ipcTermBufferLength },
+                        systemCounters.get(LOG_BUFFER_POOL_HITS),
+                        systemCounters.get(LOG_BUFFER_POOL_MISSES),
+                        errorHandler);
+                }
+                else
+                {
+                    logFactory = fileStoreLogFactory;
+                }
+            }
+
+            if (imageLogAsyncAllocation && !(logFactory instanceof SynchronizedLogFactory))
+            {
+                logFactory = new SynchronizedLogFactory(logFactory);
             }
 
             if (null == lossReport)
@@ -3358,6 +4421,23 @@ public final class MediaDriver implements AutoCloseable
                 lossReportBuffer = mapLossReport(aeronDirectoryName(), align(lossReportBufferLength, filePageSize));
                 lossReport = new LossReport(new UnsafeBuffer(lossReportBuffer));
             }
+
+            if (latencyReportEnabled && null == latencyReport)
+            {
+                latencyReportBuffer = mapLatencyReport(
+                    aeronDirectoryName(), align(LatencyReport.REPORT_LENGTH, filePageSize));
+                latencyReport = new LatencyReport(new UnsafeBuffer(latencyReportBuffer));
+            }
+        }
+
+        private File logBuffersDirectory()
+        {
+            if (null == logBuffersDirectoryName)
+            {
+                return aeronDirectory();
+            }
+
+            return new File(logBuffersDirectoryName, aeronDirectory().getName());
         }
 
         private void concludeCounters()
@@ -3431,6 +4511,7 @@ public final class MediaDriver implements AutoCloseable
                     break;
 
                 case DEDICATED:
+                case SHARDED:
                     if (null == conductorThreadFactory)
                     {
                         conductorThreadFactory = Thread::new;
@@ -3455,6 +4536,22 @@ public final class MediaDriver implements AutoCloseable
                     {
                         receiverIdleStrategy = Configuration.receiverIdleStrategy(indicator);
                     }
+                    if (ThreadingMode.SHARDED == threadingMode)
+                    {
+                        receiverIdleStrategies = new IdleStrategy[receiverShardCount];
+                        receiverIdleStrategies[0] = receiverIdleStrategy;
+                        for (int i = 1; i < receiverShardCount; i++)
+                        {
+                            receiverIdleStrategies[i] = Configuration.receiverIdleStrategy(indicator);
+                        }
+
+                        senderIdleStrategies = new IdleStrategy[senderShardCount];
+                        senderIdleStrategies[0] = senderIdleStrategy;
+                        for (int i = 1; i < senderShardCount; i++)
+                        {
+                            senderIdleStrategies[i] = Configuration.senderIdleStrategy(indicator);
+                        }
+                    }
                     break;
             }
         }
@@ -3476,6 +4573,11 @@ public final class MediaDriver implements AutoCloseable
                 "\n    dirDeleteOnStart=" + dirDeleteOnStart +
                 "\n    dirDeleteOnShutdown=" + dirDeleteOnShutdown +
                 "\n    termBufferSparseFile=" + termBufferSparseFile +
+                "\n    preTouchLogBuffers=" + preTouchLogBuffers +
+                "\n    preTouchPageBudget=" + preTouchPageBudget +
+                "\n    preFaultLogBuffers=" + preFaultLogBuffers +
+                "\n    logBuffersDirectoryName=" + logBuffersDirectoryName +
+                "\n    logBufferPoolSize=" + logBufferPoolSize +
                 "\n    performStorageChecks=" + performStorageChecks +
                 "\n    spiesSimulateConnection=" + spiesSimulateConnection +
                 "\n    reliableStream=" + reliableStream +
@@ -3483,6 +4585,7 @@ public final class MediaDriver implements AutoCloseable
                 "\n    rejoinStream=" + rejoinStream +
                 "\n    receiverGroupConsideration=" + receiverGroupConsideration +
                 "\n    conductorBufferLength=" + conductorBufferLength +
+                "\n    conductorBufferStripeCount=" + conductorBufferStripeCount +
                 "\n    toClientsBufferLength=" + toClientsBufferLength +
                 "\n    counterValuesBufferLength=" + counterValuesBufferLength +
                 "\n    errorBufferLength=" + errorBufferLength +
@@ -3503,6 +4606,7 @@ public final class MediaDriver implements AutoCloseable
                 "\n    statusMessageTimeoutNs=" + statusMessageTimeoutNs +
                 "\n    counterFreeToReuseTimeoutNs=" + counterFreeToReuseTimeoutNs +
                 "\n    conductorCycleThresholdNs=" + conductorCycleThresholdNs +
+                "\n    senderCycleThresholdNs=" + senderCycleThresholdNs +
                 "\n    publicationTermBufferLength=" + publicationTermBufferLength +
                 "\n    ipcTermBufferLength=" + ipcTermBufferLength +
                 "\n    publicationTermWindowLength=" + publicationTermWindowLength +
@@ -3517,6 +4621,7 @@ public final class MediaDriver implements AutoCloseable
                 "\n    publicationReservedSessionIdLow=" + publicationReservedSessionIdLow +
                 "\n    publicationReservedSessionIdHigh=" + publicationReservedSessionIdHigh +
                 "\n    lossReportBufferLength=" + lossReportBufferLength +
+                "\n    latencyReportEnabled=" + latencyReportEnabled +
                 "\n    epochClock=" + epochClock +
                 "\n    nanoClock=" + nanoClock +
                 "\n    cachedEpochClock=" + cachedEpochClock +
@@ -3527,12 +4632,18 @@ public final class MediaDriver implements AutoCloseable
                 "\n    receiverThreadFactory=" + receiverThreadFactory +
                 "\n    sharedThreadFactory=" + sharedThreadFactory +
                 "\n    sharedNetworkThreadFactory=" + sharedNetworkThreadFactory +
+                "\n    conductorCpuAffinity=" + Arrays.toString(conductorCpuAffinity) +
+                "\n    senderCpuAffinity=" + Arrays.toString(senderCpuAffinity) +
+                "\n    receiverCpuAffinity=" + Arrays.toString(receiverCpuAffinity) +
+                "\n    threadAffinity=" + threadAffinity +
                 "\n    conductorIdleStrategy=" + conductorIdleStrategy +
                 "\n    senderIdleStrategy=" + senderIdleStrategy +
                 "\n    receiverIdleStrategy=" + receiverIdleStrategy +
                 "\n    sharedNetworkIdleStrategy=" + sharedNetworkIdleStrategy +
                 "\n    sharedIdleStrategy=" + sharedIdleStrategy +
                 "\n    sendChannelEndpointSupplier=" + sendChannelEndpointSupplier +
+                "\n    udpSendBatcherSupplier=" + udpSendBatcherSupplier +
+                "\n    senderDutyCyclePolicySupplier=" + senderDutyCyclePolicySupplier +
                 "\n    receiveChannelEndpointSupplier=" + receiveChannelEndpointSupplier +
                 "\n    receiveChannelEndpointThreadLocals=" + receiveChannelEndpointThreadLocals +
                 "\n    tempBuffer=" + tempBuffer +
@@ -3553,6 +4664,17 @@ public final class MediaDriver implements AutoCloseable
                 "\n    resolverInterface=" + resolverInterface +
                 "\n    resolverBootstrapNeighbor=" + resolverBootstrapNeighbor +
                 "\n    sendToStatusMessagePollRatio=" + sendToStatusMessagePollRatio +
+                "\n    senderDutyCycleMaxRatio=" + senderDutyCycleMaxRatio +
+                "\n    retransmitBudget=" + retransmitBudget +
+                "\n    lossDetectionBitmap=" + lossDetectionBitmap +
+                "\n    nakMaxGaps=" + nakMaxGaps +
+                "\n    imageSetupBudget=" + imageSetupBudget +
+                "\n    imageLogAsyncAllocation=" + imageLogAsyncAllocation +
+                "\n    senderBatchSize=" + senderBatchSize +
+                "\n    receiverBatchSize=" + receiverBatchSize +
+                "\n    transportPollerIterationThreshold=" + transportPollerIterationThreshold +
+                "\n    receiverShardCount=" + receiverShardCount +
+                "\n    senderShardCount=" + senderShardCount +
                 "\n    unicastFeedbackDelayGenerator=" + unicastFeedbackDelayGenerator +
                 "\n    multicastFeedbackDelayGenerator=" + multicastFeedbackDelayGenerator +
                 "\n    retransmitUnicastDelayGenerator=" + retransmitUnicastDelayGenerator +
@@ -3563,6 +4685,7 @@ public final class MediaDriver implements AutoCloseable
                 "\n    countersManager=" + countersManager +
                 "\n    systemCounters=" + systemCounters +
                 "\n    lossReport=" + lossReport +
+                "\n    latencyReport=" + latencyReport +
                 "\n    logFactory=" + logFactory +
                 "\n    dataTransportPoller=" + dataTransportPoller +
                 "\n    controlTransportPoller=" + controlTransportPoller +
@@ -3575,6 +4698,7 @@ public final class MediaDriver implements AutoCloseable
                 "\n    clientProxy=" + clientProxy +
                 "\n    toDriverCommands=" + toDriverCommands +
                 "\n    lossReportBuffer=" + lossReportBuffer +
+                "\n    latencyReportBuffer=" + latencyReportBuffer +
                 "\n    cncByteBuffer=" + cncByteBuffer +
                 "\n    cncMetaDataBuffer=" + cncMetaDataBuffer +
                 "\n}";
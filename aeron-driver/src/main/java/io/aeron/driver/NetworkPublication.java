@@ -66,6 +66,7 @@ class NetworkPublicationConductorFields extends NetworkPublicationPadding1
     int refCount = 0;
     ReadablePosition[] spyPositions = EMPTY_POSITIONS;
     final ArrayList<UntetheredSubscription> untetheredSubscriptions = new ArrayList<>();
+    final ArrayList<UntetheredSubscription> detachedSpies = new ArrayList<>();
 }
 
 class NetworkPublicationPadding2 extends NetworkPublicationConductorFields
@@ -81,6 +82,7 @@ class NetworkPublicationSenderFields extends NetworkPublicationPadding2
     long timeOfLastDataOrHeartbeatNs;
     long timeOfLastSetupNs;
     long timeOfLastStatusMessageNs;
+    int senderLimitStalls;
     boolean trackSenderLimits = false;
     boolean isSetupElicited = false;
     boolean hasInitialConnection = false;
@@ -122,6 +124,7 @@ public final class NetworkPublication
     private final int sessionId;
     private final int streamId;
     private final boolean isExclusive;
+    private final boolean isPreTouchLog;
     private final boolean spiesSimulateConnection;
     private final boolean signalEos;
     private volatile boolean hasReceivers;
@@ -154,6 +157,7 @@ public final class NetworkPublication
     private final AtomicCounter retransmitsSent;
     private final AtomicCounter senderFlowControlLimits;
     private final AtomicCounter senderBpe;
+    private final SendPacer sendPacer;
     private final AtomicCounter shortSends;
     private final AtomicCounter unblockedPublications;
 
@@ -169,6 +173,7 @@ public final class NetworkPublication
         final Position senderPosition,
         final Position senderLimit,
         final AtomicCounter senderBpe,
+        final SendPacer sendPacer,
         final int sessionId,
         final int streamId,
         final int initialTermId,
@@ -200,6 +205,7 @@ public final class NetworkPublication
         this.spiesSimulateConnection = params.spiesSimulateConnection;
         this.signalEos = params.signalEos;
         this.isExclusive = isExclusive;
+        this.isPreTouchLog = !params.isSparse && ctx.preTouchLogBuffers();
 
         metaDataBuffer = rawLog.metaData();
         setupBuffer = threadLocals.setupBuffer();
@@ -216,6 +222,7 @@ public final class NetworkPublication
         senderFlowControlLimits = systemCounters.get(SENDER_FLOW_CONTROL_LIMITS);
         unblockedPublications = systemCounters.get(UNBLOCKED_PUBLICATIONS);
         this.senderBpe = senderBpe;
+        this.sendPacer = sendPacer;
 
         termBuffers = rawLog.termBuffers();
         sendBuffers = rawLog.sliceTerms();
@@ -256,6 +263,7 @@ public final class NetworkPublication
         CloseHelper.close(errorHandler, senderPosition);
         CloseHelper.close(errorHandler, senderLimit);
         CloseHelper.close(errorHandler, senderBpe);
+        CloseHelper.close(errorHandler, sendPacer);
         CloseHelper.closeAll(errorHandler, spyPositions);
 
         for (int i = 0, size = untetheredSubscriptions.size(); i < size; i++)
@@ -267,6 +275,11 @@ public final class NetworkPublication
             }
         }
 
+        for (int i = 0, size = detachedSpies.size(); i < size; i++)
+        {
+            CloseHelper.close(errorHandler, detachedSpies.get(i).position);
+        }
+
         CloseHelper.close(errorHandler, rawLog);
     }
 
@@ -328,6 +341,12 @@ public final class NetworkPublication
     public void addSubscriber(
         final SubscriptionLink subscriptionLink, final ReadablePosition position, final long nowNs)
     {
+        if (subscriptionLink.isDetached())
+        {
+            detachedSpies.add(new UntetheredSubscription(subscriptionLink, position, nowNs));
+            return;
+        }
+
         spyPositions = ArrayUtil.add(spyPositions, position);
         hasSpies = true;
 
@@ -348,6 +367,13 @@ public final class NetworkPublication
      */
     public void removeSubscriber(final SubscriptionLink subscriptionLink, final ReadablePosition position)
     {
+        if (subscriptionLink.isDetached())
+        {
+            removeDetachedSpy(subscriptionLink);
+            position.close();
+            return;
+        }
+
         spyPositions = ArrayUtil.remove(spyPositions, position);
         hasSpies = spyPositions.length > 0;
         position.close();
@@ -523,6 +549,14 @@ public final class NetworkPublication
         return bytesSent;
     }
 
+    int pollSenderLimitStalls()
+    {
+        final int stalls = senderLimitStalls;
+        senderLimitStalls = 0;
+
+        return stalls;
+    }
+
     SendChannelEndpoint channelEndpoint()
     {
         return channelEndpoint;
@@ -563,6 +597,21 @@ public final class NetworkPublication
         return isExclusive;
     }
 
+    boolean isPreTouchLog()
+    {
+        return isPreTouchLog;
+    }
+
+    boolean isPaced()
+    {
+        return null != sendPacer && sendPacer.isPaced();
+    }
+
+    long sendRate()
+    {
+        return null != sendPacer ? sendPacer.bytesPerSecond() : 0;
+    }
+
     boolean spiesSimulateConnection()
     {
         return spiesSimulateConnection;
@@ -619,6 +668,11 @@ public final class NetworkPublication
         return hasSpies;
     }
 
+    boolean hasDetachedSpies()
+    {
+        return !detachedSpies.isEmpty();
+    }
+
     void updateHasReceivers(final long timeNs)
     {
         if (((timeOfLastStatusMessageNs + connectionTimeoutNs) - timeNs < 0) && hasReceivers)
@@ -638,6 +692,18 @@ public final class NetworkPublication
 
             final long scanOutcome = scanForAvailability(termBuffers[activeIndex], termOffset, scanLimit);
             final int available = available(scanOutcome);
+            if (null != sendPacer)
+            {
+                if (available <= 0)
+                {
+                    sendPacer.onIdle();
+                }
+                else if (!sendPacer.isSendPermitted(nowNs))
+                {
+                    return 0;
+                }
+            }
+
             if (available > 0)
             {
                 final ByteBuffer sendBuffer = sendBuffers[activeIndex];
@@ -650,6 +716,10 @@ public final class NetworkPublication
 
                     bytesSent = available;
                     this.senderPosition.setOrdered(senderPosition + bytesSent + padding(scanOutcome));
+                    if (null != sendPacer)
+                    {
+                        sendPacer.onBytesSent(available);
+                    }
                 }
                 else
                 {
@@ -657,11 +727,20 @@ public final class NetworkPublication
                 }
             }
         }
-        else if (trackSenderLimits)
+        else
         {
-            trackSenderLimits = false;
-            senderBpe.incrementOrdered();
-            senderFlowControlLimits.incrementOrdered();
+            if (null != sendPacer)
+            {
+                sendPacer.onIdle();
+            }
+
+            if (trackSenderLimits)
+            {
+                trackSenderLimits = false;
+                senderLimitStalls++;
+                senderBpe.incrementOrdered();
+                senderFlowControlLimits.incrementOrdered();
+            }
         }
 
         return bytesSent;
@@ -787,6 +866,10 @@ public final class NetworkPublication
             hasSpies = false;
             conductor.cleanupSpies(this);
         }
+        else if (!detachedSpies.isEmpty())
+        {
+            conductor.cleanupSpies(this);
+        }
 
         return true;
     }
@@ -873,6 +956,51 @@ public final class NetworkPublication
         }
     }
 
+    private void checkDetachedSpies(final long nowNs, final DriverConductor conductor)
+    {
+        final ArrayList<UntetheredSubscription> detachedSpies = this.detachedSpies;
+        for (int i = 0, size = detachedSpies.size(); i < size; i++)
+        {
+            final UntetheredSubscription detachedSpy = detachedSpies.get(i);
+            if (UntetheredSubscription.State.ACTIVE == detachedSpy.state)
+            {
+                // Cleaning never passes a term behind the sender position so data above this limit is intact.
+                final long senderPosition = this.senderPosition.getVolatile();
+                final long detachedWindowLimit = (senderPosition - termBufferLength) + (termBufferLength >> 2);
+
+                if (detachedSpy.position.getVolatile() < detachedWindowLimit)
+                {
+                    conductor.notifyUnavailableImageLink(registrationId, detachedSpy.subscriptionLink);
+                    detachedSpy.state(UntetheredSubscription.State.RESTING, nowNs, streamId, sessionId);
+                }
+            }
+            else if ((detachedSpy.timeOfLastUpdateNs + untetheredRestingTimeoutNs) - nowNs <= 0)
+            {
+                conductor.notifyAvailableImageLink(
+                    registrationId,
+                    sessionId,
+                    detachedSpy.subscriptionLink,
+                    detachedSpy.position.id(),
+                    senderPosition.getVolatile(),
+                    rawLog.fileName(),
+                    CommonContext.IPC_CHANNEL);
+                detachedSpy.state(UntetheredSubscription.State.ACTIVE, nowNs, streamId, sessionId);
+            }
+        }
+    }
+
+    private void removeDetachedSpy(final SubscriptionLink subscriptionLink)
+    {
+        for (int lastIndex = detachedSpies.size() - 1, i = lastIndex; i >= 0; i--)
+        {
+            if (detachedSpies.get(i).subscriptionLink == subscriptionLink)
+            {
+                ArrayListUtil.fastUnorderedRemove(detachedSpies, i, lastIndex);
+                break;
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -890,6 +1018,7 @@ public final class NetworkPublication
                     checkForBlockedPublisher(producerPosition, senderPosition.getVolatile(), timeNs);
                 }
                 checkUntetheredSubscriptions(timeNs, conductor);
+                checkDetachedSpies(timeNs, conductor);
                 break;
             }
 
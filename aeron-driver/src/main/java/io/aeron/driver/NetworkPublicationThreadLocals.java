@@ -60,6 +60,7 @@ final class NetworkPublicationThreadLocals
 
         setupHeader
             .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags(SetupFlyweight.MULTI_GAP_NAK_FLAG)
             .headerType(HeaderFlyweight.HDR_TYPE_SETUP)
             .frameLength(SetupFlyweight.HEADER_LENGTH);
 
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.Aeron;
+import io.aeron.driver.buffer.RawLog;
+import io.aeron.driver.media.ReceiveChannelEndpoint;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Setup of a {@link PublicationImage} requested by a setup frame which is staged by the {@link DriverConductor} over
+ * duty cycles while within budget and while its log buffer is allocated.
+ */
+final class PendingImageSetup
+{
+    final int sessionId;
+    final int streamId;
+    final int initialTermId;
+    final int activeTermId;
+    final int initialTermOffset;
+    final int termBufferLength;
+    final int senderMtuLength;
+    final int transportIndex;
+    final InetSocketAddress controlAddress;
+    final InetSocketAddress sourceAddress;
+    final ReceiveChannelEndpoint channelEndpoint;
+    final boolean isMultiGapNak;
+    long registrationId = Aeron.NULL_VALUE;
+    boolean useSparseFile;
+    boolean preTouchLog;
+    RawLog rawLog;
+    Throwable error;
+
+    PendingImageSetup(
+        final int sessionId,
+        final int streamId,
+        final int initialTermId,
+        final int activeTermId,
+        final int initialTermOffset,
+        final int termBufferLength,
+        final int senderMtuLength,
+        final int transportIndex,
+        final InetSocketAddress controlAddress,
+        final InetSocketAddress sourceAddress,
+        final ReceiveChannelEndpoint channelEndpoint,
+        final boolean isMultiGapNak)
+    {
+        this.sessionId = sessionId;
+        this.streamId = streamId;
+        this.initialTermId = initialTermId;
+        this.activeTermId = activeTermId;
+        this.initialTermOffset = initialTermOffset;
+        this.termBufferLength = termBufferLength;
+        this.senderMtuLength = senderMtuLength;
+        this.transportIndex = transportIndex;
+        this.controlAddress = controlAddress;
+        this.sourceAddress = sourceAddress;
+        this.channelEndpoint = channelEndpoint;
+        this.isMultiGapNak = isMultiGapNak;
+    }
+}
@@ -20,6 +20,8 @@ import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.media.ImageConnection;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.ReceiveDestinationTransport;
+import io.aeron.driver.reports.LatencyHistogram;
+import io.aeron.driver.reports.LatencyHistogramDescriptor;
 import io.aeron.driver.reports.LossReport;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.LogBufferDescriptor;
@@ -131,6 +133,11 @@ public final class PublicationImage
     private int lossTermId;
     private int lossTermOffset;
     private int lossLength;
+    private int lossGapCount;
+    private final int[] lossTermOffsets;
+    private final int[] lossLengths;
+    private final int[] nakTermOffsets;
+    private final int[] nakLengths;
     private long lastLossChangeNumber = Aeron.NULL_VALUE;
 
     private long timeOfLastStateChangeNs;
@@ -145,6 +152,7 @@ public final class PublicationImage
     private final int termLengthMask;
     private final int initialTermId;
     private final boolean isReliable;
+    private final boolean isPreTouchLog;
 
     private boolean isRebuilding = true;
     private volatile State state = State.INIT;
@@ -154,7 +162,9 @@ public final class PublicationImage
     private final UnsafeBuffer[] termBuffers;
     private final Position hwmPosition;
     private final LossDetector lossDetector;
+    private final ReceivedBlockBitmap receivedBlocks;
     private final CongestionControl congestionControl;
+    private final LatencyHistogram rttHistogram;
     private final ErrorHandler errorHandler;
     private final Position rebuildPosition;
     private final InetSocketAddress sourceAddress;
@@ -185,7 +195,9 @@ public final class PublicationImage
         final Position hwmPosition,
         final Position rebuildPosition,
         final InetSocketAddress sourceAddress,
-        final CongestionControl congestionControl)
+        final CongestionControl congestionControl,
+        final boolean isMultiGapNak,
+        final boolean isPreTouchLog)
     {
         this.correlationId = correlationId;
         this.imageLivenessTimeoutNs = ctx.imageLivenessTimeoutNs();
@@ -201,6 +213,7 @@ public final class PublicationImage
         this.sourceAddress = sourceAddress;
         this.initialTermId = initialTermId;
         this.congestionControl = congestionControl;
+        this.rttHistogram = ctx.latencyHistogram(LatencyHistogramDescriptor.RTT_MEASUREMENT);
         this.errorHandler = ctx.errorHandler();
         this.lossReport = ctx.lossReport();
 
@@ -214,6 +227,7 @@ public final class PublicationImage
 
         this.subscriberPositions = positionArray(subscriberPositions, nowNs);
         this.isReliable = subscriberPositions.get(0).subscription().isReliable();
+        this.isPreTouchLog = isPreTouchLog;
 
         final SystemCounters systemCounters = ctx.systemCounters();
         heartbeatsReceived = systemCounters.get(HEARTBEATS_RECEIVED);
@@ -227,7 +241,14 @@ public final class PublicationImage
         imageConnections[transportIndex] = new ImageConnection(nowNs, controlAddress);
 
         termBuffers = rawLog.termBuffers();
-        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this);
+        final int maxNakGaps = isMultiGapNak ? ctx.nakMaxGaps() : 1;
+        lossTermOffsets = new int[maxNakGaps];
+        lossLengths = new int[maxNakGaps];
+        nakTermOffsets = new int[maxNakGaps];
+        nakLengths = new int[maxNakGaps];
+
+        receivedBlocks = ctx.lossDetectionBitmap() ? new ReceivedBlockBitmap(rawLog.termLength()) : null;
+        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this, receivedBlocks, maxNakGaps);
 
         final int termLength = rawLog.termLength();
         termLengthMask = termLength - 1;
@@ -366,21 +387,35 @@ public final class PublicationImage
         lossTermId = termId;
         lossTermOffset = termOffset;
         lossLength = length;
+        lossGapCount = 1;
         endLossChange = changeNumber;
 
-        if (null != reportEntry)
-        {
-            reportEntry.recordObservation(length, epochClock.time());
-        }
-        else if (null != lossReport)
-        {
-            final String source = Configuration.sourceIdentity(sourceAddress);
-            reportEntry = lossReport.createEntry(length, epochClock.time(), sessionId, streamId, channel(), source);
+        recordLoss(length);
+    }
 
-            if (null == reportEntry)
-            {
-                lossReport = null;
-            }
+    /**
+     * Called from the {@link LossDetector} when multiple gaps are detected by the {@link DriverConductor} thread
+     * and the source has negotiated NAKs for multiple gaps.
+     * <p>
+     * {@inheritDoc}
+     */
+    public void onGapsDetected(final int termId, final int gapCount, final int[] termOffsets, final int[] lengths)
+    {
+        final int count = Math.min(gapCount, lossTermOffsets.length);
+        final long changeNumber = beginLossChange + 1;
+
+        beginLossChange = changeNumber;
+        lossTermId = termId;
+        lossTermOffset = termOffsets[0];
+        lossLength = lengths[0];
+        System.arraycopy(termOffsets, 0, lossTermOffsets, 0, count);
+        System.arraycopy(lengths, 0, lossLengths, 0, count);
+        lossGapCount = count;
+        endLossChange = changeNumber;
+
+        for (int i = 0; i < count; i++)
+        {
+            recordLoss(lengths[i]);
         }
     }
 
@@ -423,6 +458,16 @@ public final class PublicationImage
         return rawLog;
     }
 
+    /**
+     * Should the {@link Receiver} pre-touch the log before adding the image to the dispatcher.
+     *
+     * @return true if the {@link Receiver} should pre-touch the log before adding the image to the dispatcher.
+     */
+    boolean isPreTouchLog()
+    {
+        return isPreTouchLog;
+    }
+
     /**
      * Activate this image from the {@link Receiver}
      */
@@ -571,8 +616,13 @@ public final class PublicationImage
                 }
                 else
                 {
-                    final UnsafeBuffer termBuffer = termBuffers[indexByPosition(packetPosition, positionBitsToShift)];
-                    TermRebuilder.insert(termBuffer, termOffset, buffer, length);
+                    final int index = indexByPosition(packetPosition, positionBitsToShift);
+                    TermRebuilder.insert(termBuffers[index], termOffset, buffer, length);
+
+                    if (null != receivedBlocks)
+                    {
+                        receivedBlocks.markInserted(index, termBuffers[index], termOffset, length);
+                    }
                 }
 
                 hwmPosition.proposeMaxOrdered(proposedPosition);
@@ -662,6 +712,12 @@ public final class PublicationImage
             final int termId = lossTermId;
             final int termOffset = lossTermOffset;
             final int length = lossLength;
+            final int gapCount = lossGapCount;
+            if (gapCount > 1)
+            {
+                System.arraycopy(lossTermOffsets, 0, nakTermOffsets, 0, gapCount);
+                System.arraycopy(lossLengths, 0, nakLengths, 0, gapCount);
+            }
 
             UNSAFE.loadFence();
 
@@ -669,17 +725,30 @@ public final class PublicationImage
             {
                 if (isReliable)
                 {
-                    channelEndpoint.sendNakMessage(imageConnections, sessionId, streamId, termId, termOffset, length);
+                    if (gapCount > 1)
+                    {
+                        channelEndpoint.sendNakMessage(
+                            imageConnections, sessionId, streamId, termId, gapCount, nakTermOffsets, nakLengths);
+                    }
+                    else
+                    {
+                        channelEndpoint.sendNakMessage(
+                            imageConnections, sessionId, streamId, termId, termOffset, length);
+                    }
+
                     nakMessagesSent.incrementOrdered();
                 }
-                else
+                else if (gapCount > 1)
                 {
-                    final UnsafeBuffer termBuffer = termBuffers[indexByTerm(initialTermId, termId)];
-                    if (tryFillGap(rawLog.metaData(), termBuffer, termId, termOffset, length))
+                    for (int i = 0; i < gapCount; i++)
                     {
-                        lossGapFills.incrementOrdered();
+                        fillGap(termId, nakTermOffsets[i], nakLengths[i]);
                     }
                 }
+                else
+                {
+                    fillGap(termId, termOffset, length);
+                }
 
                 lastLossChangeNumber = changeNumber;
             }
@@ -727,6 +796,10 @@ public final class PublicationImage
         final long rttInNs = nowNs - header.echoTimestampNs() - header.receptionDelta();
 
         congestionControl.onRttMeasurement(nowNs, rttInNs, srcAddress);
+        if (null != rttHistogram)
+        {
+            rttHistogram.record(rttInNs);
+        }
     }
 
     boolean isAcceptingSubscriptions()
@@ -830,18 +903,56 @@ public final class PublicationImage
         return isFlowControlOverRun;
     }
 
+    private void fillGap(final int termId, final int termOffset, final int length)
+    {
+        final int index = indexByTerm(initialTermId, termId);
+        if (tryFillGap(rawLog.metaData(), termBuffers[index], termId, termOffset, length))
+        {
+            if (null != receivedBlocks)
+            {
+                receivedBlocks.markInserted(index, termBuffers[index], termOffset, length);
+            }
+
+            lossGapFills.incrementOrdered();
+        }
+    }
+
+    private void recordLoss(final int length)
+    {
+        if (null != reportEntry)
+        {
+            reportEntry.recordObservation(length, epochClock.time());
+        }
+        else if (null != lossReport)
+        {
+            final String source = Configuration.sourceIdentity(sourceAddress);
+            reportEntry = lossReport.createEntry(length, epochClock.time(), sessionId, streamId, channel(), source);
+
+            if (null == reportEntry)
+            {
+                lossReport = null;
+            }
+        }
+    }
+
     private void cleanBufferTo(final long position)
     {
         final long cleanPosition = this.cleanPosition;
         if (position > cleanPosition)
         {
             final int bytesForCleaning = (int)(position - cleanPosition);
-            final UnsafeBuffer dirtyTerm = termBuffers[indexByPosition(cleanPosition, positionBitsToShift)];
+            final int index = indexByPosition(cleanPosition, positionBitsToShift);
+            final UnsafeBuffer dirtyTerm = termBuffers[index];
             final int termOffset = (int)cleanPosition & termLengthMask;
             final int length = Math.min(bytesForCleaning, dirtyTerm.capacity() - termOffset);
 
             dirtyTerm.setMemory(termOffset, length - SIZE_OF_LONG, (byte)0);
             dirtyTerm.putLongOrdered(termOffset + (length - SIZE_OF_LONG), 0);
+
+            if (null != receivedBlocks)
+            {
+                receivedBlocks.clear(index, termOffset, length);
+            }
             this.cleanPosition = cleanPosition + length;
         }
     }
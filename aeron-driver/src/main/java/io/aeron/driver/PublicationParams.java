@@ -28,17 +28,20 @@ final class PublicationParams
 {
     long lingerTimeoutNs;
     long entityTag = ChannelUri.INVALID_TAG;
+    long sendRate = 0;
     int termLength;
     int mtuLength;
     int initialTermId = 0;
     int termId = 0;
     int termOffset = 0;
     int sessionId = 0;
+    int sendBurstLength = 0;
     boolean hasPosition = false;
     boolean hasSessionId = false;
     boolean isSessionIdTagged = false;
     boolean signalEos = true;
     boolean isSparse;
+    boolean isBatching;
     boolean spiesSimulateConnection;
 
     PublicationParams()
@@ -61,7 +64,9 @@ final class PublicationParams
         params.getLingerTimeoutNs(channelUri);
         params.getEos(channelUri);
         params.getSparse(channelUri, ctx);
+        params.getBatching(channelUri);
         params.getSpiesSimulateConnection(channelUri, ctx);
+        params.getSendPacing(channelUri);
 
         int count = 0;
 
@@ -215,6 +220,13 @@ final class PublicationParams
                 rawLog.termLength() + " requested=" + params.termLength);
         }
 
+        final boolean isBatching = LogBufferDescriptor.isBatching(rawLog.metaData());
+        if (channelUri.containsKey(BATCH_PARAM_NAME) && isBatching != params.isBatching)
+        {
+            throw new IllegalStateException("existing publication has different batch: existing=" +
+                isBatching + " requested=" + params.isBatching);
+        }
+
         if (channelUri.containsKey(SESSION_ID_PARAM_NAME) && params.sessionId != existingSessionId)
         {
             throw new IllegalStateException("existing publication has different session id: existing=" +
@@ -232,6 +244,48 @@ final class PublicationParams
         }
     }
 
+    static void validateSendRate(
+        final ChannelUri channelUri, final PublicationParams params, final long existingSendRate)
+    {
+        if (channelUri.containsKey(SEND_RATE_PARAM_NAME) && params.sendRate != existingSendRate)
+        {
+            throw new IllegalStateException("existing publication has different send rate: existing=" +
+                existingSendRate + " requested=" + params.sendRate);
+        }
+    }
+
+    private void getSendPacing(final ChannelUri channelUri)
+    {
+        final String sendRateParam = channelUri.get(SEND_RATE_PARAM_NAME);
+        final String sendBurstParam = channelUri.get(SEND_BURST_PARAM_NAME);
+
+        if (null != sendRateParam)
+        {
+            sendRate = SystemUtil.parseSize(SEND_RATE_PARAM_NAME, sendRateParam);
+            if (sendRate <= 0)
+            {
+                throw new IllegalArgumentException(SEND_RATE_PARAM_NAME + "=" + sendRate + " must be greater than 0");
+            }
+
+            sendBurstLength = mtuLength;
+            if (null != sendBurstParam)
+            {
+                final long sendBurstLength = SystemUtil.parseSize(SEND_BURST_PARAM_NAME, sendBurstParam);
+                if (sendBurstLength <= 0 || sendBurstLength > Integer.MAX_VALUE)
+                {
+                    throw new IllegalArgumentException(
+                        SEND_BURST_PARAM_NAME + "=" + sendBurstLength + " out of range");
+                }
+
+                this.sendBurstLength = (int)sendBurstLength;
+            }
+        }
+        else if (null != sendBurstParam)
+        {
+            throw new IllegalArgumentException(SEND_BURST_PARAM_NAME + " requires " + SEND_RATE_PARAM_NAME);
+        }
+    }
+
     private void getLingerTimeoutNs(final ChannelUri channelUri)
     {
         final String lingerParam = channelUri.get(LINGER_PARAM_NAME);
@@ -287,6 +341,20 @@ final class PublicationParams
         isSparse = null != sparseStr ? "true".equals(sparseStr) : ctx.termBufferSparseFile();
     }
 
+    private void getBatching(final ChannelUri channelUri)
+    {
+        final String batchStr = channelUri.get(BATCH_PARAM_NAME);
+        if (null != batchStr)
+        {
+            if (!"true".equals(batchStr) && !"false".equals(batchStr))
+            {
+                throw new IllegalArgumentException(BATCH_PARAM_NAME + "=" + batchStr + " must be true or false");
+            }
+
+            isBatching = "true".equals(batchStr);
+        }
+    }
+
     private void getSpiesSimulateConnection(final ChannelUri channelUri, final MediaDriver.Context ctx)
     {
         final String sscStr = channelUri.get(SPIES_SIMULATE_CONNECTION_PARAM_NAME);
@@ -322,8 +390,11 @@ final class PublicationParams
             ", hasSessionId=" + hasSessionId +
             ", isSessionIdTagged=" + isSessionIdTagged +
             ", isSparse=" + isSparse +
+            ", isBatching=" + isBatching +
             ", signalEos=" + signalEos +
             ", spiesSimulateConnection=" + spiesSimulateConnection +
+            ", sendRate=" + sendRate +
+            ", sendBurstLength=" + sendBurstLength +
             '}';
     }
 }
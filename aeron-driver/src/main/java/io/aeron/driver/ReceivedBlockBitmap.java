@@ -0,0 +1,230 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.logbuffer.TermGapScanner;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.logbuffer.FrameDescriptor.frameLengthVolatile;
+import static io.aeron.logbuffer.FrameDescriptor.isPaddingFrame;
+import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
+import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.BitUtil.align;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Bitmap with a bit for each frame-aligned block of the term buffers of a publication image which is set once the
+ * block has been received. Scanning for a gap then reads a word for every 64 blocks rather than every frame header.
+ * <p>
+ * Blocks are marked by the {@link Receiver} after a packet is inserted and cleared by the {@link DriverConductor}
+ * as the term buffers are cleaned, which is the same division of work as for the term buffers.
+ */
+public final class ReceivedBlockBitmap
+{
+    private static final int BLOCK_SHIFT = Integer.numberOfTrailingZeros(FRAME_ALIGNMENT);
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = (1 << WORD_SHIFT) - 1;
+
+    private final int termWordCount;
+    private final UnsafeBuffer buffer;
+
+    /**
+     * Construct a bitmap for the term buffers of a given length.
+     *
+     * @param termLength of each term buffer.
+     */
+    public ReceivedBlockBitmap(final int termLength)
+    {
+        termWordCount = Math.max(1, (termLength >> BLOCK_SHIFT) >> WORD_SHIFT);
+
+        final int length = termWordCount * PARTITION_COUNT * SIZE_OF_LONG;
+        buffer = new UnsafeBuffer(BufferUtil.allocateDirectAligned(length, CACHE_LINE_LENGTH));
+    }
+
+    /**
+     * Mark the blocks covered by a received packet.
+     *
+     * @param partitionIndex of the term buffer the packet was inserted into.
+     * @param termOffset     at which the packet begins.
+     * @param length         of the packet.
+     */
+    public void markReceived(final int partitionIndex, final int termOffset, final int length)
+    {
+        final int beginBlock = termOffset >> BLOCK_SHIFT;
+        final int endBlock = (termOffset + length + FRAME_ALIGNMENT - 1) >> BLOCK_SHIFT;
+        final int base = partitionIndex * termWordCount;
+
+        for (int block = beginBlock; block < endBlock; )
+        {
+            final int wordIndex = block >> WORD_SHIFT;
+            final int bitsInWord = Math.min(endBlock - block, WORD_MASK + 1 - (block & WORD_MASK));
+            final long mask = bitMask(block & WORD_MASK, bitsInWord);
+            final int index = (base + wordIndex) * SIZE_OF_LONG;
+
+            long word;
+            do
+            {
+                word = buffer.getLongVolatile(index);
+            }
+            while ((word & mask) != mask && !buffer.compareAndSetLong(index, word, word | mask));
+
+            block += bitsInWord;
+        }
+    }
+
+    /**
+     * Mark the blocks covered by a packet once it has been inserted into a term buffer. A padding frame is sent with
+     * only its header so when the packet contains one the blocks are marked to the end of the padding frame, as
+     * given by its frame length, rather than the end of the packet.
+     *
+     * @param partitionIndex of the term buffer the packet was inserted into.
+     * @param termBuffer     the packet was inserted into.
+     * @param termOffset     at which the packet begins.
+     * @param length         of the packet.
+     */
+    public void markInserted(
+        final int partitionIndex, final UnsafeBuffer termBuffer, final int termOffset, final int length)
+    {
+        final int limitOffset = termOffset + length;
+        int endOffset = limitOffset;
+
+        for (int offset = termOffset; offset < limitOffset; )
+        {
+            final int frameLength = frameLengthVolatile(termBuffer, offset);
+            if (frameLength <= 0)
+            {
+                break;
+            }
+
+            final int alignedFrameLength = align(frameLength, FRAME_ALIGNMENT);
+            if (isPaddingFrame(termBuffer, offset))
+            {
+                endOffset = Math.max(limitOffset, Math.min(offset + alignedFrameLength, termBuffer.capacity()));
+                break;
+            }
+
+            offset += alignedFrameLength;
+        }
+
+        markReceived(partitionIndex, termOffset, endOffset - termOffset);
+    }
+
+    /**
+     * Clear the blocks of a region which has been cleaned in a term buffer.
+     *
+     * @param partitionIndex of the term buffer which has been cleaned.
+     * @param termOffset     at which the cleaned region begins.
+     * @param length         of the cleaned region.
+     */
+    public void clear(final int partitionIndex, final int termOffset, final int length)
+    {
+        final int beginBlock = termOffset >> BLOCK_SHIFT;
+        final int endBlock = (termOffset + length) >> BLOCK_SHIFT;
+        final int base = partitionIndex * termWordCount;
+
+        for (int block = beginBlock; block < endBlock; )
+        {
+            final int wordIndex = block >> WORD_SHIFT;
+            final int bitsInWord = Math.min(endBlock - block, WORD_MASK + 1 - (block & WORD_MASK));
+            final int index = (base + wordIndex) * SIZE_OF_LONG;
+
+            if (bitsInWord == WORD_MASK + 1)
+            {
+                buffer.putLongOrdered(index, 0);
+            }
+            else
+            {
+                final long mask = bitMask(block & WORD_MASK, bitsInWord);
+                long word;
+                do
+                {
+                    word = buffer.getLongVolatile(index);
+                }
+                while ((word & mask) != 0 && !buffer.compareAndSetLong(index, word, word & ~mask));
+            }
+
+            block += bitsInWord;
+        }
+    }
+
+    /**
+     * Scan for a gap from the termOffset up to a limit offset, with the same outcome as
+     * {@link TermGapScanner#scanForGap(UnsafeBuffer, int, int, int, TermGapScanner.GapHandler)} on the term buffer.
+     *
+     * @param partitionIndex of the term buffer to be scanned.
+     * @param termId         of the term buffer to be scanned.
+     * @param termOffset     at which to start scanning.
+     * @param limitOffset    at which to stop scanning.
+     * @param handler        to call if a gap is found.
+     * @return offset of the end of the contiguous blocks received from termOffset.
+     */
+    public int scanForGap(
+        final int partitionIndex,
+        final int termId,
+        final int termOffset,
+        final int limitOffset,
+        final TermGapScanner.GapHandler handler)
+    {
+        final int base = partitionIndex * termWordCount;
+        final int limitBlock = limitOffset >> BLOCK_SHIFT;
+        final int gapBeginBlock = nextBlock(base, termOffset >> BLOCK_SHIFT, limitBlock, true);
+
+        if (gapBeginBlock < limitBlock)
+        {
+            final int gapEndBlock = nextBlock(base, gapBeginBlock + 1, limitBlock, false);
+            handler.onGap(termId, gapBeginBlock << BLOCK_SHIFT, (gapEndBlock - gapBeginBlock) << BLOCK_SHIFT);
+        }
+
+        return Math.min(gapBeginBlock << BLOCK_SHIFT, limitOffset);
+    }
+
+    private int nextBlock(final int base, final int fromBlock, final int limitBlock, final boolean isClear)
+    {
+        if (fromBlock >= limitBlock)
+        {
+            return limitBlock;
+        }
+
+        final int lastWordIndex = (limitBlock - 1) >> WORD_SHIFT;
+        int wordIndex = fromBlock >> WORD_SHIFT;
+        long word = readWord(base + wordIndex, isClear) & (-1L << (fromBlock & WORD_MASK));
+
+        while (0 == word)
+        {
+            if (++wordIndex > lastWordIndex)
+            {
+                return limitBlock;
+            }
+
+            word = readWord(base + wordIndex, isClear);
+        }
+
+        return Math.min((wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word), limitBlock);
+    }
+
+    private long readWord(final int wordIndex, final boolean isClear)
+    {
+        final long word = buffer.getLongVolatile(wordIndex * SIZE_OF_LONG);
+        return isClear ? ~word : word;
+    }
+
+    private static long bitMask(final int fromBit, final int bitCount)
+    {
+        return bitCount == WORD_MASK + 1 ? -1L : ((1L << bitCount) - 1) << fromBit;
+    }
+}
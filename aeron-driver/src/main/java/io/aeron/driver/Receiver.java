@@ -47,9 +47,13 @@ public final class Receiver implements Agent
     private final CachedNanoClock cachedNanoClock;
     private PublicationImage[] publicationImages = EMPTY_IMAGES;
     private final ArrayList<PendingSetupMessageFromSource> pendingSetupMessages = new ArrayList<>();
+    private final ArrayList<PublicationImage> preTouchImages = new ArrayList<>();
     private final DriverConductorProxy conductorProxy;
     private final long reResolutionCheckIntervalNs;
     private long reResolutionDeadlineNs;
+    private final int shardIndex;
+    private final int preTouchPageBudget;
+    private final LogPreToucher logPreToucher;
 
     Receiver(final MediaDriver.Context ctx)
     {
@@ -61,6 +65,9 @@ public final class Receiver implements Agent
         cachedNanoClock = ctx.receiverCachedNanoClock();
         conductorProxy = ctx.driverConductorProxy();
         reResolutionCheckIntervalNs = ctx.reResolutionCheckIntervalNs();
+        shardIndex = ctx.receiverShardIndex();
+        preTouchPageBudget = ctx.preTouchPageBudget();
+        logPreToucher = new LogPreToucher(ctx.filePageSize());
     }
 
     /**
@@ -86,7 +93,7 @@ public final class Receiver implements Agent
      */
     public String roleName()
     {
-        return "receiver";
+        return 0 == shardIndex ? "receiver" : "receiver-" + shardIndex;
     }
 
     /**
@@ -98,6 +105,10 @@ public final class Receiver implements Agent
         cachedNanoClock.update(nowNs);
 
         int workCount = commandQueue.drain(Runnable::run, Configuration.COMMAND_DRAIN_LIMIT);
+        if (!preTouchImages.isEmpty())
+        {
+            workCount += preTouchImageLogs();
+        }
 
         final int bytesReceived = dataTransportPoller.pollTransports();
         totalBytesReceived.getAndAddOrdered(bytesReceived);
@@ -168,8 +179,18 @@ public final class Receiver implements Agent
 
     void onNewPublicationImage(final ReceiveChannelEndpoint channelEndpoint, final PublicationImage image)
     {
-        publicationImages = ArrayUtil.add(publicationImages, image);
-        channelEndpoint.dispatcher().addPublicationImage(image);
+        if (image.isPreTouchLog())
+        {
+            if (preTouchImages.isEmpty())
+            {
+                logPreToucher.wrap(image.rawLog());
+            }
+            preTouchImages.add(image);
+        }
+        else
+        {
+            activatePublicationImage(channelEndpoint, image);
+        }
     }
 
     void onRegisterReceiveChannelEndpoint(final ReceiveChannelEndpoint channelEndpoint)
@@ -206,6 +227,17 @@ public final class Receiver implements Agent
             }
         }
 
+        final ArrayList<PublicationImage> preTouchImages = this.preTouchImages;
+        if (!preTouchImages.isEmpty())
+        {
+            final boolean isTouchingEndpointImage = preTouchImages.get(0).channelEndpoint() == channelEndpoint;
+            preTouchImages.removeIf((image) -> image.channelEndpoint() == channelEndpoint);
+            if (isTouchingEndpointImage && !preTouchImages.isEmpty())
+            {
+                logPreToucher.wrap(preTouchImages.get(0).rawLog());
+            }
+        }
+
         channelEndpoint.closeMultiRcvDestination(dataTransportPoller);
         channelEndpoint.close();
     }
@@ -279,6 +311,34 @@ public final class Receiver implements Agent
         channelEndpoint.updateControlAddress(transportIndex, newAddress);
     }
 
+    private void activatePublicationImage(final ReceiveChannelEndpoint channelEndpoint, final PublicationImage image)
+    {
+        publicationImages = ArrayUtil.add(publicationImages, image);
+        channelEndpoint.dispatcher().addPublicationImage(image);
+    }
+
+    private int preTouchImageLogs()
+    {
+        final ArrayList<PublicationImage> preTouchImages = this.preTouchImages;
+        int pagesTouched = 0;
+
+        while (pagesTouched < preTouchPageBudget && !preTouchImages.isEmpty())
+        {
+            pagesTouched += logPreToucher.touch(preTouchPageBudget - pagesTouched);
+            if (logPreToucher.isComplete())
+            {
+                final PublicationImage image = preTouchImages.remove(0);
+                activatePublicationImage(image.channelEndpoint(), image);
+                if (!preTouchImages.isEmpty())
+                {
+                    logPreToucher.wrap(preTouchImages.get(0).rawLog());
+                }
+            }
+        }
+
+        return pagesTouched;
+    }
+
     private void checkPendingSetupMessages(final long nowNs)
     {
         final ArrayList<PendingSetupMessageFromSource> pendingSetupMessages = this.pendingSetupMessages;
@@ -15,6 +15,7 @@
  */
 package io.aeron.driver;
 
+import io.aeron.driver.reports.LatencyHistogram;
 import io.aeron.protocol.DataHeaderFlyweight;
 import org.agrona.collections.BiInt2ObjectMap;
 import org.agrona.concurrent.status.AtomicCounter;
@@ -28,7 +29,11 @@ import static io.aeron.driver.RetransmitHandler.State.LINGERING;
  * Tracking and handling of retransmit request, NAKs, for senders, and receivers.
  * <p>
  * A max number of retransmits is permitted by {@link Configuration#MAX_RETRANSMITS_DEFAULT}. Additional received NAKs
- * will be ignored if this maximum is reached.
+ * will be ignored, and counted as dropped, if this maximum is reached.
+ * <p>
+ * Retransmits can be limited to a budget of bytes per duty cycle, with {@link #processTimeouts(long, RetransmitSender)}
+ * starting each cycle, so NAK storms do not starve the sending of new data. Retransmits over budget are deferred to a
+ * following cycle. When delayed retransmits expire together then adjacent ranges are coalesced into a single resend.
  */
 public class RetransmitHandler
 {
@@ -38,25 +43,47 @@ public class RetransmitHandler
     private final FeedbackDelayGenerator delayGenerator;
     private final FeedbackDelayGenerator lingerTimeoutGenerator;
     private final AtomicCounter invalidPackets;
+    private final AtomicCounter retransmitsCoalesced;
+    private final AtomicCounter retransmitsDeferred;
+    private final AtomicCounter retransmitsDropped;
+    private final LatencyHistogram nakToRetransmitHistogram;
+    private final int retransmitBudget;
+    private int remainingBudget;
 
     /**
      * Create a retransmit handler.
      *
-     * @param nanoClock              used to determine time
-     * @param invalidPackets         for recording invalid packets
-     * @param delayGenerator         to use for delay determination
-     * @param lingerTimeoutGenerator to use for linger timeout
+     * @param nanoClock                used to determine time
+     * @param invalidPackets           for recording invalid packets
+     * @param delayGenerator           to use for delay determination
+     * @param lingerTimeoutGenerator   to use for linger timeout
+     * @param retransmitBudget         in bytes which can be retransmitted per duty cycle, 0 for no limit.
+     * @param retransmitsCoalesced     for recording ranges coalesced into the resend of an adjacent range.
+     * @param retransmitsDeferred      for recording retransmits deferred to a later duty cycle by the budget.
+     * @param retransmitsDropped       for recording NAKs dropped because the max number of retransmits is active.
+     * @param nakToRetransmitHistogram for recording the delay from a NAK to the retransmit or null if not recorded.
      */
     public RetransmitHandler(
         final NanoClock nanoClock,
         final AtomicCounter invalidPackets,
         final FeedbackDelayGenerator delayGenerator,
-        final FeedbackDelayGenerator lingerTimeoutGenerator)
+        final FeedbackDelayGenerator lingerTimeoutGenerator,
+        final int retransmitBudget,
+        final AtomicCounter retransmitsCoalesced,
+        final AtomicCounter retransmitsDeferred,
+        final AtomicCounter retransmitsDropped,
+        final LatencyHistogram nakToRetransmitHistogram)
     {
         this.nanoClock = nanoClock;
         this.invalidPackets = invalidPackets;
         this.delayGenerator = delayGenerator;
         this.lingerTimeoutGenerator = lingerTimeoutGenerator;
+        this.retransmitBudget = retransmitBudget > 0 ? retransmitBudget : Integer.MAX_VALUE;
+        this.remainingBudget = this.retransmitBudget;
+        this.retransmitsCoalesced = retransmitsCoalesced;
+        this.retransmitsDeferred = retransmitsDeferred;
+        this.retransmitsDropped = retransmitsDropped;
+        this.nakToRetransmitHistogram = nakToRetransmitHistogram;
 
         for (int i = 0; i < MAX_RETRANSMITS_DEFAULT; i++)
         {
@@ -80,29 +107,44 @@ public class RetransmitHandler
         final int termLength,
         final RetransmitSender retransmitSender)
     {
-        if (!isInvalid(termOffset, termLength))
+        if (!isInvalid(termOffset, termLength) && null == activeRetransmitsMap.get(termId, termOffset))
         {
-            if (null == activeRetransmitsMap.get(termId, termOffset) &&
-                activeRetransmitsMap.size() < MAX_RETRANSMITS_DEFAULT)
+            if (activeRetransmitsMap.size() < MAX_RETRANSMITS_DEFAULT)
             {
                 final RetransmitAction action = assignRetransmitAction();
                 action.termId = termId;
                 action.termOffset = termOffset;
                 action.length = Math.min(length, termLength - termOffset);
 
+                final long nowNs = nanoClock.nanoTime();
+                action.nakReceivedNs = nowNs;
+
                 final long delay = delayGenerator.generateDelay();
                 if (0 == delay)
                 {
-                    retransmitSender.resend(termId, termOffset, action.length);
-                    action.linger(lingerTimeoutGenerator.generateDelay(), nanoClock.nanoTime());
+                    if (tryConsumeBudget(action.length))
+                    {
+                        retransmitSender.resend(termId, termOffset, action.length);
+                        action.linger(lingerTimeoutGenerator.generateDelay(), nowNs);
+                        recordNakToRetransmit(action, nowNs);
+                    }
+                    else
+                    {
+                        retransmitsDeferred.incrementOrdered();
+                        action.delay(0, nowNs);
+                    }
                 }
                 else
                 {
-                    action.delay(delay, nanoClock.nanoTime());
+                    action.delay(delay, nowNs);
                 }
 
                 activeRetransmitsMap.put(termId, termOffset, action);
             }
+            else
+            {
+                retransmitsDropped.incrementOrdered();
+            }
         }
     }
 
@@ -134,14 +176,18 @@ public class RetransmitHandler
      */
     public void processTimeouts(final long nowNs, final RetransmitSender retransmitSender)
     {
+        remainingBudget = retransmitBudget;
+
         if (activeRetransmitsMap.size() > 0)
         {
             for (final RetransmitAction action : retransmitActionPool)
             {
                 if (DELAYED == action.state && (action.expireNs - nowNs < 0))
                 {
-                    retransmitSender.resend(action.termId, action.termOffset, action.length);
-                    action.linger(lingerTimeoutGenerator.generateDelay(), nanoClock.nanoTime());
+                    if (!hasExpiredPredecessor(action, nowNs))
+                    {
+                        resendRange(action, nowNs, retransmitSender);
+                    }
                 }
                 else if (LINGERING == action.state && (action.expireNs - nowNs < 0))
                 {
@@ -152,6 +198,71 @@ public class RetransmitHandler
         }
     }
 
+    private void resendRange(final RetransmitAction first, final long nowNs, final RetransmitSender retransmitSender)
+    {
+        if (!tryConsumeBudget(first.length))
+        {
+            retransmitsDeferred.incrementOrdered();
+            return;
+        }
+
+        final long lingerNs = lingerTimeoutGenerator.generateDelay();
+        final long timeNs = nanoClock.nanoTime();
+        final int termId = first.termId;
+        int length = first.length;
+        first.linger(lingerNs, timeNs);
+        recordNakToRetransmit(first, timeNs);
+
+        RetransmitAction next;
+        while (null != (next = activeRetransmitsMap.get(termId, first.termOffset + length)) &&
+            DELAYED == next.state &&
+            (next.expireNs - nowNs < 0) &&
+            tryConsumeBudget(next.length))
+        {
+            length += next.length;
+            next.linger(lingerNs, timeNs);
+            recordNakToRetransmit(next, timeNs);
+            retransmitsCoalesced.incrementOrdered();
+        }
+
+        retransmitSender.resend(termId, first.termOffset, length);
+    }
+
+    private void recordNakToRetransmit(final RetransmitAction action, final long timeNs)
+    {
+        if (null != nakToRetransmitHistogram)
+        {
+            nakToRetransmitHistogram.record(timeNs - action.nakReceivedNs);
+        }
+    }
+
+    private boolean hasExpiredPredecessor(final RetransmitAction action, final long nowNs)
+    {
+        for (final RetransmitAction other : retransmitActionPool)
+        {
+            if (DELAYED == other.state &&
+                (other.expireNs - nowNs < 0) &&
+                other.termId == action.termId &&
+                other.termOffset + other.length == action.termOffset)
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean tryConsumeBudget(final int length)
+    {
+        if (length <= remainingBudget || retransmitBudget == remainingBudget)
+        {
+            remainingBudget = Math.max(0, remainingBudget - length);
+            return true;
+        }
+
+        return false;
+    }
+
     private boolean isInvalid(final int termOffset, final int termLength)
     {
         final boolean isInvalid = (termOffset > (termLength - DataHeaderFlyweight.HEADER_LENGTH)) || (termOffset < 0);
@@ -187,6 +298,7 @@ public class RetransmitHandler
     static final class RetransmitAction
     {
         long expireNs;
+        long nakReceivedNs;
         int termId;
         int termOffset;
         int length;
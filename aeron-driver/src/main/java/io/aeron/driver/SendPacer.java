@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket which paces the rate at which a {@link NetworkPublication} sends data.
+ * <p>
+ * Tokens accrue at the send rate up to the burst length and a send is permitted while any tokens remain, with the
+ * bytes sent then taken from the bucket so it can go into deficit by up to an MTU. The time a publication spends with
+ * data to send while waiting for tokens is added to a counter.
+ * <p>
+ * All methods are expected to be called from the {@link Sender}.
+ */
+final class SendPacer implements AutoCloseable
+{
+    private static final long SECOND_IN_NS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long bytesPerSecond;
+    private final long capacity;
+    private final long refillLimitNs;
+    private final AtomicCounter pacedTimeNs;
+    private long tokens;
+    private long lastRefillNs;
+    private long lastPacedNs;
+    private boolean isPaced;
+
+    /**
+     * Construct a pacer which starts with a full bucket.
+     *
+     * @param bytesPerSecond rate at which data may be sent.
+     * @param burstLength    in bytes which can be sent at once after being idle.
+     * @param pacedTimeNs    counter to accumulate the time spent waiting to send.
+     * @param nowNs          current time.
+     */
+    SendPacer(final long bytesPerSecond, final int burstLength, final AtomicCounter pacedTimeNs, final long nowNs)
+    {
+        this.bytesPerSecond = bytesPerSecond;
+        this.capacity = burstLength * SECOND_IN_NS;
+        this.refillLimitNs = (capacity / bytesPerSecond) + 1;
+        this.pacedTimeNs = pacedTimeNs;
+        this.tokens = capacity;
+        this.lastRefillNs = nowNs;
+    }
+
+    /**
+     * Check if data can be sent now and account for the time spent paced.
+     *
+     * @param nowNs current time.
+     * @return true if data can be sent.
+     */
+    boolean isSendPermitted(final long nowNs)
+    {
+        final long elapsedNs = nowNs - lastRefillNs;
+        if (elapsedNs > 0)
+        {
+            tokens = Math.min(capacity, tokens + (Math.min(elapsedNs, refillLimitNs) * bytesPerSecond));
+            lastRefillNs = nowNs;
+        }
+
+        final boolean isPermitted = tokens > 0;
+        if (isPaced)
+        {
+            pacedTimeNs.getAndAddOrdered(nowNs - lastPacedNs);
+        }
+
+        isPaced = !isPermitted;
+        lastPacedNs = nowNs;
+
+        return isPermitted;
+    }
+
+    /**
+     * Take the bytes sent from the bucket.
+     *
+     * @param bytesSent length of data sent.
+     */
+    void onBytesSent(final int bytesSent)
+    {
+        tokens -= bytesSent * SECOND_IN_NS;
+    }
+
+    /**
+     * Stop being paced so time waiting without data to send is not counted.
+     */
+    void onIdle()
+    {
+        isPaced = false;
+    }
+
+    /**
+     * Is data waiting to be sent until tokens accrue. The {@link Sender} counts this as work so it does not idle while
+     * a publication is paced, which would otherwise hold back the send rate by the idle time.
+     *
+     * @return true if data is waiting to be sent until tokens accrue.
+     */
+    boolean isPaced()
+    {
+        return isPaced;
+    }
+
+    /**
+     * Bytes per second at which data may be sent.
+     *
+     * @return bytes per second at which data may be sent.
+     */
+    long bytesPerSecond()
+    {
+        return bytesPerSecond;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close()
+    {
+        pacedTimeNs.close();
+    }
+}
@@ -18,11 +18,16 @@ package io.aeron.driver;
 import io.aeron.ChannelUri;
 import io.aeron.driver.media.ControlTransportPoller;
 import io.aeron.driver.media.SendChannelEndpoint;
+import io.aeron.driver.media.UdpSendBatcher;
+import io.aeron.driver.reports.LatencyHistogram;
+import io.aeron.driver.reports.LatencyHistogramDescriptor;
+import org.agrona.CloseHelper;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.*;
 import org.agrona.concurrent.status.AtomicCounter;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 
 import static io.aeron.driver.status.SystemCounterDescriptor.BYTES_SENT;
 import static io.aeron.driver.status.SystemCounterDescriptor.RESOLUTION_CHANGES;
@@ -39,7 +44,8 @@ class SenderHotFields extends SenderLhsPadding
 {
     long controlPollDeadlineNs;
     long reResolutionDeadlineNs;
-    int dutyCycleCounter;
+    int senderLimitStalls;
+    int pacedPublications;
     int roundRobinIndex = 0;
 }
 
@@ -57,17 +63,26 @@ class SenderRhsPadding extends SenderHotFields
 public final class Sender extends SenderRhsPadding implements Agent
 {
     private NetworkPublication[] networkPublications = new NetworkPublication[0];
+    private final ArrayList<NetworkPublication> preTouchPublications = new ArrayList<>();
 
     private final long statusMessageReadTimeoutNs;
     private final long reResolutionCheckIntervalNs;
-    private final int dutyCycleRatio;
+    private final SenderDutyCyclePolicy dutyCyclePolicy;
     private final ControlTransportPoller controlTransportPoller;
+    private final UdpSendBatcher sendBatcher;
     private final OneToOneConcurrentArrayQueue<Runnable> commandQueue;
     private final AtomicCounter totalBytesSent;
     private final AtomicCounter resolutionChanges;
     private final NanoClock nanoClock;
     private final CachedNanoClock cachedNanoClock;
     private final DriverConductorProxy conductorProxy;
+    private final AtomicCounter maxCycleTime;
+    private final AtomicCounter cycleTimeThresholdExceededCount;
+    private final LatencyHistogram cycleTimeHistogram;
+    private final long cycleThresholdNs;
+    private final int shardIndex;
+    private final int preTouchPageBudget;
+    private final LogPreToucher logPreToucher;
 
     Sender(final MediaDriver.Context ctx)
     {
@@ -79,8 +94,16 @@ public final class Sender extends SenderRhsPadding implements Agent
         this.cachedNanoClock = ctx.senderCachedNanoClock();
         this.statusMessageReadTimeoutNs = ctx.statusMessageTimeoutNs() >> 1;
         this.reResolutionCheckIntervalNs = ctx.reResolutionCheckIntervalNs();
-        this.dutyCycleRatio = ctx.sendToStatusMessagePollRatio();
+        this.dutyCyclePolicy = ctx.senderDutyCyclePolicySupplier().newInstance(ctx);
         this.conductorProxy = ctx.driverConductorProxy();
+        this.sendBatcher = ctx.senderBatchSize() > 1 ? ctx.udpSendBatcherSupplier().newInstance(ctx) : null;
+        this.maxCycleTime = ctx.senderMaxCycleTime();
+        this.cycleTimeThresholdExceededCount = ctx.senderCycleTimeThresholdExceeded();
+        this.cycleTimeHistogram = ctx.latencyHistogram(LatencyHistogramDescriptor.SENDER_CYCLE_TIME);
+        this.cycleThresholdNs = ctx.senderCycleThresholdNs();
+        this.shardIndex = ctx.senderShardIndex();
+        this.preTouchPageBudget = ctx.preTouchPageBudget();
+        this.logPreToucher = new LogPreToucher(ctx.filePageSize());
     }
 
     /**
@@ -98,7 +121,15 @@ public final class Sender extends SenderRhsPadding implements Agent
      */
     public void onClose()
     {
-        controlTransportPoller.close();
+        try
+        {
+            flushBatch();
+        }
+        finally
+        {
+            CloseHelper.closeAll(sendBatcher, dutyCyclePolicy);
+            controlTransportPoller.close();
+        }
     }
 
     /**
@@ -107,17 +138,32 @@ public final class Sender extends SenderRhsPadding implements Agent
     public int doWork()
     {
         final long nowNs = nanoClock.nanoTime();
+        if (null != maxCycleTime || null != cycleTimeHistogram)
+        {
+            trackCycleTime(nowNs);
+        }
         cachedNanoClock.update(nowNs);
 
-        final int workCount = commandQueue.drain(Runnable::run, Configuration.COMMAND_DRAIN_LIMIT);
+        int workCount = commandQueue.drain(Runnable::run, Configuration.COMMAND_DRAIN_LIMIT);
+        if (!preTouchPublications.isEmpty())
+        {
+            workCount += preTouchPublicationLogs();
+        }
+
         final int bytesSent = doSend(nowNs);
+        flushBatch();
+
+        final int senderLimitStalls = this.senderLimitStalls;
+        this.senderLimitStalls = 0;
 
         int bytesReceived = 0;
-        if (0 == bytesSent || ++dutyCycleCounter >= dutyCycleRatio || (controlPollDeadlineNs - nowNs < 0))
+        if (dutyCyclePolicy.shouldPollControl(nowNs, bytesSent, senderLimitStalls) ||
+            (controlPollDeadlineNs - nowNs < 0))
         {
             bytesReceived = controlTransportPoller.pollTransports();
+            flushBatch();
 
-            dutyCycleCounter = 0;
+            dutyCyclePolicy.onControlPoll(nowNs, bytesReceived);
             controlPollDeadlineNs = nowNs + statusMessageReadTimeoutNs;
         }
 
@@ -127,7 +173,7 @@ public final class Sender extends SenderRhsPadding implements Agent
             reResolutionDeadlineNs = nowNs + reResolutionCheckIntervalNs;
         }
 
-        return workCount + bytesSent + bytesReceived;
+        return workCount + bytesSent + bytesReceived + pacedPublications;
     }
 
     /**
@@ -135,11 +181,12 @@ public final class Sender extends SenderRhsPadding implements Agent
      */
     public String roleName()
     {
-        return "sender";
+        return 0 == shardIndex ? "sender" : "sender-" + shardIndex;
     }
 
     void onRegisterSendChannelEndpoint(final SendChannelEndpoint channelEndpoint)
     {
+        channelEndpoint.sendBatcher(sendBatcher);
         channelEndpoint.openChannel(conductorProxy);
         channelEndpoint.registerForRead(controlTransportPoller);
         channelEndpoint.indicateActive();
@@ -152,12 +199,34 @@ public final class Sender extends SenderRhsPadding implements Agent
 
     void onNewNetworkPublication(final NetworkPublication publication)
     {
-        networkPublications = ArrayUtil.add(networkPublications, publication);
-        publication.channelEndpoint().registerForSend(publication);
+        if (publication.isPreTouchLog())
+        {
+            if (preTouchPublications.isEmpty())
+            {
+                logPreToucher.wrap(publication.rawLog());
+            }
+            preTouchPublications.add(publication);
+        }
+        else
+        {
+            activateNetworkPublication(publication);
+        }
     }
 
     void onRemoveNetworkPublication(final NetworkPublication publication)
     {
+        final int preTouchIndex = preTouchPublications.indexOf(publication);
+        if (preTouchIndex >= 0)
+        {
+            preTouchPublications.remove(preTouchIndex);
+            if (0 == preTouchIndex && !preTouchPublications.isEmpty())
+            {
+                logPreToucher.wrap(preTouchPublications.get(0).rawLog());
+            }
+            publication.senderRelease();
+            return;
+        }
+
         networkPublications = ArrayUtil.remove(networkPublications, publication);
         publication.channelEndpoint().unregisterForSend(publication);
         publication.senderRelease();
@@ -182,6 +251,60 @@ public final class Sender extends SenderRhsPadding implements Agent
         resolutionChanges.getAndAddOrdered(1);
     }
 
+    private void activateNetworkPublication(final NetworkPublication publication)
+    {
+        networkPublications = ArrayUtil.add(networkPublications, publication);
+        publication.channelEndpoint().registerForSend(publication);
+    }
+
+    private int preTouchPublicationLogs()
+    {
+        final ArrayList<NetworkPublication> preTouchPublications = this.preTouchPublications;
+        int pagesTouched = 0;
+
+        while (pagesTouched < preTouchPageBudget && !preTouchPublications.isEmpty())
+        {
+            pagesTouched += logPreToucher.touch(preTouchPageBudget - pagesTouched);
+            if (logPreToucher.isComplete())
+            {
+                activateNetworkPublication(preTouchPublications.remove(0));
+                if (!preTouchPublications.isEmpty())
+                {
+                    logPreToucher.wrap(preTouchPublications.get(0).rawLog());
+                }
+            }
+        }
+
+        return pagesTouched;
+    }
+
+    private void trackCycleTime(final long nowNs)
+    {
+        final long cycleTimeNs = nowNs - cachedNanoClock.nanoTime();
+
+        if (null != cycleTimeHistogram)
+        {
+            cycleTimeHistogram.record(cycleTimeNs);
+        }
+
+        if (null != maxCycleTime)
+        {
+            maxCycleTime.proposeMaxOrdered(cycleTimeNs);
+            if (cycleTimeNs > cycleThresholdNs)
+            {
+                cycleTimeThresholdExceededCount.incrementOrdered();
+            }
+        }
+    }
+
+    private void flushBatch()
+    {
+        if (null != sendBatcher)
+        {
+            sendBatcher.flush();
+        }
+    }
+
     private int doSend(final long nowNs)
     {
         int bytesSent = 0;
@@ -194,16 +317,27 @@ public final class Sender extends SenderRhsPadding implements Agent
             roundRobinIndex = startingIndex = 0;
         }
 
+        int stalls = 0;
+        int paced = 0;
         for (int i = startingIndex; i < length; i++)
         {
-            bytesSent += publications[i].send(nowNs);
+            final NetworkPublication publication = publications[i];
+            bytesSent += publication.send(nowNs);
+            stalls += publication.pollSenderLimitStalls();
+            paced += publication.isPaced() ? 1 : 0;
         }
 
         for (int i = 0; i < startingIndex; i++)
         {
-            bytesSent += publications[i].send(nowNs);
+            final NetworkPublication publication = publications[i];
+            bytesSent += publication.send(nowNs);
+            stalls += publication.pollSenderLimitStalls();
+            paced += publication.isPaced() ? 1 : 0;
         }
 
+        senderLimitStalls = stalls;
+        pacedPublications = paced;
+
         totalBytesSent.getAndAddOrdered(bytesSent);
 
         return bytesSent;
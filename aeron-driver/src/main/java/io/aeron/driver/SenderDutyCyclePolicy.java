@@ -0,0 +1,51 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+/**
+ * Policy which decides in each duty cycle of a {@link Sender} if the control transports should be polled for status
+ * messages, NAKs, and RTT measurements after sending data.
+ * <p>
+ * The {@link Sender} will always poll once the status message read timeout has expired regardless of the policy.
+ * Instances are owned by a single {@link Sender} and do not need to be thread safe.
+ */
+public interface SenderDutyCyclePolicy extends AutoCloseable
+{
+    /**
+     * Should the control transports be polled in this duty cycle.
+     *
+     * @param nowNs             current time of the duty cycle.
+     * @param bytesSent         by publications in this duty cycle.
+     * @param senderLimitStalls number of publications which became blocked on their sender limit in this duty cycle.
+     * @return true if the control transports should be polled.
+     */
+    boolean shouldPollControl(long nowNs, int bytesSent, int senderLimitStalls);
+
+    /**
+     * Notification that the control transports have been polled.
+     *
+     * @param nowNs         current time of the duty cycle.
+     * @param bytesReceived from the control transports by the poll.
+     */
+    void onControlPoll(long nowNs, int bytesReceived);
+
+    /**
+     * Release any resources, such as counters, held by the policy.
+     */
+    default void close()
+    {
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+/**
+ * Supplier of {@link SenderDutyCyclePolicy}s which decide when a {@link Sender} polls its control transports.
+ */
+@FunctionalInterface
+public interface SenderDutyCyclePolicySupplier
+{
+    /**
+     * A new instance of a {@link SenderDutyCyclePolicy} to be owned by a {@link Sender}.
+     *
+     * @param context for the configuration of the driver, or of the sender shard when sharded.
+     * @return a new instance of a {@link SenderDutyCyclePolicy}.
+     */
+    SenderDutyCyclePolicy newInstance(MediaDriver.Context context);
+}
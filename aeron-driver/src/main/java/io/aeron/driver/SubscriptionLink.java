@@ -34,6 +34,7 @@ public abstract class SubscriptionLink implements DriverManagedResource
     final boolean hasSessionId;
     final boolean isSparse;
     final boolean isTether;
+    final boolean isDetached;
     boolean reachedEndOfLife = false;
     final CommonContext.InferableBoolean group;
     final String channel;
@@ -55,6 +56,7 @@ public abstract class SubscriptionLink implements DriverManagedResource
         this.sessionId = params.sessionId;
         this.isSparse = params.isSparse;
         this.isTether = params.isTether;
+        this.isDetached = params.isDetached;
         this.group = params.group;
 
         positionBySubscribableMap = new IdentityHashMap<>(hasSessionId ? 1 : 8);
@@ -120,6 +122,11 @@ public abstract class SubscriptionLink implements DriverManagedResource
         return isTether;
     }
 
+    boolean isDetached()
+    {
+        return isDetached;
+    }
+
     boolean isSparse()
     {
         return isSparse;
@@ -226,6 +233,7 @@ public abstract class SubscriptionLink implements DriverManagedResource
             ", isReliable=" + isReliable() +
             ", isSparse=" + isSparse() +
             ", isTether=" + isTether() +
+            ", isDetached=" + isDetached() +
             ", isRejoin=" + isRejoin() +
             ", reachedEndOfLife=" + reachedEndOfLife +
             ", group=" + group +
@@ -34,6 +34,7 @@ class SubscriptionParams
     boolean isRejoin = true;
     boolean isSparse = true;
     boolean isTether = true;
+    boolean isDetached = false;
     InferableBoolean group = InferableBoolean.INFER;
 
     static SubscriptionParams getSubscriptionParams(final ChannelUri channelUri, final MediaDriver.Context context)
@@ -103,6 +104,8 @@ class SubscriptionParams
         final String tetherStr = channelUri.get(TETHER_PARAM_NAME);
         params.isTether = null != tetherStr ? "true".equals(tetherStr) : context.tetherSubscriptions();
 
+        params.isDetached = "true".equals(channelUri.get(DETACHED_PARAM_NAME));
+
         final String sparseStr = channelUri.get(SPARSE_PARAM_NAME);
         params.isSparse = null != sparseStr ? "true".equals(sparseStr) : context.termBufferSparseFile();
 
@@ -125,6 +128,7 @@ class SubscriptionParams
             ", isRejoin=" + isRejoin +
             ", isSparse=" + isSparse +
             ", isTether=" + isTether +
+            ", isDetached=" + isDetached +
             ", group=" + group +
             '}';
     }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.exceptions.AeronException;
+import org.agrona.LangUtil;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * {@link ThreadAffinity} for Linux which applies the CPU list to the native thread by running {@code taskset}.
+ * <p>
+ * The native thread id of the calling thread is found from {@code /proc/thread-self} which requires a 3.17 or later
+ * kernel. Pinning is done once as an agent thread starts so the cost of running the process is not on a hot path.
+ */
+public class TasksetThreadAffinity implements ThreadAffinity
+{
+    private static final Path THREAD_SELF = Paths.get("/proc/thread-self");
+
+    /**
+     * {@inheritDoc}
+     */
+    public void pinCurrentThread(final int[] cpuIds)
+    {
+        try
+        {
+            final String threadId = Files.readSymbolicLink(THREAD_SELF).getFileName().toString();
+            final Process process = new ProcessBuilder("taskset", "-p", "-c", cpuList(cpuIds), threadId)
+                .redirectErrorStream(true)
+                .start();
+
+            final StringBuilder output = new StringBuilder();
+            try (InputStream in = process.getInputStream())
+            {
+                int b;
+                while (-1 != (b = in.read()))
+                {
+                    output.append((char)b);
+                }
+            }
+
+            final int exitCode = process.waitFor();
+            if (0 != exitCode)
+            {
+                throw new AeronException("taskset failed with exit code " + exitCode + ": " + output);
+            }
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (final Exception ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
+    static String cpuList(final int[] cpuIds)
+    {
+        final StringBuilder sb = new StringBuilder();
+        for (final int cpuId : cpuIds)
+        {
+            if (sb.length() > 0)
+            {
+                sb.append(',');
+            }
+            sb.append(cpuId);
+        }
+
+        return sb.toString();
+    }
+}
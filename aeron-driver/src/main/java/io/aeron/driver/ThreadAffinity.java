@@ -0,0 +1,33 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+/**
+ * Restrict the calling thread to a set of CPUs so an agent thread can be kept on cores, and so NUMA node, of choice.
+ * <p>
+ * The JVM does not expose thread affinity so implementations are expected to call out to the operating system or a
+ * native library.
+ */
+@FunctionalInterface
+public interface ThreadAffinity
+{
+    /**
+     * Pin the calling thread to the given CPUs.
+     *
+     * @param cpuIds the thread may run on, which will not be empty.
+     */
+    void pinCurrentThread(int[] cpuIds);
+}
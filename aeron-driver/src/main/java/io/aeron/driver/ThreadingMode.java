@@ -43,4 +43,16 @@ public enum ThreadingMode
      * 3 Threads, one dedicated to each of the {@link org.agrona.concurrent.Agent}s.
      */
     DEDICATED,
+
+    /**
+     * As for {@link #DEDICATED} but with the {@link Receiver} and {@link Sender} each sharded across a number of
+     * agents with their own thread. Receive channel endpoints are assigned to a shard by the
+     * {@link io.aeron.CommonContext#RECEIVER_SHARD_PARAM_NAME} channel param, and send channel endpoints with their
+     * publications by the {@link io.aeron.CommonContext#SENDER_SHARD_PARAM_NAME} channel param, or by hash of the
+     * endpoint when not set.
+     *
+     * @see Configuration#RECEIVER_SHARD_COUNT_PROP_NAME
+     * @see Configuration#SENDER_SHARD_COUNT_PROP_NAME
+     */
+    SHARDED,
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.media.UdpSendBatcher;
+
+/**
+ * Supplier of {@link UdpSendBatcher}s which gather the datagrams sent in a duty cycle of a {@link Sender}.
+ */
+@FunctionalInterface
+public interface UdpSendBatcherSupplier
+{
+    /**
+     * A new instance of a {@link UdpSendBatcher} to be owned by a {@link Sender}.
+     *
+     * @param context for the configuration of the driver.
+     * @return a new instance of a {@link UdpSendBatcher}.
+     */
+    UdpSendBatcher newInstance(MediaDriver.Context context);
+}
@@ -17,6 +17,9 @@ package io.aeron.driver.buffer;
 
 import io.aeron.exceptions.AeronException;
 import org.agrona.*;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.SystemNanoClock;
+import org.agrona.concurrent.status.AtomicCounter;
 
 import java.io.File;
 import java.io.IOException;
@@ -40,6 +43,9 @@ public class FileStoreLogFactory implements LogFactory
     private final long lowStorageWarningThreshold;
     private final int filePageSize;
     private final boolean checkStorage;
+    private final boolean preFault;
+    private final NanoClock nanoClock;
+    private final AtomicCounter preFaultTime;
     private final ErrorHandler errorHandler;
     private final File publicationsDir;
     private final File imagesDir;
@@ -62,23 +68,68 @@ public class FileStoreLogFactory implements LogFactory
         final boolean checkStorage,
         final long lowStorageWarningThreshold,
         final ErrorHandler errorHandler)
+    {
+        this(
+            dataDirectoryName,
+            dataDirectoryName,
+            filePageSize,
+            checkStorage,
+            lowStorageWarningThreshold,
+            false,
+            SystemNanoClock.INSTANCE,
+            null,
+            errorHandler);
+    }
+
+    /**
+     * Construct a {@link LogFactory} over a file store which may be separate from the data directory, such as a
+     * hugetlbfs or tmpfs mount, and which can pre-fault every page of a log before it is returned.
+     * <p>
+     * Pre-faulting writes to the mapped pages rather than the file which is required for hugetlbfs. The file page
+     * size should then be the huge page size of the mount.
+     *
+     * @param dataDirectoryName          where the blank template file will be created.
+     * @param logBuffersDirectoryName    where the log buffers will be created.
+     * @param filePageSize               of the filesystem.
+     * @param checkStorage               for sufficient space before allocating files.
+     * @param lowStorageWarningThreshold when warnings about remaining space will begin.
+     * @param preFault                   every page of a log buffer, which is not sparse, before it is returned.
+     * @param nanoClock                  to time the pre-faulting of log buffers.
+     * @param preFaultTime               counter to accumulate the time spent pre-faulting, may be null if not
+     *                                   pre-faulting.
+     * @param errorHandler               to call when an error is encountered.
+     */
+    public FileStoreLogFactory(
+        final String dataDirectoryName,
+        final String logBuffersDirectoryName,
+        final int filePageSize,
+        final boolean checkStorage,
+        final long lowStorageWarningThreshold,
+        final boolean preFault,
+        final NanoClock nanoClock,
+        final AtomicCounter preFaultTime,
+        final ErrorHandler errorHandler)
     {
         this.filePageSize = filePageSize;
         this.lowStorageWarningThreshold = lowStorageWarningThreshold;
         this.checkStorage = checkStorage;
+        this.preFault = preFault;
+        this.nanoClock = nanoClock;
+        this.preFaultTime = preFaultTime;
         this.errorHandler = errorHandler;
 
         final File dataDir = new File(dataDirectoryName);
+        final File logBuffersDir = new File(logBuffersDirectoryName);
 
-        publicationsDir = new File(dataDir, PUBLICATIONS);
-        imagesDir = new File(dataDir, IMAGES);
+        publicationsDir = new File(logBuffersDir, PUBLICATIONS);
+        imagesDir = new File(logBuffersDir, IMAGES);
 
         IoUtil.ensureDirectoryExists(publicationsDir, PUBLICATIONS);
         IoUtil.ensureDirectoryExists(imagesDir, IMAGES);
 
         try
         {
-            fileStore = checkStorage ? Files.getFileStore(dataDir.toPath()) : null;
+            fileStore = checkStorage ? Files.getFileStore(logBuffersDir.toPath()) : null;
             blankFile = new RandomAccessFile(new File(dataDir, "blank.template"), "rw");
             blankChannel = blankFile.getChannel();
         }
@@ -106,7 +157,7 @@ public class FileStoreLogFactory implements LogFactory
      */
     public RawLog newPublication(final long correlationId, final int termBufferLength, final boolean useSparseFiles)
     {
-        return newInstance(publicationsDir, correlationId, termBufferLength, useSparseFiles);
+        return newLog(streamLocation(publicationsDir, correlationId), termBufferLength, useSparseFiles);
     }
 
     /**
@@ -119,14 +170,34 @@ public class FileStoreLogFactory implements LogFactory
      */
     public RawLog newImage(final long correlationId, final int termBufferLength, final boolean useSparseFiles)
     {
-        return newInstance(imagesDir, correlationId, termBufferLength, useSparseFiles);
+        return newLog(streamLocation(imagesDir, correlationId), termBufferLength, useSparseFiles);
     }
 
-    private RawLog newInstance(
-        final File rootDir,
-        final long correlationId,
-        final int termLength,
-        final boolean useSparseFiles)
+    File publicationsDir()
+    {
+        return publicationsDir;
+    }
+
+    File imagesDir()
+    {
+        return imagesDir;
+    }
+
+    FileStoreLogFactory newFactoryWithBlankTemplateIn(final File dataDir)
+    {
+        return new FileStoreLogFactory(
+            dataDir.getAbsolutePath(),
+            publicationsDir.getParentFile().getAbsolutePath(),
+            filePageSize,
+            checkStorage,
+            lowStorageWarningThreshold,
+            preFault,
+            nanoClock,
+            preFaultTime,
+            errorHandler);
+    }
+
+    MappedRawLog newLog(final File location, final int termLength, final boolean useSparseFiles)
     {
         final long logLength = computeLogLength(termLength, filePageSize);
         checkStorage(logLength);
@@ -145,10 +216,29 @@ public class FileStoreLogFactory implements LogFactory
             blankTemplateLength = logLength;
         }
 
-        final File location = streamLocation(rootDir, correlationId);
+        final boolean preFaultLog = preFault && !useSparseFiles;
+        final MappedRawLog rawLog = new MappedRawLog(
+            location, blankChannel, useSparseFiles, logLength, termLength, filePageSize, preFaultLog, errorHandler);
+
+        if (preFaultLog)
+        {
+            try
+            {
+                final long startNs = nanoClock.nanoTime();
+                rawLog.preFault();
+                if (null != preFaultTime)
+                {
+                    preFaultTime.getAndAdd(nanoClock.nanoTime() - startNs);
+                }
+            }
+            catch (final Throwable ex)
+            {
+                rawLog.close();
+                throw ex;
+            }
+        }
 
-        return new MappedRawLog(
-            location, blankChannel, useSparseFiles, logLength, termLength, filePageSize, errorHandler);
+        return rawLog;
     }
 
     private void checkStorage(final long logLength)
@@ -189,7 +279,7 @@ public class FileStoreLogFactory implements LogFactory
         return usableSpace;
     }
 
-    private static File streamLocation(final File rootDir, final long correlationId)
+    static File streamLocation(final File rootDir, final long correlationId)
     {
         final String fileName = correlationId + ".logbuffer";
 
@@ -47,6 +47,7 @@ class MappedRawLog implements RawLog
     private static final FileAttribute<?>[] NO_ATTRIBUTES = new FileAttribute[0];
 
     private final int termLength;
+    private final int filePageSize;
     private final UnsafeBuffer[] termBuffers = new UnsafeBuffer[PARTITION_COUNT];
     private final UnsafeBuffer logMetaDataBuffer;
     private final ErrorHandler errorHandler;
@@ -60,9 +61,11 @@ class MappedRawLog implements RawLog
         final long logLength,
         final int termLength,
         final int filePageSize,
+        final boolean preFault,
         final ErrorHandler errorHandler)
     {
         this.termLength = termLength;
+        this.filePageSize = filePageSize;
         this.errorHandler = errorHandler;
         this.logFile = location;
 
@@ -70,7 +73,7 @@ class MappedRawLog implements RawLog
 
         try (FileChannel logChannel = FileChannel.open(logFile.toPath(), options, NO_ATTRIBUTES))
         {
-            if (!useSparseFiles)
+            if (!useSparseFiles && !preFault)
             {
                 allocatePages(blankChannel, logChannel, logLength);
             }
@@ -115,7 +118,7 @@ class MappedRawLog implements RawLog
                     LOG_META_DATA_LENGTH);
             }
 
-            if (!useSparseFiles)
+            if (!useSparseFiles && !preFault)
             {
                 preTouchPages(termBuffers, termLength, filePageSize);
             }
@@ -208,6 +211,34 @@ class MappedRawLog implements RawLog
         return logFile.getAbsolutePath();
     }
 
+    /**
+     * Move the log file to a new location while it remains mapped.
+     *
+     * @param location to move the log file to.
+     * @return true if the file was moved.
+     */
+    boolean moveTo(final File location)
+    {
+        if (null != logFile && logFile.renameTo(location))
+        {
+            logFile = location;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Fault in every page of the mapped log by {@link #preTouch(int)} of the terms and writing to the meta data. Pages
+     * are not allocated with writes to the file so this works for filesystems such as hugetlbfs which only support
+     * access via a mapping.
+     */
+    void preFault()
+    {
+        preTouch(filePageSize);
+        logMetaDataBuffer.setMemory(0, logMetaDataBuffer.capacity(), (byte)0);
+    }
+
     private static void allocatePages(final FileChannel blankChannel, final FileChannel logChannel, final long length)
         throws IOException
     {
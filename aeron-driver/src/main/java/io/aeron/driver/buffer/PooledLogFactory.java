@@ -0,0 +1,287 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.IoUtil;
+import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.AgentRunner;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+import org.agrona.concurrent.SleepingMillisIdleStrategy;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.io.File;
+import java.util.ArrayDeque;
+
+/**
+ * {@link LogFactory} which keeps a bounded pool of freshly allocated log files for each term length so new
+ * publications and images can be handed a log without creating, sizing, and mapping a file.
+ * <p>
+ * Pooled files are held in a pool directory and renamed into place when handed out. Only logs which have never been
+ * handed out are pooled, as clients may still have a freed log mapped, so freed logs are deleted as normal. Each log
+ * taken from the pool is replaced by a background agent, which is started on first use. The agent creates logs with
+ * its own {@link FileStoreLogFactory}, over its own blank template in the pool directory, and hands them over via a
+ * lock-free queue so the conductor never waits on an allocation in progress. Requests for sparse logs are not served
+ * from the pool.
+ * <p>
+ * All methods, other than those of the background agent, are expected to be called from the
+ * {@link io.aeron.driver.DriverConductor}.
+ */
+public class PooledLogFactory implements LogFactory
+{
+    private static final String POOL = "pool";
+    private static final int ALLOCATION_QUEUE_CAPACITY = 1024;
+
+    private boolean isClosed;
+    private long poolFileId;
+    private final int poolSize;
+    private final File poolDir;
+    private final FileStoreLogFactory fileStoreLogFactory;
+    private final FileStoreLogFactory allocatorLogFactory;
+    private final AtomicCounter poolHits;
+    private final AtomicCounter poolMisses;
+    private final ErrorHandler errorHandler;
+    private final Int2ObjectHashMap<ArrayDeque<MappedRawLog>> readyLogsByTermLength = new Int2ObjectHashMap<>();
+    private final Int2IntHashMap pooledCountByTermLength = new Int2IntHashMap(-1);
+    private final OneToOneConcurrentArrayQueue<Integer> allocationRequests =
+        new OneToOneConcurrentArrayQueue<>(ALLOCATION_QUEUE_CAPACITY);
+    private final OneToOneConcurrentArrayQueue<Integer> failedAllocations =
+        new OneToOneConcurrentArrayQueue<>(ALLOCATION_QUEUE_CAPACITY);
+    private final OneToOneConcurrentArrayQueue<MappedRawLog> allocatedLogs =
+        new OneToOneConcurrentArrayQueue<>(ALLOCATION_QUEUE_CAPACITY);
+    private AgentRunner logAllocatorRunner;
+
+    /**
+     * Construct a pool over a {@link FileStoreLogFactory} which is used to create logs on the calling thread and is
+     * closed when this factory is closed. The background agent uses a factory with the same configuration.
+     *
+     * @param fileStoreLogFactory to create logs.
+     * @param poolSize            maximum number of free logs to be kept for each term length.
+     * @param termLengths         for which the pool should be filled on construction.
+     * @param poolHits            counter for the number of logs handed out from the pool.
+     * @param poolMisses          counter for the number of logs which had to be created as the pool was empty.
+     * @param errorHandler        to call when an error is encountered while allocating logs in the background.
+     */
+    public PooledLogFactory(
+        final FileStoreLogFactory fileStoreLogFactory,
+        final int poolSize,
+        final int[] termLengths,
+        final AtomicCounter poolHits,
+        final AtomicCounter poolMisses,
+        final ErrorHandler errorHandler)
+    {
+        this.fileStoreLogFactory = fileStoreLogFactory;
+        this.poolSize = poolSize;
+        this.poolHits = poolHits;
+        this.poolMisses = poolMisses;
+        this.errorHandler = errorHandler;
+
+        poolDir = new File(fileStoreLogFactory.publicationsDir().getParentFile(), POOL);
+        IoUtil.ensureDirectoryExists(poolDir, POOL);
+
+        allocatorLogFactory = fileStoreLogFactory.newFactoryWithBlankTemplateIn(poolDir);
+
+        for (final int termLength : termLengths)
+        {
+            while (pooledCount(termLength) < poolSize)
+            {
+                readyLogs(termLength).addLast(newPoolLog(fileStoreLogFactory, termLength));
+                adjustPooledCount(termLength, 1);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close()
+    {
+        if (!isClosed)
+        {
+            isClosed = true;
+            CloseHelper.close(logAllocatorRunner);
+
+            MappedRawLog log;
+            while (null != (log = allocatedLogs.poll()))
+            {
+                log.close();
+            }
+
+            for (final ArrayDeque<MappedRawLog> logs : readyLogsByTermLength.values())
+            {
+                while (null != (log = logs.pollFirst()))
+                {
+                    log.close();
+                }
+            }
+
+            CloseHelper.closeAll(allocatorLogFactory, fileStoreLogFactory);
+            IoUtil.delete(poolDir, true);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public RawLog newPublication(final long correlationId, final int termBufferLength, final boolean useSparseFiles)
+    {
+        return newInstance(fileStoreLogFactory.publicationsDir(), correlationId, termBufferLength, useSparseFiles);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public RawLog newImage(final long correlationId, final int termBufferLength, final boolean useSparseFiles)
+    {
+        return newInstance(fileStoreLogFactory.imagesDir(), correlationId, termBufferLength, useSparseFiles);
+    }
+
+    private RawLog newInstance(
+        final File rootDir, final long correlationId, final int termLength, final boolean useSparseFiles)
+    {
+        final File location = FileStoreLogFactory.streamLocation(rootDir, correlationId);
+
+        if (!useSparseFiles)
+        {
+            drainAllocations();
+
+            final ArrayDeque<MappedRawLog> logs = readyLogsByTermLength.get(termLength);
+            final MappedRawLog pooledLog = null != logs ? logs.pollFirst() : null;
+            if (null != pooledLog)
+            {
+                adjustPooledCount(termLength, -1);
+                requestAllocation(termLength);
+
+                if (pooledLog.moveTo(location))
+                {
+                    poolHits.incrementOrdered();
+                    return pooledLog;
+                }
+
+                pooledLog.close();
+            }
+
+            poolMisses.incrementOrdered();
+        }
+
+        return fileStoreLogFactory.newLog(location, termLength, useSparseFiles);
+    }
+
+    private void requestAllocation(final int termLength)
+    {
+        if (pooledCount(termLength) < poolSize)
+        {
+            if (null == logAllocatorRunner)
+            {
+                logAllocatorRunner = new AgentRunner(
+                    new SleepingMillisIdleStrategy(1), errorHandler, null, new LogAllocator());
+                AgentRunner.startOnThread(logAllocatorRunner);
+            }
+
+            if (allocationRequests.offer(termLength))
+            {
+                adjustPooledCount(termLength, 1);
+            }
+        }
+    }
+
+    private void drainAllocations()
+    {
+        MappedRawLog log;
+        while (null != (log = allocatedLogs.poll()))
+        {
+            readyLogs(log.termLength()).addLast(log);
+        }
+
+        Integer termLength;
+        while (null != (termLength = failedAllocations.poll()))
+        {
+            adjustPooledCount(termLength, -1);
+        }
+    }
+
+    private MappedRawLog newPoolLog(final FileStoreLogFactory logFactory, final int termLength)
+    {
+        final File location = new File(poolDir, termLength + "-" + (poolFileId++) + ".logbuffer");
+
+        return logFactory.newLog(location, termLength, false);
+    }
+
+    private void adjustPooledCount(final int termLength, final int delta)
+    {
+        pooledCountByTermLength.put(termLength, pooledCount(termLength) + delta);
+    }
+
+    private int pooledCount(final int termLength)
+    {
+        final int count = pooledCountByTermLength.get(termLength);
+        return -1 == count ? 0 : count;
+    }
+
+    private ArrayDeque<MappedRawLog> readyLogs(final int termLength)
+    {
+        return readyLogsByTermLength.computeIfAbsent(termLength, (ignore) -> new ArrayDeque<>());
+    }
+
+    final class LogAllocator implements Agent
+    {
+        private MappedRawLog pendingLog;
+
+        public int doWork()
+        {
+            if (null == pendingLog)
+            {
+                final Integer termLength = allocationRequests.poll();
+                if (null == termLength)
+                {
+                    return 0;
+                }
+
+                try
+                {
+                    pendingLog = newPoolLog(allocatorLogFactory, termLength);
+                }
+                catch (final Throwable ex)
+                {
+                    failedAllocations.offer(termLength);
+                    throw ex;
+                }
+            }
+
+            if (allocatedLogs.offer(pendingLog))
+            {
+                pendingLog = null;
+                return 1;
+            }
+
+            return 0;
+        }
+
+        public void onClose()
+        {
+            CloseHelper.close(pendingLog);
+            pendingLog = null;
+        }
+
+        public String roleName()
+        {
+            return "log-buffer-allocator";
+        }
+    }
+}
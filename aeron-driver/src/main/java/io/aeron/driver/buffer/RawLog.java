@@ -78,4 +78,23 @@ public interface RawLog extends AutoCloseable
      * Close the resource regardless of if {@link #free()} has succeeded or not.
      */
     void close();
+
+    /**
+     * Touch each page of the term buffers from the calling thread so they are faulted in, and on first touch placed
+     * on the NUMA node of the calling thread. An atomic compare and set of zero to zero is used so the contents are
+     * unchanged should a publisher be writing to the log concurrently.
+     *
+     * @param pageSize of the filesystem the log is mapped from.
+     */
+    default void preTouch(final int pageSize)
+    {
+        final int termLength = termLength();
+        for (final UnsafeBuffer termBuffer : termBuffers())
+        {
+            for (int i = 0; i < termLength; i += pageSize)
+            {
+                termBuffer.compareAndSetLong(i, 0L, 0L);
+            }
+        }
+    }
 }
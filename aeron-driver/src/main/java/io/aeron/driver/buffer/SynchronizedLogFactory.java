@@ -0,0 +1,131 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link LogFactory} which serialises access to another factory so logs can be created from more than one thread,
+ * such as by the {@link io.aeron.driver.DriverConductor} and a thread allocating the logs of publication images.
+ * <p>
+ * The logs returned also serialise freeing and closing on this factory as these can return a log to the factory.
+ */
+public final class SynchronizedLogFactory implements LogFactory
+{
+    private final LogFactory logFactory;
+
+    /**
+     * Construct over a {@link LogFactory} which is not required to be thread safe.
+     *
+     * @param logFactory to which access is serialised.
+     */
+    public SynchronizedLogFactory(final LogFactory logFactory)
+    {
+        this.logFactory = logFactory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public synchronized void close()
+    {
+        CloseHelper.close(logFactory);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public synchronized RawLog newPublication(
+        final long correlationId, final int termBufferLength, final boolean useSparseFiles)
+    {
+        return new SynchronizedRawLog(this, logFactory.newPublication(correlationId, termBufferLength, useSparseFiles));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public synchronized RawLog newImage(
+        final long correlationId, final int termBufferLength, final boolean useSparseFiles)
+    {
+        return new SynchronizedRawLog(this, logFactory.newImage(correlationId, termBufferLength, useSparseFiles));
+    }
+
+    static final class SynchronizedRawLog implements RawLog
+    {
+        private final SynchronizedLogFactory logFactory;
+        private final RawLog rawLog;
+
+        SynchronizedRawLog(final SynchronizedLogFactory logFactory, final RawLog rawLog)
+        {
+            this.logFactory = logFactory;
+            this.rawLog = rawLog;
+        }
+
+        public int termLength()
+        {
+            return rawLog.termLength();
+        }
+
+        public UnsafeBuffer[] termBuffers()
+        {
+            return rawLog.termBuffers();
+        }
+
+        public UnsafeBuffer metaData()
+        {
+            return rawLog.metaData();
+        }
+
+        public ByteBuffer[] sliceTerms()
+        {
+            return rawLog.sliceTerms();
+        }
+
+        public String fileName()
+        {
+            return rawLog.fileName();
+        }
+
+        public boolean free()
+        {
+            synchronized (logFactory)
+            {
+                return rawLog.free();
+            }
+        }
+
+        public boolean isInactive()
+        {
+            return rawLog.isInactive();
+        }
+
+        public void close()
+        {
+            synchronized (logFactory)
+            {
+                rawLog.close();
+            }
+        }
+
+        public void preTouch(final int pageSize)
+        {
+            rawLog.preTouch(pageSize);
+        }
+    }
+}
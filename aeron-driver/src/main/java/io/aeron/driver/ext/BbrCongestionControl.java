@@ -0,0 +1,417 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.driver.CongestionControl;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.PerImageIndicator;
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.driver.CongestionControl.packOutcome;
+
+/**
+ * BBR style congestion control manipulation of the receiver window length.
+ * <p>
+ * <a target="_blank" href="https://queue.acm.org/detail.cfm?id=3022184">
+ * https://queue.acm.org/detail.cfm?id=3022184</a>
+ * <p>
+ * The bottleneck bandwidth is estimated as the max of the receive rate sampled over each of the last 10 rounds, where
+ * a round lasts for the min RTT, and the min RTT is estimated from RTT measurements to the sender. The window is then
+ * set to a gain of the bandwidth-delay product {@code BDP = bottleneck bandwidth * min RTT} which depends on the phase:
+ * <ul>
+ *     <li>STARTUP: {@code 2/ln(2) * BDP} until the bandwidth stops growing by 25% for 3 rounds.</li>
+ *     <li>DRAIN: {@code BDP} for a round to drain the queue built up during startup.</li>
+ *     <li>PROBE_BW: {@code 1.5 * BDP} cycling through gains of 1.25 and 0.75 to probe for more bandwidth. The extra
+ *     half a BDP covers status messages only being sent once a quarter of the window has been consumed.</li>
+ *     <li>PROBE_RTT: minimum window to drain queues if the min RTT has not been seen for a while.</li>
+ * </ul>
+ * Window growth is limited to doubling each round so increases are paced to the feedback from the sender. Loss does
+ * not reduce the window but forces a status message. The receiver cannot tell if a sender is application limited so
+ * the window follows the rate a sender actually achieves.
+ */
+public class BbrCongestionControl implements CongestionControl
+{
+    /**
+     * URI param value to identify this {@link CongestionControl} strategy.
+     */
+    public static final String CC_PARAM_VALUE = "bbr";
+
+    private static final long SECOND_IN_NS = TimeUnit.SECONDS.toNanos(1);
+    private static final long RTT_MEASUREMENT_INTERVAL_NS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long RTT_MEASUREMENT_TIMEOUT_NS = SECOND_IN_NS;
+    private static final long MIN_ROUND_DURATION_NS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int MIN_WINDOW_MTU_COUNT = 4;
+    private static final int BANDWIDTH_FILTER_ROUND_COUNT = 10;
+    private static final int FULL_BANDWIDTH_ROUND_COUNT = 3;
+    private static final double FULL_BANDWIDTH_GROWTH = 1.25;
+    private static final double STARTUP_GAIN = 2.0 / Math.log(2.0);
+    private static final double WINDOW_GAIN = 1.5;
+    private static final double MAX_GROWTH_PER_ROUND = 2.0;
+    private static final double[] PROBE_BW_GAINS = { 1.25, 0.75, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0 };
+
+    enum Phase
+    {
+        STARTUP, DRAIN, PROBE_BW, PROBE_RTT
+    }
+
+    private final int mtu;
+    private final int minWindow;
+    private final int maxWindow;
+    private final ErrorHandler errorHandler;
+
+    private int window;
+    private int bandwidthSampleIndex;
+    private int probeBwCycleIndex;
+    private int fullBandwidthRoundCount;
+    private boolean isFullBandwidthReached;
+    private boolean isRoundStarted;
+    private Phase phase = Phase.STARTUP;
+    private long roundStartNs;
+    private long roundStartPosition;
+    private long bottleneckBandwidth;
+    private long fullBandwidth;
+    private long minRttNs;
+    private long minRttTimestampNs;
+    private long probeRttStartNs;
+    private long probeRttMinNs;
+    private long lastRttSampleCount;
+    private boolean hasRttSample;
+    private final long[] bandwidthSamples = new long[BANDWIDTH_FILTER_ROUND_COUNT];
+
+    private long lastRttTimestampNs;
+    private boolean isRttMeasurementOutstanding;
+    private volatile long latestRttNs;
+    private volatile long rttSampleCount;
+
+    private final AtomicCounter rttIndicator;
+    private final AtomicCounter windowIndicator;
+    private final AtomicCounter bandwidthIndicator;
+
+    /**
+     * Construct a new {@link CongestionControl} instance for a received stream image using the BBR algorithm.
+     *
+     * @param registrationId  for the publication image.
+     * @param udpChannel      for the publication image.
+     * @param streamId        for the publication image.
+     * @param sessionId       for the publication image.
+     * @param termLength      for the publication image.
+     * @param senderMtuLength for the publication image.
+     * @param controlAddress  for the publication image.
+     * @param sourceAddress   for the publication image.
+     * @param nanoClock       for the precise timing.
+     * @param context         for configuration options applied in the driver.
+     * @param countersManager for the driver.
+     */
+    public BbrCongestionControl(
+        final long registrationId,
+        final UdpChannel udpChannel,
+        final int streamId,
+        final int sessionId,
+        final int termLength,
+        final int senderMtuLength,
+        final InetSocketAddress controlAddress,
+        final InetSocketAddress sourceAddress,
+        final NanoClock nanoClock,
+        final MediaDriver.Context context,
+        final CountersManager countersManager)
+    {
+        AtomicCounter rttIndicator = null;
+        AtomicCounter windowIndicator = null;
+        AtomicCounter bandwidthIndicator = null;
+        try
+        {
+            mtu = senderMtuLength;
+            maxWindow = Math.min(termLength >> 1, context.initialWindowLength());
+            minWindow = Math.min(MIN_WINDOW_MTU_COUNT * senderMtuLength, maxWindow);
+            window = minWindow;
+            minRttNs = BbrCongestionControlConfiguration.INITIAL_RTT_NS;
+
+            rttIndicator = PerImageIndicator.allocate(
+                context.tempBuffer(),
+                "rcv-cc-bbr-rtt",
+                countersManager,
+                registrationId,
+                sessionId,
+                streamId,
+                udpChannel.originalUriString());
+
+            windowIndicator = PerImageIndicator.allocate(
+                context.tempBuffer(),
+                "rcv-cc-bbr-wnd",
+                countersManager,
+                registrationId,
+                sessionId,
+                streamId,
+                udpChannel.originalUriString());
+
+            bandwidthIndicator = PerImageIndicator.allocate(
+                context.tempBuffer(),
+                "rcv-cc-bbr-bw",
+                countersManager,
+                registrationId,
+                sessionId,
+                streamId,
+                udpChannel.originalUriString());
+
+            rttIndicator.setOrdered(0);
+            windowIndicator.setOrdered(minWindow);
+            bandwidthIndicator.setOrdered(0);
+            this.rttIndicator = rttIndicator;
+            this.windowIndicator = windowIndicator;
+            this.bandwidthIndicator = bandwidthIndicator;
+
+            final long nowNs = nanoClock.nanoTime();
+            minRttTimestampNs = nowNs;
+            lastRttTimestampNs = nowNs - RTT_MEASUREMENT_INTERVAL_NS;
+
+            errorHandler = context.errorHandler();
+        }
+        catch (final Throwable ex)
+        {
+            CloseHelper.close(rttIndicator);
+            CloseHelper.close(windowIndicator);
+            CloseHelper.close(bandwidthIndicator);
+            throw ex;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean shouldMeasureRtt(final long nowNs)
+    {
+        return (!isRttMeasurementOutstanding && (lastRttTimestampNs + RTT_MEASUREMENT_INTERVAL_NS) - nowNs < 0) ||
+            (lastRttTimestampNs + RTT_MEASUREMENT_TIMEOUT_NS) - nowNs < 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onRttMeasurementSent(final long nowNs)
+    {
+        lastRttTimestampNs = nowNs;
+        isRttMeasurementOutstanding = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onRttMeasurement(final long nowNs, final long rttNs, final InetSocketAddress srcAddress)
+    {
+        isRttMeasurementOutstanding = false;
+        lastRttTimestampNs = nowNs;
+        latestRttNs = rttNs;
+        rttSampleCount = rttSampleCount + 1;
+        rttIndicator.setOrdered(rttNs);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long onTrackRebuild(
+        final long nowNs,
+        final long newConsumptionPosition,
+        final long lastSmPosition,
+        final long hwmPosition,
+        final long startingRebuildPosition,
+        final long endingRebuildPosition,
+        final boolean lossOccurred)
+    {
+        final long sampleCount = rttSampleCount;
+        if (sampleCount != lastRttSampleCount)
+        {
+            lastRttSampleCount = sampleCount;
+            onRttSample(nowNs, latestRttNs);
+        }
+
+        if (!isRoundStarted)
+        {
+            isRoundStarted = true;
+            roundStartNs = nowNs;
+            roundStartPosition = hwmPosition;
+        }
+        else if (nowNs - roundStartNs >= Math.max(minRttNs, MIN_ROUND_DURATION_NS))
+        {
+            onRoundEnd(nowNs, hwmPosition);
+        }
+
+        return packOutcome(window, lossOccurred);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int initialWindowLength()
+    {
+        return minWindow;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close()
+    {
+        CloseHelper.close(errorHandler, rttIndicator);
+        CloseHelper.close(errorHandler, windowIndicator);
+        CloseHelper.close(errorHandler, bandwidthIndicator);
+    }
+
+    Phase phase()
+    {
+        return phase;
+    }
+
+    long bottleneckBandwidth()
+    {
+        return bottleneckBandwidth;
+    }
+
+    long minRttNs()
+    {
+        return minRttNs;
+    }
+
+    private void onRttSample(final long nowNs, final long rttNs)
+    {
+        if (Phase.PROBE_RTT == phase)
+        {
+            probeRttMinNs = Math.min(probeRttMinNs, rttNs);
+        }
+
+        if (!hasRttSample || rttNs <= minRttNs)
+        {
+            hasRttSample = true;
+            minRttNs = rttNs;
+            minRttTimestampNs = nowNs;
+        }
+    }
+
+    private void onRoundEnd(final long nowNs, final long hwmPosition)
+    {
+        final long deliveredBytes = hwmPosition - roundStartPosition;
+        final long durationNs = nowNs - roundStartNs;
+        roundStartNs = nowNs;
+        roundStartPosition = hwmPosition;
+
+        if (deliveredBytes > 0)
+        {
+            bandwidthSamples[bandwidthSampleIndex] = (long)((double)deliveredBytes * SECOND_IN_NS / durationNs);
+            bandwidthSampleIndex = (bandwidthSampleIndex + 1) % BANDWIDTH_FILTER_ROUND_COUNT;
+
+            long maxBandwidth = 0;
+            for (final long sample : bandwidthSamples)
+            {
+                maxBandwidth = Math.max(maxBandwidth, sample);
+            }
+            bottleneckBandwidth = maxBandwidth;
+            bandwidthIndicator.setOrdered(maxBandwidth);
+
+            if (Phase.STARTUP == phase)
+            {
+                checkFullBandwidthReached();
+            }
+        }
+
+        switch (phase)
+        {
+            case DRAIN:
+                phase = Phase.PROBE_BW;
+                probeBwCycleIndex = 0;
+                break;
+
+            case PROBE_BW:
+                probeBwCycleIndex = (probeBwCycleIndex + 1) % PROBE_BW_GAINS.length;
+                break;
+
+            case PROBE_RTT:
+                if (nowNs - probeRttStartNs >= BbrCongestionControlConfiguration.PROBE_RTT_DURATION_NS)
+                {
+                    if (Long.MAX_VALUE != probeRttMinNs)
+                    {
+                        minRttNs = probeRttMinNs;
+                    }
+                    minRttTimestampNs = nowNs;
+                    phase = isFullBandwidthReached ? Phase.PROBE_BW : Phase.STARTUP;
+                }
+                break;
+
+            default:
+                break;
+        }
+
+        if (Phase.PROBE_RTT != phase &&
+            nowNs - minRttTimestampNs > BbrCongestionControlConfiguration.MIN_RTT_WINDOW_NS)
+        {
+            phase = Phase.PROBE_RTT;
+            probeRttStartNs = nowNs;
+            probeRttMinNs = Long.MAX_VALUE;
+        }
+
+        updateWindow();
+    }
+
+    private void checkFullBandwidthReached()
+    {
+        if (bottleneckBandwidth >= fullBandwidth * FULL_BANDWIDTH_GROWTH)
+        {
+            fullBandwidth = bottleneckBandwidth;
+            fullBandwidthRoundCount = 0;
+        }
+        else if (++fullBandwidthRoundCount >= FULL_BANDWIDTH_ROUND_COUNT)
+        {
+            isFullBandwidthReached = true;
+            phase = Phase.DRAIN;
+        }
+    }
+
+    private void updateWindow()
+    {
+        final double gain;
+        switch (phase)
+        {
+            case STARTUP:
+                gain = STARTUP_GAIN;
+                break;
+
+            case DRAIN:
+                gain = 1.0;
+                break;
+
+            case PROBE_BW:
+                gain = WINDOW_GAIN * PROBE_BW_GAINS[probeBwCycleIndex];
+                break;
+
+            default:
+                gain = 0.0;
+                break;
+        }
+
+        final double bdp = (double)bottleneckBandwidth * minRttNs / SECOND_IN_NS;
+        final long target = (long)Math.min(gain * bdp, window * MAX_GROWTH_PER_ROUND);
+        final long alignedTarget = ((target + mtu - 1) / mtu) * mtu;
+
+        window = (int)Math.max(minWindow, Math.min(alignedTarget, maxWindow));
+        windowIndicator.setOrdered(window);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration options to be applied when {@link BbrCongestionControl} is loaded.
+ */
+public class BbrCongestionControlConfiguration
+{
+    /**
+     * Property name for the RTT in nanoseconds to be assumed until the first RTT measurement is received.
+     */
+    public static final String INITIAL_RTT_NS_PROP_NAME = "aeron.BbrCongestionControl.initialRtt";
+
+    /**
+     * Default initial RTT in nanoseconds.
+     */
+    public static final long INITIAL_RTT_NS_DEFAULT = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * Property name for the duration in nanoseconds for which a min RTT estimate is valid before the window is reduced
+     * to probe for a new min RTT.
+     */
+    public static final String MIN_RTT_WINDOW_NS_PROP_NAME = "aeron.BbrCongestionControl.minRttWindow";
+
+    /**
+     * Default duration in nanoseconds for which a min RTT estimate is valid.
+     */
+    public static final long MIN_RTT_WINDOW_NS_DEFAULT = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Property name for the duration in nanoseconds the window is held at its minimum when probing for min RTT.
+     */
+    public static final String PROBE_RTT_DURATION_NS_PROP_NAME = "aeron.BbrCongestionControl.probeRttDuration";
+
+    /**
+     * Default duration in nanoseconds the window is held at its minimum when probing for min RTT.
+     */
+    public static final long PROBE_RTT_DURATION_NS_DEFAULT = TimeUnit.MILLISECONDS.toNanos(200);
+
+    /**
+     * Setting to be used for the RTT until it is first measured.
+     * @see #INITIAL_RTT_NS_PROP_NAME
+     */
+    public static final long INITIAL_RTT_NS = Long.getLong(INITIAL_RTT_NS_PROP_NAME, INITIAL_RTT_NS_DEFAULT);
+
+    /**
+     * Setting to be used for the duration a min RTT estimate is valid.
+     * @see #MIN_RTT_WINDOW_NS_PROP_NAME
+     */
+    public static final long MIN_RTT_WINDOW_NS = Long.getLong(MIN_RTT_WINDOW_NS_PROP_NAME, MIN_RTT_WINDOW_NS_DEFAULT);
+
+    /**
+     * Setting to be used for the duration of probing for min RTT.
+     * @see #PROBE_RTT_DURATION_NS_PROP_NAME
+     */
+    public static final long PROBE_RTT_DURATION_NS =
+        Long.getLong(PROBE_RTT_DURATION_NS_PROP_NAME, PROBE_RTT_DURATION_NS_DEFAULT);
+}
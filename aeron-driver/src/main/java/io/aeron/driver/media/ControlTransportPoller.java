@@ -61,6 +61,18 @@ public final class ControlTransportPoller extends UdpTransportPoller
         super(errorHandler);
     }
 
+    /**
+     * Construct a new {@link TransportPoller} with an {@link ErrorHandler} for logging and a threshold below which
+     * transports are polled directly rather than via the selector.
+     *
+     * @param errorHandler       which can be used to log errors and continue.
+     * @param iterationThreshold number of transports at or below which they are polled without the selector.
+     */
+    public ControlTransportPoller(final ErrorHandler errorHandler, final int iterationThreshold)
+    {
+        super(errorHandler, iterationThreshold);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -79,11 +91,21 @@ public final class ControlTransportPoller extends UdpTransportPoller
         int bytesReceived = 0;
         try
         {
-            if (transports.length <= ITERATION_THRESHOLD)
+            final SendChannelEndpoint[] transports = this.transports;
+            final int transportCount = transports.length;
+
+            if (transportCount <= iterationThreshold)
             {
-                for (final SendChannelEndpoint transport : transports)
+                final int startingIndex = nextStartingIndex(transportCount);
+
+                for (int i = startingIndex; i < transportCount; i++)
+                {
+                    bytesReceived += poll(transports[i]);
+                }
+
+                for (int i = 0; i < startingIndex; i++)
                 {
-                    bytesReceived += poll(transport);
+                    bytesReceived += poll(transports[i]);
                 }
             }
             else
@@ -26,6 +26,7 @@ import org.agrona.ErrorHandler;
 import org.agrona.LangUtil;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.nio.TransportPoller;
 
 import java.io.IOException;
@@ -40,17 +41,19 @@ import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 
 /**
  * Encapsulates the polling of data {@link UdpChannelTransport}s using whatever means provides the lowest latency.
+ * <p>
+ * When the receive batch size is greater than 1 then up to that many datagrams are drained from each ready transport
+ * into a ring of receive buffers before being dispatched to the {@link ReceiveChannelEndpoint}.
  */
 public final class DataTransportPoller extends UdpTransportPoller
 {
     private static final ChannelAndTransport[] EMPTY_TRANSPORTS = new ChannelAndTransport[0];
 
-    private final ByteBuffer byteBuffer = BufferUtil.allocateDirectAligned(
-        Configuration.MAX_UDP_PAYLOAD_LENGTH, CACHE_LINE_LENGTH);
-    private final UnsafeBuffer unsafeBuffer = new UnsafeBuffer(byteBuffer);
-    private final DataHeaderFlyweight dataMessage = new DataHeaderFlyweight(unsafeBuffer);
-    private final SetupFlyweight setupMessage = new SetupFlyweight(unsafeBuffer);
-    private final RttMeasurementFlyweight rttMeasurement = new RttMeasurementFlyweight(unsafeBuffer);
+    private final int receiveBatchSize;
+    private final ReceiveBuffer[] receiveBuffers;
+    private final ReceiveBuffer receiveBuffer;
+    private final AtomicCounter batchPolls;
+    private final AtomicCounter batchDatagrams;
     private ChannelAndTransport[] channelAndTransports = EMPTY_TRANSPORTS;
 
     /**
@@ -60,7 +63,44 @@ public final class DataTransportPoller extends UdpTransportPoller
      */
     public DataTransportPoller(final ErrorHandler errorHandler)
     {
-        super(errorHandler);
+        this(errorHandler, ITERATION_THRESHOLD, 1, null, null);
+    }
+
+    /**
+     * Construct a new {@link TransportPoller} with an {@link ErrorHandler} for logging which drains up to
+     * receiveBatchSize datagrams from each transport before dispatching them.
+     *
+     * @param errorHandler       which can be used to log errors and continue.
+     * @param iterationThreshold number of transports at or below which they are polled without the selector.
+     * @param receiveBatchSize   maximum number of datagrams to receive from a transport before dispatching them.
+     * @param batchPolls         counter for the number of transport polls which returned at least one datagram when
+     *                           batching, may be null if receiveBatchSize is 1.
+     * @param batchDatagrams     counter for the number of datagrams returned by transport polls when batching, may be
+     *                           null if receiveBatchSize is 1.
+     */
+    public DataTransportPoller(
+        final ErrorHandler errorHandler,
+        final int iterationThreshold,
+        final int receiveBatchSize,
+        final AtomicCounter batchPolls,
+        final AtomicCounter batchDatagrams)
+    {
+        super(errorHandler, iterationThreshold);
+
+        if (receiveBatchSize < 1)
+        {
+            throw new IllegalArgumentException("receiveBatchSize must be positive: " + receiveBatchSize);
+        }
+
+        this.receiveBatchSize = receiveBatchSize;
+        this.batchPolls = batchPolls;
+        this.batchDatagrams = batchDatagrams;
+        this.receiveBuffers = new ReceiveBuffer[receiveBatchSize];
+        for (int i = 0; i < receiveBatchSize; i++)
+        {
+            receiveBuffers[i] = new ReceiveBuffer();
+        }
+        this.receiveBuffer = receiveBuffers[0];
     }
 
     /**
@@ -86,11 +126,21 @@ public final class DataTransportPoller extends UdpTransportPoller
         int bytesReceived = 0;
         try
         {
-            if (channelAndTransports.length <= ITERATION_THRESHOLD)
+            final ChannelAndTransport[] channelAndTransports = this.channelAndTransports;
+            final int transportCount = channelAndTransports.length;
+
+            if (transportCount <= iterationThreshold)
             {
-                for (final ChannelAndTransport channelAndTransport : channelAndTransports)
+                final int startingIndex = nextStartingIndex(transportCount);
+
+                for (int i = startingIndex; i < transportCount; i++)
                 {
-                    bytesReceived += poll(channelAndTransport);
+                    bytesReceived += poll(channelAndTransports[i]);
+                }
+
+                for (int i = 0; i < startingIndex; i++)
+                {
+                    bytesReceived += poll(channelAndTransports[i]);
                 }
             }
             else
@@ -200,40 +250,109 @@ public final class DataTransportPoller extends UdpTransportPoller
 
     private int poll(final ChannelAndTransport channelAndTransport)
     {
+        if (1 != receiveBatchSize)
+        {
+            return pollBatch(channelAndTransport);
+        }
+
         int bytesReceived = 0;
-        final InetSocketAddress srcAddress = channelAndTransport.transport.receive(byteBuffer);
+        final ReceiveBuffer receiveBuffer = this.receiveBuffer;
+        final InetSocketAddress srcAddress = channelAndTransport.transport.receive(receiveBuffer.byteBuffer);
 
         if (null != srcAddress)
         {
-            final int length = byteBuffer.position();
-            final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
+            bytesReceived = dispatch(
+                channelAndTransport, receiveBuffer, receiveBuffer.byteBuffer.position(), srcAddress);
+        }
+
+        return bytesReceived;
+    }
 
-            if (channelEndpoint.isValidFrame(unsafeBuffer, length))
+    private int pollBatch(final ChannelAndTransport channelAndTransport)
+    {
+        final ReceiveBuffer[] receiveBuffers = this.receiveBuffers;
+        final UdpChannelTransport transport = channelAndTransport.transport;
+        int count = 0;
+
+        while (count < receiveBatchSize)
+        {
+            final ReceiveBuffer receiveBuffer = receiveBuffers[count];
+            final InetSocketAddress srcAddress = transport.receive(receiveBuffer.byteBuffer);
+            if (null == srcAddress)
             {
-                channelEndpoint.receiveHook(unsafeBuffer, length, srcAddress);
+                break;
+            }
 
-                final int frameType = frameType(unsafeBuffer, 0);
-                if (HDR_TYPE_DATA == frameType || HDR_TYPE_PAD == frameType)
-                {
-                    bytesReceived = channelEndpoint.onDataPacket(
-                        dataMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
-                }
-                else if (HDR_TYPE_SETUP == frameType)
-                {
-                    channelEndpoint.onSetupMessage(
-                        setupMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
-                }
-                else if (HDR_TYPE_RTTM == frameType)
-                {
-                    channelEndpoint.onRttMeasurement(
-                        rttMeasurement, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
-                }
+            receiveBuffer.srcAddress = srcAddress;
+            count++;
+        }
+
+        int bytesReceived = 0;
+        if (count > 0)
+        {
+            batchPolls.incrementOrdered();
+            batchDatagrams.getAndAddOrdered(count);
+
+            for (int i = 0; i < count; i++)
+            {
+                final ReceiveBuffer receiveBuffer = receiveBuffers[i];
+                final InetSocketAddress srcAddress = receiveBuffer.srcAddress;
+                receiveBuffer.srcAddress = null;
+
+                bytesReceived += dispatch(
+                    channelAndTransport, receiveBuffer, receiveBuffer.byteBuffer.position(), srcAddress);
+            }
+        }
+
+        return bytesReceived;
+    }
+
+    private static int dispatch(
+        final ChannelAndTransport channelAndTransport,
+        final ReceiveBuffer receiveBuffer,
+        final int length,
+        final InetSocketAddress srcAddress)
+    {
+        int bytesReceived = 0;
+        final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
+        final UnsafeBuffer unsafeBuffer = receiveBuffer.unsafeBuffer;
+
+        if (channelEndpoint.isValidFrame(unsafeBuffer, length))
+        {
+            channelEndpoint.receiveHook(unsafeBuffer, length, srcAddress);
+
+            final int frameType = frameType(unsafeBuffer, 0);
+            if (HDR_TYPE_DATA == frameType || HDR_TYPE_PAD == frameType)
+            {
+                bytesReceived = channelEndpoint.onDataPacket(
+                    receiveBuffer.dataMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
+            }
+            else if (HDR_TYPE_SETUP == frameType)
+            {
+                channelEndpoint.onSetupMessage(
+                    receiveBuffer.setupMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
+            }
+            else if (HDR_TYPE_RTTM == frameType)
+            {
+                channelEndpoint.onRttMeasurement(
+                    receiveBuffer.rttMeasurement, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
             }
         }
 
         return bytesReceived;
     }
 
+    static final class ReceiveBuffer
+    {
+        final ByteBuffer byteBuffer = BufferUtil.allocateDirectAligned(
+            Configuration.MAX_UDP_PAYLOAD_LENGTH, CACHE_LINE_LENGTH);
+        final UnsafeBuffer unsafeBuffer = new UnsafeBuffer(byteBuffer);
+        final DataHeaderFlyweight dataMessage = new DataHeaderFlyweight(unsafeBuffer);
+        final SetupFlyweight setupMessage = new SetupFlyweight(unsafeBuffer);
+        final RttMeasurementFlyweight rttMeasurement = new RttMeasurementFlyweight(unsafeBuffer);
+        InetSocketAddress srcAddress;
+    }
+
     static class ChannelAndTransport
     {
         final ReceiveChannelEndpoint channelEndpoint;
@@ -80,7 +80,11 @@ abstract class MultiSndDestination
             {
                 buffer.position(position);
                 channelEndpoint.sendHook(buffer, destination);
-                bytesSent = datagramChannel.send(buffer, destination);
+
+                final UdpSendBatcher sendBatcher = channelEndpoint.sendBatcher();
+                bytesSent = null == sendBatcher ?
+                    datagramChannel.send(buffer, destination) :
+                    sendBatcher.send(channelEndpoint, datagramChannel, buffer, destination);
             }
         }
         catch (final PortUnreachableException ignore)
@@ -83,6 +83,7 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointHotFields
     private final Long groupTag;
 
     private final long receiverId;
+    private int receiverShardIndex;
     private InetSocketAddress currentControlAddress;
     private AtomicCounter localSocketAddressIndicator;
 
@@ -141,6 +142,27 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointHotFields
         localSocketAddressIndicator = counter;
     }
 
+    /**
+     * Set the index of the receiver shard which services this endpoint when the driver runs with sharded receivers.
+     *
+     * @param shardIndex of the receiver shard which services this endpoint.
+     */
+    public void receiverShardIndex(final int shardIndex)
+    {
+        receiverShardIndex = shardIndex;
+    }
+
+    /**
+     * Index of the receiver shard which services this endpoint, which is 0 unless the driver runs with sharded
+     * receivers.
+     *
+     * @return index of the receiver shard which services this endpoint.
+     */
+    public int receiverShardIndex()
+    {
+        return receiverShardIndex;
+    }
+
     /**
      * Send contents of {@link java.nio.ByteBuffer} to the remote address.
      *
@@ -766,17 +788,62 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointHotFields
         if (!isClosed)
         {
             nakBuffer.clear();
+            nakBuffer.limit(NakFlyweight.HEADER_LENGTH);
             nakFlyweight
                 .streamId(streamId)
                 .sessionId(sessionId)
                 .termId(termId)
                 .termOffset(termOffset)
-                .length(length);
+                .length(length)
+                .frameLength(NakFlyweight.HEADER_LENGTH);
 
             send(nakBuffer, NakFlyweight.HEADER_LENGTH, controlAddresses);
         }
     }
 
+    /**
+     * Send a NAK message for multiple gaps in a term back to the sources which have negotiated support for it.
+     *
+     * @param controlAddresses  of the sources.
+     * @param sessionId         of the image.
+     * @param streamId          of the image.
+     * @param termId            of the image to indicate position.
+     * @param gapCount          number of gaps, which is at most 1 + {@link NakFlyweight#MAX_ADDITIONAL_GAPS}.
+     * @param gapTermOffsets    of the gaps to be re-transmitted.
+     * @param gapLengths        of the gaps to be re-transmitted.
+     */
+    public void sendNakMessage(
+        final ImageConnection[] controlAddresses,
+        final int sessionId,
+        final int streamId,
+        final int termId,
+        final int gapCount,
+        final int[] gapTermOffsets,
+        final int[] gapLengths)
+    {
+        if (!isClosed)
+        {
+            final int frameLength = NakFlyweight.HEADER_LENGTH + ((gapCount - 1) * NakFlyweight.GAP_LENGTH);
+
+            nakBuffer.clear();
+            nakBuffer.limit(frameLength);
+            nakFlyweight
+                .streamId(streamId)
+                .sessionId(sessionId)
+                .termId(termId)
+                .termOffset(gapTermOffsets[0])
+                .length(gapLengths[0])
+                .frameLength(frameLength);
+
+            for (int i = 1; i < gapCount; i++)
+            {
+                nakFlyweight.additionalGap(i - 1, gapTermOffsets[i], gapLengths[i]);
+            }
+
+            send(nakBuffer, frameLength, controlAddresses);
+        }
+    }
+
     /**
      * Send a RTT Measurement frame to the sources.
      *
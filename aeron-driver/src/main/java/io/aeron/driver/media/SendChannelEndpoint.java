@@ -51,6 +51,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
     static final long DESTINATION_TIMEOUT = TimeUnit.SECONDS.toNanos(5);
 
     private int refCount = 0;
+    private int senderShardIndex = 0;
     private long timeOfLastResolutionNs;
     private final Long2ObjectHashMap<NetworkPublication> publicationBySessionAndStreamId = new Long2ObjectHashMap<>();
     private final MultiSndDestination multiSndDestination;
@@ -58,6 +59,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
     private final AtomicCounter nakMessagesReceived;
     private final AtomicCounter statusIndicator;
     private AtomicCounter localSocketAddressIndicator;
+    private UdpSendBatcher sendBatcher;
 
     /**
      * Construct the sender end for data streams.
@@ -103,6 +105,49 @@ public class SendChannelEndpoint extends UdpChannelTransport
         localSocketAddressIndicator = counter;
     }
 
+    /**
+     * Set the index of the sender shard which services this endpoint and its publications when the driver runs with
+     * sharded senders.
+     *
+     * @param shardIndex of the sender shard which services this endpoint.
+     */
+    public void senderShardIndex(final int shardIndex)
+    {
+        senderShardIndex = shardIndex;
+    }
+
+    /**
+     * Index of the sender shard which services this endpoint and its publications, which is 0 unless the driver runs
+     * with sharded senders.
+     *
+     * @return index of the sender shard which services this endpoint.
+     */
+    public int senderShardIndex()
+    {
+        return senderShardIndex;
+    }
+
+    /**
+     * Set the {@link UdpSendBatcher} to gather datagrams for sending. If null then each datagram is written
+     * directly to the channel.
+     *
+     * @param sendBatcher to gather datagrams or null to write them directly.
+     */
+    public void sendBatcher(final UdpSendBatcher sendBatcher)
+    {
+        this.sendBatcher = sendBatcher;
+    }
+
+    /**
+     * The {@link UdpSendBatcher} gathering datagrams for sending.
+     *
+     * @return {@link UdpSendBatcher} gathering datagrams for sending or null if written directly.
+     */
+    public UdpSendBatcher sendBatcher()
+    {
+        return sendBatcher;
+    }
+
     /**
      * Decrement the reference count to the channel.
      */
@@ -251,7 +296,9 @@ public class SendChannelEndpoint extends UdpChannelTransport
                     sendHook(buffer, connectAddress);
                     if (sendDatagramChannel.isConnected())
                     {
-                        bytesSent = sendDatagramChannel.write(buffer);
+                        bytesSent = null == sendBatcher ?
+                            sendDatagramChannel.write(buffer) :
+                            sendBatcher.send(this, sendDatagramChannel, buffer, null);
                     }
                 }
                 catch (final PortUnreachableException ignore)
@@ -361,7 +408,20 @@ public class SendChannelEndpoint extends UdpChannelTransport
 
         if (null != publication)
         {
-            publication.onNak(msg.termId(), msg.termOffset(), msg.length());
+            final int termId = msg.termId();
+            publication.onNak(termId, msg.termOffset(), msg.length());
+
+            final int limit = Math.min(msg.frameLength(), length);
+            for (int i = 0, count = msg.additionalGapCount(); i < count; i++)
+            {
+                if (NakFlyweight.HEADER_LENGTH + ((i + 1) * NakFlyweight.GAP_LENGTH) > limit)
+                {
+                    break;
+                }
+
+                publication.onNak(termId, msg.additionalGapTermOffset(i), msg.additionalGapLength(i));
+            }
+
             nakMessagesReceived.incrementOrdered();
         }
     }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+/**
+ * Gathers datagrams sent by {@link SendChannelEndpoint}s during a duty cycle of the
+ * {@link io.aeron.driver.Sender} so they can be flushed to the network together with a multi-message send, e.g.
+ * sendmmsg, in a single system call. Without such a send the direct write of each datagram is cheaper, which is why
+ * the {@link io.aeron.driver.DefaultUdpSendBatcherSupplier} supplies none.
+ * <p>
+ * The bytes returned from {@link #send(SendChannelEndpoint, DatagramChannel, ByteBuffer, InetSocketAddress)} are
+ * treated as sent by the publication, which advances its sender position rather than retrying a short send.
+ * Implementations should therefore only accept a datagram which they can hand to the network in the next flush, and
+ * must count any which are then not sent in full as short sends so the loss is visible, it is then recovered via
+ * NAK as for loss on the network.
+ * <p>
+ * Instances are owned by a single sender agent and do not need to be thread safe.
+ */
+public interface UdpSendBatcher extends AutoCloseable
+{
+    /**
+     * Add a datagram to the current batch. The remaining bytes of the buffer are consumed as they would be for
+     * a write to the {@link DatagramChannel} so the buffer can be reused once this method returns.
+     *
+     * @param channelEndpoint which is sending the datagram.
+     * @param datagramChannel on which the datagram should be sent.
+     * @param buffer          containing the datagram between its position and limit.
+     * @param destination     of the datagram, or null if the channel is connected.
+     * @return number of bytes accepted for sending.
+     */
+    int send(
+        SendChannelEndpoint channelEndpoint,
+        DatagramChannel datagramChannel,
+        ByteBuffer buffer,
+        InetSocketAddress destination);
+
+    /**
+     * Flush the datagrams gathered since the last flush to the network.
+     *
+     * @return number of datagrams sent.
+     */
+    int flush();
+
+    /**
+     * Release any resources held by the batcher.
+     */
+    void close();
+}
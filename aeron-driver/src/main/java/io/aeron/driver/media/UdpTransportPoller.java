@@ -22,6 +22,10 @@ import java.nio.channels.SelectionKey;
 
 /**
  * Encapsulates the polling of a number of {@link UdpChannelTransport}s using whatever means provides the lowest latency.
+ * <p>
+ * When the number of registered transports is at or below the iteration threshold then each transport is read
+ * directly with a non-blocking receive in round-robin order and the {@link java.nio.channels.Selector} is bypassed.
+ * Above the threshold the {@link java.nio.channels.Selector} is used to find the ready transports.
  */
 public abstract class UdpTransportPoller extends TransportPoller
 {
@@ -30,14 +34,54 @@ public abstract class UdpTransportPoller extends TransportPoller
      */
     protected final ErrorHandler errorHandler;
 
+    /**
+     * Number of transports at or below which they are polled directly rather than via the selector.
+     */
+    protected final int iterationThreshold;
+
+    /**
+     * Index of the transport at which to start the next direct poll so all transports get a fair share.
+     */
+    protected int roundRobinIndex = 0;
+
     /**
      * Construct a new {@link TransportPoller} with an {@link ErrorHandler} for logging.
      *
      * @param errorHandler which can be used to log errors and continue.
      */
     public UdpTransportPoller(final ErrorHandler errorHandler)
+    {
+        this(errorHandler, ITERATION_THRESHOLD);
+    }
+
+    /**
+     * Construct a new {@link TransportPoller} with an {@link ErrorHandler} for logging and a threshold below which
+     * transports are polled directly rather than via the selector.
+     *
+     * @param errorHandler       which can be used to log errors and continue.
+     * @param iterationThreshold number of transports at or below which they are polled without the selector.
+     */
+    public UdpTransportPoller(final ErrorHandler errorHandler, final int iterationThreshold)
     {
         this.errorHandler = errorHandler;
+        this.iterationThreshold = iterationThreshold;
+    }
+
+    /**
+     * Get the next index at which to start a direct poll of the transports.
+     *
+     * @param length of the transports array.
+     * @return index at which to start polling.
+     */
+    protected final int nextStartingIndex(final int length)
+    {
+        int startingIndex = roundRobinIndex++;
+        if (startingIndex >= length)
+        {
+            roundRobinIndex = startingIndex = 0;
+        }
+
+        return startingIndex;
     }
 
     /**
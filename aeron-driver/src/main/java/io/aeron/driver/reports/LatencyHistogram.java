@@ -0,0 +1,155 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.reports;
+
+import org.agrona.concurrent.AtomicBuffer;
+
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Histogram of latency values in nanoseconds, held as a count per bucket in an {@link AtomicBuffer} which can be
+ * read out of process, see {@link LatencyReportReader}.
+ * <p>
+ * Buckets follow the log-linear layout of HdrHistogram so values are recorded with a relative precision of better
+ * than 1 in {@link #SUB_BUCKET_HALF_COUNT}. Values below {@link #SUB_BUCKET_COUNT} are recorded exactly and values
+ * above {@link #MAX_TRACKABLE_VALUE} are recorded as the max trackable value.
+ * <p>
+ * Recording is threadsafe and does not allocate so a histogram can be shared by the threads of sharded agents.
+ */
+public final class LatencyHistogram
+{
+    /**
+     * Number of bits of linear sub-buckets in each power of two range of values.
+     */
+    public static final int SUB_BUCKET_BITS = 6;
+
+    /**
+     * Number of linear sub-buckets for the lowest power of two range of values.
+     */
+    public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Number of linear sub-buckets for each following power of two range of values.
+     */
+    public static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+
+    /**
+     * Number of bits of the largest value which can be tracked, which is a little over 18 minutes in nanoseconds.
+     */
+    public static final int MAX_VALUE_BITS = 40;
+
+    /**
+     * Largest value which can be tracked.
+     */
+    public static final long MAX_TRACKABLE_VALUE = (1L << MAX_VALUE_BITS) - 1;
+
+    /**
+     * Number of buckets in a histogram.
+     */
+    public static final int BUCKET_COUNT =
+        SUB_BUCKET_COUNT + ((MAX_VALUE_BITS - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT);
+
+    /**
+     * Length in bytes of the buckets of a histogram.
+     */
+    public static final int LENGTH = BUCKET_COUNT * SIZE_OF_LONG;
+
+    private static final int SUB_BUCKET_HALF_BITS = SUB_BUCKET_BITS - 1;
+
+    private final AtomicBuffer buffer;
+    private final int offset;
+
+    /**
+     * Construct a view of a histogram in a buffer.
+     *
+     * @param buffer containing the histogram.
+     * @param offset at which the buckets of the histogram begin.
+     */
+    public LatencyHistogram(final AtomicBuffer buffer, final int offset)
+    {
+        buffer.boundsCheck(offset, LENGTH);
+
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    /**
+     * Record a value in the histogram.
+     *
+     * @param valueNs to be recorded in nanoseconds.
+     */
+    public void record(final long valueNs)
+    {
+        buffer.getAndAddLong(offset + (bucketIndex(valueNs) * SIZE_OF_LONG), 1);
+    }
+
+    /**
+     * Index of the bucket in which a value is counted.
+     *
+     * @param value to find the bucket for.
+     * @return index of the bucket in which the value is counted.
+     */
+    public static int bucketIndex(final long value)
+    {
+        if (value < SUB_BUCKET_COUNT)
+        {
+            return value < 0 ? 0 : (int)value;
+        }
+
+        final long trackedValue = Math.min(value, MAX_TRACKABLE_VALUE);
+        final int shift = (Long.SIZE - Long.numberOfLeadingZeros(trackedValue)) - SUB_BUCKET_BITS;
+
+        return SUB_BUCKET_COUNT + ((shift - 1) << SUB_BUCKET_HALF_BITS) +
+            (int)(trackedValue >>> shift) - SUB_BUCKET_HALF_COUNT;
+    }
+
+    /**
+     * Lowest value which is counted in a bucket.
+     *
+     * @param bucketIndex of the bucket.
+     * @return lowest value which is counted in the bucket.
+     */
+    public static long lowestValue(final int bucketIndex)
+    {
+        if (bucketIndex < SUB_BUCKET_COUNT)
+        {
+            return bucketIndex;
+        }
+
+        final int index = bucketIndex - SUB_BUCKET_COUNT;
+        final int shift = (index >> SUB_BUCKET_HALF_BITS) + 1;
+
+        return (long)((index & (SUB_BUCKET_HALF_COUNT - 1)) + SUB_BUCKET_HALF_COUNT) << shift;
+    }
+
+    /**
+     * Highest value which is counted in a bucket.
+     *
+     * @param bucketIndex of the bucket.
+     * @return highest value which is counted in the bucket.
+     */
+    public static long highestValue(final int bucketIndex)
+    {
+        if (bucketIndex < SUB_BUCKET_COUNT)
+        {
+            return bucketIndex;
+        }
+
+        final int shift = ((bucketIndex - SUB_BUCKET_COUNT) >> SUB_BUCKET_HALF_BITS) + 1;
+
+        return lowestValue(bucketIndex) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.reports;
+
+/**
+ * Latency histograms maintained by the driver in the {@link LatencyReport}. The id of a descriptor is the index of its
+ * histogram in the report.
+ */
+public enum LatencyHistogramDescriptor
+{
+    /**
+     * Round trip time measured by a receiver from the reply to an RTT measurement request to a sender.
+     */
+    RTT_MEASUREMENT(0, "Receiver RTT measurement (ns)"),
+
+    /**
+     * Delay from a NAK being received by a sender to the retransmit being sent.
+     */
+    NAK_TO_RETRANSMIT(1, "Sender NAK received to retransmit sent (ns)"),
+
+    /**
+     * Time of a conductor duty cycle.
+     */
+    CONDUCTOR_CYCLE_TIME(2, "Conductor cycle time doing its work (ns)"),
+
+    /**
+     * Time of a sender duty cycle.
+     */
+    SENDER_CYCLE_TIME(3, "Sender cycle time doing its work (ns)");
+
+    private static final LatencyHistogramDescriptor[] DESCRIPTORS = values();
+
+    static
+    {
+        for (int i = 0; i < DESCRIPTORS.length; i++)
+        {
+            if (DESCRIPTORS[i].id != i)
+            {
+                throw new IllegalStateException("Descriptor id must match its index: " + DESCRIPTORS[i]);
+            }
+        }
+    }
+
+    /**
+     * Get the {@link LatencyHistogramDescriptor} for a given id.
+     *
+     * @param id for the descriptor.
+     * @return the descriptor if found otherwise null.
+     */
+    public static LatencyHistogramDescriptor get(final int id)
+    {
+        return id >= 0 && id < DESCRIPTORS.length ? DESCRIPTORS[id] : null;
+    }
+
+    private final int id;
+    private final String label;
+
+    LatencyHistogramDescriptor(final int id, final String label)
+    {
+        this.id = id;
+        this.label = label;
+    }
+
+    /**
+     * The unique identity for the histogram which is its index in the {@link LatencyReport}.
+     *
+     * @return the unique identity for the histogram.
+     */
+    public int id()
+    {
+        return id;
+    }
+
+    /**
+     * The human readable label to identify a histogram.
+     *
+     * @return the human readable label to identify a histogram.
+     */
+    public String label()
+    {
+        return label;
+    }
+}
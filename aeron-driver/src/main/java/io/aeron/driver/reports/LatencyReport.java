@@ -0,0 +1,141 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.reports;
+
+import org.agrona.concurrent.AtomicBuffer;
+
+import static org.agrona.BitUtil.*;
+
+/**
+ * A report of latency histograms, see {@link LatencyHistogramDescriptor}, for events on the hot paths of the driver.
+ * <p>
+ * The provided {@link AtomicBuffer} can wrap a memory-mapped file so the histograms can be sampled out of process by a
+ * {@link LatencyReportReader}. Histograms only ever accumulate so a reader takes the difference between snapshots for
+ * the distribution of an interval.
+ * <p>
+ * The report is laid out in the memory mapped buffer in the following format with each histogram aligned to a cache
+ * line.
+ * <pre>
+ *   0                   1                   2                   3
+ *   0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ *  +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ *  |                           Version                             |
+ *  +---------------------------------------------------------------+
+ *  |                       Histogram Count                         |
+ *  +---------------------------------------------------------------+
+ *  |                         Bucket Count                          |
+ *  +---------------------------------------------------------------+
+ *  |                       Sub-Bucket Bits                         |
+ *  +---------------------------------------------------------------+
+ *  |                  Padding to cache line length                ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ *  |          Bucket counts of each histogram as 64-bit longs     ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ * </pre>
+ */
+public class LatencyReport
+{
+    /**
+     * Version of the report layout.
+     */
+    public static final int REPORT_VERSION = 1;
+
+    /**
+     * Offset within the report at which the version field begins.
+     */
+    public static final int VERSION_OFFSET = 0;
+
+    /**
+     * Offset within the report at which the histogram count field begins.
+     */
+    public static final int HISTOGRAM_COUNT_OFFSET = VERSION_OFFSET + SIZE_OF_INT;
+
+    /**
+     * Offset within the report at which the bucket count field begins.
+     */
+    public static final int BUCKET_COUNT_OFFSET = HISTOGRAM_COUNT_OFFSET + SIZE_OF_INT;
+
+    /**
+     * Offset within the report at which the sub-bucket bits field begins.
+     */
+    public static final int SUB_BUCKET_BITS_OFFSET = BUCKET_COUNT_OFFSET + SIZE_OF_INT;
+
+    /**
+     * Length of the header of the report before the histograms begin.
+     */
+    public static final int HEADER_LENGTH = CACHE_LINE_LENGTH;
+
+    /**
+     * Length of each histogram within the report.
+     */
+    public static final int HISTOGRAM_LENGTH = align(LatencyHistogram.LENGTH, CACHE_LINE_LENGTH);
+
+    /**
+     * Number of histograms in the report.
+     */
+    public static final int HISTOGRAM_COUNT = LatencyHistogramDescriptor.values().length;
+
+    /**
+     * Length of the report.
+     */
+    public static final int REPORT_LENGTH = HEADER_LENGTH + (HISTOGRAM_COUNT * HISTOGRAM_LENGTH);
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[HISTOGRAM_COUNT];
+
+    /**
+     * Create a report in a buffer which should be zeroed.
+     *
+     * @param buffer for the report which must be at least {@link #REPORT_LENGTH}.
+     */
+    public LatencyReport(final AtomicBuffer buffer)
+    {
+        buffer.boundsCheck(0, REPORT_LENGTH);
+
+        for (int i = 0; i < HISTOGRAM_COUNT; i++)
+        {
+            histograms[i] = new LatencyHistogram(buffer, histogramOffset(i));
+        }
+
+        buffer.putInt(HISTOGRAM_COUNT_OFFSET, HISTOGRAM_COUNT);
+        buffer.putInt(BUCKET_COUNT_OFFSET, LatencyHistogram.BUCKET_COUNT);
+        buffer.putInt(SUB_BUCKET_BITS_OFFSET, LatencyHistogram.SUB_BUCKET_BITS);
+        buffer.putIntOrdered(VERSION_OFFSET, REPORT_VERSION);
+    }
+
+    /**
+     * Get the histogram for a descriptor to record values in.
+     *
+     * @param descriptor of the histogram.
+     * @return the histogram for the descriptor.
+     */
+    public LatencyHistogram histogram(final LatencyHistogramDescriptor descriptor)
+    {
+        return histograms[descriptor.id()];
+    }
+
+    /**
+     * Offset within the report at which a histogram begins.
+     *
+     * @param histogramId of the histogram, see {@link LatencyHistogramDescriptor#id()}.
+     * @return offset within the report at which the histogram begins.
+     */
+    public static int histogramOffset(final int histogramId)
+    {
+        return HEADER_LENGTH + (histogramId * HISTOGRAM_LENGTH);
+    }
+}
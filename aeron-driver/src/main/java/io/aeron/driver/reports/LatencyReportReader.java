@@ -0,0 +1,167 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.reports;
+
+import org.agrona.concurrent.AtomicBuffer;
+
+import static io.aeron.driver.reports.LatencyReport.*;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Reader of a {@link LatencyReport} which takes snapshots of the histograms and computes percentiles over them.
+ * <p>
+ * Snapshots are taken while the histograms are being recorded to so the counts of a snapshot may be slightly skewed
+ * between buckets, which is not significant for monitoring the distribution of an interval.
+ */
+public class LatencyReportReader
+{
+    private final AtomicBuffer buffer;
+    private final int histogramCount;
+
+    /**
+     * Construct a reader over the buffer of a report.
+     *
+     * @param buffer containing the report.
+     * @throws IllegalStateException if the report has not been created or has a layout which does not match.
+     */
+    public LatencyReportReader(final AtomicBuffer buffer)
+    {
+        final int version = buffer.getIntVolatile(VERSION_OFFSET);
+        if (REPORT_VERSION != version)
+        {
+            throw new IllegalStateException("Latency report version " + version + " not supported: " + REPORT_VERSION);
+        }
+
+        final int bucketCount = buffer.getInt(BUCKET_COUNT_OFFSET);
+        final int subBucketBits = buffer.getInt(SUB_BUCKET_BITS_OFFSET);
+        if (LatencyHistogram.BUCKET_COUNT != bucketCount || LatencyHistogram.SUB_BUCKET_BITS != subBucketBits)
+        {
+            throw new IllegalStateException(
+                "Latency report layout mismatch: bucketCount=" + bucketCount + " subBucketBits=" + subBucketBits);
+        }
+
+        this.buffer = buffer;
+        this.histogramCount = Math.min(HISTOGRAM_COUNT, buffer.getInt(HISTOGRAM_COUNT_OFFSET));
+    }
+
+    /**
+     * Number of histograms in the report which are known to this reader.
+     *
+     * @return number of histograms in the report which are known to this reader.
+     */
+    public int histogramCount()
+    {
+        return histogramCount;
+    }
+
+    /**
+     * Take a snapshot of the bucket counts of a histogram.
+     *
+     * @param histogramId of the histogram, see {@link LatencyHistogramDescriptor#id()}.
+     * @param counts      to copy the bucket counts into, of length {@link LatencyHistogram#BUCKET_COUNT}.
+     */
+    public void snapshot(final int histogramId, final long[] counts)
+    {
+        final int offset = histogramOffset(histogramId);
+
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++)
+        {
+            counts[i] = buffer.getLongVolatile(offset + (i * SIZE_OF_LONG));
+        }
+    }
+
+    /**
+     * Compute the bucket counts for the interval between two snapshots of a histogram.
+     *
+     * @param counts         of the snapshot at the end of the interval.
+     * @param previousCounts of the snapshot at the start of the interval.
+     * @param intervalCounts to hold the counts for the interval.
+     */
+    public static void interval(final long[] counts, final long[] previousCounts, final long[] intervalCounts)
+    {
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++)
+        {
+            intervalCounts[i] = counts[i] - previousCounts[i];
+        }
+    }
+
+    /**
+     * Total count of recorded values.
+     *
+     * @param counts of the histogram buckets.
+     * @return total count of recorded values.
+     */
+    public static long totalCount(final long[] counts)
+    {
+        long total = 0;
+        for (final long count : counts)
+        {
+            total += count;
+        }
+
+        return total;
+    }
+
+    /**
+     * Value at a given percentile, as the highest value which is counted in the same bucket like HdrHistogram.
+     *
+     * @param counts     of the histogram buckets.
+     * @param percentile in the range 0.0 to 100.0.
+     * @return the value at the percentile or 0 if the histogram is empty.
+     */
+    public static long valueAtPercentile(final long[] counts, final double percentile)
+    {
+        final long totalCount = totalCount(counts);
+        if (0 == totalCount)
+        {
+            return 0;
+        }
+
+        final double requestedPercentile = Math.min(Math.max(percentile, 0.0), 100.0);
+        final long countAtPercentile = Math.max(1, (long)Math.ceil((requestedPercentile / 100.0) * totalCount));
+
+        long count = 0;
+        for (int i = 0; i < counts.length; i++)
+        {
+            count += counts[i];
+            if (count >= countAtPercentile)
+            {
+                return LatencyHistogram.highestValue(i);
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Max recorded value, as the highest value which is counted in the same bucket like HdrHistogram.
+     *
+     * @param counts of the histogram buckets.
+     * @return the max recorded value or 0 if the histogram is empty.
+     */
+    public static long maxValue(final long[] counts)
+    {
+        for (int i = counts.length - 1; i >= 0; i--)
+        {
+            if (counts[i] > 0)
+            {
+                return LatencyHistogram.highestValue(i);
+            }
+        }
+
+        return 0;
+    }
+}
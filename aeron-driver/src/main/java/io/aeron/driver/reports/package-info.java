@@ -14,6 +14,7 @@
  * limitations under the License.
  */
 /**
- * Reports of driver activity such the {@link io.aeron.driver.reports.LossReport} which tracks loss per stream.
+ * Reports of driver activity such the {@link io.aeron.driver.reports.LossReport} which tracks loss per stream and the
+ * {@link io.aeron.driver.reports.LatencyReport} of latency histograms for hot path events.
  */
 package io.aeron.driver.reports;
\ No newline at end of file
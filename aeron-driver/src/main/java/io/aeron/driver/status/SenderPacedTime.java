@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import io.aeron.AeronCounters;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+/**
+ * Time in nanoseconds a sender has spent with data to send on a stream while held back by the send rate pacing
+ * configured with the {@link io.aeron.CommonContext#SEND_RATE_PARAM_NAME} channel URI param.
+ */
+public class SenderPacedTime
+{
+    /**
+     * Type id of a sender paced time counter.
+     */
+    public static final int SENDER_PACED_TIME_TYPE_ID = AeronCounters.DRIVER_SENDER_PACED_TIME_TYPE_ID;
+
+    /**
+     * Human readable name for the counter.
+     */
+    public static final String NAME = "snd-paced-ns";
+
+    /**
+     * Allocate a new sender paced time counter for a stream.
+     *
+     * @param tempBuffer      to build the label.
+     * @param countersManager to allocate the counter from.
+     * @param registrationId  associated with the counter.
+     * @param sessionId       associated with the counter.
+     * @param streamId        associated with the counter.
+     * @param channel         associated with the counter.
+     * @return the allocated counter.
+     */
+    public static AtomicCounter allocate(
+        final MutableDirectBuffer tempBuffer,
+        final CountersManager countersManager,
+        final long registrationId,
+        final int sessionId,
+        final int streamId,
+        final String channel)
+    {
+        final int counterId = StreamCounter.allocateCounterId(
+            tempBuffer,
+            NAME,
+            SENDER_PACED_TIME_TYPE_ID,
+            countersManager,
+            registrationId,
+            sessionId,
+            streamId,
+            channel);
+
+        return new AtomicCounter(countersManager.valuesBuffer(), counterId, countersManager);
+    }
+}
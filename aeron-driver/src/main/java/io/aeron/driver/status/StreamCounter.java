@@ -248,6 +248,9 @@ public class StreamCounter
             case SenderBpe.SENDER_BPE_TYPE_ID:
                 return SenderBpe.NAME;
 
+            case SenderPacedTime.SENDER_PACED_TIME_TYPE_ID:
+                return SenderPacedTime.NAME;
+
             default:
                 return "<unknown>";
         }
@@ -162,7 +162,64 @@ public enum SystemCounterDescriptor
     /**
      * Count of the number of times the cycle time threshold has been exceeded by the conductor in its work cycle.
      */
-    CONDUCTOR_CYCLE_TIME_THRESHOLD_EXCEEDED(27, "Conductor work cycle exceeded threshold count");
+    CONDUCTOR_CYCLE_TIME_THRESHOLD_EXCEEDED(27, "Conductor work cycle exceeded threshold count"),
+
+    /**
+     * Count of the times the sender has flushed a batch of gathered datagrams to the network.
+     */
+    SENDER_BATCH_FLUSHES(28, "Sender batch flushes"),
+
+    /**
+     * Count of the datagrams sent by the sender in batch flushes. Divide by {@link #SENDER_BATCH_FLUSHES} for the
+     * average number of datagrams in each flush.
+     */
+    SENDER_BATCH_DATAGRAMS(29, "Sender batch datagrams flushed"),
+
+    /**
+     * Count of the times the receiver has polled a transport in batch mode and received at least one datagram.
+     */
+    RECEIVER_BATCH_POLLS(30, "Receiver batch polls"),
+
+    /**
+     * Count of the datagrams received by the receiver in batch polls. Divide by {@link #RECEIVER_BATCH_POLLS} for the
+     * average number of datagrams returned by each poll.
+     */
+    RECEIVER_BATCH_DATAGRAMS(31, "Receiver batch datagrams received"),
+
+    /**
+     * Total time spent pre-faulting the pages of new log buffers before they are made available to clients.
+     */
+    LOG_BUFFER_PRE_FAULT_TIME(32, "Time spent pre-faulting log buffers (ns)"),
+
+    /**
+     * Count of log buffers handed out from the pool of pre-allocated log buffers.
+     */
+    LOG_BUFFER_POOL_HITS(33, "Log buffer pool hits"),
+
+    /**
+     * Count of log buffers which had to be created because the pool had none free for the term length.
+     */
+    LOG_BUFFER_POOL_MISSES(34, "Log buffer pool misses"),
+
+    /**
+     * Count of NAKed ranges which were coalesced into the retransmit of an adjacent range.
+     */
+    RETRANSMITS_COALESCED(35, "Retransmit ranges coalesced"),
+
+    /**
+     * Count of retransmits deferred to a later duty cycle because the retransmit budget was used up.
+     */
+    RETRANSMITS_DEFERRED(36, "Retransmits deferred by budget"),
+
+    /**
+     * Count of NAKs dropped because the maximum number of retransmits were already active for a publication.
+     */
+    RETRANSMITS_DROPPED(37, "Retransmits dropped"),
+
+    /**
+     * Count of publication image setups which are staged waiting for a duty cycle budget or log buffer allocation.
+     */
+    PENDING_IMAGE_SETUPS(38, "Pending image setups");
 
     /**
      * All system counters have the same type id, i.e. system counters are the same type. Other types can exist.
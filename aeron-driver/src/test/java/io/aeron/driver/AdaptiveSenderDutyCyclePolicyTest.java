@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.jupiter.api.Test;
+
+import static io.aeron.driver.AdaptiveSenderDutyCyclePolicy.POLL_WINDOW;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class AdaptiveSenderDutyCyclePolicyTest
+{
+    private final AtomicCounter ratioCounter = mock(AtomicCounter.class);
+    private final AtomicCounter adjustmentsCounter = mock(AtomicCounter.class);
+    private final AdaptiveSenderDutyCyclePolicy policy =
+        new AdaptiveSenderDutyCyclePolicy(8, 1, 10, ratioCounter, adjustmentsCounter);
+
+    @Test
+    public void shouldPollWhenNothingSentOrRatioReached()
+    {
+        assertTrue(policy.shouldPollControl(0, 0, 0));
+        policy.onControlPoll(0, 0);
+
+        for (int i = 1; i < 8; i++)
+        {
+            assertFalse(policy.shouldPollControl(0, 100, 0));
+        }
+        assertTrue(policy.shouldPollControl(0, 100, 0));
+    }
+
+    @Test
+    public void shouldPollImmediatelyAndHalveRatioOnSenderLimitStall()
+    {
+        assertTrue(policy.shouldPollControl(0, 100, 1));
+
+        assertEquals(4, policy.dutyCycleRatio());
+        verify(ratioCounter).setOrdered(4);
+        verify(adjustmentsCounter).incrementOrdered();
+    }
+
+    @Test
+    public void shouldIncreaseRatioWhenPollsAreUnproductiveUpToMax()
+    {
+        for (int i = 0; i < POLL_WINDOW * 4; i++)
+        {
+            pollOnRatio(0);
+        }
+
+        assertEquals(10, policy.dutyCycleRatio());
+    }
+
+    @Test
+    public void shouldDecreaseRatioWhenPollsAreProductiveDownToMin()
+    {
+        for (int i = 0; i < POLL_WINDOW * 4; i++)
+        {
+            pollOnRatio(64);
+        }
+
+        assertEquals(1, policy.dutyCycleRatio());
+    }
+
+    @Test
+    public void shouldNotIncreaseRatioWhileIdleAndAdaptWhenLoadResumes()
+    {
+        for (int i = 0; i < POLL_WINDOW * 4; i++)
+        {
+            assertTrue(policy.shouldPollControl(0, 0, 0));
+            policy.onControlPoll(0, 0);
+        }
+
+        assertEquals(8, policy.dutyCycleRatio());
+        verify(adjustmentsCounter, never()).incrementOrdered();
+
+        for (int i = 0; i < POLL_WINDOW; i++)
+        {
+            pollOnRatio(64);
+        }
+
+        assertEquals(4, policy.dutyCycleRatio());
+    }
+
+    @Test
+    public void shouldNotSamplePollsOnDeadline()
+    {
+        for (int i = 0; i < POLL_WINDOW * 4; i++)
+        {
+            assertFalse(policy.shouldPollControl(0, 100, 0));
+            policy.onControlPoll(0, 0);
+        }
+
+        assertEquals(8, policy.dutyCycleRatio());
+    }
+
+    private void pollOnRatio(final int bytesReceived)
+    {
+        while (!policy.shouldPollControl(0, 100, 0))
+        {
+        }
+
+        policy.onControlPoll(0, bytesReceived);
+    }
+}
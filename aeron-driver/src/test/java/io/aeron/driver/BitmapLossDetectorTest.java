@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.logbuffer.TermGapScanner;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static io.aeron.logbuffer.FrameDescriptor.frameLengthOrdered;
+import static io.aeron.logbuffer.FrameDescriptor.frameType;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_DATA;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_PAD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the {@link LossDetectorTest} cases with gaps found from a {@link ReceivedBlockBitmap}.
+ */
+public class BitmapLossDetectorTest extends LossDetectorTest
+{
+    ReceivedBlockBitmap newReceivedBlocks(final int termLength)
+    {
+        return new ReceivedBlockBitmap(termLength);
+    }
+
+    @Test
+    public void shouldFindGapSpanningWordsAndClearedRegions()
+    {
+        final int termLength = 64 * 1024;
+        final int termId = 7;
+        final ReceivedBlockBitmap bitmap = new ReceivedBlockBitmap(termLength);
+        final TermGapScanner.GapHandler gapHandler = mock(TermGapScanner.GapHandler.class);
+
+        bitmap.markReceived(1, 0, 3000);
+        bitmap.markReceived(1, 8192, 1024);
+
+        assertEquals(3008, bitmap.scanForGap(1, termId, 0, 16384, gapHandler));
+        verify(gapHandler).onGap(termId, 3008, 8192 - 3008);
+
+        bitmap.markReceived(1, 3008, 8192 - 3008);
+        assertEquals(9216, bitmap.scanForGap(1, termId, 0, 16384, gapHandler));
+        verify(gapHandler).onGap(termId, 9216, 16384 - 9216);
+
+        bitmap.clear(1, 0, 4096);
+        assertEquals(0, bitmap.scanForGap(1, termId, 0, 16384, gapHandler));
+        verify(gapHandler).onGap(termId, 0, 4096);
+
+        assertEquals(0, bitmap.scanForGap(0, termId, 0, 16384, gapHandler));
+        verify(gapHandler).onGap(termId, 0, 16384);
+    }
+
+    @Test
+    public void shouldMarkToEndOfPaddingFrameWhenOnlyItsHeaderIsInserted()
+    {
+        final int termLength = 64 * 1024;
+        final int termId = 7;
+        final int packetOffset = termLength - 4096;
+        final int dataFrameLength = 64;
+        final int padOffset = packetOffset + dataFrameLength;
+        final UnsafeBuffer termBuffer = new UnsafeBuffer(ByteBuffer.allocate(termLength));
+        final ReceivedBlockBitmap bitmap = new ReceivedBlockBitmap(termLength);
+        final TermGapScanner.GapHandler gapHandler = mock(TermGapScanner.GapHandler.class);
+
+        frameType(termBuffer, packetOffset, HDR_TYPE_DATA);
+        frameLengthOrdered(termBuffer, packetOffset, dataFrameLength);
+        frameType(termBuffer, padOffset, HDR_TYPE_PAD);
+        frameLengthOrdered(termBuffer, padOffset, termLength - padOffset);
+
+        bitmap.markReceived(2, 0, packetOffset);
+        bitmap.markInserted(2, termBuffer, packetOffset, dataFrameLength + HEADER_LENGTH);
+
+        assertEquals(termLength, bitmap.scanForGap(2, termId, 0, termLength, gapHandler));
+        verifyNoInteractions(gapHandler);
+    }
+}
@@ -18,17 +18,21 @@ package io.aeron.driver;
 import io.aeron.CommonContext;
 import io.aeron.DriverProxy;
 import io.aeron.ErrorCode;
+import io.aeron.driver.buffer.LogFactory;
 import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.buffer.TestLogFactory;
 import io.aeron.driver.exceptions.InvalidChannelException;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.ReceiveChannelEndpointThreadLocals;
+import io.aeron.driver.status.SenderPacedTime;
+import io.aeron.driver.status.SenderPos;
 import io.aeron.driver.status.SystemCounterDescriptor;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.HeaderWriter;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.TermAppender;
 import io.aeron.protocol.StatusMessageFlyweight;
+import io.aeron.test.Tests;
 import org.agrona.*;
 import org.agrona.concurrent.*;
 import org.agrona.concurrent.ringbuffer.ManyToOneRingBuffer;
@@ -38,6 +42,7 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.stubbing.Answer;
@@ -63,6 +68,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
 import static org.mockito.Mockito.*;
 
 public class DriverConductorTest
@@ -98,6 +104,8 @@ public class DriverConductorTest
     private final UnsafeBuffer counterKeyAndLabel = new UnsafeBuffer(new byte[BUFFER_LENGTH]);
 
     private final RingBuffer toDriverCommands = new ManyToOneRingBuffer(new UnsafeBuffer(conductorBuffer));
+    private final RingBuffer toDriverStripe = new ManyToOneRingBuffer(
+        new UnsafeBuffer(ByteBuffer.allocate(CONDUCTOR_BUFFER_LENGTH_DEFAULT)));
     private final ClientProxy mockClientProxy = mock(ClientProxy.class);
 
     private final ErrorHandler mockErrorHandler = mock(ErrorHandler.class);
@@ -116,6 +124,7 @@ public class DriverConductorTest
     private CountersManager spyCountersManager;
     private DriverProxy driverProxy;
     private DriverConductor driverConductor;
+    private MediaDriver.Context ctx;
 
     private final Answer<Void> closeChannelEndpointAnswer =
         (invocation) ->
@@ -143,7 +152,7 @@ public class DriverConductorTest
         when(spySystemCounters.get(SystemCounterDescriptor.ERRORS)).thenReturn(mockErrorCounter);
         when(mockErrorCounter.appendToLabel(any())).thenReturn(mockErrorCounter);
 
-        final MediaDriver.Context ctx = new MediaDriver.Context()
+        ctx = new MediaDriver.Context()
             .tempBuffer(new UnsafeBuffer(new byte[METADATA_LENGTH]))
             .timerIntervalNs(DEFAULT_TIMER_INTERVAL_NS)
             .publicationTermBufferLength(TERM_BUFFER_LENGTH)
@@ -164,6 +173,7 @@ public class DriverConductorTest
             .receiveChannelEndpointSupplier(Configuration.receiveChannelEndpointSupplier())
             .congestControlSupplier(Configuration.congestionControlSupplier())
             .toDriverCommands(toDriverCommands)
+            .toDriverStripes(new RingBuffer[]{ toDriverStripe })
             .clientProxy(mockClientProxy)
             .countersValuesBuffer(counterBuffer)
             .systemCounters(spySystemCounters)
@@ -224,6 +234,60 @@ public class DriverConductorTest
             anyLong(), anyLong(), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
     }
 
+    @Test
+    public void shouldCreateSparseLogAndLeavePreTouchToSender()
+    {
+        final RawLog rawLog = mock(RawLog.class, delegatesTo(TestLogFactory.newLogBuffers(TERM_BUFFER_LENGTH)));
+        final LogFactory logFactory = mock(LogFactory.class);
+        when(logFactory.newPublication(anyLong(), anyInt(), anyBoolean())).thenReturn(rawLog);
+        driverConductor = new DriverConductor(
+            ctx.logFactory(logFactory).termBufferSparseFile(false).preTouchLogBuffers(true));
+
+        driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+        driverConductor.doWork();
+
+        final ArgumentCaptor<NetworkPublication> captor = ArgumentCaptor.forClass(NetworkPublication.class);
+        verify(logFactory).newPublication(anyLong(), eq(TERM_BUFFER_LENGTH), eq(true));
+        verify(senderProxy).newNetworkPublication(captor.capture());
+        verify(rawLog, never()).preTouch(anyInt());
+        assertTrue(captor.getValue().isPreTouchLog());
+    }
+
+    @Test
+    public void shouldNotPreTouchSparseNetworkPublicationLog()
+    {
+        final RawLog rawLog = mock(RawLog.class, delegatesTo(TestLogFactory.newLogBuffers(TERM_BUFFER_LENGTH)));
+        final LogFactory logFactory = mock(LogFactory.class);
+        when(logFactory.newPublication(anyLong(), anyInt(), anyBoolean())).thenReturn(rawLog);
+        driverConductor = new DriverConductor(
+            ctx.logFactory(logFactory).termBufferSparseFile(false).preTouchLogBuffers(true));
+
+        driverProxy.addPublication(CHANNEL_4000 + "|sparse=true", STREAM_ID_1);
+        driverConductor.doWork();
+
+        final ArgumentCaptor<NetworkPublication> captor = ArgumentCaptor.forClass(NetworkPublication.class);
+        verify(logFactory).newPublication(anyLong(), eq(TERM_BUFFER_LENGTH), eq(true));
+        verify(senderProxy).newNetworkPublication(captor.capture());
+        assertFalse(captor.getValue().isPreTouchLog());
+    }
+
+    @Test
+    public void shouldProcessCommandsFromSharedBufferAndStripe()
+    {
+        final DriverProxy stripeDriverProxy = new DriverProxy(
+            toDriverCommands, toDriverStripe, toDriverCommands.nextCorrelationId());
+
+        driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+        stripeDriverProxy.addPublication(CHANNEL_4001, STREAM_ID_2);
+
+        driverConductor.doWork();
+
+        verify(mockClientProxy).onPublicationReady(
+            anyLong(), anyLong(), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
+        verify(mockClientProxy).onPublicationReady(
+            anyLong(), anyLong(), eq(STREAM_ID_2), anyInt(), any(), anyInt(), anyInt(), eq(false));
+    }
+
     @Test
     public void shouldBeAbleToAddPublicationForReplay()
     {
@@ -468,6 +532,35 @@ public class DriverConductorTest
         assertEquals(mtuLength, argumentCaptor.getValue().mtuLength());
     }
 
+    @Test
+    public void shouldAddPublicationWithSendRatePacing()
+    {
+        final String pacingParams =
+            "|" + CommonContext.SEND_RATE_PARAM_NAME + "=100m|" + CommonContext.SEND_BURST_PARAM_NAME + "=64k";
+        driverProxy.addPublication(CHANNEL_4000 + pacingParams, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final ArgumentCaptor<NetworkPublication> argumentCaptor = ArgumentCaptor.forClass(NetworkPublication.class);
+        verify(senderProxy).newNetworkPublication(argumentCaptor.capture());
+
+        assertEquals(100 * 1024 * 1024, argumentCaptor.getValue().sendRate());
+        verify(spyCountersManager).allocate(
+            eq(SenderPacedTime.SENDER_PACED_TIME_TYPE_ID), any(), anyInt(), anyInt(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void shouldErrorOnAddPublicationWithSendBurstButNoSendRate()
+    {
+        final long correlationId = driverProxy.addPublication(
+            CHANNEL_4000 + "|" + CommonContext.SEND_BURST_PARAM_NAME + "=64k", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(senderProxy, never()).newNetworkPublication(any());
+        verify(mockClientProxy).onError(eq(correlationId), eq(GENERIC_ERROR), anyString());
+    }
+
     @Test
     public void shouldErrorOnRemoveSubscriptionOnUnknownRegistrationId()
     {
@@ -671,7 +764,7 @@ public class DriverConductorTest
 
         driverConductor.onCreatePublicationImage(
             SESSION_ID, STREAM_ID_1, initialTermId, activeTermId, termOffset, TERM_BUFFER_LENGTH, MTU_LENGTH, 0,
-            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint);
+            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint, false);
 
         final ArgumentCaptor<PublicationImage> captor2 = ArgumentCaptor.forClass(PublicationImage.class);
         verify(receiverProxy).newPublicationImage(eq(receiveChannelEndpoint), captor2.capture());
@@ -684,6 +777,74 @@ public class DriverConductorTest
             anyLong(), eq(STREAM_ID_1), eq(SESSION_ID), anyLong(), anyInt(), anyString(), anyString());
     }
 
+    @Test
+    public void shouldStageImageSetupsWithinBudget()
+    {
+        final InetSocketAddress sourceAddress = new InetSocketAddress("localhost", 4400);
+        final AtomicCounter pendingImageSetups = spySystemCounters.get(SystemCounterDescriptor.PENDING_IMAGE_SETUPS);
+        driverConductor = new DriverConductor(ctx.imageSetupBudget(1));
+
+        driverProxy.addSubscription(CHANNEL_4000, STREAM_ID_1);
+        driverConductor.doWork();
+
+        final ArgumentCaptor<ReceiveChannelEndpoint> captor = ArgumentCaptor.forClass(ReceiveChannelEndpoint.class);
+        verify(receiverProxy).registerReceiveChannelEndpoint(captor.capture());
+        receiveChannelEndpoint = captor.getValue();
+        receiveChannelEndpoint.openChannel(driverConductorProxy);
+
+        driverConductor.onCreatePublicationImage(
+            SESSION_ID, STREAM_ID_1, 1, 1, 0, TERM_BUFFER_LENGTH, MTU_LENGTH, 0,
+            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint, false);
+        driverConductor.onCreatePublicationImage(
+            SESSION_ID + 1, STREAM_ID_1, 1, 1, 0, TERM_BUFFER_LENGTH, MTU_LENGTH, 0,
+            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint, false);
+
+        verify(receiverProxy, never()).newPublicationImage(any(), any());
+        assertEquals(2, pendingImageSetups.get());
+
+        driverConductor.doWork();
+        verify(receiverProxy, times(1)).newPublicationImage(eq(receiveChannelEndpoint), any());
+        assertEquals(1, pendingImageSetups.get());
+
+        driverConductor.doWork();
+        verify(receiverProxy, times(2)).newPublicationImage(eq(receiveChannelEndpoint), any());
+        assertEquals(0, pendingImageSetups.get());
+    }
+
+    @Test
+    @Timeout(10)
+    public void shouldSetUpImageOnceLogIsAllocatedAsynchronously()
+    {
+        final InetSocketAddress sourceAddress = new InetSocketAddress("localhost", 4400);
+        final AtomicCounter pendingImageSetups = spySystemCounters.get(SystemCounterDescriptor.PENDING_IMAGE_SETUPS);
+        driverConductor = new DriverConductor(ctx.imageLogAsyncAllocation(true));
+
+        driverProxy.addSubscription(CHANNEL_4000, STREAM_ID_1);
+        driverConductor.doWork();
+
+        final ArgumentCaptor<ReceiveChannelEndpoint> captor = ArgumentCaptor.forClass(ReceiveChannelEndpoint.class);
+        verify(receiverProxy).registerReceiveChannelEndpoint(captor.capture());
+        receiveChannelEndpoint = captor.getValue();
+        receiveChannelEndpoint.openChannel(driverConductorProxy);
+
+        driverConductor.onCreatePublicationImage(
+            SESSION_ID, STREAM_ID_1, 1, 1, 0, TERM_BUFFER_LENGTH, MTU_LENGTH, 0,
+            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint, false);
+
+        driverConductor.doWork();
+        verify(receiverProxy, never()).newPublicationImage(any(), any());
+
+        while (pendingImageSetups.get() > 0)
+        {
+            Tests.yield();
+            driverConductor.doWork();
+        }
+
+        verify(receiverProxy).newPublicationImage(eq(receiveChannelEndpoint), any());
+        verify(mockClientProxy).onAvailableImage(
+            anyLong(), eq(STREAM_ID_1), eq(SESSION_ID), anyLong(), anyInt(), anyString(), anyString());
+    }
+
     @Test
     public void shouldNotCreateImageOnUnknownSubscription()
     {
@@ -701,7 +862,7 @@ public class DriverConductorTest
 
         driverConductor.onCreatePublicationImage(
             SESSION_ID, STREAM_ID_2, 1, 1, 0, TERM_BUFFER_LENGTH, MTU_LENGTH, 0,
-            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint);
+            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint, false);
 
         verify(receiverProxy, never()).newPublicationImage(any(), any());
         verify(mockClientProxy, never()).onAvailableImage(
@@ -725,7 +886,7 @@ public class DriverConductorTest
 
         driverConductor.onCreatePublicationImage(
             SESSION_ID, STREAM_ID_1, 1, 1, 0, TERM_BUFFER_LENGTH, MTU_LENGTH, 0,
-            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint);
+            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint, false);
 
         final ArgumentCaptor<PublicationImage> captor2 = ArgumentCaptor.forClass(PublicationImage.class);
         verify(receiverProxy).newPublicationImage(eq(receiveChannelEndpoint), captor2.capture());
@@ -758,7 +919,7 @@ public class DriverConductorTest
 
         driverConductor.onCreatePublicationImage(
             SESSION_ID, STREAM_ID_1, 1, 1, 0, TERM_BUFFER_LENGTH, MTU_LENGTH, 0,
-            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint);
+            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint, false);
 
         final ArgumentCaptor<PublicationImage> captor2 = ArgumentCaptor.forClass(PublicationImage.class);
         verify(receiverProxy).newPublicationImage(eq(receiveChannelEndpoint), captor2.capture());
@@ -807,7 +968,7 @@ public class DriverConductorTest
 
         driverConductor.onCreatePublicationImage(
             SESSION_ID, STREAM_ID_1, 1, 1, 0, TERM_BUFFER_LENGTH, MTU_LENGTH, 0,
-            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint);
+            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint, false);
 
         final ArgumentCaptor<PublicationImage> captor2 = ArgumentCaptor.forClass(PublicationImage.class);
         verify(receiverProxy).newPublicationImage(eq(receiveChannelEndpoint), captor2.capture());
@@ -1107,6 +1268,57 @@ public class DriverConductorTest
         assertFalse(publication.hasSpies());
     }
 
+    @Test
+    public void shouldDetachLappedDetachedSpyAndRejoinAtSenderPosition()
+    {
+        driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+        final long idSpy = driverProxy.addSubscription(spyForChannel(CHANNEL_4000) + "|detached=true", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final ArgumentCaptor<NetworkPublication> captor = ArgumentCaptor.forClass(NetworkPublication.class);
+        verify(senderProxy, times(1)).newNetworkPublication(captor.capture());
+        final NetworkPublication publication = captor.getValue();
+        final long publicationId = networkPublicationCorrelationId(publication);
+
+        assertFalse(publication.hasSpies());
+        assertTrue(publication.hasDetachedSpies());
+
+        final ArgumentCaptor<Integer> positionIdCaptor = ArgumentCaptor.forClass(Integer.class);
+        verify(mockClientProxy).onAvailableImage(
+            eq(publicationId), eq(STREAM_ID_1), eq(publication.sessionId()),
+            eq(idSpy), positionIdCaptor.capture(), eq(publication.rawLog().fileName()), anyString());
+        final int spyPositionId = positionIdCaptor.getValue();
+
+        final long senderPosition = TERM_BUFFER_LENGTH;
+        for (int i = 0, size = spyCountersManager.maxCounterId(); i < size; i++)
+        {
+            if (spyCountersManager.getCounterState(i) == RECORD_ALLOCATED &&
+                spyCountersManager.getCounterTypeId(i) == SenderPos.SENDER_POSITION_TYPE_ID)
+            {
+                spyCountersManager.setCounterValue(i, senderPosition);
+            }
+        }
+
+        final AtomicCounter heartbeatCounter = clientHeartbeatCounter(spyCountersManager);
+        final long detachedNs = nanoClock.nanoTime() + (DEFAULT_TIMER_INTERVAL_NS * 2);
+        doWorkUntil(
+            () -> detachedNs - nanoClock.nanoTime() <= 0, (timeNs) -> heartbeatCounter.setOrdered(epochClock.time()));
+
+        verify(mockClientProxy).onUnavailableImage(eq(publicationId), eq(idSpy), eq(STREAM_ID_1), anyString());
+        assertEquals(0, spyCountersManager.getCounterValue(spyPositionId));
+
+        final long rejoinNs = detachedNs + UNTETHERED_RESTING_TIMEOUT_DEFAULT_NS;
+        doWorkUntil(
+            () -> rejoinNs - nanoClock.nanoTime() <= 0, (timeNs) -> heartbeatCounter.setOrdered(epochClock.time()));
+
+        verify(mockClientProxy, times(2)).onAvailableImage(
+            eq(publicationId), eq(STREAM_ID_1), eq(publication.sessionId()),
+            eq(idSpy), eq(spyPositionId), eq(publication.rawLog().fileName()), anyString());
+        assertEquals(senderPosition, spyCountersManager.getCounterValue(spyPositionId));
+        assertTrue(publication.hasDetachedSpies());
+    }
+
     @Test
     public void shouldTimeoutSpy()
     {
@@ -1500,6 +1712,21 @@ public class DriverConductorTest
         verify(mockErrorHandler).onError(any(Throwable.class));
     }
 
+    @Test
+    public void shouldErrorOnAddSharedPublicationWithDifferentBatch()
+    {
+        driverProxy.addPublication(CHANNEL_4000 + "|" + CommonContext.BATCH_PARAM_NAME + "=true", STREAM_ID_1);
+        driverConductor.doWork();
+
+        final long correlationId = driverProxy.addPublication(
+            CHANNEL_4000 + "|" + CommonContext.BATCH_PARAM_NAME + "=false", STREAM_ID_1);
+        driverConductor.doWork();
+
+        verify(mockClientProxy).onError(eq(correlationId), eq(GENERIC_ERROR), anyString());
+        verify(mockErrorCounter).increment();
+        verify(mockErrorHandler).onError(any(Throwable.class));
+    }
+
     @Test
     public void shouldErrorOnAddPublicationWithClashingSessionId()
     {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.charset.StandardCharsets;
+
+import static io.aeron.protocol.ResolutionEntryFlyweight.RES_TYPE_NAME_TO_IP4_MD;
+
+/**
+ * Benchmark of {@link DriverNameResolverCache} lookup, refresh, and expiry with a large number of entries which
+ * follows the warmup then measure structure of a JMH benchmark but runs from a main method as it needs package access.
+ * <p>
+ * Usage: {@code DriverNameResolverCacheBenchmark [entryCount]}, defaults to 10,000 entries.
+ */
+public class DriverNameResolverCacheBenchmark
+{
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final long TIMEOUT_MS = 10_000;
+    private static final byte[] ADDRESS = { 127, 0, 0, 1 };
+
+    private static long blackhole;
+
+    public static void main(final String[] args)
+    {
+        final int entryCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        final String[] names = new String[entryCount];
+        final byte[][] nameBytes = new byte[entryCount][];
+        for (int i = 0; i < entryCount; i++)
+        {
+            names[i] = "host-" + i + ".example.com";
+            nameBytes[i] = names[i].getBytes(StandardCharsets.US_ASCII);
+        }
+
+        final CountersManager countersManager = new CountersManager(
+            new UnsafeBuffer(new byte[1024 * 1024]), new UnsafeBuffer(new byte[64 * 1024]));
+        final AtomicCounter cacheEntriesCounter = countersManager.newCounter("cache entries");
+
+        for (int i = 0; i < WARMUP_ITERATIONS + MEASUREMENT_ITERATIONS; i++)
+        {
+            final boolean isMeasured = i >= WARMUP_ITERATIONS;
+            final String label = isMeasured ? "Iteration " + (i - WARMUP_ITERATIONS + 1) : "Warmup " + (i + 1);
+            final long startMs = 1_000_000L;
+            final DriverNameResolverCache cache = new DriverNameResolverCache(TIMEOUT_MS, startMs);
+
+            long startNs = System.nanoTime();
+            for (int j = 0; j < entryCount; j++)
+            {
+                final byte[] name = nameBytes[j];
+                cache.addOrUpdateEntry(
+                    name, name.length, startMs, RES_TYPE_NAME_TO_IP4_MD, ADDRESS, j, cacheEntriesCounter);
+            }
+            final long addNs = System.nanoTime() - startNs;
+
+            startNs = System.nanoTime();
+            for (int j = 0; j < entryCount; j++)
+            {
+                blackhole += cache.lookup(names[j], RES_TYPE_NAME_TO_IP4_MD).port;
+            }
+            final long lookupNs = System.nanoTime() - startNs;
+
+            startNs = System.nanoTime();
+            for (int j = 0; j < entryCount; j++)
+            {
+                final byte[] name = nameBytes[j];
+                final long nowMs = startMs + (j & 1023);
+                cache.addOrUpdateEntry(
+                    name, name.length, nowMs, RES_TYPE_NAME_TO_IP4_MD, ADDRESS, j, cacheEntriesCounter);
+            }
+            final long refreshNs = System.nanoTime() - startNs;
+
+            int idleCycles = 0;
+            startNs = System.nanoTime();
+            for (long nowMs = startMs; nowMs < startMs + TIMEOUT_MS; nowMs += 10)
+            {
+                blackhole += cache.timeoutOldEntries(nowMs, cacheEntriesCounter);
+                idleCycles++;
+            }
+            final long idleTimeoutNs = System.nanoTime() - startNs;
+
+            startNs = System.nanoTime();
+            int expired = 0;
+            for (long nowMs = startMs + TIMEOUT_MS; expired < entryCount; nowMs += 10)
+            {
+                expired += cache.timeoutOldEntries(nowMs, cacheEntriesCounter);
+            }
+            final long expiryNs = System.nanoTime() - startNs;
+
+            System.out.format(
+                "%s: entries=%d add=%.1f ns/op lookup=%.1f ns/op refresh=%.1f ns/op " +
+                "idleTimeoutCheck=%.1f ns/op expiry=%.1f ns/op%n",
+                label,
+                entryCount,
+                (double)addNs / entryCount,
+                (double)lookupNs / entryCount,
+                (double)refreshNs / entryCount,
+                (double)idleTimeoutNs / idleCycles,
+                (double)expiryNs / entryCount);
+
+            cache.close();
+        }
+
+        if (blackhole == 42)
+        {
+            System.out.println(blackhole);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static io.aeron.protocol.ResolutionEntryFlyweight.RES_TYPE_NAME_TO_IP4_MD;
+import static io.aeron.protocol.ResolutionEntryFlyweight.RES_TYPE_NAME_TO_IP6_MD;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class DriverNameResolverCacheTest
+{
+    private static final long TIMEOUT_MS = 10_000;
+    private static final long START_MS = 1_000_000;
+    private static final byte[] ADDRESS = { 127, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1 };
+
+    private final AtomicCounter cacheEntriesCounter = mock(AtomicCounter.class);
+    private final DriverNameResolverCache cache = new DriverNameResolverCache(TIMEOUT_MS, START_MS);
+
+    @Test
+    public void shouldLookupByExactNameAndType()
+    {
+        addOrUpdate("abc", START_MS, RES_TYPE_NAME_TO_IP4_MD, 8050);
+        addOrUpdate("abcd", START_MS, RES_TYPE_NAME_TO_IP4_MD, 8051);
+        addOrUpdate("abc", START_MS, RES_TYPE_NAME_TO_IP6_MD, 8052);
+
+        assertEquals(8050, cache.lookup("abc", RES_TYPE_NAME_TO_IP4_MD).port);
+        assertEquals(8051, cache.lookup("abcd", RES_TYPE_NAME_TO_IP4_MD).port);
+        assertEquals(8052, cache.lookup("abc", RES_TYPE_NAME_TO_IP6_MD).port);
+        assertNull(cache.lookup("ab", RES_TYPE_NAME_TO_IP4_MD));
+        assertNull(cache.lookup("abcd", RES_TYPE_NAME_TO_IP6_MD));
+        verify(cacheEntriesCounter).setOrdered(3);
+    }
+
+    @Test
+    public void shouldTimeoutEntriesAfterDeadline()
+    {
+        addOrUpdate("first", START_MS, RES_TYPE_NAME_TO_IP4_MD, 8050);
+        addOrUpdate("second", START_MS + 5_000, RES_TYPE_NAME_TO_IP4_MD, 8051);
+
+        assertEquals(0, cache.timeoutOldEntries(START_MS + TIMEOUT_MS, cacheEntriesCounter));
+        assertNotNull(cache.lookup("first", RES_TYPE_NAME_TO_IP4_MD));
+
+        assertEquals(1, cache.timeoutOldEntries(START_MS + TIMEOUT_MS + 1, cacheEntriesCounter));
+        assertNull(cache.lookup("first", RES_TYPE_NAME_TO_IP4_MD));
+        assertNotNull(cache.lookup("second", RES_TYPE_NAME_TO_IP4_MD));
+        verify(cacheEntriesCounter, times(2)).setOrdered(1);
+
+        assertEquals(1, cache.timeoutOldEntries(START_MS + 5_000 + TIMEOUT_MS + 1, cacheEntriesCounter));
+        assertNull(cache.lookup("second", RES_TYPE_NAME_TO_IP4_MD));
+        verify(cacheEntriesCounter).setOrdered(0);
+    }
+
+    @Test
+    public void shouldExtendDeadlineOnUpdate()
+    {
+        addOrUpdate("name", START_MS, RES_TYPE_NAME_TO_IP4_MD, 8050);
+        addOrUpdate("name", START_MS + 5_000, RES_TYPE_NAME_TO_IP4_MD, 8051);
+
+        assertEquals(0, cache.timeoutOldEntries(START_MS + TIMEOUT_MS + 1, cacheEntriesCounter));
+        assertEquals(8051, cache.lookup("name", RES_TYPE_NAME_TO_IP4_MD).port);
+
+        assertEquals(1, cache.timeoutOldEntries(START_MS + 5_000 + TIMEOUT_MS + 1, cacheEntriesCounter));
+        assertNull(cache.lookup("name", RES_TYPE_NAME_TO_IP4_MD));
+    }
+
+    @Test
+    public void shouldIterateRemainingEntriesAfterTimeout()
+    {
+        addOrUpdate("a", START_MS, RES_TYPE_NAME_TO_IP4_MD, 1);
+        addOrUpdate("b", START_MS + 5_000, RES_TYPE_NAME_TO_IP4_MD, 2);
+        addOrUpdate("c", START_MS + 5_000, RES_TYPE_NAME_TO_IP4_MD, 3);
+        cache.timeoutOldEntries(START_MS + TIMEOUT_MS + 1, cacheEntriesCounter);
+
+        int portSum = 0;
+        for (final DriverNameResolverCache.Iterator iter = cache.resetIterator(); iter.hasNext(); )
+        {
+            portSum += iter.next().port;
+        }
+
+        assertEquals(5, portSum);
+        assertEquals(3, cache.lookup("c", RES_TYPE_NAME_TO_IP4_MD).port);
+    }
+
+    private void addOrUpdate(final String name, final long nowMs, final byte type, final int port)
+    {
+        final byte[] nameBytes = name.getBytes(StandardCharsets.US_ASCII);
+        cache.addOrUpdateEntry(nameBytes, nameBytes.length, nowMs, type, ADDRESS, port, cacheEntriesCounter);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.logbuffer.LogBufferDescriptor;
+import io.aeron.logbuffer.TermRebuilder;
+import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.HeaderFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Benchmark of {@link LossDetector} scanning the frames of a term buffer compared with scanning a
+ * {@link ReceivedBlockBitmap}, which follows the warmup then measure structure of a JMH benchmark but runs from a main
+ * method as it needs package access.
+ * <p>
+ * Two cases are measured for a 64MB term with a 32MB window received: a persistent gap at the rebuild position
+ * which is rescanned each duty cycle, and a first scan over a window of small frames with no gap.
+ * <p>
+ * Usage: {@code LossDetectorBenchmark [frameLength] [gapLength]}, defaults to 64 byte frames and a 4MB gap.
+ */
+public class LossDetectorBenchmark
+{
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int SCANS_PER_ITERATION = 100;
+    private static final int TERM_LENGTH = 64 * 1024 * 1024;
+    private static final int WINDOW_LENGTH = TERM_LENGTH / 2;
+    private static final int INITIAL_TERM_ID = 0;
+    private static final int TERM_LENGTH_MASK = TERM_LENGTH - 1;
+    private static final int POSITION_BITS_TO_SHIFT = LogBufferDescriptor.positionBitsToShift(TERM_LENGTH);
+
+    private static long blackhole;
+
+    public static void main(final String[] args)
+    {
+        final int frameLength = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        final int gapLength = args.length > 1 ? Integer.parseInt(args[1]) : 4 * 1024 * 1024;
+
+        final UnsafeBuffer termBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(TERM_LENGTH));
+        final ReceivedBlockBitmap receivedBlocks = new ReceivedBlockBitmap(TERM_LENGTH);
+        final UnsafeBuffer frame = new UnsafeBuffer(ByteBuffer.allocateDirect(frameLength));
+        new DataHeaderFlyweight(frame)
+            .termId(INITIAL_TERM_ID)
+            .frameLength(frameLength)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .version(HeaderFlyweight.CURRENT_VERSION);
+
+        for (int offset = gapLength; offset + frameLength <= WINDOW_LENGTH; offset += frameLength)
+        {
+            frame.putInt(DataHeaderFlyweight.TERM_OFFSET_FIELD_OFFSET, offset);
+            TermRebuilder.insert(termBuffer, offset, frame, frameLength);
+            receivedBlocks.markReceived(0, offset, frameLength);
+        }
+
+        final LossHandler lossHandler = (termId, termOffset, length) -> blackhole += length;
+        final FeedbackDelayGenerator delayGenerator = new StaticDelayGenerator(0, true);
+        final LossDetector frameScanner = new LossDetector(delayGenerator, lossHandler);
+        final LossDetector bitmapScanner = new LossDetector(delayGenerator, lossHandler, receivedBlocks);
+
+        for (int i = 0; i < WARMUP_ITERATIONS + MEASUREMENT_ITERATIONS; i++)
+        {
+            final String label = i >= WARMUP_ITERATIONS ?
+                "Iteration " + (i - WARMUP_ITERATIONS + 1) : "Warmup " + (i + 1);
+
+            final long gapFrameNs = scanNs(frameScanner, termBuffer, 0);
+            final long gapBitmapNs = scanNs(bitmapScanner, termBuffer, 0);
+            final long windowFrameNs = scanNs(frameScanner, termBuffer, gapLength);
+            final long windowBitmapNs = scanNs(bitmapScanner, termBuffer, gapLength);
+
+            System.out.format(
+                "%s: frameLength=%d gapLength=%d gap scan frames=%d ns/op bitmap=%d ns/op, " +
+                "window scan frames=%d ns/op bitmap=%d ns/op%n",
+                label,
+                frameLength,
+                gapLength,
+                gapFrameNs,
+                gapBitmapNs,
+                windowFrameNs,
+                windowBitmapNs);
+        }
+
+        if (blackhole == 42)
+        {
+            System.out.println(blackhole);
+        }
+    }
+
+    private static long scanNs(
+        final LossDetector lossDetector, final UnsafeBuffer termBuffer, final long rebuildPosition)
+    {
+        final long startNs = System.nanoTime();
+        for (int i = 0; i < SCANS_PER_ITERATION; i++)
+        {
+            blackhole += lossDetector.scan(
+                termBuffer,
+                rebuildPosition,
+                WINDOW_LENGTH,
+                startNs + i,
+                TERM_LENGTH_MASK,
+                POSITION_BITS_TO_SHIFT,
+                INITIAL_TERM_ID);
+        }
+
+        return (System.nanoTime() - startNs) / SCANS_PER_ITERATION;
+    }
+}
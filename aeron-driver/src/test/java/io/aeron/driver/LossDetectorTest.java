@@ -27,6 +27,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.Mockito.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
 import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
@@ -66,15 +67,21 @@ public class LossDetectorTest
     private final DataHeaderFlyweight dataHeader = new DataHeaderFlyweight();
 
     private final LossHandler lossHandler = mock(LossHandler.class);
+    private final ReceivedBlockBitmap receivedBlocks = newReceivedBlocks(TERM_BUFFER_LENGTH);
     private LossDetector lossDetector;
     private long currentTime = 0;
 
     public LossDetectorTest()
     {
-        lossDetector = new LossDetector(DELAY_GENERATOR, lossHandler);
+        lossDetector = new LossDetector(DELAY_GENERATOR, lossHandler, receivedBlocks);
         dataHeader.wrap(rcvBuffer);
     }
 
+    ReceivedBlockBitmap newReceivedBlocks(final int termLength)
+    {
+        return null;
+    }
+
     @Test
     public void shouldNotSendNakWhenBufferIsEmpty()
     {
@@ -185,6 +192,48 @@ public class LossDetectorTest
         inOrder.verify(lossHandler, never()).onGapDetected(TERM_ID, offsetOfMessage(5), gapLength());
     }
 
+    @Test
+    public void shouldNakMultipleGapsTogetherUpToMaxGaps()
+    {
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 7L);
+        lossDetector = new LossDetector(DELAY_GENERATOR, lossHandler, receivedBlocks, 2);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+        insertDataFrame(offsetOfMessage(6));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(40);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapsDetected(
+            eq(TERM_ID),
+            eq(2),
+            aryEq(new int[]{ offsetOfMessage(1), offsetOfMessage(3) }),
+            aryEq(new int[]{ gapLength(), gapLength() }));
+        verify(lossHandler, never()).onGapDetected(anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void shouldNakSingleGapWhenNoFurtherGapsWithMultipleGapsEnabled()
+    {
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 3L);
+        lossDetector = new LossDetector(DELAY_GENERATOR, lossHandler, receivedBlocks, 4);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(40);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(1), gapLength());
+        verify(lossHandler, never()).onGapsDetected(anyInt(), anyInt(), any(), any());
+    }
+
     @Test
     public void shouldReplaceOldNakWithNewNak()
     {
@@ -292,7 +341,7 @@ public class LossDetectorTest
 
     private LossDetector getLossHandlerWithImmediate()
     {
-        return new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler);
+        return new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler, receivedBlocks);
     }
 
     private void insertDataFrame(final int offset)
@@ -315,6 +364,11 @@ public class LossDetectorTest
         rcvBuffer.putBytes(dataHeader.dataOffset(), payload);
 
         TermRebuilder.insert(termBuffer, offset, rcvBuffer, payload.length + DataHeaderFlyweight.HEADER_LENGTH);
+
+        if (null != receivedBlocks)
+        {
+            receivedBlocks.markReceived(0, offset, payload.length + DataHeaderFlyweight.HEADER_LENGTH);
+        }
     }
 
     private int offsetOfMessage(final int index)
@@ -16,10 +16,12 @@
 package io.aeron.driver;
 
 import io.aeron.driver.MediaDriver.Context;
+import io.aeron.exceptions.ConfigurationException;
 import org.junit.jupiter.api.Test;
 
 import static io.aeron.driver.Configuration.NAK_MAX_BACKOFF_DEFAULT_NS;
 import static io.aeron.driver.Configuration.NAK_MULTICAST_MAX_BACKOFF_PROP_NAME;
+import static io.aeron.driver.Configuration.SENDER_CPU_AFFINITY_PROP_NAME;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class MediaDriverContextTest
@@ -53,4 +55,27 @@ public class MediaDriverContextTest
         context.nakMulticastMaxBackoffNs(Long.MIN_VALUE);
         assertEquals(Long.MIN_VALUE, context.nakMulticastMaxBackoffNs());
     }
+
+    @Test
+    public void senderCpuAffinityFromSystemProperty()
+    {
+        System.setProperty(SENDER_CPU_AFFINITY_PROP_NAME, "1, 4-6,9");
+        try
+        {
+            final Context context = new Context();
+            assertArrayEquals(new int[]{ 1, 4, 5, 6, 9 }, context.senderCpuAffinity());
+            assertNull(context.receiverCpuAffinity());
+        }
+        finally
+        {
+            System.clearProperty(SENDER_CPU_AFFINITY_PROP_NAME);
+        }
+    }
+
+    @Test
+    public void shouldRejectInvalidCpuList()
+    {
+        assertThrows(ConfigurationException.class, () -> Configuration.parseCpuList("4-2"));
+        assertThrows(ConfigurationException.class, () -> Configuration.parseCpuList("1,a"));
+    }
 }
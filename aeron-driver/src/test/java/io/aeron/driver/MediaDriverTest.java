@@ -15,12 +15,20 @@
  */
 package io.aeron.driver;
 
+import io.aeron.test.Tests;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 
 public class MediaDriverTest
@@ -49,4 +57,88 @@ public class MediaDriverTest
             System.setOut(out);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @Timeout(10)
+    public void shouldStartThreadPerReceiverShard()
+    {
+        final List<Thread> receiverThreads = new ArrayList<>();
+        final MediaDriver.Context context = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.SHARDED)
+            .receiverShardCount(3)
+            .receiverThreadFactory((runnable) ->
+            {
+                final Thread thread = new Thread(runnable);
+                receiverThreads.add(thread);
+                return thread;
+            })
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true);
+
+        try (MediaDriver ignore = MediaDriver.launch(context))
+        {
+            final List<String> threadNames = new ArrayList<>();
+            for (final Thread thread : receiverThreads)
+            {
+                threadNames.add(thread.getName());
+            }
+
+            assertThat(threadNames, containsInAnyOrder("receiver", "receiver-1", "receiver-2"));
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    public void shouldStartThreadPerSenderShard()
+    {
+        final List<Thread> senderThreads = new ArrayList<>();
+        final MediaDriver.Context context = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.SHARDED)
+            .senderShardCount(2)
+            .senderThreadFactory((runnable) ->
+            {
+                final Thread thread = new Thread(runnable);
+                senderThreads.add(thread);
+                return thread;
+            })
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true);
+
+        try (MediaDriver ignore = MediaDriver.launch(context))
+        {
+            final List<String> threadNames = new ArrayList<>();
+            for (final Thread thread : senderThreads)
+            {
+                threadNames.add(thread.getName());
+            }
+
+            assertThat(threadNames, containsInAnyOrder("sender", "sender-1"));
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    public void shouldPinSenderShardsToCpusInTurn()
+    {
+        final Queue<String> pinnedCpus = new ConcurrentLinkedQueue<>();
+        final MediaDriver.Context context = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.SHARDED)
+            .senderShardCount(2)
+            .receiverShardCount(1)
+            .conductorCpuAffinity(new int[]{ 0 })
+            .senderCpuAffinity(new int[]{ 1, 2 })
+            .threadAffinity((cpuIds) -> pinnedCpus.add(Arrays.toString(cpuIds)))
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true);
+
+        try (MediaDriver ignore = MediaDriver.launch(context))
+        {
+            while (pinnedCpus.size() < 3)
+            {
+                Tests.yield();
+            }
+
+            assertThat(pinnedCpus, containsInAnyOrder("[0]", "[1]", "[2]"));
+        }
+    }
+}
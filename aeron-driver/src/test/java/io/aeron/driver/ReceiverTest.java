@@ -215,7 +215,9 @@ public class ReceiverTest
             mockHighestReceivedPosition,
             mockRebuildPosition,
             SOURCE_ADDRESS,
-            congestionControl);
+            congestionControl,
+            false,
+            false);
 
         final int messagesRead = toConductorQueue.drain(
             (e) ->
@@ -280,7 +282,9 @@ public class ReceiverTest
                     mockHighestReceivedPosition,
                     mockRebuildPosition,
                     SOURCE_ADDRESS,
-                    congestionControl);
+                    congestionControl,
+                    false,
+                    false);
 
                 receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
             });
@@ -344,7 +348,9 @@ public class ReceiverTest
                     mockHighestReceivedPosition,
                     mockRebuildPosition,
                     SOURCE_ADDRESS,
-                    congestionControl);
+                    congestionControl,
+                    false,
+                    false);
 
                 receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
             });
@@ -411,7 +417,9 @@ public class ReceiverTest
                     mockHighestReceivedPosition,
                     mockRebuildPosition,
                     SOURCE_ADDRESS,
-                    congestionControl);
+                    congestionControl,
+                    false,
+                    false);
 
                 receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
             });
@@ -482,7 +490,9 @@ public class ReceiverTest
                     mockHighestReceivedPosition,
                     mockRebuildPosition,
                     SOURCE_ADDRESS,
-                    congestionControl);
+                    congestionControl,
+                    false,
+                    false);
 
                 receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
             });
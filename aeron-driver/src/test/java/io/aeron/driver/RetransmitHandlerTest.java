@@ -16,6 +16,7 @@
 package io.aeron.driver;
 
 import io.aeron.ReservedValueSupplier;
+import io.aeron.driver.reports.LatencyHistogram;
 import io.aeron.logbuffer.*;
 import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.protocol.HeaderFlyweight;
@@ -24,7 +25,6 @@ import org.agrona.concurrent.status.AtomicCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
-import org.mockito.InOrder;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -67,12 +67,15 @@ public class RetransmitHandlerTest
 
     private final RetransmitSender retransmitSender = mock(RetransmitSender.class);
     private final AtomicCounter invalidPackets = mock(AtomicCounter.class);
+    private final AtomicCounter retransmitsCoalesced = mock(AtomicCounter.class);
+    private final AtomicCounter retransmitsDeferred = mock(AtomicCounter.class);
+    private final AtomicCounter retransmitsDropped = mock(AtomicCounter.class);
+    private final LatencyHistogram nakToRetransmitHistogram = mock(LatencyHistogram.class);
 
     private final HeaderWriter headerWriter = HeaderWriter.newInstance(
         DataHeaderFlyweight.createDefaultHeader(0, 0, 0));
 
-    private RetransmitHandler handler = new RetransmitHandler(
-        () -> currentTime, invalidPackets, DELAY_GENERATOR, LINGER_GENERATOR);
+    private RetransmitHandler handler = newRetransmitHandler(DELAY_GENERATOR, 0);
 
     @BeforeEach
     public void before()
@@ -141,9 +144,56 @@ public class RetransmitHandlerTest
         currentTime = TimeUnit.MILLISECONDS.toNanos(100);
         handler.processTimeouts(currentTime, retransmitSender);
 
-        final InOrder inOrder = inOrder(retransmitSender);
-        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
-        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH);
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2);
+        verify(retransmitsCoalesced).incrementOrdered();
+        verifyNoMoreInteractions(retransmitSender);
+    }
+
+    @ParameterizedTest
+    @MethodSource("consumers")
+    public void shouldNotCoalesceNonAdjacentNaks(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
+        verifyNoInteractions(retransmitsCoalesced);
+    }
+
+    @ParameterizedTest
+    @MethodSource("consumers")
+    public void shouldDeferRetransmitOverBudgetToNextCycle(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        handler = newRetransmitHandler(ZERO_DELAY_GENERATOR, ALIGNED_FRAME_LENGTH);
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
+        verify(retransmitsDeferred).incrementOrdered();
+        verifyNoMoreInteractions(retransmitSender);
+
+        currentTime = TimeUnit.MILLISECONDS.toNanos(1);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
+    }
+
+    @ParameterizedTest
+    @MethodSource("consumers")
+    public void shouldCountDroppedNakWhenMaxRetransmitsActive(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, Configuration.MAX_RETRANSMITS_DEFAULT + 1);
+        for (int i = 0; i <= Configuration.MAX_RETRANSMITS_DEFAULT; i++)
+        {
+            handler.onNak(TERM_ID, offsetOfFrame(i), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        }
+
+        verify(retransmitsDropped).incrementOrdered();
     }
 
     @ParameterizedTest
@@ -158,6 +208,20 @@ public class RetransmitHandlerTest
         verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 5);
     }
 
+    @ParameterizedTest
+    @MethodSource("consumers")
+    public void shouldRecordDelayFromNakToRetransmit(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(10);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
+        verify(nakToRetransmitHistogram).record(TimeUnit.MILLISECONDS.toNanos(90));
+    }
+
     @ParameterizedTest
     @MethodSource("consumers")
     public void shouldRetransmitOnNakOverMtuLength(final BiConsumer<RetransmitHandlerTest, Integer> creator)
@@ -237,7 +301,21 @@ public class RetransmitHandlerTest
 
     private RetransmitHandler newZeroDelayRetransmitHandler()
     {
-        return new RetransmitHandler(() -> currentTime, invalidPackets, ZERO_DELAY_GENERATOR, LINGER_GENERATOR);
+        return newRetransmitHandler(ZERO_DELAY_GENERATOR, 0);
+    }
+
+    private RetransmitHandler newRetransmitHandler(final FeedbackDelayGenerator delayGenerator, final int budget)
+    {
+        return new RetransmitHandler(
+            () -> currentTime,
+            invalidPackets,
+            delayGenerator,
+            LINGER_GENERATOR,
+            budget,
+            retransmitsCoalesced,
+            retransmitsDeferred,
+            retransmitsDropped,
+            nakToRetransmitHistogram);
     }
 
     private void createTermBuffer(final BiConsumer<RetransmitHandlerTest, Integer> creator, final int num)
@@ -70,6 +70,12 @@ public class SelectorAndTransportTest
 
     private final DataTransportPoller dataTransportPoller = new DataTransportPoller(errorHandler);
     private final ControlTransportPoller controlTransportPoller = new ControlTransportPoller(errorHandler);
+    private final AtomicCounter mockBatchPolls = mock(AtomicCounter.class);
+    private final AtomicCounter mockBatchDatagrams = mock(AtomicCounter.class);
+    private final DataTransportPoller batchDataTransportPoller = new DataTransportPoller(
+        errorHandler, 5, 4, mockBatchPolls, mockBatchDatagrams);
+    private final DataTransportPoller selectorDataTransportPoller = new DataTransportPoller(
+        errorHandler, 0, 1, null, null);
     private SendChannelEndpoint sendChannelEndpoint;
     private ReceiveChannelEndpoint receiveChannelEndpoint;
 
@@ -107,6 +113,8 @@ public class SelectorAndTransportTest
             }
 
             dataTransportPoller.close();
+            batchDataTransportPoller.close();
+            selectorDataTransportPoller.close();
             controlTransportPoller.close();
         }
         catch (final Exception ex)
@@ -246,6 +254,116 @@ public class SelectorAndTransportTest
         assertEquals(1, dataHeadersReceived.get());
     }
 
+    @Test
+    @Timeout(10)
+    public void shouldReceiveDataFrameViaSelectorWhenAboveIterationThreshold()
+    {
+        final MutableInteger dataHeadersReceived = new MutableInteger(0);
+
+        doAnswer(
+            (invocation) ->
+            {
+                dataHeadersReceived.value++;
+                return null;
+            })
+            .when(mockDispatcher).onDataPacket(
+            any(ReceiveChannelEndpoint.class),
+            any(DataHeaderFlyweight.class),
+            any(UnsafeBuffer.class),
+            anyInt(),
+            any(InetSocketAddress.class),
+            anyInt());
+
+        receiveChannelEndpoint = new ReceiveChannelEndpoint(
+            RCV_DST, mockDispatcher, mockReceiveStatusIndicator, context);
+        sendChannelEndpoint = new SendChannelEndpoint(SRC_DST, mockSendStatusIndicator, context);
+
+        receiveChannelEndpoint.openDatagramChannel(mockReceiveStatusIndicator);
+        receiveChannelEndpoint.registerForRead(selectorDataTransportPoller);
+        sendChannelEndpoint.openDatagramChannel(mockSendStatusIndicator);
+        sendChannelEndpoint.registerForRead(controlTransportPoller);
+
+        encodeDataHeader.wrap(buffer);
+        encodeDataHeader
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .frameLength(FRAME_LENGTH);
+        encodeDataHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(TERM_ID);
+        byteBuffer.position(0).limit(FRAME_LENGTH);
+
+        processLoop(selectorDataTransportPoller, 5);
+        sendChannelEndpoint.send(byteBuffer);
+        while (dataHeadersReceived.get() < 1)
+        {
+            processLoop(selectorDataTransportPoller, 1);
+        }
+
+        assertEquals(1, dataHeadersReceived.get());
+    }
+
+    @Test
+    @Timeout(10)
+    public void shouldReceiveMultipleDatagramsPerPollInBatchMode()
+    {
+        final MutableInteger dataHeadersReceived = new MutableInteger(0);
+
+        doAnswer(
+            (invocation) ->
+            {
+                dataHeadersReceived.value++;
+                return null;
+            })
+            .when(mockDispatcher).onDataPacket(
+            any(ReceiveChannelEndpoint.class),
+            any(DataHeaderFlyweight.class),
+            any(UnsafeBuffer.class),
+            anyInt(),
+            any(InetSocketAddress.class),
+            anyInt());
+
+        receiveChannelEndpoint = new ReceiveChannelEndpoint(
+            RCV_DST, mockDispatcher, mockReceiveStatusIndicator, context);
+        sendChannelEndpoint = new SendChannelEndpoint(SRC_DST, mockSendStatusIndicator, context);
+
+        receiveChannelEndpoint.openDatagramChannel(mockReceiveStatusIndicator);
+        receiveChannelEndpoint.registerForRead(batchDataTransportPoller);
+        sendChannelEndpoint.openDatagramChannel(mockSendStatusIndicator);
+        sendChannelEndpoint.registerForRead(controlTransportPoller);
+
+        encodeDataHeader.wrap(buffer);
+        encodeDataHeader
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .frameLength(FRAME_LENGTH);
+        encodeDataHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(TERM_ID);
+
+        processLoop(batchDataTransportPoller, 5);
+
+        final int datagramCount = 3;
+        for (int i = 0; i < datagramCount; i++)
+        {
+            byteBuffer.position(0).limit(FRAME_LENGTH);
+            sendChannelEndpoint.send(byteBuffer);
+        }
+
+        while (dataHeadersReceived.get() < datagramCount)
+        {
+            processLoop(batchDataTransportPoller, 1);
+        }
+
+        assertEquals(datagramCount, dataHeadersReceived.get());
+        verify(mockBatchPolls, atLeastOnce()).incrementOrdered();
+        verify(mockBatchPolls, atMost(datagramCount)).incrementOrdered();
+    }
+
     @Test
     @Timeout(10)
     public void shouldHandleSmFrameFromReceiverToSender()
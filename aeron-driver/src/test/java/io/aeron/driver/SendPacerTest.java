@@ -0,0 +1,101 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class SendPacerTest
+{
+    private static final long BYTES_PER_SECOND = 1_000_000;
+    private static final int BURST_LENGTH = 4096;
+    private static final int MTU_LENGTH = 1408;
+
+    private final AtomicCounter pacedTimeNs = mock(AtomicCounter.class);
+    private final SendPacer sendPacer = new SendPacer(BYTES_PER_SECOND, BURST_LENGTH, pacedTimeNs, 0);
+
+    @Test
+    public void shouldPermitBurstThenPaceToRate()
+    {
+        long nowNs = 0;
+        int bytesSent = 0;
+        while (sendPacer.isSendPermitted(nowNs))
+        {
+            sendPacer.onBytesSent(MTU_LENGTH);
+            bytesSent += MTU_LENGTH;
+        }
+
+        assertTrue(bytesSent >= BURST_LENGTH && bytesSent < BURST_LENGTH + MTU_LENGTH);
+
+        final long durationNs = TimeUnit.SECONDS.toNanos(1);
+        final long stepNs = TimeUnit.MICROSECONDS.toNanos(10);
+        bytesSent = 0;
+        while (nowNs < durationNs)
+        {
+            nowNs += stepNs;
+            while (sendPacer.isSendPermitted(nowNs))
+            {
+                sendPacer.onBytesSent(MTU_LENGTH);
+                bytesSent += MTU_LENGTH;
+            }
+        }
+
+        assertTrue(Math.abs(bytesSent - BYTES_PER_SECOND) <= BURST_LENGTH + MTU_LENGTH);
+    }
+
+    @Test
+    public void shouldNotExceedBurstAfterBeingIdle()
+    {
+        sendPacer.onBytesSent(BURST_LENGTH);
+        assertFalse(sendPacer.isSendPermitted(0));
+
+        final long nowNs = TimeUnit.SECONDS.toNanos(10);
+        int bytesSent = 0;
+        while (sendPacer.isSendPermitted(nowNs))
+        {
+            sendPacer.onBytesSent(MTU_LENGTH);
+            bytesSent += MTU_LENGTH;
+        }
+
+        assertTrue(bytesSent < BURST_LENGTH + MTU_LENGTH);
+    }
+
+    @Test
+    public void shouldAccumulateTimeSpentPacedUntilPermittedOrIdle()
+    {
+        sendPacer.onBytesSent(BURST_LENGTH + MTU_LENGTH);
+
+        assertFalse(sendPacer.isSendPermitted(0));
+        assertFalse(sendPacer.isSendPermitted(100));
+        verify(pacedTimeNs).getAndAddOrdered(100);
+
+        final long refillNs = MTU_LENGTH * TimeUnit.SECONDS.toNanos(1) / BYTES_PER_SECOND + 1;
+        assertTrue(sendPacer.isSendPermitted(refillNs));
+        verify(pacedTimeNs).getAndAddOrdered(refillNs - 100);
+
+        sendPacer.onBytesSent(MTU_LENGTH);
+        assertFalse(sendPacer.isSendPermitted(refillNs));
+        sendPacer.onIdle();
+        sendPacer.isSendPermitted(refillNs + 1000);
+        verifyNoMoreInteractions(pacedTimeNs);
+    }
+}
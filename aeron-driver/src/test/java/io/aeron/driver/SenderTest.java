@@ -51,6 +51,7 @@ import static org.agrona.BitUtil.align;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 public class SenderTest
@@ -72,6 +73,8 @@ public class SenderTest
     private final RawLog rawLog = TestLogFactory.newLogBuffers(TERM_BUFFER_LENGTH);
 
     private TermAppender[] termAppenders;
+    private MediaDriver.Context ctx;
+    private SendChannelEndpoint mockSendChannelEndpoint;
     private NetworkPublication publication;
     private Sender sender;
 
@@ -110,17 +113,18 @@ public class SenderTest
     @BeforeEach
     public void setUp()
     {
-        final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
+        mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
         when(mockSendChannelEndpoint.udpChannel()).thenReturn(udpChannel);
         when(mockSendChannelEndpoint.send(any())).thenAnswer(saveByteBufferAnswer);
         when(mockSystemCounters.get(any())).thenReturn(mock(AtomicCounter.class));
 
-        final MediaDriver.Context ctx = new MediaDriver.Context()
+        ctx = new MediaDriver.Context()
             .cachedEpochClock(new CachedEpochClock())
             .cachedNanoClock(nanoClock)
             .senderCachedNanoClock(nanoClock)
             .receiverCachedNanoClock(nanoClock)
             .controlTransportPoller(mockTransportPoller)
+            .senderDutyCyclePolicySupplier(new DefaultSenderDutyCyclePolicySupplier())
             .systemCounters(mockSystemCounters)
             .senderCommandQueue(senderCommandQueue)
             .nanoClock(nanoClock)
@@ -135,31 +139,7 @@ public class SenderTest
             termAppenders[i] = new TermAppender(rawLog.termBuffers()[i], rawLog.metaData(), i);
         }
 
-        final PublicationParams params = new PublicationParams();
-        params.entityTag = 101;
-        params.mtuLength = MAX_FRAME_LENGTH;
-        params.lingerTimeoutNs = Configuration.publicationLingerTimeoutNs();
-        params.signalEos = true;
-
-        publication = new NetworkPublication(
-            1,
-            ctx,
-            params,
-            mockSendChannelEndpoint,
-            rawLog,
-            Configuration.producerWindowLength(TERM_BUFFER_LENGTH, Configuration.publicationTermWindowLength()),
-            new AtomicLongPosition(),
-            new AtomicLongPosition(),
-            new AtomicLongPosition(),
-            new AtomicLongPosition(),
-            mock(AtomicCounter.class),
-            SESSION_ID,
-            STREAM_ID,
-            INITIAL_TERM_ID,
-            flowControl,
-            mockRetransmitHandler,
-            new NetworkPublicationThreadLocals(),
-            false);
+        publication = newNetworkPublication();
 
         senderCommandQueue.offer(() -> sender.onNewNetworkPublication(publication));
     }
@@ -170,6 +150,31 @@ public class SenderTest
         sender.onClose();
     }
 
+    @Test
+    public void shouldPreTouchPublicationLogWithinPageBudgetBeforeSending()
+    {
+        senderCommandQueue.clear();
+        ctx.termBufferSparseFile(false)
+            .preTouchLogBuffers(true)
+            .preTouchPageBudget(TERM_BUFFER_LENGTH / ctx.filePageSize());
+        final Sender preTouchSender = new Sender(ctx);
+        final NetworkPublication preTouchPublication = newNetworkPublication();
+        assertTrue(preTouchPublication.isPreTouchLog());
+
+        preTouchSender.onNewNetworkPublication(preTouchPublication);
+        for (int i = 1; i < PARTITION_COUNT; i++)
+        {
+            preTouchSender.doWork();
+            assertThat(receivedFrames.size(), is(0));
+        }
+        verify(mockSendChannelEndpoint, never()).registerForSend(preTouchPublication);
+
+        preTouchSender.doWork();
+        verify(mockSendChannelEndpoint).registerForSend(preTouchPublication);
+        assertThat(receivedFrames.size(), is(1));
+        preTouchSender.onClose();
+    }
+
     @Test
     public void shouldSendSetupFrameOnChannelWhenTimeoutWithoutStatusMessage()
     {
@@ -190,7 +195,7 @@ public class SenderTest
         assertThat(setupHeader.streamId(), is(STREAM_ID));
         assertThat(setupHeader.sessionId(), is(SESSION_ID));
         assertThat(setupHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_SETUP));
-        assertThat(setupHeader.flags(), is((short)0));
+        assertThat(setupHeader.flags(), is(SetupFlyweight.MULTI_GAP_NAK_FLAG));
         assertThat(setupHeader.version(), is((short)HeaderFlyweight.CURRENT_VERSION));
     }
 
@@ -522,4 +527,35 @@ public class SenderTest
     {
         return (offset - 1) * align(HEADER.capacity() + PAYLOAD.length, FRAME_ALIGNMENT);
     }
+
+    private NetworkPublication newNetworkPublication()
+    {
+        final PublicationParams params = new PublicationParams();
+        params.entityTag = 101;
+        params.mtuLength = MAX_FRAME_LENGTH;
+        params.lingerTimeoutNs = Configuration.publicationLingerTimeoutNs();
+        params.signalEos = true;
+        params.isSparse = ctx.termBufferSparseFile();
+
+        return new NetworkPublication(
+            1,
+            ctx,
+            params,
+            mockSendChannelEndpoint,
+            rawLog,
+            Configuration.producerWindowLength(TERM_BUFFER_LENGTH, Configuration.publicationTermWindowLength()),
+            new AtomicLongPosition(),
+            new AtomicLongPosition(),
+            new AtomicLongPosition(),
+            new AtomicLongPosition(),
+            mock(AtomicCounter.class),
+            null,
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            flowControl,
+            mockRetransmitHandler,
+            new NetworkPublicationThreadLocals(),
+            false);
+    }
 }
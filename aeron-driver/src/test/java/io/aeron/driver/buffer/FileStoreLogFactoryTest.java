@@ -21,7 +21,9 @@ import org.agrona.CloseHelper;
 import org.agrona.ErrorHandler;
 import org.agrona.IoUtil;
 import org.agrona.SystemUtil;
+import org.agrona.concurrent.SystemNanoClock;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,7 +32,10 @@ import java.io.File;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 public class FileStoreLogFactoryTest
 {
@@ -109,4 +114,54 @@ public class FileStoreLogFactoryTest
         assertEquals(0, metaData.getByte(0));
         assertEquals(0, metaData.getByte(LogBufferDescriptor.LOG_META_DATA_LENGTH - 1));
     }
+
+    @Test
+    public void shouldPreFaultLogInSeparateDirectoryAndTrackTime()
+    {
+        final File logBuffersDir = new File(DATA_DIR, "logBuffers");
+        final AtomicCounter preFaultTime = mock(AtomicCounter.class);
+        final long[] nowNs = { 0 };
+        CloseHelper.close(fileStoreLogFactory);
+        fileStoreLogFactory = new FileStoreLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            logBuffersDir.getAbsolutePath(),
+            PAGE_SIZE,
+            PERFORM_STORAGE_CHECKS,
+            LOW_STORAGE_THRESHOLD,
+            true,
+            () -> nowNs[0] += 7,
+            preFaultTime,
+            mock(ErrorHandler.class));
+
+        rawLog = fileStoreLogFactory.newPublication(CREATION_ID, TERM_BUFFER_LENGTH, false);
+
+        assertTrue(rawLog.fileName().startsWith(logBuffersDir.getAbsolutePath()));
+        for (final UnsafeBuffer termBuffer : rawLog.termBuffers())
+        {
+            assertEquals(0, termBuffer.getByte(TERM_BUFFER_LENGTH - 1));
+        }
+        verify(preFaultTime).getAndAdd(7);
+    }
+
+    @Test
+    public void shouldNotPreFaultSparseLog()
+    {
+        final AtomicCounter preFaultTime = mock(AtomicCounter.class);
+        CloseHelper.close(fileStoreLogFactory);
+        fileStoreLogFactory = new FileStoreLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            DATA_DIR.getAbsolutePath(),
+            PAGE_SIZE,
+            PERFORM_STORAGE_CHECKS,
+            LOW_STORAGE_THRESHOLD,
+            true,
+            SystemNanoClock.INSTANCE,
+            preFaultTime,
+            mock(ErrorHandler.class));
+
+        rawLog = fileStoreLogFactory.newPublication(CREATION_ID, TERM_BUFFER_LENGTH, true);
+
+        assertEquals(TERM_BUFFER_LENGTH, rawLog.termLength());
+        verifyNoInteractions(preFaultTime);
+    }
 }
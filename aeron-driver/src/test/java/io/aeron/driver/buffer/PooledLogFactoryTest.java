@@ -0,0 +1,161 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import io.aeron.driver.Configuration;
+import io.aeron.test.Tests;
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.IoUtil;
+import org.agrona.SystemUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class PooledLogFactoryTest
+{
+    private static final File DATA_DIR = new File(SystemUtil.tmpDirName(), "pooledDataDirName");
+    private static final int TERM_BUFFER_LENGTH = Configuration.TERM_BUFFER_LENGTH_DEFAULT;
+    private static final long LOW_STORAGE_THRESHOLD = Configuration.LOW_FILE_STORE_WARNING_THRESHOLD_DEFAULT;
+    private static final int PAGE_SIZE = 4 * 1024;
+    private final AtomicCounter poolHits = mock(AtomicCounter.class);
+    private final AtomicCounter poolMisses = mock(AtomicCounter.class);
+    private PooledLogFactory logFactory;
+
+    @BeforeEach
+    public void createDataDir()
+    {
+        IoUtil.ensureDirectoryExists(DATA_DIR, "data");
+        final ErrorHandler errorHandler = mock(ErrorHandler.class);
+        final FileStoreLogFactory fileStoreLogFactory = new FileStoreLogFactory(
+            DATA_DIR.getAbsolutePath(), PAGE_SIZE, false, LOW_STORAGE_THRESHOLD, errorHandler);
+
+        logFactory = new PooledLogFactory(
+            fileStoreLogFactory, 1, new int[]{ TERM_BUFFER_LENGTH }, poolHits, poolMisses, errorHandler);
+    }
+
+    @AfterEach
+    public void cleanupFiles()
+    {
+        CloseHelper.close(logFactory);
+        IoUtil.delete(DATA_DIR, false);
+    }
+
+    @Test
+    public void shouldHandOutPooledLogAndMissWhenEmpty()
+    {
+        final RawLog pooledLog = logFactory.newPublication(1, TERM_BUFFER_LENGTH, false);
+        final RawLog newLog = logFactory.newImage(2, TERM_BUFFER_LENGTH, false);
+
+        assertTrue(new File(pooledLog.fileName()).exists());
+        assertTrue(pooledLog.fileName().endsWith("1.logbuffer"));
+        assertTrue(new File(newLog.fileName()).exists());
+        verify(poolHits).incrementOrdered();
+        verify(poolMisses).incrementOrdered();
+
+        final File pooledFile = new File(pooledLog.fileName());
+        final File newFile = new File(newLog.fileName());
+        pooledLog.close();
+        newLog.close();
+        assertFalse(pooledFile.exists());
+        assertFalse(newFile.exists());
+    }
+
+    @Test
+    public void shouldNotStartAllocatorUntilPooledLogIsTaken()
+    {
+        assertFalse(isAllocatorRunning());
+
+        final RawLog pooledLog = logFactory.newPublication(1, TERM_BUFFER_LENGTH, false);
+
+        assertTrue(isAllocatorRunning());
+        pooledLog.close();
+    }
+
+    @Test
+    @Timeout(10)
+    public void shouldReplenishPoolWithNewLogRatherThanRecycleFreedLog()
+    {
+        final RawLog firstLog = logFactory.newPublication(1, TERM_BUFFER_LENGTH, false);
+        final File firstFile = new File(firstLog.fileName());
+        firstLog.termBuffers()[0].putLong(0, 42);
+        assertTrue(firstLog.free());
+        assertFalse(firstFile.exists());
+
+        RawLog secondLog;
+        while (true)
+        {
+            secondLog = logFactory.newPublication(2, TERM_BUFFER_LENGTH, false);
+            if (2 == mockingDetails(poolHits).getInvocations().size())
+            {
+                break;
+            }
+
+            secondLog.close();
+            Tests.yield();
+        }
+
+        assertTrue(secondLog.fileName().endsWith("2.logbuffer"));
+        for (final UnsafeBuffer termBuffer : secondLog.termBuffers())
+        {
+            assertEquals(0, termBuffer.getLong(0));
+        }
+        assertEquals(0, secondLog.metaData().getLong(0));
+
+        secondLog.close();
+    }
+
+    @Test
+    public void shouldGiveAllocatorItsOwnBlankTemplate()
+    {
+        assertTrue(new File(DATA_DIR, "blank.template").exists());
+        assertTrue(new File(new File(DATA_DIR, "pool"), "blank.template").exists());
+    }
+
+    @Test
+    public void shouldNotPoolSparseLogs()
+    {
+        final RawLog sparseLog = logFactory.newPublication(1, TERM_BUFFER_LENGTH, true);
+
+        verify(poolHits, never()).incrementOrdered();
+        verify(poolMisses, never()).incrementOrdered();
+
+        final File sparseFile = new File(sparseLog.fileName());
+        sparseLog.close();
+        assertFalse(sparseFile.exists());
+    }
+
+    private static boolean isAllocatorRunning()
+    {
+        for (final Thread thread : Thread.getAllStackTraces().keySet())
+        {
+            if ("log-buffer-allocator".equals(thread.getName()))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
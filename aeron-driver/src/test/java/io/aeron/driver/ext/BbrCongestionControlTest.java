@@ -0,0 +1,268 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.driver.CongestionControl;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ext.BbrCongestionControl.Phase;
+import io.aeron.driver.media.UdpChannel;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.CachedNanoClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.driver.ext.BbrCongestionControl.Phase.PROBE_BW;
+import static io.aeron.driver.ext.BbrCongestionControl.Phase.PROBE_RTT;
+import static io.aeron.driver.ext.BbrCongestionControl.Phase.STARTUP;
+import static org.agrona.concurrent.status.CountersReader.COUNTER_LENGTH;
+import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Simulates a stream over a bottleneck link with a queue, propagation delay, and loss to check the window
+ * {@link BbrCongestionControl} converges to.
+ */
+public class BbrCongestionControlTest
+{
+    private static final int MTU_LENGTH = 1408;
+    private static final int TERM_LENGTH = 4 * 1024 * 1024;
+    private static final int MAX_WINDOW_LENGTH = 1024 * 1024;
+    private static final long STEP_NS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long ONE_WAY_LATENCY_NS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long RTT_NS = 2 * ONE_WAY_LATENCY_NS;
+    private static final int BYTES_PER_STEP = 125;
+    private static final long BANDWIDTH = BYTES_PER_STEP * TimeUnit.SECONDS.toNanos(1) / STEP_NS;
+    private static final long BDP = BANDWIDTH * RTT_NS / TimeUnit.SECONDS.toNanos(1);
+
+    private final CachedNanoClock nanoClock = new CachedNanoClock();
+    private final MediaDriver.Context context = new MediaDriver.Context()
+        .tempBuffer(new UnsafeBuffer(new byte[METADATA_LENGTH]))
+        .initialWindowLength(MAX_WINDOW_LENGTH)
+        .errorHandler(mock(ErrorHandler.class));
+    private final CountersManager countersManager = new CountersManager(
+        new UnsafeBuffer(new byte[16 * METADATA_LENGTH]),
+        new UnsafeBuffer(new byte[16 * COUNTER_LENGTH]),
+        StandardCharsets.US_ASCII);
+    private BbrCongestionControl congestionControl;
+
+    @BeforeEach
+    public void before()
+    {
+        congestionControl = new BbrCongestionControl(
+            1,
+            UdpChannel.parse("aeron:udp?endpoint=localhost:24325|cc=bbr"),
+            1001,
+            7,
+            TERM_LENGTH,
+            MTU_LENGTH,
+            null,
+            null,
+            nanoClock,
+            context,
+            countersManager);
+    }
+
+    @AfterEach
+    public void after()
+    {
+        congestionControl.close();
+    }
+
+    @Test
+    public void shouldStartWithMinimumWindow()
+    {
+        assertEquals(4 * MTU_LENGTH, congestionControl.initialWindowLength());
+        assertEquals(STARTUP, congestionControl.phase());
+    }
+
+    @Test
+    public void shouldConvergeWindowToBandwidthDelayProduct()
+    {
+        final Simulation simulation = new Simulation(0.0);
+        simulation.run(TimeUnit.SECONDS.toNanos(3));
+
+        assertEquals(PROBE_BW, congestionControl.phase());
+        assertThat(congestionControl.minRttNs(), allOf(greaterThanOrEqualTo(RTT_NS), lessThan(RTT_NS + RTT_NS / 10)));
+        assertThat(congestionControl.bottleneckBandwidth(), allOf(
+            greaterThan(BANDWIDTH * 9 / 10), lessThan(BANDWIDTH * 11 / 10)));
+        assertThat((long)simulation.window, allOf(greaterThanOrEqualTo(BDP), lessThanOrEqualTo(3 * BDP)));
+
+        assertThat(simulation.throughput(), greaterThan(BANDWIDTH * 9 / 10));
+        assertThat(simulation.maxQueuedBytes, lessThanOrEqualTo(2 * BDP));
+    }
+
+    @Test
+    public void shouldKeepThroughputAndForceStatusMessagesWhenLossOccurs()
+    {
+        final Simulation simulation = new Simulation(0.01);
+        simulation.run(TimeUnit.SECONDS.toNanos(3));
+
+        assertEquals(PROBE_BW, congestionControl.phase());
+        assertThat(simulation.lossCount, greaterThan(0L));
+        assertEquals(simulation.lossCount, simulation.forcedStatusMessageCount);
+        assertThat((long)simulation.window, greaterThanOrEqualTo(BDP));
+        assertThat(simulation.throughput(), greaterThan(BANDWIDTH * 9 / 10));
+    }
+
+    @Test
+    public void shouldProbeRttWhenMinRttNotRefreshedAndThenRecover()
+    {
+        final Simulation simulation = new Simulation(0.0);
+        simulation.run(BbrCongestionControlConfiguration.MIN_RTT_WINDOW_NS + TimeUnit.SECONDS.toNanos(2));
+
+        assertTrue(simulation.phasesVisited.contains(PROBE_RTT));
+        assertEquals(PROBE_BW, congestionControl.phase());
+        assertThat(simulation.throughput(), greaterThan(BANDWIDTH * 9 / 10));
+    }
+
+    final class Simulation
+    {
+        private final double lossRate;
+        private final Random random = new Random(0xcafebabeL);
+        private final ArrayDeque<long[]> dataInFlight = new ArrayDeque<>();
+        private final ArrayDeque<long[]> statusMessagesInFlight = new ArrayDeque<>();
+        private final EnumSet<Phase> phasesVisited = EnumSet.noneOf(Phase.class);
+        private long senderPosition;
+        private long senderLimit;
+        private long linkPosition;
+        private long hwmPosition;
+        private long lastSmPosition;
+        private long rttReplyNs = Long.MAX_VALUE;
+        private long rttSample;
+        private long lossCount;
+        private long forcedStatusMessageCount;
+        private long maxQueuedBytes;
+        private long throughputStartNs;
+        private long throughputStartPosition;
+        private long nowNs;
+        private int window;
+
+        Simulation(final double lossRate)
+        {
+            this.lossRate = lossRate;
+            this.window = congestionControl.initialWindowLength();
+            this.senderLimit = window;
+        }
+
+        void run(final long durationNs)
+        {
+            final long endNs = nowNs + durationNs;
+            final long steadyStateNs = endNs - TimeUnit.SECONDS.toNanos(1);
+
+            while (nowNs < endNs)
+            {
+                nowNs += STEP_NS;
+                nanoClock.update(nowNs);
+
+                if (throughputStartNs == 0 && nowNs >= steadyStateNs)
+                {
+                    throughputStartNs = nowNs;
+                    throughputStartPosition = hwmPosition;
+                    maxQueuedBytes = 0;
+                }
+
+                sender();
+                link();
+                receiver();
+                phasesVisited.add(congestionControl.phase());
+            }
+        }
+
+        long throughput()
+        {
+            return (hwmPosition - throughputStartPosition) * TimeUnit.SECONDS.toNanos(1) / (nowNs - throughputStartNs);
+        }
+
+        private void sender()
+        {
+            while (!statusMessagesInFlight.isEmpty() && statusMessagesInFlight.peekFirst()[0] <= nowNs)
+            {
+                senderLimit = Math.max(senderLimit, statusMessagesInFlight.pollFirst()[1]);
+            }
+
+            senderPosition = Math.max(senderPosition, senderLimit);
+        }
+
+        private void link()
+        {
+            final long queuedBytes = senderPosition - linkPosition;
+            maxQueuedBytes = Math.max(maxQueuedBytes, queuedBytes);
+
+            if (queuedBytes > 0)
+            {
+                linkPosition += Math.min(queuedBytes, BYTES_PER_STEP);
+                dataInFlight.addLast(new long[]{ nowNs + ONE_WAY_LATENCY_NS, linkPosition });
+            }
+        }
+
+        private void receiver()
+        {
+            boolean hasReceived = false;
+            while (!dataInFlight.isEmpty() && dataInFlight.peekFirst()[0] <= nowNs)
+            {
+                hwmPosition = dataInFlight.pollFirst()[1];
+                hasReceived = true;
+            }
+
+            if (rttReplyNs <= nowNs)
+            {
+                congestionControl.onRttMeasurement(nowNs, rttSample, null);
+                rttReplyNs = Long.MAX_VALUE;
+            }
+
+            if (congestionControl.shouldMeasureRtt(nowNs))
+            {
+                congestionControl.onRttMeasurementSent(nowNs);
+                rttSample = RTT_NS + ((senderPosition - linkPosition) * STEP_NS / BYTES_PER_STEP);
+                rttReplyNs = nowNs + rttSample;
+            }
+
+            final boolean lossOccurred = hasReceived && random.nextDouble() < lossRate;
+            if (lossOccurred)
+            {
+                lossCount++;
+            }
+
+            final long outcome = congestionControl.onTrackRebuild(
+                nowNs, hwmPosition, lastSmPosition, hwmPosition, hwmPosition, hwmPosition, lossOccurred);
+
+            window = CongestionControl.receiverWindowLength(outcome);
+            final boolean shouldForce = CongestionControl.shouldForceStatusMessage(outcome);
+            if (shouldForce)
+            {
+                forcedStatusMessageCount++;
+            }
+
+            if (shouldForce || hwmPosition > lastSmPosition + CongestionControl.threshold(window))
+            {
+                lastSmPosition = hwmPosition;
+                statusMessagesInFlight.addLast(new long[]{ nowNs + ONE_WAY_LATENCY_NS, hwmPosition + window });
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.reports;
+
+import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static io.aeron.driver.reports.LatencyHistogramDescriptor.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyReportReaderTest
+{
+    private final AtomicBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(LatencyReport.REPORT_LENGTH));
+    private final LatencyReport latencyReport = new LatencyReport(buffer);
+    private final LatencyReportReader reader = new LatencyReportReader(buffer);
+    private final long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+
+    @Test
+    public void shouldMapValuesToBucketsWithinPrecision()
+    {
+        final long[] values =
+            { 0, 1, 63, 64, 65, 127, 128, 1_000, 999_999, 123_456_789, LatencyHistogram.MAX_TRACKABLE_VALUE };
+        for (final long value : values)
+        {
+            final int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(index < LatencyHistogram.BUCKET_COUNT);
+            assertTrue(LatencyHistogram.lowestValue(index) <= value, () -> "value=" + value);
+            assertTrue(LatencyHistogram.highestValue(index) >= value, () -> "value=" + value);
+            assertTrue(
+                LatencyHistogram.highestValue(index) - LatencyHistogram.lowestValue(index) <=
+                value / LatencyHistogram.SUB_BUCKET_HALF_COUNT, () -> "value=" + value);
+        }
+
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        assertEquals(0, LatencyHistogram.bucketIndex(-1));
+    }
+
+    @Test
+    public void shouldReadPercentilesOfInterval()
+    {
+        final LatencyHistogram histogram = latencyReport.histogram(CONDUCTOR_CYCLE_TIME);
+        histogram.record(1_000_000);
+
+        final long[] previousCounts = new long[LatencyHistogram.BUCKET_COUNT];
+        reader.snapshot(CONDUCTOR_CYCLE_TIME.id(), previousCounts);
+
+        for (int i = 1; i <= 100; i++)
+        {
+            histogram.record(i * 1_000L);
+        }
+
+        final long[] intervalCounts = new long[LatencyHistogram.BUCKET_COUNT];
+        reader.snapshot(CONDUCTOR_CYCLE_TIME.id(), counts);
+        LatencyReportReader.interval(counts, previousCounts, intervalCounts);
+
+        assertEquals(101, LatencyReportReader.totalCount(counts));
+        assertEquals(100, LatencyReportReader.totalCount(intervalCounts));
+        assertEquals(50_000, LatencyReportReader.valueAtPercentile(intervalCounts, 50.0), 50_000 / 32.0);
+        assertEquals(99_000, LatencyReportReader.valueAtPercentile(intervalCounts, 99.0), 99_000 / 32.0);
+        assertEquals(100_000, LatencyReportReader.maxValue(intervalCounts), 100_000 / 32.0);
+        assertEquals(1_000_000, LatencyReportReader.maxValue(counts), 1_000_000 / 32.0);
+    }
+
+    @Test
+    public void shouldKeepHistogramsSeparate()
+    {
+        latencyReport.histogram(RTT_MEASUREMENT).record(10);
+
+        assertEquals(LatencyReport.HISTOGRAM_COUNT, reader.histogramCount());
+
+        reader.snapshot(RTT_MEASUREMENT.id(), counts);
+        assertEquals(1, LatencyReportReader.totalCount(counts));
+        assertEquals(10, LatencyReportReader.valueAtPercentile(counts, 100.0));
+
+        reader.snapshot(NAK_TO_RETRANSMIT.id(), counts);
+        assertEquals(0, LatencyReportReader.totalCount(counts));
+        assertEquals(0, LatencyReportReader.valueAtPercentile(counts, 99.0));
+    }
+
+    @Test
+    public void shouldRejectReportWhichHasNotBeenCreated()
+    {
+        final AtomicBuffer emptyBuffer = new UnsafeBuffer(new byte[LatencyReport.REPORT_LENGTH]);
+
+        assertThrows(IllegalStateException.class, () -> new LatencyReportReader(emptyBuffer));
+    }
+}
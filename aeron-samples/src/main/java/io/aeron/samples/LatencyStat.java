@@ -0,0 +1,118 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.driver.reports.LatencyHistogram;
+import io.aeron.driver.reports.LatencyHistogramDescriptor;
+import io.aeron.driver.reports.LatencyReportReader;
+import io.aeron.driver.reports.LatencyReportUtil;
+import org.agrona.concurrent.SigInt;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.aeron.CommonContext.AERON_DIR_PROP_DEFAULT;
+import static io.aeron.CommonContext.AERON_DIR_PROP_NAME;
+import static java.lang.System.getProperty;
+
+/**
+ * Application that prints the latency histograms recorded by the driver to {@link System#out} for each interval.
+ * <p>
+ * The driver must be started with {@code aeron.latency.report.enabled=true}. Values are in nanoseconds.
+ */
+public class LatencyStat
+{
+    /**
+     * Main method for launching the process.
+     *
+     * @param args passed to the process.
+     * @throws InterruptedException if the thread sleep delay is interrupted.
+     */
+    public static void main(final String[] args) throws InterruptedException
+    {
+        long delayMs = 1000L;
+
+        for (final String arg : args)
+        {
+            if (arg.startsWith("delay="))
+            {
+                delayMs = Long.parseLong(arg.substring("delay=".length())) * 1000L;
+            }
+            else
+            {
+                System.out.println("Usage: [-Daeron.dir=<directory>] LatencyStat [delay=<seconds between updates>]");
+                return;
+            }
+        }
+
+        final String aeronDirectoryName = getProperty(AERON_DIR_PROP_NAME, AERON_DIR_PROP_DEFAULT);
+        final File latencyReportFile = LatencyReportUtil.file(aeronDirectoryName);
+
+        if (!latencyReportFile.exists())
+        {
+            System.err.print("Latency report does not exist: " + latencyReportFile);
+            System.exit(1);
+        }
+
+        final LatencyReportReader reader = new LatencyReportReader(
+            new UnsafeBuffer(SamplesUtil.mapExistingFileReadOnly(latencyReportFile)));
+        final int histogramCount = reader.histogramCount();
+        final long[][] previousCounts = new long[histogramCount][LatencyHistogram.BUCKET_COUNT];
+        final long[] counts = new long[LatencyHistogram.BUCKET_COUNT];
+        final long[] intervalCounts = new long[LatencyHistogram.BUCKET_COUNT];
+
+        for (int i = 0; i < histogramCount; i++)
+        {
+            reader.snapshot(i, previousCounts[i]);
+        }
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        SigInt.register(() -> running.set(false));
+        final SimpleDateFormat dateFormat = new SimpleDateFormat("HH:mm:ss");
+
+        while (running.get())
+        {
+            Thread.sleep(delayMs);
+
+            System.out.println(dateFormat.format(new Date()) + " - Aeron Latency Stat (ns)");
+            System.out.format(
+                "%-44s %12s %12s %12s %12s %12s %12s%n", "histogram", "count", "p50", "p90", "p99", "p99.9", "max");
+
+            for (int i = 0; i < histogramCount; i++)
+            {
+                reader.snapshot(i, counts);
+                LatencyReportReader.interval(counts, previousCounts[i], intervalCounts);
+                System.arraycopy(counts, 0, previousCounts[i], 0, counts.length);
+
+                final LatencyHistogramDescriptor descriptor = LatencyHistogramDescriptor.get(i);
+                System.out.format(
+                    "%-44s %,12d %,12d %,12d %,12d %,12d %,12d%n",
+                    null != descriptor ? descriptor.label() : "histogram " + i,
+                    LatencyReportReader.totalCount(intervalCounts),
+                    LatencyReportReader.valueAtPercentile(intervalCounts, 50.0),
+                    LatencyReportReader.valueAtPercentile(intervalCounts, 90.0),
+                    LatencyReportReader.valueAtPercentile(intervalCounts, 99.0),
+                    LatencyReportReader.valueAtPercentile(intervalCounts, 99.9),
+                    LatencyReportReader.maxValue(intervalCounts));
+            }
+
+            System.out.println("--");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014-2021 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.ext.DebugChannelEndpointConfiguration;
+import io.aeron.driver.ext.DebugSendChannelEndpoint;
+import io.aeron.driver.ext.LossGenerator;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.test.Tests;
+import io.aeron.test.driver.MediaDriverTestWatcher;
+import io.aeron.test.driver.TestMediaDriver;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.aeron.SystemTests.verifyLossOccurredForStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BbrCongestionControlSystemTest
+{
+    private static final String CHANNEL = "aeron:udp?endpoint=localhost:24325|cc=bbr";
+    private static final int STREAM_ID = 1001;
+    private static final int FRAGMENT_COUNT_LIMIT = 10;
+    private static final int MSG_LENGTH = 1024;
+    private static final int NUM_MESSAGES = 10_000;
+
+    @RegisterExtension
+    final MediaDriverTestWatcher watcher = new MediaDriverTestWatcher();
+
+    @Test
+    @Timeout(20)
+    public void shouldReceiveAllMessagesWithBbrCongestionControlWhenLossOccurs() throws Exception
+    {
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(MSG_LENGTH));
+        srcBuffer.setMemory(0, MSG_LENGTH, (byte)7);
+
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .errorHandler(Tests::onError)
+            .threadingMode(ThreadingMode.SHARED)
+            .dirDeleteOnStart(true);
+
+        final LossGenerator noLossGenerator = DebugChannelEndpointConfiguration.lossGeneratorSupplier(0, 0);
+
+        ctx.sendChannelEndpointSupplier((udpChannel, statusIndicator, context) -> new DebugSendChannelEndpoint(
+            udpChannel, statusIndicator, context, noLossGenerator, noLossGenerator));
+
+        TestMediaDriver.enableLossGenerationOnReceive(ctx, 0.1, 0xcafebabeL, true, false);
+
+        try (TestMediaDriver ignore = TestMediaDriver.launch(ctx, watcher);
+            Aeron aeron = Aeron.connect();
+            Subscription subscription = aeron.addSubscription(CHANNEL, STREAM_ID);
+            Publication publication = aeron.addPublication(CHANNEL, STREAM_ID))
+        {
+            Tests.awaitConnected(subscription);
+
+            final int[] messageCount = new int[1];
+            final FragmentHandler fragmentHandler = (buffer, offset, length, header) -> messageCount[0]++;
+
+            for (int i = 0; i < NUM_MESSAGES; i++)
+            {
+                srcBuffer.putInt(0, i);
+
+                while (publication.offer(srcBuffer) < 0L)
+                {
+                    subscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT);
+                    Tests.yield();
+                }
+
+                subscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT);
+            }
+
+            while (messageCount[0] < NUM_MESSAGES)
+            {
+                if (0 == subscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT))
+                {
+                    Tests.yield();
+                }
+            }
+
+            assertEquals(NUM_MESSAGES, messageCount[0]);
+            assertTrue(hasCounterWithLabelPrefix(aeron.countersReader(), "rcv-cc-bbr-wnd"));
+            verifyLossOccurredForStream(ctx.aeronDirectoryName(), STREAM_ID);
+        }
+        finally
+        {
+            ctx.deleteDirectory();
+        }
+    }
+
+    private static boolean hasCounterWithLabelPrefix(final CountersReader countersReader, final String prefix)
+    {
+        final AtomicBoolean found = new AtomicBoolean();
+        countersReader.forEach((counterId, typeId, keyBuffer, label) ->
+        {
+            if (label.startsWith(prefix))
+            {
+                found.set(true);
+            }
+        });
+
+        return found.get();
+    }
+}